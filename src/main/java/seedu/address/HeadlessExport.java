@@ -0,0 +1,118 @@
+package seedu.address;
+
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ExportCommandParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Runs the {@code export} command without starting the user interface, so that exports can be scheduled.
+ * <p>
+ * Started as {@code java -jar LogiLink.jar export [--config=CONFIG_FILE] ARGUMENTS}, where {@code ARGUMENTS} are
+ * those of the {@code export} command. The data file, its format and the preferences are found the same way as when
+ * the application is started normally, but nothing is written back to them.
+ */
+public class HeadlessExport {
+
+    public static final String CONFIG_OPTION = "--config=";
+
+    public static final String MESSAGE_NO_DATA_FILE = "There is no data file at %1$s";
+    public static final String MESSAGE_DATA_FILE_NOT_READ = "Could not read the data file at %1$s: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessExport.class);
+
+    /**
+     * Exports as instructed by {@code args}, reporting the outcome on {@code out} or, if the export failed, on
+     * {@code err}.
+     *
+     * @return the exit status of the export, which is 0 if it succeeded.
+     */
+    public static int run(String[] args, PrintStream out, PrintStream err) {
+        Path configFilePath = Config.DEFAULT_CONFIG_FILE;
+        List<String> commandArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith(CONFIG_OPTION)) {
+                configFilePath = Path.of(arg.substring(CONFIG_OPTION.length()));
+            } else {
+                commandArgs.add(arg);
+            }
+        }
+
+        ExportCommand command;
+        try {
+            command = new ExportCommandParser().parse(String.join(" ", commandArgs));
+        } catch (ParseException pe) {
+            err.println(pe.getMessage());
+            return 1;
+        }
+
+        Config config = readConfig(configFilePath);
+        LogsCenter.init(config);
+        UserPrefs userPrefs = readUserPrefs(config.getUserPrefsFilePath());
+        AddressBookStorage storage = StorageManager.createAddressBookStorage(userPrefs);
+        Path dataFilePath = storage.getAddressBookFilePath();
+        logger.info("Exporting from data file : " + dataFilePath);
+
+        try {
+            Optional<ReadOnlyAddressBook> addressBook = storage.readAddressBook();
+            if (addressBook.isEmpty()) {
+                // The data file may still be the one saved before the format was changed.
+                addressBook = StorageManager.readDataFileInOtherFormat(dataFilePath);
+            }
+            if (addressBook.isEmpty()) {
+                err.println(String.format(MESSAGE_NO_DATA_FILE, dataFilePath));
+                return 1;
+            }
+            out.println(command.execute(new ModelManager(addressBook.get(), userPrefs)).getFeedbackToUser());
+            return 0;
+        } catch (DataLoadingException e) {
+            err.println(String.format(MESSAGE_DATA_FILE_NOT_READ, dataFilePath, e.getMessage()));
+            return 1;
+        } catch (CommandException ce) {
+            err.println(ce.getMessage());
+            return 1;
+        }
+    }
+
+    /**
+     * Returns the config in the file at {@code configFilePath}, or the default config if it cannot be read.
+     * Unlike when the application starts, a missing file is not created.
+     */
+    private static Config readConfig(Path configFilePath) {
+        try {
+            return ConfigUtil.readConfig(configFilePath).orElseGet(Config::new);
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePath + " could not be loaded. Using default config.");
+            return new Config();
+        }
+    }
+
+    /**
+     * Returns the preferences in the file at {@code prefsFilePath}, or the default preferences if they cannot be read.
+     */
+    private static UserPrefs readUserPrefs(Path prefsFilePath) {
+        try {
+            return new JsonUserPrefsStorage(prefsFilePath).readUserPrefs().orElseGet(UserPrefs::new);
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded. Using default preferences.");
+            return new UserPrefs();
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package seedu.address;
 
+import java.util.Arrays;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.ExportCommand;
 
 /**
  * The main entry point to the application.
@@ -25,6 +27,10 @@ public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals(ExportCommand.COMMAND_WORD)) {
+            // Exports run without the user interface, so that they can be scheduled.
+            System.exit(HeadlessExport.run(Arrays.copyOfRange(args, 1, args.length), System.out, System.err));
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
@@ -1,11 +1,14 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -19,15 +22,15 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.AsyncAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WatchedAddressBookStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -46,6 +49,8 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private WatchedAddressBookStorage watchedStorage;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
@@ -57,10 +62,14 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        watchedStorage = new WatchedAddressBookStorage(StorageManager.createAddressBookStorage(userPrefs));
+        AddressBookStorage addressBookStorage = new AsyncAddressBookStorage(watchedStorage,
+                userPrefs.getSaveMaxLatencyMillis(), userPrefs.getSaveMaxPending());
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
-        model = initModelManager(storage, userPrefs);
+        // The address book is loaded in the background once the UI is showing, see loadAddressBook().
+        model = new ModelManager(new AddressBook(), userPrefs);
+        model.setAddressBookHistory(storage);
 
         logic = new LogicManager(model, storage);
 
@@ -68,11 +77,12 @@ public class MainApp extends Application {
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * Returns the data from {@code storage}'s address book. <br>
+     * Any journal entries written after the last checkpoint are replayed on top of the stored snapshot. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private ReadOnlyAddressBook readInitialData(Storage storage) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
@@ -90,7 +100,46 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return initialData;
+    }
+
+    /**
+     * Reads the address book from storage on the current thread, which should not be the UI thread, and then has the
+     * UI thread replace the empty address book the app started with.
+     */
+    private void loadAddressBook() {
+        long startTime = System.nanoTime();
+        ReadOnlyAddressBook initialData;
+        try {
+            initialData = readInitialData(storage);
+        } catch (RuntimeException e) {
+            logger.severe("Failed to load address book " + StringUtil.getDetails(e)
+                    + " Will be starting with an empty AddressBook.");
+            initialData = new AddressBook();
+        }
+        long loadMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+        ReadOnlyAddressBook loadedData = initialData;
+        Platform.runLater(() -> {
+            logic.finishDataLoad(loadedData);
+            ui.showDataLoaded();
+            logger.info(String.format("Time to interactive: %d ms (address book loaded in %d ms)",
+                    ManagementFactory.getRuntimeMXBean().getUptime(), loadMillis));
+            startWatchingDataFile();
+        });
+    }
+
+    /**
+     * Starts picking up changes that other programs make to the data file.
+     * Changes made since the data file was loaded are picked up straight away.
+     */
+    private void startWatchingDataFile() {
+        try {
+            watchedStorage.startWatching();
+        } catch (IOException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " cannot be watched for changes made"
+                    + " by other programs: " + StringUtil.getDetails(e));
+        }
     }
 
     private void initLogging(Config config) {
@@ -158,6 +207,12 @@ public class MainApp extends Application {
             initializedPrefs = new UserPrefs();
         }
 
+        List<String> resetLimits = initializedPrefs.resetInvalidLimits();
+        if (!resetLimits.isEmpty()) {
+            logger.warning("Preferences " + resetLimits + " in " + prefsFilePath + " are out of range."
+                    + " Using their defaults instead.");
+        }
+
         //Update prefs file in case it was missing to begin with or there are new/unused fields
         try {
             storage.saveUserPrefs(initializedPrefs);
@@ -171,12 +226,22 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
+        logic.startDataLoad();
         ui.start(primaryStage);
+
+        Thread loader = new Thread(this::loadAddressBook, "address-book-loader");
+        loader.setDaemon(true);
+        loader.start();
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        try {
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
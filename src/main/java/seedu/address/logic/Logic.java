@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -54,4 +56,34 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Sets the handler that receives the error message of any save that fails after its command has completed.
+     * The handler may be called from a background thread.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
+    /**
+     * Sets how changes that other programs make to the data file are applied. The address book read again from the
+     * data file is applied through {@code executor}, which must run it on the thread that executes commands, and a
+     * message describing what was updated is then passed to {@code feedbackHandler}.
+     */
+    void setExternalChangeHandler(Executor executor, Consumer<String> feedbackHandler);
+
+    /**
+     * Marks the address book data as being loaded in the background. Until {@link #finishDataLoad} is called, only
+     * commands that do not touch the data can be executed.
+     */
+    void startDataLoad();
+
+    /**
+     * Replaces the address book data with {@code addressBook}, as loaded from storage, and allows all commands to be
+     * executed again. Must be called on the thread that executes commands.
+     */
+    void finishDataLoad(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Returns true if the address book data is not being loaded.
+     */
+    boolean isDataLoaded();
 }
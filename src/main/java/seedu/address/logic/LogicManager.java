@@ -1,8 +1,14 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -16,6 +22,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.delivery.Delivery;
+import seedu.address.model.delivery.exceptions.DeliveryLoadingException;
 import seedu.address.model.person.Person;
 import seedu.address.storage.Storage;
 
@@ -25,6 +32,8 @@ import seedu.address.storage.Storage;
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_FORMAT = "Could not save data due to the following error: %s";
 
+    public static final String EXTERNAL_CHANGE_DESCRIPTION = "reload of the data file changed by another program";
+
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
@@ -34,6 +43,10 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    // Version of the address book data as last known to be in storage.
+    private long savedVersion;
+    private volatile boolean isDataLoaded = true;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -41,6 +54,7 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        savedVersion = model.getAddressBookVersion();
     }
 
     @Override
@@ -49,19 +63,58 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        if (!isDataLoaded && !command.isAvailableWhileLoading()) {
+            throw new CommandException(Messages.MESSAGE_DATA_LOADING);
+        }
+        if (AddressBookParser.getAsOf() != null && !command.isReadOnly()) {
+            throw new CommandException(Messages.MESSAGE_READ_ONLY_VIEW);
+        }
+        if (command.isUndoable()) {
+            model.startUndoableChange(commandText.trim());
+        }
+        try {
+            commandResult = command.execute(model);
+        } catch (DeliveryLoadingException dle) {
+            throw new CommandException(dle.getMessage(), dle);
+        } finally {
+            // Whatever the command changed before failing can be undone as well.
+            if (command.isUndoable()) {
+                model.finishUndoableChange();
+            }
+        }
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            if (!command.isReadOnly()) {
+                saveIfChanged();
+            }
+            if (commandResult.isExit()) {
+                storage.flushAddressBook();
+            }
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    private void saveIfChanged() throws IOException {
+        long version = model.getAddressBookVersion();
+        if (version == savedVersion) {
+            logger.fine("Address book unchanged, skipping save");
+            return;
+        }
+
+        storage.saveAddressBook(model.getAddressBook());
+        savedVersion = version;
+    }
+
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -86,7 +139,7 @@ public class LogicManager implements Logic {
 
     @Override
     public Path getAddressBookFilePath() {
-        return model.getAddressBookFilePath();
+        return storage.getAddressBookFilePath();
     }
 
     @Override
@@ -99,6 +152,68 @@ public class LogicManager implements Logic {
         model.setGuiSettings(guiSettings);
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        storage.setSaveFailureHandler(ioe -> handler.accept(getSaveErrorMessage(ioe)));
+    }
+
+    @Override
+    public void setExternalChangeHandler(Executor executor, Consumer<String> feedbackHandler) {
+        requireAllNonNull(executor, feedbackHandler);
+        storage.setExternalChangeHandler(addressBook -> executor.execute(() ->
+                applyExternalChange(addressBook).ifPresent(feedbackHandler)));
+    }
+
+    /**
+     * Changes the address book to match {@code addressBook}, as read again from the data file after another program
+     * changed it, and returns a message describing the change, if anything changed.
+     * The change can be undone like a command.
+     */
+    Optional<String> applyExternalChange(ReadOnlyAddressBook addressBook) {
+        if (!isDataLoaded) {
+            // The data being loaded is read after the change, so it includes the change already.
+            return Optional.empty();
+        }
+
+        int changedCount;
+        model.startUndoableChange(EXTERNAL_CHANGE_DESCRIPTION);
+        try {
+            changedCount = model.updateAddressBook(addressBook);
+        } finally {
+            model.finishUndoableChange();
+        }
+        logger.info("Applied change to data file made by another program: " + changedCount + " persons changed");
+
+        try {
+            // Replaces any save still waiting to be written, which would otherwise undo the change.
+            saveIfChanged();
+        } catch (IOException ioe) {
+            return Optional.of(getSaveErrorMessage(ioe));
+        }
+        return changedCount == 0
+                ? Optional.empty()
+                : Optional.of(String.format(Messages.MESSAGE_EXTERNAL_CHANGE_APPLIED, changedCount));
+    }
+
+    @Override
+    public void startDataLoad() {
+        isDataLoaded = false;
+    }
+
+    @Override
+    public void finishDataLoad(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        model.setAddressBook(addressBook);
+        // The data has just been read from storage, so there is nothing to save.
+        savedVersion = model.getAddressBookVersion();
+        isDataLoaded = true;
+    }
+
+    @Override
+    public boolean isDataLoaded() {
+        return isDataLoaded;
+    }
+
     @Override
     public ObservableList<Delivery> getFilteredDeliveryList() {
         return model.getFilteredDeliveryList();
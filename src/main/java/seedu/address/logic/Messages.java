@@ -33,6 +33,12 @@ public class Messages {
                 "Multiple values specified for the following single-valued field(s): ";
     public static final String MESSAGE_INVALID_WINDOW = "This command could not be executed in the inspection window.\n"
             + "Navigate back to the main window to continue.";
+    public static final String MESSAGE_READ_ONLY_VIEW = "This command could not be executed on a past view of the "
+            + "address book, which is read-only.\nNavigate back to the main window to continue.";
+    public static final String MESSAGE_EXTERNAL_CHANGE_APPLIED = "The data file was changed by another program, "
+            + "and %1$d contact(s) have been updated to match it.";
+    public static final String MESSAGE_DATA_LOADING = "Your contacts and deliveries are still being loaded.\n"
+            + "Please try again once loading has finished.";
     /**
      * Returns an error message indicating the duplicate prefixes.
      */
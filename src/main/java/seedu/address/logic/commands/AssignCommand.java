@@ -70,6 +70,7 @@ public class AssignCommand extends Command {
                 throw new CommandException(MESSAGE_NOT_EMPLOYEE);
             }
             Worker worker = person.getWorker();
+            worker.resolveAssignedDeliveries(model.getAddressBook().getDeliveryRegistry());
             Delivery delivery = lastShownList.get(index.getZeroBased());
 
             if (worker.hasDelivery(delivery)) {
@@ -20,6 +20,12 @@ public class BackCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
         AddressBookParser.setInspect(false);
+        AddressBookParser.setAsOf(null);
         return new CommandResult(MESSAGE_SUCCESS, null, false, false, false, true);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
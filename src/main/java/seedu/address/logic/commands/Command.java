@@ -17,4 +17,26 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if this command never modifies the address book data, so there is nothing to save after it runs.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
+    /**
+     * Returns true if the changes this command makes to the address book can be undone.
+     */
+    public boolean isUndoable() {
+        return !isReadOnly();
+    }
+
+    /**
+     * Returns true if this command can be executed while the address book data is still being loaded,
+     * which is only the case for commands that do not touch the data at all.
+     */
+    public boolean isAvailableWhileLoading() {
+        return false;
+    }
+
 }
@@ -0,0 +1,208 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ARCHIVED;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.delivery.Delivery;
+import seedu.address.model.delivery.DeliveryMatchesFilterPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.storage.ExportWriter;
+
+/**
+ * Exports the contacts or the deliveries of the address book to a csv or ndjson file.
+ * <p>
+ * Rows are written as the persons are visited, without collecting them first, and deliveries that have not been
+ * loaded are read straight from storage without being kept, so memory use does not grow with the size of the export.
+ * Deliveries are written with the columns that {@link ImportCommand} reads, so an export can be imported again.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports all contacts or all deliveries to a csv or "
+            + "ndjson file, optionally keeping only those that match the filters given.\n"
+            + "Parameters: contacts|deliveries FILE_PATH "
+            + "[" + PREFIX_STATUS + "STATUS] "
+            + "[" + PREFIX_FROM + "DATE] "
+            + "[" + PREFIX_TO + "DATE] "
+            + "[" + PREFIX_ARCHIVED + "true|false]\n"
+            + "Status and dates filter deliveries only, by their status and the date they were ordered.\n"
+            + "Example: " + COMMAND_WORD + " deliveries data/deliveries.csv " + PREFIX_STATUS + "delivered "
+            + PREFIX_FROM + "2024-10-01 " + PREFIX_TO + "2024-10-31 " + PREFIX_ARCHIVED + "false";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d %2$s to %3$s";
+    public static final String MESSAGE_FILE_NOT_WRITTEN = "Could not export to %1$s: %2$s";
+
+    public static final List<String> CONTACT_HEADERS = List.of(
+            "name", "phone", "email", "address", "role", "archived", "tags");
+    public static final List<String> DELIVERY_HEADERS = List.of(
+            "id", "name", "phone", "items", "date", "time", "eta", "address", "cost", "status", "archived", "tags");
+
+    private static final Logger logger = LogsCenter.getLogger(ExportCommand.class);
+
+    /**
+     * What is exported.
+     */
+    public enum Target {
+        CONTACTS,
+        DELIVERIES;
+
+        /**
+         * Returns the word that names the target in the command.
+         */
+        public String getKeyword() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        /**
+         * Returns the target named by {@code keyword}, or null if there is none.
+         */
+        public static Target fromKeyword(String keyword) {
+            return Arrays.stream(values())
+                    .filter(target -> target.getKeyword().equals(keyword))
+                    .findFirst()
+                    .orElse(null);
+        }
+    }
+
+    private final Target target;
+    private final Path filePath;
+    private final DeliveryMatchesFilterPredicate filter;
+
+    /**
+     * Creates an ExportCommand to export the {@code target} that match {@code filter} to the file at
+     * {@code filePath}. Contacts are filtered only by whether they are archived.
+     */
+    public ExportCommand(Target target, Path filePath, DeliveryMatchesFilterPredicate filter) {
+        requireNonNull(target);
+        requireNonNull(filePath);
+        requireNonNull(filter);
+        this.target = target;
+        this.filePath = filePath;
+        this.filter = filter;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        long start = System.nanoTime();
+        List<Person> persons = model.getAddressBook().getPersonList();
+        long rowCount;
+        try (ExportWriter writer = ExportWriter.open(filePath, target == Target.CONTACTS
+                ? CONTACT_HEADERS : DELIVERY_HEADERS)) {
+            rowCount = target == Target.CONTACTS ? exportContacts(persons, writer) : exportDeliveries(persons, writer);
+            writer.commit();
+        } catch (IOException | UncheckedIOException e) {
+            String message = e instanceof UncheckedIOException ? e.getCause().getMessage() : e.getMessage();
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_WRITTEN, filePath, message), e);
+        }
+        logger.info(String.format("Exported %d %s to %s in %d ms", rowCount, target.getKeyword(), filePath,
+                (System.nanoTime() - start) / 1_000_000));
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, rowCount, target.getKeyword(), filePath));
+    }
+
+    private long exportContacts(List<Person> persons, ExportWriter writer) throws IOException {
+        long rowCount = 0;
+        for (Person person : persons) {
+            if (!filter.matchesArchive(person.isArchived())) {
+                continue;
+            }
+            writer.writeRow(Arrays.asList(
+                    person.getName().fullName,
+                    person.getPhone().value,
+                    person.getEmail().value,
+                    person.getAddress().value,
+                    person.getRole().getValue(),
+                    String.valueOf(person.isArchived()),
+                    person.getTags().stream().map(tag -> tag.tagName).sorted().collect(Collectors.toList())));
+            rowCount++;
+        }
+        return rowCount;
+    }
+
+    private long exportDeliveries(List<Person> persons, ExportWriter writer) {
+        long[] rowCount = {0};
+        for (Person person : persons) {
+            person.getDeliveryList().forEach(delivery -> {
+                if (!filter.test(delivery)) {
+                    return;
+                }
+                try {
+                    writer.writeRow(toDeliveryRow(person, delivery));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rowCount[0]++;
+            });
+        }
+        return rowCount[0];
+    }
+
+    private static List<Object> toDeliveryRow(Person client, Delivery delivery) {
+        List<Object> row = new ArrayList<>(DELIVERY_HEADERS.size());
+        row.add(delivery.getDeliveryId().value);
+        row.add(client.getName().fullName);
+        row.add(client.getPhone().value);
+        row.add(delivery.getItems().stream().map(item -> item.value).sorted().collect(Collectors.toList()));
+        row.add(delivery.getDate().getValue().toString());
+        row.add(delivery.getTime().getValue().toString());
+        row.add(delivery.getEta().getValue().toString());
+        row.add(delivery.getAddress().value);
+        // Written without grouping separators, which the cost of an imported delivery may not have.
+        row.add(delivery.getCost().getValue());
+        row.add(delivery.getStatus().getValue());
+        row.add(String.valueOf(delivery.isArchived()));
+        row.add(delivery.getTags().stream().map(tag -> tag.tagName).sorted().collect(Collectors.toList()));
+        return row;
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return target == otherExportCommand.target
+                && filePath.equals(otherExportCommand.filePath)
+                && filter.equals(otherExportCommand.filter);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("target", target)
+                .add("filePath", filePath)
+                .add("filter", filter)
+                .toString();
+    }
+}
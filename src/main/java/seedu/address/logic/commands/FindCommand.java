@@ -42,6 +42,11 @@ public class FindCommand extends Command {
         }
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
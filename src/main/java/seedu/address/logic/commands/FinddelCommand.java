@@ -44,6 +44,11 @@ public class FinddelCommand extends Command {
         }
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
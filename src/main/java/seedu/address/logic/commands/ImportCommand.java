@@ -0,0 +1,262 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.delivery.Archive;
+import seedu.address.model.delivery.Cost;
+import seedu.address.model.delivery.Date;
+import seedu.address.model.delivery.Delivery;
+import seedu.address.model.delivery.DeliveryId;
+import seedu.address.model.delivery.Eta;
+import seedu.address.model.delivery.ItemName;
+import seedu.address.model.delivery.Status;
+import seedu.address.model.delivery.Time;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.DeliveryImportReader;
+import seedu.address.storage.DeliveryImportReader.Column;
+import seedu.address.storage.DeliveryImportReader.Row;
+
+/**
+ * Imports deliveries from a csv or ndjson file, adding each to the client named, or with the phone number given, in
+ * its row.
+ * <p>
+ * The file is streamed row by row. Rows that are not valid are reported and skipped, and the rest are imported. The
+ * deliveries of each client are added in a single change to its delivery list, and the address book is saved once
+ * after the whole file has been read.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports deliveries from a csv or ndjson file. "
+            + "Each row gives the name or phone of a client, followed by the items, eta, address, cost, status and "
+            + "optional tags of a delivery. Items and tags are separated by '" + DeliveryImportReader.LIST_SEPARATOR
+            + "'.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/deliveries.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d deliveries for %2$d clients from %3$s";
+    public static final String MESSAGE_ROWS_SKIPPED = "\n%1$d rows were skipped:";
+    public static final String MESSAGE_MORE_ROWS_SKIPPED = "\n...and %1$d more";
+    public static final String MESSAGE_ROW_ERROR = "\nLine %1$d: %2$s";
+    public static final String MESSAGE_FILE_NOT_READ = "Could not import %1$s: %2$s";
+
+    public static final String MESSAGE_MISSING_VALUE = "the %1$s is missing";
+    public static final String MESSAGE_MISSING_CLIENT = "a name or phone is needed to find the client";
+    public static final String MESSAGE_UNKNOWN_NAME = "there is no person named %1$s";
+    public static final String MESSAGE_UNKNOWN_PHONE = "there is no person with phone %1$s";
+    public static final String MESSAGE_AMBIGUOUS_PHONE = "several persons have phone %1$s, so give a name instead";
+    public static final String MESSAGE_PHONE_MISMATCH = "%1$s has a different phone number";
+    public static final String MESSAGE_NOT_A_CLIENT = "%1$s is an employee, and deliveries are assigned to employees "
+            + "with the 'assign' command";
+
+    static final int MAX_REPORTED_ERRORS = 20;
+
+    // Deliveries added interactively take id suffixes below this (see DeliveryId), so imported ones take the rest.
+    private static final int FIRST_ID_SUFFIX = 1000;
+    private static final int LAST_ID_SUFFIX = 9999;
+
+    private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+
+    private static long lastIdMillis = 0;
+    private static int nextIdSuffix = FIRST_ID_SUFFIX;
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to import the deliveries in the file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        long start = System.nanoTime();
+        Import rows = new Import(model.getAddressBook().getPersonList());
+        try {
+            DeliveryImportReader.read(filePath, rows::add);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_READ, filePath, e.getMessage()), e);
+        }
+
+        int deliveryCount = 0;
+        for (Map.Entry<String, List<Delivery>> deliveries : rows.deliveriesByClient.entrySet()) {
+            model.addDeliveries(rows.personsByName.get(deliveries.getKey()), deliveries.getValue());
+            deliveryCount += deliveries.getValue().size();
+        }
+        logger.info(String.format("Imported %d deliveries and skipped %d rows from %s in %d ms", deliveryCount,
+                rows.errorCount, filePath, (System.nanoTime() - start) / 1_000_000));
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, deliveryCount,
+                rows.deliveriesByClient.size(), filePath));
+        if (rows.errorCount > 0) {
+            feedback.append(String.format(MESSAGE_ROWS_SKIPPED, rows.errorCount));
+            feedback.append(rows.errors);
+            if (rows.errorCount > MAX_REPORTED_ERRORS) {
+                feedback.append(String.format(MESSAGE_MORE_ROWS_SKIPPED, rows.errorCount - MAX_REPORTED_ERRORS));
+            }
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    /**
+     * Returns a new id for an imported delivery, unique among those of this and earlier imports.
+     */
+    private static synchronized DeliveryId nextDeliveryId() {
+        long now = System.currentTimeMillis();
+        if (now > lastIdMillis) {
+            lastIdMillis = now;
+            nextIdSuffix = FIRST_ID_SUFFIX;
+        } else if (nextIdSuffix > LAST_ID_SUFFIX) {
+            // Runs ahead of the clock until it catches up.
+            lastIdMillis++;
+            nextIdSuffix = FIRST_ID_SUFFIX;
+        }
+        return new DeliveryId(lastIdMillis + "-" + nextIdSuffix++);
+    }
+
+    /**
+     * The rows of a file being imported, validated and grouped by client as they are read.
+     */
+    private static class Import {
+        private final Map<String, Person> personsByName = new HashMap<>();
+        private final Map<String, List<Person>> personsByPhone = new HashMap<>();
+        // Keyed by the names of the clients, in the order they first appear in the file.
+        private final Map<String, List<Delivery>> deliveriesByClient = new LinkedHashMap<>();
+        private final StringBuilder errors = new StringBuilder();
+        private int errorCount = 0;
+
+        // Imported deliveries are all dated when the import started.
+        private final Date date = new Date(LocalDate.now().toString());
+        private final Time time = new Time(LocalTime.now().toString());
+
+        Import(List<Person> persons) {
+            for (Person person : persons) {
+                personsByName.put(person.getName().fullName, person);
+                personsByPhone.computeIfAbsent(person.getPhone().value, unused -> new ArrayList<>()).add(person);
+            }
+        }
+
+        void add(Row row) {
+            if (row.getError() != null) {
+                addError(row, row.getError());
+                return;
+            }
+            try {
+                Person client = findClient(row);
+                Delivery delivery = toDelivery(row);
+                deliveriesByClient.computeIfAbsent(client.getName().fullName, unused -> new ArrayList<>())
+                        .add(delivery);
+            } catch (ParseException pe) {
+                addError(row, pe.getMessage());
+            }
+        }
+
+        private void addError(Row row, String message) {
+            errorCount++;
+            if (errorCount <= MAX_REPORTED_ERRORS) {
+                errors.append(String.format(MESSAGE_ROW_ERROR, row.getLineNumber(), message));
+            }
+        }
+
+        private Person findClient(Row row) throws ParseException {
+            String name = row.get(Column.NAME);
+            String phone = row.get(Column.PHONE);
+            Person person;
+            if (name != null) {
+                person = personsByName.get(name);
+                if (person == null) {
+                    throw new ParseException(String.format(MESSAGE_UNKNOWN_NAME, name));
+                }
+                if (phone != null && !person.getPhone().value.equals(phone)) {
+                    throw new ParseException(String.format(MESSAGE_PHONE_MISMATCH, name));
+                }
+            } else if (phone != null) {
+                List<Person> persons = personsByPhone.get(phone);
+                if (persons == null) {
+                    throw new ParseException(String.format(MESSAGE_UNKNOWN_PHONE, phone));
+                }
+                if (persons.size() > 1) {
+                    throw new ParseException(String.format(MESSAGE_AMBIGUOUS_PHONE, phone));
+                }
+                person = persons.get(0);
+            } else {
+                throw new ParseException(MESSAGE_MISSING_CLIENT);
+            }
+
+            if (!person.isClient()) {
+                throw new ParseException(String.format(MESSAGE_NOT_A_CLIENT, person.getName().fullName));
+            }
+            return person;
+        }
+
+        private Delivery toDelivery(Row row) throws ParseException {
+            List<String> itemNames = row.getAll(Column.ITEMS);
+            if (itemNames.isEmpty()) {
+                throw new ParseException(String.format(MESSAGE_MISSING_VALUE, Column.ITEMS.getHeader()));
+            }
+            Set<ItemName> items = ParserUtil.parseItems(itemNames);
+            Eta eta = ParserUtil.parseEta(require(row, Column.ETA));
+            Address address = ParserUtil.parseAddress(require(row, Column.ADDRESS));
+            Cost cost = ParserUtil.parseCost(require(row, Column.COST));
+            Status status = ParserUtil.parseStatus(require(row, Column.STATUS));
+            Set<Tag> tags = ParserUtil.parseTags(row.getAll(Column.TAGS));
+            return new Delivery(nextDeliveryId(), items, address, cost, date, time, eta, status, tags,
+                    new Archive(false));
+        }
+
+        private static String require(Row row, Column column) throws ParseException {
+            String value = row.get(column);
+            if (value == null) {
+                throw new ParseException(String.format(MESSAGE_MISSING_VALUE, column.getHeader()));
+            }
+            return value;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
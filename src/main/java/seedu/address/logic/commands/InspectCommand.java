@@ -1,19 +1,28 @@
 package seedu.address.logic.commands;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AS_OF;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Worker;
 
 /**
- * Inspects a contact identified using it's displayed index from the address book.
+ * Inspects a contact identified using it's displayed index from the address book, either as it is now or, read-only,
+ * as it was at an earlier point in time.
  */
 public class InspectCommand extends Command {
 
@@ -21,11 +30,20 @@ public class InspectCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Inspects the contact identified by the index number used in the displayed contact list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + "Parameters: INDEX (must be a positive integer) "
+            + "[" + PREFIX_AS_OF + "DATE [TIME]] (to view the contact as it was then, read-only)\n"
+            + "Example: " + COMMAND_WORD + " 1 " + PREFIX_AS_OF + "2024-10-15 18:00";
 
     public static final String MESSAGE_INSPECT_SUCCESS = "Inspected person: %1$s";
+    public static final String MESSAGE_INSPECT_AS_OF_SUCCESS = "Inspected person as of %2$s (read-only): %1$s";
+    public static final String MESSAGE_NO_HISTORY = "No history of the address book goes back to %1$s";
+    public static final String MESSAGE_NOT_IN_HISTORY = "%1$s was not in the address book at %2$s";
+    public static final String MESSAGE_HISTORY_NOT_READ = "Could not read the history of the address book: %1$s";
+
+    public static final DateTimeFormatter AS_OF_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
     private final Index index;
+    private final LocalDateTime asOf;
 
     /**
      * @param index of the contact to be inspected
@@ -34,6 +52,18 @@ public class InspectCommand extends Command {
         requireAllNonNull(index);
 
         this.index = index;
+        this.asOf = null;
+    }
+
+    /**
+     * @param index of the contact to be inspected
+     * @param asOf point in time to inspect the contact at
+     */
+    public InspectCommand(Index index, LocalDateTime asOf) {
+        requireAllNonNull(index, asOf);
+
+        this.index = index;
+        this.asOf = asOf;
     }
 
     @Override
@@ -54,19 +84,60 @@ public class InspectCommand extends Command {
         }
 
         Person personToInspect = lastShownList.get(index.getZeroBased());
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        if (asOf != null) {
+            addressBook = readAddressBookAsOf(model);
+            personToInspect = findPastPerson(addressBook, personToInspect);
+        }
 
         if (personToInspect.isClient()) {
             model.setFilteredDeliveryList(personToInspect.getDeliveryList());
         } else {
             Worker worker = personToInspect.getWorker();
+            worker.resolveAssignedDeliveries(addressBook.getDeliveryRegistry());
             model.setFilteredDeliveryList(worker.getAssignedDeliveryList());
         }
 
+        if (asOf != null) {
+            AddressBookParser.setAsOf(asOf);
+        }
         return new CommandResult(generateSuccessMessage(personToInspect), personToInspect, false,
                 false, true);
     }
 
+    private ReadOnlyAddressBook readAddressBookAsOf(Model model) throws CommandException {
+        Optional<ReadOnlyAddressBook> pastAddressBook;
+        try {
+            pastAddressBook = model.getAddressBookHistory()
+                    .readAddressBookAsOf(asOf.atZone(ZoneId.systemDefault()).toInstant());
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(MESSAGE_HISTORY_NOT_READ, e.getMessage()), e);
+        }
+        return pastAddressBook.orElseThrow(() ->
+                new CommandException(String.format(MESSAGE_NO_HISTORY, AS_OF_FORMATTER.format(asOf))));
+    }
+
+    /**
+     * Returns the person in {@code pastAddressBook} with the same name as {@code person}.
+     */
+    private Person findPastPerson(ReadOnlyAddressBook pastAddressBook, Person person) throws CommandException {
+        return pastAddressBook.getPersonList().stream()
+                .filter(pastPerson -> pastPerson.getName().equals(person.getName()))
+                .findFirst()
+                .orElseThrow(() -> new CommandException(String.format(MESSAGE_NOT_IN_HISTORY, person.getName(),
+                        AS_OF_FORMATTER.format(asOf))));
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     private String generateSuccessMessage(Person personToInspect) {
+        if (asOf != null) {
+            return String.format(MESSAGE_INSPECT_AS_OF_SUCCESS, Messages.format(personToInspect),
+                    AS_OF_FORMATTER.format(asOf));
+        }
         String message = MESSAGE_INSPECT_SUCCESS;
         return String.format(message, Messages.format(personToInspect));
     }
@@ -82,6 +153,6 @@ public class InspectCommand extends Command {
         }
 
         InspectCommand i = (InspectCommand) other;
-        return index.equals(i.index);
+        return index.equals(i.index) && Objects.equals(asOf, i.asOf);
     }
 }
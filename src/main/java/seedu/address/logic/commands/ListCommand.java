@@ -66,4 +66,9 @@ public class ListCommand extends Command {
         }
         throw new CommandException(MESSAGE_UNKNOWN_COMMAND);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -0,0 +1,35 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Reapplies the changes reverted by the latest undo.
+ */
+public class RedoCommand extends Command {
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Reapplies the changes reverted by the latest undo.";
+
+    public static final String MESSAGE_SUCCESS = "Redone: %1$s";
+    public static final String MESSAGE_NOTHING_TO_REDO = "There is nothing to redo";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Optional<String> redone = model.redo();
+        if (redone.isEmpty()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_REDO);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, redone.get()));
+    }
+
+    @Override
+    public boolean isUndoable() {
+        return false;
+    }
+}
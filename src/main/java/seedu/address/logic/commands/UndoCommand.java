@@ -0,0 +1,35 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Reverts the changes made by the latest command that has not been undone.
+ */
+public class UndoCommand extends Command {
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Reverts the changes made by the latest command.";
+
+    public static final String MESSAGE_SUCCESS = "Undone: %1$s";
+    public static final String MESSAGE_NOTHING_TO_UNDO = "There is nothing to undo";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Optional<String> undone = model.undo();
+        if (undone.isEmpty()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_UNDO);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, undone.get()));
+    }
+
+    @Override
+    public boolean isUndoable() {
+        return false;
+    }
+}
@@ -17,4 +17,8 @@ public class CliSyntax {
     public static final Prefix PREFIX_STATUS = new Prefix("s/");
     public static final Prefix PREFIX_ITEMS = new Prefix("i/");
     public static final Prefix PREFIX_SORT = new Prefix("by/");
+    public static final Prefix PREFIX_AS_OF = new Prefix("at/");
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
+    public static final Prefix PREFIX_ARCHIVED = new Prefix("ar/");
 }
@@ -0,0 +1,84 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ARCHIVED;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ExportCommand.Target;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.delivery.Archive;
+import seedu.address.model.delivery.Date;
+import seedu.address.model.delivery.DeliveryMatchesFilterPredicate;
+import seedu.address.model.delivery.Status;
+import seedu.address.storage.DeliveryImportReader;
+import seedu.address.storage.ExportWriter;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    public static final String MESSAGE_CONTACTS_FILTERED_BY_DELIVERY = "Contacts can only be filtered by "
+            + PREFIX_ARCHIVED + ", as status and dates apply to deliveries";
+    public static final String MESSAGE_DATES_REVERSED = "The " + PREFIX_FROM + " date is after the " + PREFIX_TO
+            + " date";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_STATUS, PREFIX_FROM, PREFIX_TO, PREFIX_ARCHIVED);
+
+        String[] preamble = argMultimap.getPreamble().split("\\s+", 2);
+        Target target = Target.fromKeyword(preamble[0]);
+        if (target == null || preamble.length < 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        Path filePath;
+        try {
+            filePath = Path.of(preamble[1]);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE), ipe);
+        }
+        if (!DeliveryImportReader.isSupported(filePath)) {
+            throw new ParseException(ExportWriter.MESSAGE_UNSUPPORTED_FILE);
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_STATUS, PREFIX_FROM, PREFIX_TO, PREFIX_ARCHIVED);
+        Status status = parseOptional(argMultimap.getValue(PREFIX_STATUS), ParserUtil::parseStatus);
+        Date fromDate = parseOptional(argMultimap.getValue(PREFIX_FROM), ParserUtil::parseDate);
+        Date toDate = parseOptional(argMultimap.getValue(PREFIX_TO), ParserUtil::parseDate);
+        Archive archive = parseOptional(argMultimap.getValue(PREFIX_ARCHIVED), ParserUtil::parseArchive);
+        if (fromDate != null && toDate != null && fromDate.compareTo(toDate) > 0) {
+            throw new ParseException(MESSAGE_DATES_REVERSED);
+        }
+
+        DeliveryMatchesFilterPredicate filter = new DeliveryMatchesFilterPredicate(status, fromDate, toDate, archive);
+        if (target == Target.CONTACTS && filter.hasDeliveryCriteria()) {
+            throw new ParseException(MESSAGE_CONTACTS_FILTERED_BY_DELIVERY);
+        }
+        return new ExportCommand(target, filePath, filter);
+    }
+
+    /**
+     * Parses a value of an optional prefix.
+     */
+    private interface ValueParser<T> {
+        T parse(String value) throws ParseException;
+    }
+
+    private static <T> T parseOptional(Optional<String> value, ValueParser<T> parser) throws ParseException {
+        return value.isPresent() ? parser.parse(value.get()) : null;
+    }
+}
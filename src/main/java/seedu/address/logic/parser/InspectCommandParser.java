@@ -2,9 +2,12 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_AS_OF;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -22,10 +25,11 @@ public class InspectCommandParser implements Parser<InspectCommand> {
      */
     public InspectCommand parse(String args) throws ParseException {
         requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_AS_OF);
 
         Index index;
         try {
-            List<Index> indexList = ParserUtil.parseIndex(args);
+            List<Index> indexList = ParserUtil.parseIndex(argMultimap.getPreamble());
             if (indexList.isEmpty() || indexList.size() > 1) {
                 throw new ParseException(MESSAGE_INVALID_INDEX);
             }
@@ -35,6 +39,13 @@ public class InspectCommandParser implements Parser<InspectCommand> {
                     InspectCommand.MESSAGE_USAGE), ive);
         }
 
-        return new InspectCommand(index);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_AS_OF);
+        Optional<String> asOf = argMultimap.getValue(PREFIX_AS_OF);
+        if (asOf.isEmpty()) {
+            return new InspectCommand(index);
+        }
+
+        LocalDateTime asOfDateTime = ParserUtil.parseAsOf(asOf.get());
+        return new InspectCommand(index, asOfDateTime);
     }
 }
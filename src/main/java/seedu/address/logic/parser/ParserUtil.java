@@ -2,6 +2,11 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
@@ -12,7 +17,9 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.delivery.Archive;
 import seedu.address.model.delivery.Cost;
+import seedu.address.model.delivery.Date;
 import seedu.address.model.delivery.Eta;
 import seedu.address.model.delivery.ItemName;
 import seedu.address.model.delivery.Status;
@@ -29,6 +36,8 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_AS_OF = "Point in time should be a date in the format yyyy-MM-dd, "
+            + "optionally followed by a time in the format HH:mm.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -48,6 +57,29 @@ public class ParserUtil {
         return indexList;
     }
 
+    /**
+     * Parses a {@code String asOf} of the form {@code yyyy-MM-dd [HH:mm]} into a {@code LocalDateTime}.
+     * A date without a time stands for the end of that day. Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code asOf} is invalid.
+     */
+    public static LocalDateTime parseAsOf(String asOf) throws ParseException {
+        requireNonNull(asOf);
+        String[] parts = asOf.trim().split("\\s+");
+        try {
+            LocalDate date = LocalDate.parse(parts[0]);
+            if (parts.length == 1) {
+                return date.atTime(LocalTime.MAX);
+            }
+            if (parts.length == 2) {
+                return date.atTime(LocalTime.parse(parts[1], DateTimeFormatter.ofPattern("HH:mm")));
+            }
+        } catch (DateTimeParseException e) {
+            // Reported below, like any other malformed point in time.
+        }
+        throw new ParseException(MESSAGE_INVALID_AS_OF);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -222,6 +254,36 @@ public class ParserUtil {
         return new Status(trimmedStatus);
     }
 
+    /**
+     * Parses a {@code String date} into a {@code Date}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code date} is invalid.
+     */
+    public static Date parseDate(String date) throws ParseException {
+        requireNonNull(date);
+        String trimmedDate = date.trim();
+        if (!Date.isValidDate(trimmedDate)) {
+            throw new ParseException(Date.MESSAGE_CONSTRAINTS);
+        }
+        return new Date(trimmedDate);
+    }
+
+    /**
+     * Parses a {@code String archive} into an {@code Archive}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code archive} is invalid.
+     */
+    public static Archive parseArchive(String archive) throws ParseException {
+        requireNonNull(archive);
+        String trimmedArchive = archive.trim();
+        if (!Archive.isValidArchive(trimmedArchive)) {
+            throw new ParseException(Archive.MESSAGE_CONSTRAINTS);
+        }
+        return new Archive(trimmedArchive);
+    }
+
     /**
      * Parses a {@code String} delivery attribute to ensure it is a valid delivery attribute.
      * Leading and trailing whitespaces will be trimmed.
@@ -7,8 +7,10 @@ import java.util.List;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.DeliveryRegistry;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.util.Snapshot;
 
 /**
  * Wraps all data at the address-book level
@@ -17,7 +19,7 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
-
+    private final DeliveryRegistry deliveryRegistry;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -28,6 +30,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        deliveryRegistry = new DeliveryRegistry(persons.asUnmodifiableObservableList());
     }
 
     public AddressBook() {}
@@ -59,6 +62,16 @@ public class AddressBook implements ReadOnlyAddressBook {
         setPersons(newData.getPersonList());
     }
 
+    /**
+     * Changes the existing data of this {@code AddressBook} into {@code newData}, replacing only the persons and
+     * deliveries that differ, and returns the number of persons changed.
+     * Persons and deliveries that did not change are left as they are, along with any view of them.
+     */
+    public int updateData(ReadOnlyAddressBook newData) {
+        requireNonNull(newData);
+        return persons.updatePersons(newData.getPersonList());
+    }
+
     //// person-level operations
 
     /**
@@ -162,6 +175,22 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.getFirstArchivedIndex();
     }
 
+    /**
+     * Returns the version stamp of this address book, which changes whenever its data is modified.
+     */
+    public long getVersion() {
+        return persons.getVersion();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Takes {@code O(1)} time.
+     */
+    @Override
+    public ReadOnlyAddressBook snapshot() {
+        return new AddressBookSnapshot(persons.snapshot(), Snapshot.take());
+    }
+
     //// util methods
 
     @Override
@@ -176,6 +205,15 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    /**
+     * {@inheritDoc}
+     * The index is kept up to date with the changes made to this address book.
+     */
+    @Override
+    public DeliveryRegistry getDeliveryRegistry() {
+        return deliveryRegistry;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,46 @@
+package seedu.address.model;
+
+import java.nio.file.Path;
+
+/**
+ * The format in which the address book data file is stored.
+ */
+public enum AddressBookFormat {
+    /** Human readable json, with changes appended to a journal between full saves. */
+    JSON(".json"),
+    /** Compact binary, rewritten in full on every save. */
+    BINARY(".bin"),
+    /** A directory of json files, one per person, of which only those that changed are rewritten on save. */
+    SHARDED(".json"),
+    /** Fixed-size pages indexed by B+trees, of which only those that changed are written on save. */
+    PAGED(".pages");
+
+    private final String fileExtension;
+
+    AddressBookFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    /**
+     * Returns the extension of the data file in this format, such as {@code .json}.
+     */
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Returns the path of the data file in this format for {@code filePath}, which is {@code filePath} with the
+     * extension of any format replaced by the extension of this one. A file name without the extension of any format
+     * is left as it is, so a name chosen by the user is kept.
+     */
+    public Path toDataFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        for (AddressBookFormat format : values()) {
+            if (fileName.endsWith(format.fileExtension)) {
+                String baseName = fileName.substring(0, fileName.length() - format.fileExtension.length());
+                return filePath.resolveSibling(baseName + fileExtension);
+            }
+        }
+        return filePath;
+    }
+}
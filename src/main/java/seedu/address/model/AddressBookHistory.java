@@ -0,0 +1,21 @@
+package seedu.address.model;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+
+/**
+ * Provides read-only views of the address book as it was at earlier points in time.
+ */
+@FunctionalInterface
+public interface AddressBookHistory {
+
+    /**
+     * Returns the address book as it was at {@code time}, or {@code Optional.empty()} if the recorded history does
+     * not go back that far.
+     *
+     * @throws DataLoadingException if the recorded history could not be read.
+     */
+    Optional<ReadOnlyAddressBook> readAddressBookAsOf(Instant time) throws DataLoadingException;
+}
@@ -0,0 +1,79 @@
+package seedu.address.model;
+
+import java.util.AbstractList;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.PersistentList;
+import seedu.address.model.util.Snapshot;
+
+/**
+ * An immutable view of an {@code AddressBook} as it was when the view was taken, which can be read from any thread.
+ * <p>
+ * Taking the view only captures the person list of the address book, whose structure it shares, so its cost does not
+ * grow with the size of the address book. Each person is read with the deliveries and worker details it had when the
+ * view was taken, the first time it is read from the view.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final PersistentList<Person> persons;
+    private final Snapshot snapshot;
+    private final ObservableList<Person> personList;
+
+    // The persons read so far, as they were when the view was taken. Guarded by this.
+    private Person[] personsAsOf;
+
+    AddressBookSnapshot(PersistentList<Person> persons, Snapshot snapshot) {
+        this.persons = persons;
+        this.snapshot = snapshot;
+        this.personList = FXCollections.unmodifiableObservableList(FXCollections.observableList(new PersonsAsOf()));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return personList;
+    }
+
+    @Override
+    public ReadOnlyAddressBook snapshot() {
+        return this;
+    }
+
+    /**
+     * Returns the person at {@code index} as it was when the view was taken.
+     * The same person is returned every time, so that readers may tell persons apart by identity.
+     */
+    private synchronized Person getPersonAsOf(int index) {
+        if (personsAsOf == null) {
+            personsAsOf = new Person[persons.size()];
+        }
+        if (personsAsOf[index] == null) {
+            personsAsOf[index] = persons.get(index).asOf(snapshot);
+        }
+        return personsAsOf[index];
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", personList)
+                .toString();
+    }
+
+    /**
+     * The persons of the view, as they were when it was taken. Keeps the view, and with it the snapshot, reachable.
+     */
+    private class PersonsAsOf extends AbstractList<Person> {
+        @Override
+        public Person get(int index) {
+            return getPersonAsOf(index);
+        }
+
+        @Override
+        public int size() {
+            return persons.size();
+        }
+    }
+}
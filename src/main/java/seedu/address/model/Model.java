@@ -1,6 +1,8 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -56,9 +58,54 @@ public interface Model {
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Changes the address book data into the data in {@code addressBook}, replacing only the persons and deliveries
+     * that differ, and returns the number of persons changed.
+     */
+    int updateAddressBook(ReadOnlyAddressBook addressBook);
+
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the version stamp of the address book data.
+     * The stamp changes whenever the address book is modified, so two equal stamps mean nothing changed in between.
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Sets the history that earlier versions of the address book are read from.
+     */
+    void setAddressBookHistory(AddressBookHistory addressBookHistory);
+
+    /**
+     * Returns the history that earlier versions of the address book are read from.
+     */
+    AddressBookHistory getAddressBookHistory();
+
+    /**
+     * Starts recording the changes made to the address book, so that they can be undone together as one step
+     * described by {@code description}.
+     */
+    void startUndoableChange(String description);
+
+    /**
+     * Stops recording the changes started by {@link #startUndoableChange(String)}, and keeps them to be undone.
+     */
+    void finishUndoableChange();
+
+    /**
+     * Reverts the latest step that was kept to be undone.
+     * Returns its description, or an empty {@code Optional} if there is nothing to undo.
+     */
+    Optional<String> undo();
+
+    /**
+     * Reapplies the latest step that was undone.
+     * Returns its description, or an empty {@code Optional} if there is nothing to redo.
+     */
+    Optional<String> redo();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -149,6 +196,11 @@ public interface Model {
      */
     void addDelivery(Person person, Delivery delivery);
 
+    /**
+     * Adds the given deliveries to {@code person}, before its archived deliveries, as a single change to its list.
+     */
+    void addDeliveries(Person person, List<Delivery> deliveries);
+
     /**
      * Returns an unmodifiable view of the filtered delivery list
      */
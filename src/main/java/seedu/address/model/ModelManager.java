@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -15,6 +17,7 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.model.delivery.Delivery;
 import seedu.address.model.delivery.DeliveryList;
 import seedu.address.model.person.Person;
+import seedu.address.model.util.PartitionPoint;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -25,7 +28,10 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final PartitionPoint<Person> firstArchivedPerson;
     private FilteredList<Delivery> filteredDeliveries;
+    private AddressBookHistory addressBookHistory = time -> Optional.empty();
+    private final UndoHistory undoHistory;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -37,7 +43,9 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        undoHistory = new UndoHistory(userPrefs.getUndoHistoryDepth(), userPrefs.getUndoMemoryBudgetBytes());
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        firstArchivedPerson = new PartitionPoint<>(filteredPersons, Person::isArchived);
         DeliveryList emptyList = new DeliveryList();
         filteredDeliveries = new FilteredList<>(emptyList.asUnmodifiableObservableList());
     }
@@ -52,6 +60,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        undoHistory.setLimits(userPrefs.getUndoHistoryDepth(), userPrefs.getUndoMemoryBudgetBytes());
     }
 
     @Override
@@ -88,11 +97,52 @@ public class ModelManager implements Model {
         this.addressBook.resetData(addressBook);
     }
 
+    @Override
+    public int updateAddressBook(ReadOnlyAddressBook addressBook) {
+        return this.addressBook.updateData(addressBook);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
+    @Override
+    public void setAddressBookHistory(AddressBookHistory addressBookHistory) {
+        requireNonNull(addressBookHistory);
+        this.addressBookHistory = addressBookHistory;
+    }
+
+    @Override
+    public AddressBookHistory getAddressBookHistory() {
+        return addressBookHistory;
+    }
+
+    @Override
+    public void startUndoableChange(String description) {
+        undoHistory.start(description);
+    }
+
+    @Override
+    public void finishUndoableChange() {
+        undoHistory.finish();
+    }
+
+    @Override
+    public Optional<String> undo() {
+        return undoHistory.undo();
+    }
+
+    @Override
+    public Optional<String> redo() {
+        return undoHistory.redo();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -186,9 +236,7 @@ public class ModelManager implements Model {
 
     @Override
     public Index getFirstArchivedIndex() {
-        int count = (int) filteredPersons.stream().filter(person -> !person.isArchived()).count();
-        Index index = Index.fromZeroBased(count);
-        return index;
+        return Index.fromZeroBased(firstArchivedPerson.get());
     }
 
     @Override
@@ -203,6 +251,11 @@ public class ModelManager implements Model {
         person.addDelivery(delivery);
     }
 
+    @Override
+    public void addDeliveries(Person person, List<Delivery> deliveries) {
+        person.addDeliveries(person.getFirstArchivedIndex(), deliveries);
+    }
+
     @Override
     public ObservableList<Delivery> getFilteredDeliveryList() {
         return filteredDeliveries;
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.person.DeliveryRegistry;
 import seedu.address.model.person.Person;
 
 /**
@@ -14,4 +15,19 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns an index of the deliveries held by the persons of this address book, by their ids.
+     */
+    default DeliveryRegistry getDeliveryRegistry() {
+        return new DeliveryRegistry(getPersonList());
+    }
+
+    /**
+     * Returns an immutable view of this address book as it is now, which later changes to this address book do not
+     * affect. The view can be read from any thread, but must be taken on the thread that modifies this address book.
+     */
+    default ReadOnlyAddressBook snapshot() {
+        return new AddressBook(this).snapshot();
+    }
+
 }
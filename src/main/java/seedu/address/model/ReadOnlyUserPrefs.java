@@ -13,4 +13,35 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the longest time, in milliseconds, that a requested address book save may wait before it is written.
+     */
+    long getSaveMaxLatencyMillis();
+
+    /**
+     * Returns the number of requested address book saves after which they are written without further waiting.
+     */
+    int getSaveMaxPending();
+
+    /**
+     * Returns the format in which the address book data file is saved.
+     */
+    AddressBookFormat getAddressBookFormat();
+
+    /**
+     * Returns true if the address book data file is saved compressed.
+     */
+    boolean isDataFileCompressed();
+
+    /**
+     * Returns the number of commands that can be undone.
+     */
+    int getUndoHistoryDepth();
+
+    /**
+     * Returns the memory, in bytes, that the commands kept to be undone may be estimated to take up.
+     * The last command can be undone even if it alone takes up more.
+     */
+    long getUndoMemoryBudgetBytes();
+
 }
@@ -0,0 +1,158 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.util.ChangeRecorder;
+import seedu.address.model.util.ChangeRecorder.RecordedChange;
+
+/**
+ * The changes made to the address book that can be undone and redone, one command at a time.
+ * <p>
+ * Each step keeps the changes recorded by a {@link ChangeRecorder} while its command ran, rather than a copy of the
+ * address book. At most {@code maxDepth} steps are kept, and the oldest steps are forgotten once the steps together
+ * are estimated to keep more than {@code memoryBudgetBytes} alive. The latest step is always kept, so the last command
+ * can be undone however large it was.
+ */
+public class UndoHistory {
+
+    private static final Logger logger = LogsCenter.getLogger(UndoHistory.class);
+
+    // The latest steps are at the front.
+    private final Deque<Step> undoSteps = new ArrayDeque<>();
+    private final Deque<Step> redoSteps = new ArrayDeque<>();
+    private int maxDepth;
+    private long memoryBudgetBytes;
+    private long estimatedBytes = 0;
+
+    private ChangeRecorder recorder;
+    private String recordedDescription;
+
+    /**
+     * Creates an {@code UndoHistory} that keeps at most {@code maxDepth} steps, within {@code memoryBudgetBytes}.
+     */
+    public UndoHistory(int maxDepth, long memoryBudgetBytes) {
+        setLimits(maxDepth, memoryBudgetBytes);
+    }
+
+    /**
+     * Changes the limits on the steps kept, forgetting the oldest steps if they are now over the limits.
+     *
+     * @throws IllegalArgumentException if either limit is negative.
+     */
+    public void setLimits(int maxDepth, long memoryBudgetBytes) {
+        checkArgument(maxDepth >= 0, "Undo history depth must not be negative");
+        checkArgument(memoryBudgetBytes >= 0, "Undo memory budget must not be negative");
+        this.maxDepth = maxDepth;
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        trim();
+    }
+
+    /**
+     * Starts recording the changes made on the current thread as one step, described by {@code description}.
+     */
+    public void start(String description) {
+        requireNonNull(description);
+        assert recorder == null;
+        recorder = ChangeRecorder.start();
+        recordedDescription = description;
+    }
+
+    /**
+     * Stops recording, and keeps the changes recorded as the latest step if there were any.
+     * Steps that were undone can no longer be redone once a new step is kept.
+     */
+    public void finish() {
+        assert recorder != null;
+        RecordedChange change = recorder.stop();
+        recorder = null;
+        if (change.isEmpty() || maxDepth == 0) {
+            return;
+        }
+
+        redoSteps.forEach(step -> estimatedBytes -= step.change.getEstimatedBytes());
+        redoSteps.clear();
+        push(undoSteps, new Step(recordedDescription, change));
+        trim();
+    }
+
+    public boolean canUndo() {
+        return !undoSteps.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoSteps.isEmpty();
+    }
+
+    /**
+     * Reverts the latest step, and returns its description, or an empty {@code Optional} if there is none.
+     */
+    public Optional<String> undo() {
+        return move(undoSteps, redoSteps);
+    }
+
+    /**
+     * Reapplies the latest undone step, and returns its description, or an empty {@code Optional} if there is none.
+     */
+    public Optional<String> redo() {
+        return move(redoSteps, undoSteps);
+    }
+
+    /**
+     * Reverts the latest step of {@code from}, and pushes the step that reverts it back onto {@code to}.
+     */
+    private Optional<String> move(Deque<Step> from, Deque<Step> to) {
+        assert recorder == null;
+        Step step = from.poll();
+        if (step == null) {
+            return Optional.empty();
+        }
+        estimatedBytes -= step.change.getEstimatedBytes();
+
+        long start = System.nanoTime();
+        ChangeRecorder reverse = ChangeRecorder.start();
+        try {
+            step.change.revert();
+        } finally {
+            push(to, new Step(step.description, reverse.stop()));
+        }
+        logger.fine(String.format("Reverted '%s' in %d ms", step.description, (System.nanoTime() - start) / 1_000_000));
+        trim();
+        return Optional.of(step.description);
+    }
+
+    private void push(Deque<Step> steps, Step step) {
+        steps.push(step);
+        estimatedBytes += step.change.getEstimatedBytes();
+    }
+
+    /**
+     * Forgets the oldest steps until the rest are within the limits, keeping the latest step regardless of its size.
+     */
+    private void trim() {
+        while (undoSteps.size() > maxDepth
+                || (estimatedBytes > memoryBudgetBytes && undoSteps.size() + redoSteps.size() > 1)) {
+            Deque<Step> steps = undoSteps.size() >= redoSteps.size() ? undoSteps : redoSteps;
+            estimatedBytes -= steps.removeLast().change.getEstimatedBytes();
+        }
+        while (redoSteps.size() > maxDepth) {
+            estimatedBytes -= redoSteps.removeLast().change.getEstimatedBytes();
+        }
+    }
+
+    private static class Step {
+        private final String description;
+        private final RecordedChange change;
+
+        Step(String description, RecordedChange change) {
+            this.description = description;
+            this.change = change;
+        }
+    }
+}
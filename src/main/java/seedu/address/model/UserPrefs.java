@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
@@ -13,8 +15,19 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final long DEFAULT_SAVE_MAX_LATENCY_MILLIS = 500;
+    public static final int DEFAULT_SAVE_MAX_PENDING = 16;
+    public static final int DEFAULT_UNDO_HISTORY_DEPTH = 100;
+    public static final long DEFAULT_UNDO_MEMORY_BUDGET_BYTES = 64L * 1024 * 1024;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "LogiLink.json");
+    private long saveMaxLatencyMillis = DEFAULT_SAVE_MAX_LATENCY_MILLIS;
+    private int saveMaxPending = DEFAULT_SAVE_MAX_PENDING;
+    private AddressBookFormat addressBookFormat = AddressBookFormat.JSON;
+    private boolean dataFileCompressed = false;
+    private int undoHistoryDepth = DEFAULT_UNDO_HISTORY_DEPTH;
+    private long undoMemoryBudgetBytes = DEFAULT_UNDO_MEMORY_BUDGET_BYTES;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -39,6 +52,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setSaveMaxLatencyMillis(newUserPrefs.getSaveMaxLatencyMillis());
+        setSaveMaxPending(newUserPrefs.getSaveMaxPending());
+        setAddressBookFormat(newUserPrefs.getAddressBookFormat());
+        setDataFileCompressed(newUserPrefs.isDataFileCompressed());
+        setUndoHistoryDepth(newUserPrefs.getUndoHistoryDepth());
+        setUndoMemoryBudgetBytes(newUserPrefs.getUndoMemoryBudgetBytes());
     }
 
     public GuiSettings getGuiSettings() {
@@ -59,6 +78,80 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public long getSaveMaxLatencyMillis() {
+        return saveMaxLatencyMillis;
+    }
+
+    public void setSaveMaxLatencyMillis(long saveMaxLatencyMillis) {
+        this.saveMaxLatencyMillis = saveMaxLatencyMillis;
+    }
+
+    public int getSaveMaxPending() {
+        return saveMaxPending;
+    }
+
+    public void setSaveMaxPending(int saveMaxPending) {
+        this.saveMaxPending = saveMaxPending;
+    }
+
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        requireNonNull(addressBookFormat);
+        this.addressBookFormat = addressBookFormat;
+    }
+
+    public boolean isDataFileCompressed() {
+        return dataFileCompressed;
+    }
+
+    public void setDataFileCompressed(boolean dataFileCompressed) {
+        this.dataFileCompressed = dataFileCompressed;
+    }
+
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
+    public long getUndoMemoryBudgetBytes() {
+        return undoMemoryBudgetBytes;
+    }
+
+    public void setUndoMemoryBudgetBytes(long undoMemoryBudgetBytes) {
+        this.undoMemoryBudgetBytes = undoMemoryBudgetBytes;
+    }
+
+    /**
+     * Replaces the limits that are out of range, such as ones edited by hand into the preference file, with their
+     * defaults. Returns the names of the limits that were replaced.
+     */
+    public List<String> resetInvalidLimits() {
+        List<String> resetLimits = new ArrayList<>();
+        if (saveMaxLatencyMillis < 0) {
+            saveMaxLatencyMillis = DEFAULT_SAVE_MAX_LATENCY_MILLIS;
+            resetLimits.add("saveMaxLatencyMillis");
+        }
+        if (saveMaxPending <= 0) {
+            saveMaxPending = DEFAULT_SAVE_MAX_PENDING;
+            resetLimits.add("saveMaxPending");
+        }
+        if (undoHistoryDepth < 0) {
+            undoHistoryDepth = DEFAULT_UNDO_HISTORY_DEPTH;
+            resetLimits.add("undoHistoryDepth");
+        }
+        if (undoMemoryBudgetBytes < 0) {
+            undoMemoryBudgetBytes = DEFAULT_UNDO_MEMORY_BUDGET_BYTES;
+            resetLimits.add("undoMemoryBudgetBytes");
+        }
+        return resetLimits;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -72,12 +165,19 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && saveMaxLatencyMillis == otherUserPrefs.saveMaxLatencyMillis
+                && saveMaxPending == otherUserPrefs.saveMaxPending
+                && addressBookFormat == otherUserPrefs.addressBookFormat
+                && dataFileCompressed == otherUserPrefs.dataFileCompressed
+                && undoHistoryDepth == otherUserPrefs.undoHistoryDepth
+                && undoMemoryBudgetBytes == otherUserPrefs.undoMemoryBudgetBytes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, saveMaxLatencyMillis, saveMaxPending,
+                addressBookFormat, dataFileCompressed, undoHistoryDepth, undoMemoryBudgetBytes);
     }
 
     @Override
@@ -85,6 +185,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nSave max latency (ms) : " + saveMaxLatencyMillis);
+        sb.append("\nSave max pending : " + saveMaxPending);
+        sb.append("\nData file format : " + addressBookFormat);
+        sb.append("\nCompress data file : " + dataFileCompressed);
+        sb.append("\nUndo history depth : " + undoHistoryDepth);
+        sb.append("\nUndo memory budget (bytes) : " + undoMemoryBudgetBytes);
         return sb.toString();
     }
 
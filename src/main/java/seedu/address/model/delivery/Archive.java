@@ -9,7 +9,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 public class Archive {
     public static final String MESSAGE_CONSTRAINTS = "Archive should be boolean";
 
-    public final String value;
+    private final boolean isArchived;
 
     /**
      * Constructs a {@code Archive}.
@@ -17,7 +17,7 @@ public class Archive {
      * @param isArchived A boolean.
      */
     public Archive(boolean isArchived) {
-        value = Boolean.toString(isArchived);
+        this.isArchived = isArchived;
     }
 
     /**
@@ -26,7 +26,7 @@ public class Archive {
     public Archive(String archive) {
         requireNonNull(archive);
         checkArgument(isValidArchive(archive), MESSAGE_CONSTRAINTS);
-        this.value = archive;
+        this.isArchived = archive.equals("true");
     }
 
     /**
@@ -38,10 +38,17 @@ public class Archive {
     }
 
     /**
-     * Returns true if a given string is a valid archive.
+     * Returns true if the delivery is archived.
      */
     public boolean isArchived() {
-        return this.value.equals("true");
+        return isArchived;
+    }
+
+    /**
+     * Returns the archive status as {@code "true"} or {@code "false"}, as kept in storage.
+     */
+    public String getValue() {
+        return Boolean.toString(isArchived);
     }
 
     @Override
@@ -56,11 +63,16 @@ public class Archive {
         }
 
         Archive otherArchive = (Archive) other;
-        return value.equals(otherArchive.value);
+        return isArchived == otherArchive.isArchived;
+    }
+
+    @Override
+    public int hashCode() {
+        return Boolean.hashCode(isArchived);
     }
 
     @Override
     public String toString() {
-        return "Archive: " + value;
+        return "Archive: " + getValue();
     }
 }
@@ -3,24 +3,24 @@ package seedu.address.model.delivery;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import java.text.DecimalFormat;
-import java.text.ParseException;
-
-import seedu.address.model.delivery.exceptions.InvalidCostException;
+import java.util.Locale;
+import java.util.regex.Pattern;
 
 /**
- * Represents a delivery's cost.
+ * Represents a delivery's cost, held as a whole number of cents.
  * <p>
  * Guarantees: is valid as declared in {@link #isValidCost(String)}
  */
-public class Cost {
+public class Cost implements Comparable<Cost> {
     public static final String MESSAGE_CONSTRAINTS =
-            "Cost should start with $, followed by positive integer dollar input, and optional 2 decimal cents input.\n"
+            "Cost should start with $, followed by positive integer dollar input of at most 16 digits, and optional 2 "
+            + "decimal cents input.\n"
             + "For example, accepted inputs are: $100, $100.00, $100.10. ";
-    public static final String MESSAGE_INVALID_COST_STRING =
-            "The cost string within Cost has incorrect format. Something is wrong with the validation of cost input.";
-    public static final String VALIDATION_REGEX = "^\\$\\d+(\\.\\d{2})?$"; // This allows optional 2 d.p. cents input.
-    public final String value;
+    // This allows optional 2 d.p. cents input, and keeps the number of cents within a long.
+    public static final String VALIDATION_REGEX = "^\\$\\d{1,16}(\\.\\d{2})?$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    private final long cents;
 
     /**
      * Constructs a {@code Cost}.
@@ -30,30 +30,42 @@ public class Cost {
     public Cost(String cost) {
         requireNonNull(cost);
         checkArgument(isValidCost(cost), MESSAGE_CONSTRAINTS);
-        DecimalFormat decimalFormat = new DecimalFormat("#,##0.00");
-        decimalFormat.setMinimumFractionDigits(2);
-        value = "$" + decimalFormat.format(Double.parseDouble(cost.substring(1)));
+        int point = cost.indexOf('.');
+        if (point == -1) {
+            cents = Long.parseLong(cost.substring(1)) * 100;
+        } else {
+            cents = Long.parseLong(cost.substring(1, point)) * 100 + Integer.parseInt(cost.substring(point + 1));
+        }
+    }
+
+    /**
+     * Returns true if a given string is a valid cost.
+     */
+    public static boolean isValidCost(String test) {
+        return VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    public long getCents() {
+        return cents;
     }
 
     /**
-     * Returns the current cost {@code String} as a double value.
+     * Returns the cost as a double value, which is only exact for costs of up to 2<sup>53</sup> cents.
      */
     public double asDouble() {
-        try {
-            DecimalFormat decimalFormat = new DecimalFormat();
-            Number parsedCost = decimalFormat.parse(this.value.substring(1));
-            return parsedCost.doubleValue();
-        } catch (ParseException e) {
-            // This should never happen since we have already verified that the cost is valid.
-            throw new InvalidCostException(MESSAGE_INVALID_COST_STRING);
-        }
+        return cents / 100.0;
     }
 
     /**
-     * Returns true if a given string is a valid cost.
+     * Returns the cost with its cents and without grouping, such as {@code $1000.50}, which is a valid cost again.
      */
-    public static boolean isValidCost(String test) {
-        return test.matches(VALIDATION_REGEX);
+    public String getValue() {
+        return String.format(Locale.ROOT, "$%d.%02d", cents / 100, cents % 100);
+    }
+
+    @Override
+    public int compareTo(Cost other) {
+        return Long.compare(cents, other.cents);
     }
 
     @Override
@@ -68,11 +80,19 @@ public class Cost {
         }
 
         Cost otherCost = (Cost) other;
-        return value.equals(otherCost.value);
+        return cents == otherCost.cents;
     }
 
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+    /**
+     * Returns the cost with its dollars grouped by thousands, such as {@code Cost: $1,000.50}, for display.
+     */
     @Override
     public String toString() {
-        return "Cost: " + value;
+        return String.format("Cost: $%,d.%02d", cents / 100, cents % 100);
     }
 }
@@ -7,13 +7,13 @@ import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 
 /**
- * Represents a delivery's order date.
+ * Represents a delivery's order date, held as the number of days since 1970-01-01.
  * Guarantees: is valid as declared in {@link #isValidDate(String)}
  */
-public class Date {
+public class Date implements Comparable<Date> {
     public static final String MESSAGE_CONSTRAINTS =
             "Incorrect date format. Expected format: YYYY-MM-DD";
-    public final LocalDate value;
+    private final int epochDay;
 
     /**
      * Constructs a {@code Date}.
@@ -23,7 +23,7 @@ public class Date {
     public Date(String date) {
         requireNonNull(date);
         checkArgument(isValidDate(date), MESSAGE_CONSTRAINTS);
-        value = LocalDate.parse(date);
+        epochDay = (int) LocalDate.parse(date).toEpochDay();
     }
 
     /**
@@ -31,11 +31,24 @@ public class Date {
      */
     public static boolean isValidDate(String test) {
         try {
-            LocalDate parsedDate = LocalDate.parse(test);
+            long epochDay = LocalDate.parse(test).toEpochDay();
+            return epochDay == (int) epochDay;
         } catch (DateTimeParseException e) {
             return false;
         }
-        return true;
+    }
+
+    public int getEpochDay() {
+        return epochDay;
+    }
+
+    public LocalDate getValue() {
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    @Override
+    public int compareTo(Date other) {
+        return Integer.compare(epochDay, other.epochDay);
     }
 
     @Override
@@ -50,11 +63,16 @@ public class Date {
         }
 
         Date otherDate = (Date) other;
-        return value.equals(otherDate.value);
+        return epochDay == otherDate.epochDay;
+    }
+
+    @Override
+    public int hashCode() {
+        return epochDay;
     }
 
     @Override
     public String toString() {
-        return "Date Ordered: " + value;
+        return "Date Ordered: " + getValue();
     }
 }
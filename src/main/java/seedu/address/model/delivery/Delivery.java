@@ -126,6 +126,14 @@ public class Delivery {
         return equals(otherDelivery);
     }
 
+    /**
+     * Returns true if both deliveries have the same fields, including their status, which {@link #equals(Object)}
+     * leaves out.
+     */
+    public boolean hasSameDetails(Delivery otherDelivery) {
+        return equals(otherDelivery) && status.equals(otherDelivery.status);
+    }
+
     /**
      * Returns true if both deliveries have the same identity and data fields.
      * This defines a stronger notion of equality between two deliveries.
@@ -1,12 +1,16 @@
 package seedu.address.model.delivery;
 
 import java.util.Random;
+import java.util.regex.Pattern;
 
 /**
  * Represents a delivery's unique ID.
  */
 public class DeliveryId {
+    public static final String MESSAGE_CONSTRAINTS =
+            "Delivery ids should be a 13-digit timestamp and a 4-digit number, separated by a hyphen";
     public static final String VALIDATION_REGEX = "^\\d{13}-\\d{4}$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -18,7 +22,7 @@ public class DeliveryId {
     }
 
     public static boolean isValidDeliveryId(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -36,6 +40,11 @@ public class DeliveryId {
         return value.equals(otherDeliveryID.value);
     }
 
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
     @Override
     public String toString() {
         return "ID: " + value;
@@ -4,85 +4,239 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.delivery.exceptions.DeliveryNotFoundException;
+import seedu.address.model.util.ChangeRecorder;
+import seedu.address.model.util.ListDiff;
+import seedu.address.model.util.MutationCounter;
+import seedu.address.model.util.PartitionPoint;
+import seedu.address.model.util.PersistentList;
+import seedu.address.model.util.Snapshot;
+import seedu.address.model.util.SnapshotHistory;
+import seedu.address.model.util.SnapshotList;
+import seedu.address.model.util.SortedInsertion;
 
 /**
  * A list of deliveries that does not allow nulls.
  * <p>
+ * The deliveries are held in a {@link PersistentList}, so copying the list takes {@code O(1)} time. The list also
+ * keeps the contents it had when each live {@link Snapshot} of the model was taken, for {@link #copyAsOf(Snapshot)}.
+ * <p>
+ * The position of each delivery is indexed by its {@link DeliveryId}, so a delivery is found in {@code O(1)} time.
+ * The index is built when first needed after the deliveries were reordered or removed, and is kept as it is when a
+ * delivery is replaced by one with the same id or added at the end of the list.
+ * <p>
+ * Archived deliveries are kept after the others, and the position of the first of them follows every change to the
+ * list, so unarchiving a delivery or reversing the list does not have to look for it.
+ * <p>
+ * Once the list is sorted, it remembers the order it was sorted in, and puts deliveries that are added or edited in
+ * their place by binary search, wherever they were asked to be added, so the list stays sorted without being sorted
+ * again.
+ * <p>
  * Supports a minimal set of list operations.
  */
 public class DeliveryList {
-    private final ObservableList<Delivery> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Delivery> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final SnapshotList<Delivery> contents;
+    private final ObservableList<Delivery> internalList;
+    private final ObservableList<Delivery> internalUnmodifiableList;
+    private long version;
+
+    // Supplies the deliveries of this list until they are first needed, after which it is null.
+    private Supplier<List<Delivery>> loader;
+    // The number of other listeners added, which must be told of the deliveries a loader supplies.
+    private int listenerCount;
+
+    // The state of the list as of its last change, also kept in the history for snapshots.
+    private State state;
+    private final SnapshotHistory<State> history;
+
+    // The position of the first delivery with each id, or null if it has to be built again.
+    private Map<DeliveryId, Integer> positions;
+    private boolean hasDuplicateIds;
+
+    private final PartitionPoint<Delivery> firstArchived;
+
+    // The order the active and the archived deliveries are each kept in, or null if the list is not kept sorted.
+    private Comparator<Delivery> order;
+
+    // Told after every change to the deliveries of this list, or null if there is nothing to tell.
+    private Runnable changeObserver;
+
+    public DeliveryList() {
+        this(new State(PersistentList.empty(), null, null, MutationCounter.next()));
+    }
+
+    private DeliveryList(State state) {
+        contents = new SnapshotList<>(state.deliveries);
+        internalList = FXCollections.observableList(contents);
+        // Added first, so that the positions are up to date by the time other listeners are told of a change.
+        internalList.addListener(this::updatePositions);
+        firstArchived = new PartitionPoint<>(internalList, Delivery::isArchived);
+        internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+        loader = state.loader;
+        order = state.order;
+        version = state.version;
+        this.state = state;
+        history = new SnapshotHistory<>(version, state);
+    }
+
+    /**
+     * Returns true if the deliveries of this list have not been loaded yet.
+     */
+    public boolean isDeferred() {
+        return loader != null;
+    }
+
+    /**
+     * Returns the loader that will supply the deliveries of this list when they are first needed, or null if they
+     * have been loaded already.
+     * <p>
+     * Lets storage write back deliveries that were never loaded without having to load them.
+     */
+    public Supplier<List<Delivery>> getLoader() {
+        return loader;
+    }
+
+    /**
+     * Returns the backing list, loading the deliveries first if they have not been loaded yet.
+     * Loading does not change the version stamp, as the contents of the list are the same as before.
+     */
+    private ObservableList<Delivery> list() {
+        if (loader != null) {
+            List<Delivery> deliveries = loader.get();
+            loader = null;
+            internalList.setAll(deliveries);
+            recordState();
+        }
+        return internalList;
+    }
 
     /**
      * Returns true if the list contains an equivalent delivery as the given argument.
      */
     public boolean contains(Delivery toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameDelivery);
+        return indexOf(toCheck) != -1;
+    }
+
+    /**
+     * Returns the position of the first delivery with the id {@code deliveryId}, or -1 if there is none.
+     */
+    public int indexOf(DeliveryId deliveryId) {
+        requireNonNull(deliveryId);
+        return getPositions().getOrDefault(deliveryId, -1);
+    }
+
+    /**
+     * Returns the first delivery with the id {@code deliveryId}, if there is one.
+     */
+    public Optional<Delivery> getDelivery(DeliveryId deliveryId) {
+        int index = indexOf(deliveryId);
+        return index == -1 ? Optional.empty() : Optional.of(internalList.get(index));
+    }
+
+    /**
+     * Returns the position of the first delivery equivalent to {@code toFind}, or -1 if there is none.
+     */
+    private int indexOf(Delivery toFind) {
+        int index = indexOf(toFind.getDeliveryId());
+        if (index == -1 || toFind.isSameDelivery(internalList.get(index))) {
+            return index;
+        }
+        // Only a later delivery with the same id can be equivalent to it.
+        return hasDuplicateIds ? internalList.indexOf(toFind) : -1;
     }
 
     /**
      * Returns the number of delivery in the list.
      */
     public int size() {
-        return internalList.size();
+        return list().size();
     }
 
     /**
-     * Adds a delivery to the list.
+     * Adds a delivery to the end of the list, or to its place if the list is kept sorted.
      */
     public void add(Delivery toAdd) {
         requireNonNull(toAdd);
-        internalList.add(toAdd);
+        if (order != null) {
+            insertInOrder(toAdd);
+        } else {
+            list().add(toAdd);
+        }
+        markChanged(1);
     }
 
     /**
-     * Adds a delivery to the index of the list.
+     * Adds a delivery to the index of the list, or to its place if the list is kept sorted.
      */
     public void add(Index targetIndex, Delivery toAdd) {
         requireAllNonNull(toAdd, targetIndex);
-        int index = targetIndex.getZeroBased();
-        System.out.println(index);
-        internalList.add(index, toAdd);
+        if (order != null) {
+            insertInOrder(toAdd);
+        } else {
+            list().add(targetIndex.getZeroBased(), toAdd);
+        }
+        markChanged(1);
     }
 
     /**
-     * Gets the index of the first archived delivery in the list.
+     * Adds the deliveries in {@code toAdd} to the list at the index, as a single change to the list.
+     * If the list is kept sorted, each delivery is added to its place instead.
      */
-    public Index getFirstArchivedIndex() {
-        for (int i = 0; i < size(); i++) {
-            Delivery delivery = internalList.get(i);
-            if (delivery.isArchived()) {
-                Index firstArchivedIndex = Index.fromZeroBased(i);
-
-                return firstArchivedIndex;
-            }
+    public void addAll(Index targetIndex, List<Delivery> toAdd) {
+        requireAllNonNull(toAdd, targetIndex);
+        if (order != null) {
+            toAdd.forEach(this::insertInOrder);
+        } else {
+            list().addAll(targetIndex.getZeroBased(), toAdd);
         }
-        return Index.fromZeroBased(size());
+        markChanged(toAdd.size());
     }
 
+    private void insertInOrder(Delivery toAdd) {
+        list().add(SortedInsertion.indexFor(internalList, toAdd, getFullOrder()), toAdd);
+    }
+
+    /**
+     * Gets the index of the first archived delivery in the list.
+     */
+    public Index getFirstArchivedIndex() {
+        list();
+        return Index.fromZeroBased(firstArchived.get());
+    }
 
     /**
      * Replaces the delivery {@code target} in the list with {@code editedDelivery}.
      * {@code target} must exist in the list.
+     * If the list is kept sorted, {@code editedDelivery} is moved to its place.
      */
     public void setDelivery(Delivery target, Delivery editedDelivery) throws DeliveryNotFoundException {
         requireAllNonNull(target, editedDelivery);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new DeliveryNotFoundException();
         }
 
-        internalList.set(index, editedDelivery);
+        if (order == null || SortedInsertion.fitsAt(internalList, index, editedDelivery, getFullOrder())) {
+            internalList.set(index, editedDelivery);
+        } else {
+            internalList.remove(index);
+            insertInOrder(editedDelivery);
+        }
+        markChanged(1);
     }
 
     /**
@@ -91,10 +245,11 @@ public class DeliveryList {
      */
     public void remove(Index deliveryIndex) throws DeliveryNotFoundException {
         requireNonNull(deliveryIndex);
-        if (deliveryIndex.getZeroBased() >= internalList.size()) {
+        if (deliveryIndex.getZeroBased() >= list().size()) {
             throw new DeliveryNotFoundException();
         }
-        internalList.remove(deliveryIndex.getZeroBased());
+        list().remove(deliveryIndex.getZeroBased());
+        markChanged(1);
     }
 
     /**
@@ -102,26 +257,147 @@ public class DeliveryList {
      */
     public void remove(Delivery delivery) throws DeliveryNotFoundException {
         requireNonNull(delivery);
-        internalList.remove(delivery);
+        int index = indexOf(delivery);
+        if (index != -1) {
+            internalList.remove(index);
+            markChanged(1);
+        }
     }
 
+    /**
+     * Replaces the contents of this list with those of {@code replacement}, and keeps them in the same order as it.
+     */
     public void setDeliveries(DeliveryList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        list().setAll(replacement.list());
+        order = replacement.order;
+        markChanged(contents.size());
     }
 
     /**
-     * Replaces the contents of this list with {@code deliveries}.
+     * Replaces the contents of this list with {@code deliveries}, which the list is no longer kept sorted in.
      */
     public void setDeliveries(List<Delivery> deliveries) {
         requireAllNonNull(deliveries);
+        loader = null;
         internalList.setAll(deliveries);
+        order = null;
+        markChanged(contents.size());
+    }
+
+    /**
+     * Changes the contents of this list into those of {@code other}, replacing only the deliveries that differ, and
+     * returns true if any delivery was replaced. The list is no longer kept sorted if any delivery was replaced.
+     * <p>
+     * If the deliveries of this list have not been loaded yet, nothing can have been shown from it, so it takes over
+     * the contents of {@code other} as they are, loaded or not, without comparing them. This is not counted as
+     * replacing any delivery.
+     */
+    public boolean update(DeliveryList other) {
+        requireNonNull(other);
+        if (loader != null) {
+            if (other.loader != null) {
+                setDeferredDeliveries(other.loader);
+            } else {
+                setDeliveries(other.internalList);
+            }
+            return false;
+        }
+
+        int changedCount = ListDiff.apply(internalList, other.list(), Delivery::hasSameDetails);
+        if (changedCount == 0) {
+            return false;
+        }
+        order = null;
+        markChanged(changedCount);
+        return true;
+    }
+
+    /**
+     * Replaces the contents of this list with the deliveries supplied by {@code loader}, which is called only when
+     * the list is first used. {@code loader} may be called more than once, and from other threads, if the list is
+     * copied before it is used. The list is no longer kept sorted.
+     */
+    public void setDeferredDeliveries(Supplier<List<Delivery>> loader) {
+        requireNonNull(loader);
+        this.loader = loader;
+        internalList.clear();
+        order = null;
+        markChanged(0);
+        loadIfListened();
+    }
+
+    /**
+     * Returns a copy of this list that is unaffected by later changes to this list.
+     * The copy keeps the version stamp of this list.
+     */
+    public DeliveryList copy() {
+        return new DeliveryList(new State(contents.snapshot(), loader, order, version));
+    }
+
+    /**
+     * Returns a copy of this list as it was when {@code snapshot} was taken.
+     * The copy keeps the version stamp the list had then.
+     */
+    public DeliveryList copyAsOf(Snapshot snapshot) {
+        requireNonNull(snapshot);
+        return new DeliveryList(history.getAsOf(snapshot));
+    }
+
+    /**
+     * Sets {@code changeObserver} to be told after every change to the deliveries of this list, which loading them does
+     * not count as. Unlike adding a listener, this does not load the deliveries that have not been loaded yet.
+     * Copies of this list do not tell it.
+     */
+    public void setChangeObserver(Runnable changeObserver) {
+        this.changeObserver = changeObserver;
+    }
+
+    /**
+     * Returns the version stamp of this list, which changes whenever the list is modified.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Performs {@code action} on each delivery of the list in order.
+     * Deliveries that have not been loaded yet are visited straight from the loader, and are not kept in the list.
+     */
+    public void forEach(Consumer<? super Delivery> action) {
+        requireNonNull(action);
+        if (loader != null) {
+            loader.get().forEach(action);
+        } else {
+            internalList.forEach(action);
+        }
+    }
+
+    /**
+     * Adds a listener that is told of every change to the deliveries of this list, including their being loaded.
+     * Unlike listening to {@link #asUnmodifiableObservableList()}, this does not load the deliveries that have not been
+     * loaded yet. Deliveries supplied by a loader from then on are loaded straight away, so the listener is told of
+     * them, unless the listener removes itself when told of the list being emptied for the loader, which
+     * {@link #isDeferred()} tells apart from other changes.
+     */
+    public void addListener(ListChangeListener<? super Delivery> listener) {
+        listenerCount++;
+        internalList.addListener(listener);
+    }
+
+    /**
+     * Removes a listener added by {@link #addListener(ListChangeListener)}.
+     */
+    public void removeListener(ListChangeListener<? super Delivery> listener) {
+        listenerCount = Math.max(0, listenerCount - 1);
+        internalList.removeListener(listener);
     }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
     public ObservableList<Delivery> asUnmodifiableObservableList() {
+        list();
         return internalUnmodifiableList;
     }
 
@@ -132,8 +408,12 @@ public class DeliveryList {
      */
     public void reverseDeliveryList() {
         int index = getFirstArchivedIndex().getZeroBased();
-        Collections.reverse(internalList.subList(0, index));
-        Collections.reverse(internalList.subList(index, internalList.size()));
+        Collections.reverse(list().subList(0, index));
+        Collections.reverse(list().subList(index, list().size()));
+        if (order != null) {
+            order = order.reversed();
+        }
+        markChanged(contents.size());
     }
 
     /**
@@ -147,28 +427,14 @@ public class DeliveryList {
      * Sorts the backing list using the {@code Address} attribute of each delivery, in ascending order.
      */
     public void sortByAddress() {
-        internalList.sort((d1, d2) -> {
-            if (isSameArchiveStatus(d1, d2)) {
-                // If both archived or both not archived, compare address as normal.
-                return d1.getAddress().value.compareTo(d2.getAddress().value);
-            } else {
-                //  Not archived (i.e. false) will always come first.
-                return d1.getArchive().value.compareTo(d2.getArchive().value);
-            }
-        });
+        sortBy(Comparator.comparing(delivery -> delivery.getAddress().value));
     }
 
     /**
      * Sorts the backing list using the {@code Cost} attribute of each delivery, in ascending order.
      */
     public void sortByCost() {
-        internalList.sort((d1, d2) -> {
-            if (isSameArchiveStatus(d1, d2)) {
-                return Double.compare(d1.getCost().asDouble(), d2.getCost().asDouble());
-            } else {
-                return d1.getArchive().value.compareTo(d2.getArchive().value);
-            }
-        });
+        sortBy(Comparator.comparing(Delivery::getCost));
     }
 
     /**
@@ -178,58 +444,162 @@ public class DeliveryList {
      * used for tie-breaking.
      */
     public void sortByDate() {
-        internalList.sort((d1, d2) -> {
-            if (isSameArchiveStatus(d1, d2)) {
-                int dateCompare = d1.getDate().value.compareTo(d2.getDate().value);
-                if (dateCompare == 0) {
-                    return d1.getTime().value.compareTo(d2.getTime().value);
-                } else {
-                    return dateCompare;
-                }
-            } else {
-                return d1.getArchive().value.compareTo(d2.getArchive().value);
-            }
-        });
+        sortBy(Comparator.comparing(Delivery::getDate).thenComparing(Delivery::getTime));
     }
 
     /**
      * Sorts the backing list using the {@code Eta} attribute of each delivery, in ascending order.
      */
     public void sortByEta() {
-        internalList.sort((d1, d2) -> {
-            if (isSameArchiveStatus(d1, d2)) {
-                return d1.getEta().value.compareTo(d2.getEta().value);
-            } else {
-                return d1.getArchive().value.compareTo(d2.getArchive().value);
-            }
-        });
+        sortBy(Comparator.comparing(Delivery::getEta));
     }
 
     /**
      * Sorts the backing list using the {@code Id} attribute of each delivery, in ascending order.
      */
     public void sortById() {
-        internalList.sort((d1, d2) -> {
-            if (isSameArchiveStatus(d1, d2)) {
-                return d1.getDeliveryId().value.compareTo(d2.getDeliveryId().value);
-            } else {
-                return d1.getArchive().value.compareTo(d2.getArchive().value);
-            }
-        });
+        sortBy(Comparator.comparing(delivery -> delivery.getDeliveryId().value));
     }
 
     /**
      * Sorts the backing list using the {@code Status} attribute of each delivery, in ascending order.
      */
     public void sortByStatus() {
-        internalList.sort((d1, d2) -> {
-            if (isSameArchiveStatus(d1, d2)) {
-                int statusCompare = d1.getStatus().getValue().compareTo(d2.getStatus().getValue());
-                return -statusCompare; // Negation will keep delivered items below.
+        sortBy(Comparator.comparing(Delivery::getStatus)); // Keeps delivered items below.
+    }
+
+    /**
+     * Sorts the active and the archived deliveries each by {@code order}, keeping the archived deliveries last, and
+     * keeps them sorted by it from then on.
+     */
+    private void sortBy(Comparator<Delivery> order) {
+        list();
+        this.order = order;
+        internalList.sort(getFullOrder());
+        markChanged(contents.size());
+    }
+
+    /**
+     * Returns the order of the whole list when it is kept sorted, with the archived deliveries after the others.
+     */
+    private Comparator<Delivery> getFullOrder() {
+        //  Not archived (i.e. false) will always come first.
+        return Comparator.comparing(Delivery::isArchived).thenComparing(order);
+    }
+
+    /**
+     * Stamps the list with a new version after {@code changedCount} of its deliveries were changed, and records its
+     * new state for snapshots and for undoing the change.
+     */
+    private void markChanged(int changedCount) {
+        State previous = state;
+        version = MutationCounter.next();
+        recordState();
+        if (ChangeRecorder.isRecording()) {
+            ChangeRecorder.record(this, Math.max(previous.deliveries.size(), contents.size()), changedCount,
+                    () -> restore(previous));
+        }
+        if (changeObserver != null) {
+            changeObserver.run();
+        }
+    }
+
+    /**
+     * Returns the positions of the deliveries by their ids, building them first if they have to be built again.
+     */
+    private Map<DeliveryId, Integer> getPositions() {
+        list();
+        if (positions == null) {
+            positions = new HashMap<>();
+            hasDuplicateIds = false;
+            for (int i = 0; i < internalList.size(); i++) {
+                recordPosition(internalList.get(i), i);
+            }
+        }
+        return positions;
+    }
+
+    private void recordPosition(Delivery delivery, int index) {
+        hasDuplicateIds |= positions.putIfAbsent(delivery.getDeliveryId(), index) != null;
+    }
+
+    /**
+     * Keeps the positions up to date with {@code change} if it only replaces deliveries with ones of the same ids or
+     * adds deliveries at the end of the list, and otherwise leaves them to be built again.
+     */
+    private void updatePositions(ListChangeListener.Change<? extends Delivery> change) {
+        while (positions != null && change.next()) {
+            if (change.wasPermutated()) {
+                positions = null;
+            } else if (change.wasRemoved()) {
+                if (!hasSameIds(change.getRemoved(), change.getAddedSubList())) {
+                    positions = null;
+                }
+            } else if (change.getTo() == internalList.size()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    recordPosition(internalList.get(i), i);
+                }
             } else {
-                return d1.getArchive().value.compareTo(d2.getArchive().value);
+                positions = null;
+            }
+        }
+    }
+
+    private static boolean hasSameIds(List<? extends Delivery> deliveries, List<? extends Delivery> others) {
+        if (deliveries.size() != others.size()) {
+            return false;
+        }
+        for (int i = 0; i < deliveries.size(); i++) {
+            if (!deliveries.get(i).getDeliveryId().equals(others.get(i).getDeliveryId())) {
+                return false;
             }
-        });
+        }
+        return true;
+    }
+
+    private void recordState() {
+        state = new State(contents.snapshot(), loader, order, version);
+        history.record(version, state);
+    }
+
+    /**
+     * Puts back the deliveries, loaded or not, that the list had in {@code previous}, and the order it was kept in
+     * then.
+     */
+    private void restore(State previous) {
+        loader = previous.loader;
+        order = previous.order;
+        internalList.setAll(previous.deliveries);
+        markChanged(Math.max(previous.deliveries.size(), contents.size()));
+        loadIfListened();
+    }
+
+    /**
+     * Loads the deliveries straight away if other listeners have been added, as they are only told of deliveries once
+     * they are loaded.
+     */
+    private void loadIfListened() {
+        if (listenerCount > 0) {
+            list();
+        }
+    }
+
+    /**
+     * The contents of a delivery list at some point in time.
+     */
+    private static class State {
+        private final PersistentList<Delivery> deliveries;
+        private final Supplier<List<Delivery>> loader;
+        private final Comparator<Delivery> order;
+        private final long version;
+
+        State(PersistentList<Delivery> deliveries, Supplier<List<Delivery>> loader, Comparator<Delivery> order,
+                long version) {
+            this.deliveries = deliveries;
+            this.loader = loader;
+            this.order = order;
+            this.version = version;
+        }
     }
 
     @Override
@@ -244,11 +614,11 @@ public class DeliveryList {
         }
 
         DeliveryList otherDeliveryList = (DeliveryList) other;
-        return internalList.equals(otherDeliveryList.internalList);
+        return list().equals(otherDeliveryList.list());
     }
 
     @Override
     public String toString() {
-        return internalList.toString();
+        return list().toString();
     }
 }
@@ -0,0 +1,87 @@
+package seedu.address.model.delivery;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Delivery} has the given status, was ordered within the given range of dates, and is archived or
+ * not as given. Criteria that are null match every delivery.
+ */
+public class DeliveryMatchesFilterPredicate implements Predicate<Delivery> {
+    private final Status status;
+    private final Date fromDate;
+    private final Date toDate;
+    private final Archive archive;
+
+    /**
+     * @param status status the delivery must have, or null
+     * @param fromDate earliest order date, inclusive, or null
+     * @param toDate latest order date, inclusive, or null
+     * @param archive whether the delivery must be archived or not, or null
+     */
+    public DeliveryMatchesFilterPredicate(Status status, Date fromDate, Date toDate, Archive archive) {
+        this.status = status;
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+        this.archive = archive;
+    }
+
+    /**
+     * Returns a predicate that matches every delivery.
+     */
+    public static DeliveryMatchesFilterPredicate all() {
+        return new DeliveryMatchesFilterPredicate(null, null, null, null);
+    }
+
+    @Override
+    public boolean test(Delivery delivery) {
+        return (status == null || status.equals(delivery.getStatus()))
+                && (fromDate == null || delivery.getDate().compareTo(fromDate) >= 0)
+                && (toDate == null || delivery.getDate().compareTo(toDate) <= 0)
+                && matchesArchive(delivery.isArchived());
+    }
+
+    /**
+     * Returns true if something that is archived or not, as given by {@code isArchived}, meets the archive criterion.
+     */
+    public boolean matchesArchive(boolean isArchived) {
+        return archive == null || archive.isArchived() == isArchived;
+    }
+
+    /**
+     * Returns true if deliveries are filtered by anything other than whether they are archived.
+     */
+    public boolean hasDeliveryCriteria() {
+        return status != null || fromDate != null || toDate != null;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles null
+        if (!(other instanceof DeliveryMatchesFilterPredicate)) {
+            return false;
+        }
+
+        DeliveryMatchesFilterPredicate otherPredicate = (DeliveryMatchesFilterPredicate) other;
+        return Objects.equals(status, otherPredicate.status)
+                && Objects.equals(fromDate, otherPredicate.fromDate)
+                && Objects.equals(toDate, otherPredicate.toDate)
+                && Objects.equals(archive, otherPredicate.archive);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("status", status)
+                .add("fromDate", fromDate)
+                .add("toDate", toDate)
+                .add("archive", archive)
+                .toString();
+    }
+}
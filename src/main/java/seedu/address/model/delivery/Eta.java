@@ -7,13 +7,13 @@ import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 
 /**
- * Represents a delivery's Estimated Time of Arrival (ETA).
+ * Represents a delivery's Estimated Time of Arrival (ETA), held as the number of days since 1970-01-01.
  * Guarantees: is valid as declared in {@link #isValidEta(String)}
  */
-public class Eta {
+public class Eta implements Comparable<Eta> {
     public static final String MESSAGE_CONSTRAINTS =
             "Incorrect ETA format. Expected format: YYYY-MM-DD";
-    public final LocalDate value;
+    private final int epochDay;
 
     /**
      * Constructs a {@code Eta}.
@@ -23,7 +23,7 @@ public class Eta {
     public Eta(String eta) {
         requireNonNull(eta);
         checkArgument(isValidEta(eta), MESSAGE_CONSTRAINTS);
-        value = LocalDate.parse(eta);
+        epochDay = (int) LocalDate.parse(eta).toEpochDay();
     }
 
     /**
@@ -35,10 +35,24 @@ public class Eta {
             if (parsedEta.toString().charAt(0) == '-') {
                 throw new DateTimeParseException("", test, 0);
             }
+            long epochDay = parsedEta.toEpochDay();
+            return epochDay == (int) epochDay;
         } catch (DateTimeParseException e) {
             return false;
         }
-        return true;
+    }
+
+    public int getEpochDay() {
+        return epochDay;
+    }
+
+    public LocalDate getValue() {
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    @Override
+    public int compareTo(Eta other) {
+        return Integer.compare(epochDay, other.epochDay);
     }
 
     @Override
@@ -53,11 +67,16 @@ public class Eta {
         }
 
         Eta otherEta = (Eta) other;
-        return value.equals(otherEta.value);
+        return epochDay == otherEta.epochDay;
+    }
+
+    @Override
+    public int hashCode() {
+        return epochDay;
     }
 
     @Override
     public String toString() {
-        return "ETA: " + value;
+        return "ETA: " + getValue();
     }
 }
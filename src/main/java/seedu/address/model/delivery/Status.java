@@ -7,18 +7,24 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
  * Represents a delivery's status.
  * Guarantees: is valid as declared in {@link #isValidStatus(String)}
  */
-public class Status {
+public class Status implements Comparable<Status> {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Status should only be \"not delivered\", \"delivering\" or \"delivered\"";
 
     /**
-     * 3 possible delivery status.
+     * 3 possible delivery status, in the order they are sorted in.
      */
     enum DeliveryStatus {
-        NOT_DELIVERED,
-        DELIVERING,
-        DELIVERED
+        NOT_DELIVERED("not delivered"),
+        DELIVERING("delivering"),
+        DELIVERED("delivered");
+
+        private final String text;
+
+        DeliveryStatus(String text) {
+            this.text = text;
+        }
     }
 
     private DeliveryStatus value;
@@ -58,7 +64,15 @@ public class Status {
      * @return Value as a string
      */
     public String getValue() {
-        return String.valueOf(value).toLowerCase().replace("_", " ");
+        return value.text;
+    }
+
+    /**
+     * Orders statuses from not delivered to delivered.
+     */
+    @Override
+    public int compareTo(Status other) {
+        return value.compareTo(other.value);
     }
 
     @Override
@@ -76,6 +90,11 @@ public class Status {
         return value.equals(otherStatus.value);
     }
 
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
     @Override
     public String toString() {
         return "Status: " + getValue();
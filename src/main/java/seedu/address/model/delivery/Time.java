@@ -7,13 +7,13 @@ import java.time.LocalTime;
 import java.time.format.DateTimeParseException;
 
 /**
- * Represents a delivery's order time.
+ * Represents a delivery's order time, held as the number of nanoseconds since midnight.
  * Guarantees: is valid as declared in {@link #isValidTime(String)} (String)}
  */
-public class Time {
+public class Time implements Comparable<Time> {
     public static final String MESSAGE_CONSTRAINTS =
             "Incorrect time format. Expected format: hh:mm:ss";
-    public final LocalTime value;
+    private final long nanoOfDay;
 
     /**
      * Constructs a {@code Time}.
@@ -23,7 +23,7 @@ public class Time {
     public Time(String time) {
         requireNonNull(time);
         checkArgument(isValidTime(time), MESSAGE_CONSTRAINTS);
-        value = LocalTime.parse(time);
+        nanoOfDay = LocalTime.parse(time).toNanoOfDay();
     }
 
     /**
@@ -38,6 +38,19 @@ public class Time {
         return true;
     }
 
+    public long getNanoOfDay() {
+        return nanoOfDay;
+    }
+
+    public LocalTime getValue() {
+        return LocalTime.ofNanoOfDay(nanoOfDay);
+    }
+
+    @Override
+    public int compareTo(Time other) {
+        return Long.compare(nanoOfDay, other.nanoOfDay);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -50,11 +63,16 @@ public class Time {
         }
 
         Time otherTime = (Time) other;
-        return value.equals(otherTime.value);
+        return nanoOfDay == otherTime.nanoOfDay;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(nanoOfDay);
     }
 
     @Override
     public String toString() {
-        return "Time Ordered: " + value;
+        return "Time Ordered: " + getValue();
     }
 }
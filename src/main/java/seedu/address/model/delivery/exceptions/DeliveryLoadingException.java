@@ -0,0 +1,10 @@
+package seedu.address.model.delivery.exceptions;
+
+/**
+ * Signals that deliveries whose loading was deferred could not be loaded from storage when they were first needed.
+ */
+public class DeliveryLoadingException extends RuntimeException {
+    public DeliveryLoadingException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -18,6 +20,8 @@ public class Address {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "^.{5,},\\s*[sS]\\s?\\d{6}$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final Pattern POSTAL_CODE_SEPARATOR = Pattern.compile(",\\s*[sS]\\s*");
 
     public final String value;
     private final String addressLine;
@@ -33,7 +37,7 @@ public class Address {
         checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
 
         //KIV: maybe shift this to ParserUtil
-        String[] splitAddress = address.split(",\\s*[sS]\\s*");
+        String[] splitAddress = POSTAL_CODE_SEPARATOR.split(address);
         addressLine = splitAddress[0];
         postalCode = splitAddress[1];
         value = addressLine + ", S" + postalCode;
@@ -43,7 +47,7 @@ public class Address {
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
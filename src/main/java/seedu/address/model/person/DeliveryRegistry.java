@@ -0,0 +1,325 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
+import seedu.address.model.delivery.Delivery;
+import seedu.address.model.delivery.DeliveryId;
+import seedu.address.model.delivery.DeliveryList;
+
+/**
+ * An index of the deliveries held by a list of persons, from the id of each delivery to the clients holding it and the
+ * workers it is assigned to. The position of a delivery in the list holding it is indexed by its {@link DeliveryList}.
+ * <p>
+ * The index is built the first time it is used. From then on, it follows the changes made to the persons and to their
+ * deliveries through listeners on their lists, so that a delivery is looked up in {@code O(1)} time however many
+ * persons and deliveries there are. Persons and deliveries that are removed are only dropped from the index the next
+ * time it is used, so that a list being reordered one element at a time costs no more than the reordering itself.
+ * <p>
+ * Deliveries that have not been loaded yet are not indexed, so that building the index loads none of them. They are
+ * loaded and indexed when a delivery is looked up, the deliveries of clients only until the one looked up is found.
+ */
+public class DeliveryRegistry {
+
+    private final ObservableList<Person> persons;
+    private final ListChangeListener<Person> personsListener = this::onPersonsChanged;
+
+    // All null until the index is first used.
+    private Map<DeliveryId, List<Person>> clientsById;
+    private Map<DeliveryId, List<Person>> workersById;
+    private Map<Person, Entry> entries;
+    // The entries with removals that have not been dropped from the index yet.
+    private Set<Entry> unsettledEntries;
+    // The entries whose deliveries, or those assigned, have not been indexed as they have not been loaded yet.
+    private Set<Entry> unindexedClients;
+    private Set<Entry> unindexedWorkers;
+
+    /**
+     * Creates a {@code DeliveryRegistry} of the deliveries held by {@code persons}.
+     */
+    public DeliveryRegistry(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+    }
+
+    /**
+     * Returns the client holding a delivery with the id {@code deliveryId}, if there is one.
+     */
+    public Optional<Person> findClient(DeliveryId deliveryId) {
+        requireNonNull(deliveryId);
+        for (Person person : getHolders(deliveryId, false)) {
+            if (person.isClient()) {
+                return Optional.of(person);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the delivery with the id {@code deliveryId} held by a client, if there is one.
+     */
+    public Optional<Delivery> findClientDelivery(DeliveryId deliveryId) {
+        return findClient(deliveryId).flatMap(client -> client.getDeliveryList().getDelivery(deliveryId));
+    }
+
+    /**
+     * Returns the deliveries with the given ids held by clients, keyed by their ids.
+     * Ids that no client holds are left out.
+     */
+    public Map<DeliveryId, Delivery> findClientDeliveries(List<DeliveryId> deliveryIds) {
+        requireNonNull(deliveryIds);
+        Map<DeliveryId, Delivery> found = new HashMap<>();
+        for (DeliveryId deliveryId : deliveryIds) {
+            findClientDelivery(deliveryId).ifPresent(delivery -> found.put(deliveryId, delivery));
+        }
+        return found;
+    }
+
+    /**
+     * Returns the workers that a delivery with the id {@code deliveryId} is assigned to.
+     */
+    public List<Person> findWorkers(DeliveryId deliveryId) {
+        requireNonNull(deliveryId);
+        return new ArrayList<>(getHolders(deliveryId, true));
+    }
+
+    /**
+     * Returns the persons holding a delivery with the id {@code deliveryId}, among the deliveries assigned to them if
+     * {@code isAssigned}, or else among their own deliveries.
+     */
+    private List<Person> getHolders(DeliveryId deliveryId, boolean isAssigned) {
+        if (entries == null) {
+            build();
+        }
+        settle();
+        Map<DeliveryId, List<Person>> holdersById = isAssigned ? workersById : clientsById;
+        Set<Entry> unindexed = isAssigned ? unindexedWorkers : unindexedClients;
+        // A delivery is held by at most one client, but may be assigned to any number of workers.
+        while (!unindexed.isEmpty() && (isAssigned || !holdersById.containsKey(deliveryId))) {
+            unindexed.iterator().next().startIndexing(isAssigned);
+        }
+        return holdersById.getOrDefault(deliveryId, List.of());
+    }
+
+    private void build() {
+        clientsById = new HashMap<>();
+        workersById = new HashMap<>();
+        entries = new IdentityHashMap<>();
+        unsettledEntries = new HashSet<>();
+        unindexedClients = new LinkedHashSet<>();
+        unindexedWorkers = new LinkedHashSet<>();
+        persons.addListener(new WeakListChangeListener<>(personsListener));
+        for (Person person : persons) {
+            attach(person);
+        }
+    }
+
+    private void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            for (Person person : change.getRemoved()) {
+                Entry entry = entries.get(person);
+                if (entry != null && --entry.count == 0) {
+                    unsettledEntries.add(entry);
+                }
+            }
+            for (Person person : change.getAddedSubList()) {
+                Entry entry = entries.get(person);
+                if (entry == null) {
+                    attach(person);
+                } else {
+                    entry.count++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Starts indexing the deliveries of {@code person} that have been loaded, and following the changes made to them.
+     */
+    private void attach(Person person) {
+        Entry entry = new Entry(person);
+        entries.put(person, entry);
+        unindexedClients.add(entry);
+        unindexedWorkers.add(entry);
+        if (!entry.deliveries.isDeferred()) {
+            entry.startIndexing(false);
+        }
+        if (!entry.assignedDeliveries.isDeferred()) {
+            entry.startIndexing(true);
+        }
+    }
+
+    /**
+     * Drops the persons and deliveries removed since the index was last used.
+     */
+    private void settle() {
+        List<Entry> toSettle = new ArrayList<>(unsettledEntries);
+        unsettledEntries.clear();
+        for (Entry entry : toSettle) {
+            if (entry.count == 0) {
+                detach(entry);
+            } else {
+                entry.settleRemovals();
+            }
+        }
+    }
+
+    /**
+     * Stops indexing the deliveries of the person of {@code entry}, which is no longer in the list of persons.
+     */
+    private void detach(Entry entry) {
+        entries.remove(entry.person);
+        if (!unindexedClients.remove(entry)) {
+            entry.stopIndexing(false);
+        }
+        if (!unindexedWorkers.remove(entry)) {
+            entry.stopIndexing(true);
+        }
+    }
+
+    private static void index(Map<DeliveryId, List<Person>> holdersById, DeliveryId deliveryId, Person person) {
+        List<Person> holders = holdersById.computeIfAbsent(deliveryId, id -> new ArrayList<>(1));
+        if (indexOfIdentity(holders, person) == -1) {
+            holders.add(person);
+        }
+    }
+
+    private static void unindex(Map<DeliveryId, List<Person>> holdersById, DeliveryId deliveryId, Person person) {
+        List<Person> holders = holdersById.get(deliveryId);
+        if (holders == null) {
+            return;
+        }
+        int index = indexOfIdentity(holders, person);
+        if (index != -1) {
+            holders.remove(index);
+        }
+        if (holders.isEmpty()) {
+            holdersById.remove(deliveryId);
+        }
+    }
+
+    private static int indexOfIdentity(List<Person> holders, Person person) {
+        for (int i = 0; i < holders.size(); i++) {
+            if (holders.get(i) == person) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * A person whose deliveries are indexed, with the listeners following the changes made to them.
+     */
+    private class Entry {
+        private final Person person;
+        private final DeliveryList deliveries;
+        private final DeliveryList assignedDeliveries;
+        // The number of times the person occurs in the list of persons, which briefly exceeds 1 while it is reordered.
+        private int count = 1;
+
+        // The ids of the deliveries removed since the index was last used, which the person may still hold.
+        private final Set<DeliveryId> removedDeliveryIds = new HashSet<>();
+        private final Set<DeliveryId> removedAssignedIds = new HashSet<>();
+
+        // Persons and their deliveries may be shared with other address books, which must not keep this index alive.
+        private final ListChangeListener<Delivery> deliveriesListener = change -> onDeliveriesChanged(change, false);
+        private final ListChangeListener<Delivery> assignedListener = change -> onDeliveriesChanged(change, true);
+        private final WeakListChangeListener<Delivery> weakDeliveriesListener =
+                new WeakListChangeListener<>(deliveriesListener);
+        private final WeakListChangeListener<Delivery> weakAssignedListener =
+                new WeakListChangeListener<>(assignedListener);
+
+        Entry(Person person) {
+            this.person = person;
+            this.deliveries = person.getDeliveryList();
+            this.assignedDeliveries = person.getWorker().getAssignedDeliveryList();
+        }
+
+        /**
+         * Indexes the deliveries of the person, or those assigned to it if {@code isAssigned}, loading them if they
+         * have not been loaded yet, and starts following the changes made to them.
+         */
+        private void startIndexing(boolean isAssigned) {
+            Map<DeliveryId, List<Person>> holdersById = isAssigned ? workersById : clientsById;
+            DeliveryList list = isAssigned ? assignedDeliveries : deliveries;
+            (isAssigned ? unindexedWorkers : unindexedClients).remove(this);
+            List<Delivery> loaded = list.asUnmodifiableObservableList();
+            list.addListener(isAssigned ? weakAssignedListener : weakDeliveriesListener);
+            loaded.forEach(delivery -> index(holdersById, delivery.getDeliveryId(), person));
+        }
+
+        /**
+         * Stops following the changes made to the deliveries of the person, or those assigned to it if
+         * {@code isAssigned}, and drops them from the index.
+         */
+        private void stopIndexing(boolean isAssigned) {
+            Map<DeliveryId, List<Person>> holdersById = isAssigned ? workersById : clientsById;
+            DeliveryList list = isAssigned ? assignedDeliveries : deliveries;
+            Set<DeliveryId> removedIds = isAssigned ? removedAssignedIds : removedDeliveryIds;
+            list.removeListener(isAssigned ? weakAssignedListener : weakDeliveriesListener);
+            // A list is emptied when its deliveries are deferred, so the indexed ones are all among those removed.
+            if (!list.isDeferred()) {
+                list.forEach(delivery -> unindex(holdersById, delivery.getDeliveryId(), person));
+            }
+            removedIds.forEach(deliveryId -> unindex(holdersById, deliveryId, person));
+            removedIds.clear();
+        }
+
+        private void onDeliveriesChanged(ListChangeListener.Change<? extends Delivery> change, boolean isAssigned) {
+            Map<DeliveryId, List<Person>> holdersById = isAssigned ? workersById : clientsById;
+            DeliveryList list = isAssigned ? assignedDeliveries : deliveries;
+            Set<DeliveryId> removedIds = isAssigned ? removedAssignedIds : removedDeliveryIds;
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    continue;
+                }
+                for (Delivery delivery : change.getRemoved()) {
+                    removedIds.add(delivery.getDeliveryId());
+                }
+                for (Delivery delivery : change.getAddedSubList()) {
+                    index(holdersById, delivery.getDeliveryId(), person);
+                }
+            }
+            if (list.isDeferred()) {
+                // Leaves the deliveries supplied in their place unloaded until they are looked up.
+                stopIndexing(isAssigned);
+                (isAssigned ? unindexedWorkers : unindexedClients).add(this);
+            } else if (!removedIds.isEmpty()) {
+                unsettledEntries.add(this);
+            }
+        }
+
+        /**
+         * Drops the removed deliveries that the person no longer holds.
+         */
+        private void settleRemovals() {
+            settleRemovals(deliveries, removedDeliveryIds, clientsById);
+            settleRemovals(assignedDeliveries, removedAssignedIds, workersById);
+        }
+
+        private void settleRemovals(DeliveryList list, Set<DeliveryId> removedIds,
+                Map<DeliveryId, List<Person>> holdersById) {
+            for (DeliveryId deliveryId : removedIds) {
+                if (list.indexOf(deliveryId) == -1) {
+                    unindex(holdersById, deliveryId, person);
+                }
+            }
+            removedIds.clear();
+        }
+    }
+}
@@ -2,13 +2,17 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.lang.ref.WeakReference;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.index.Index;
@@ -18,6 +22,8 @@ import seedu.address.model.delivery.Delivery;
 import seedu.address.model.delivery.DeliveryList;
 import seedu.address.model.delivery.Time;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.util.MutationCounter;
+import seedu.address.model.util.Snapshot;
 
 /**
  * Represents a Person in the address book.
@@ -37,11 +43,15 @@ public class Person {
     // Data fields
     private final Address address;
     private final Set<Tag> tags = new HashSet<>();
-    private final DeliveryList deliveryList = new DeliveryList();
+    private final DeliveryList deliveryList;
     private final Archive archive;
     private final Date date; // Date and time are used for sorting purposes only.
     private final Time time;
+    private long version = MutationCounter.next();
 
+    // Told whenever the deliveries or worker details of this person change, such as by the lists that hold it. They
+    // are held weakly, so that a list that is no longer used is not kept alive by the persons it held.
+    private final List<WeakReference<Runnable>> changeObservers = new ArrayList<>();
 
     /**
      * Every field must be present and not null.
@@ -54,9 +64,51 @@ public class Person {
         this.role = role;
         this.address = address;
         this.tags.addAll(tags);
+        this.deliveryList = new DeliveryList();
         this.archive = archive;
         this.date = new Date(LocalDate.now().toString());
         this.time = new Time(LocalTime.now().toString());
+        observeDeliveryLists();
+    }
+
+    /**
+     * Creates a copy of {@code source} with the given delivery list and worker details.
+     */
+    private Person(Person source, DeliveryList deliveryList, Worker worker) {
+        this.name = source.name;
+        this.phone = source.phone;
+        this.email = source.email;
+        this.role = source.role;
+        this.worker = worker;
+        this.address = source.address;
+        this.tags.addAll(source.tags);
+        this.deliveryList = deliveryList;
+        this.archive = source.archive;
+        this.date = source.date;
+        this.time = source.time;
+        this.version = source.version;
+        observeDeliveryLists();
+    }
+
+    private void observeDeliveryLists() {
+        deliveryList.setChangeObserver(this::notifyChangeObservers);
+        worker.getAssignedDeliveryList().setChangeObserver(this::notifyChangeObservers);
+    }
+
+    /**
+     * Returns a copy of this person that is unaffected by later changes to the deliveries or worker details of this
+     * person. The copy has the same version stamp as this person.
+     */
+    public Person copy() {
+        return new Person(this, deliveryList.copy(), worker.copy());
+    }
+
+    /**
+     * Returns a copy of this person with the deliveries and worker details it had when {@code snapshot} was taken.
+     * The copy has the version stamp this person had then.
+     */
+    public Person asOf(Snapshot snapshot) {
+        return new Person(this, deliveryList.copyAsOf(snapshot), worker.copyAsOf(snapshot));
     }
 
     public Name getName() {
@@ -137,6 +189,16 @@ public class Person {
         this.deliveryList.setDeliveries(deliveryList);
     }
 
+    /**
+     * Sets the delivery list of this person to the deliveries supplied by {@code loader}, which is called only when the
+     * deliveries are first needed.
+     * <p>
+     * Used when loading a person's information from storage, so that deliveries are not read until they are shown.
+     */
+    public void setDeferredDeliveryList(Supplier<List<Delivery>> loader) {
+        deliveryList.setDeferredDeliveries(loader);
+    }
+
     /**
      * Adds the delivery into the delivery list of this person.
      */
@@ -151,6 +213,14 @@ public class Person {
         deliveryList.add(targetIndex, delivery);
     }
 
+    /**
+     * Adds the deliveries into the delivery list of this person at the specified index, as a single change to the
+     * list.
+     */
+    public void addDeliveries(Index targetIndex, List<Delivery> deliveries) {
+        deliveryList.addAll(targetIndex, deliveries);
+    }
+
     /**
      * Removes the specified delivery from the delivery list of this person based on index.
      */
@@ -187,6 +257,55 @@ public class Person {
      */
     public void setWorker(Worker worker) {
         this.worker = worker;
+        worker.getAssignedDeliveryList().setChangeObserver(this::notifyChangeObservers);
+        version = MutationCounter.next();
+        notifyChangeObservers();
+    }
+
+    /**
+     * Returns the version stamp of this person.
+     * The stamp changes whenever the deliveries or the worker details of this person are modified.
+     */
+    public long getVersion() {
+        return Math.max(version, Math.max(deliveryList.getVersion(), worker.getVersion()));
+    }
+
+    /**
+     * Adds {@code observer} to be told whenever the deliveries or the worker details of this person are modified.
+     * The observer is held weakly, so whoever adds it has to keep it reachable for as long as it is wanted.
+     */
+    void addChangeObserver(Runnable observer) {
+        changeObservers.add(new WeakReference<>(observer));
+    }
+
+    /**
+     * Removes an observer added by {@link #addChangeObserver(Runnable)}.
+     * An observer added more than once, such as by a list that briefly holds this person twice while it is reordered,
+     * is only removed once it has been removed as many times as it was added.
+     */
+    void removeChangeObserver(Runnable observer) {
+        Iterator<WeakReference<Runnable>> iterator = changeObservers.iterator();
+        while (iterator.hasNext()) {
+            Runnable added = iterator.next().get();
+            if (added == null) {
+                iterator.remove();
+            } else if (added == observer) {
+                iterator.remove();
+                return;
+            }
+        }
+    }
+
+    private void notifyChangeObservers() {
+        Iterator<WeakReference<Runnable>> iterator = changeObservers.iterator();
+        while (iterator.hasNext()) {
+            Runnable observer = iterator.next().get();
+            if (observer == null) {
+                iterator.remove();
+            } else {
+                observer.run();
+            }
+        }
     }
 
     /**
@@ -216,6 +335,27 @@ public class Person {
         return otherPerson != null && otherPerson.getEmail().equals(getEmail());
     }
 
+    /**
+     * Returns true if both persons have the same fields and the same assigned deliveries, apart from their own
+     * deliveries. Unlike {@link #equals(Object)}, this also compares the fields that are not part of a person's
+     * identity, such as its role and archive status. The date and time the person was created are not compared, as
+     * they are not kept in storage.
+     */
+    public boolean hasSameDetails(Person otherPerson) {
+        return equals(otherPerson)
+                && role.getValue().equals(otherPerson.role.getValue())
+                && archive.equals(otherPerson.archive)
+                && worker.equals(otherPerson.worker);
+    }
+
+    /**
+     * Changes the deliveries of this person into those of {@code otherPerson}, replacing only the deliveries that
+     * differ. Returns true if any delivery was replaced.
+     */
+    public boolean updateDeliveryList(Person otherPerson) {
+        return deliveryList.update(otherPerson.deliveryList);
+    }
+
     /**
      * Returns true if this person is client, false if is an employee.
      */
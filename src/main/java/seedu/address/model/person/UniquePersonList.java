@@ -4,14 +4,27 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.util.ChangeRecorder;
+import seedu.address.model.util.ListDiff;
+import seedu.address.model.util.MutationCounter;
+import seedu.address.model.util.PartitionPoint;
+import seedu.address.model.util.PersistentList;
+import seedu.address.model.util.SnapshotList;
+import seedu.address.model.util.SortedInsertion;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -20,15 +33,47 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * The persons are held in a {@link PersistentList}, so the list can be captured for a snapshot in {@code O(1)}.
+ * Their names, phones and emails are counted in hash indexes that follow every change to the list, so checking for
+ * a duplicate takes {@code O(1)} time. Archived persons are kept after the others, and the position of the first of
+ * them also follows every change to the list, so adding a person does not have to look for it.
+ *
+ * Once the list is sorted, it remembers the order it was sorted in, and puts persons that are added or edited in their
+ * place by binary search, so the list stays sorted without being sorted again.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final SnapshotList<Person> contents = new SnapshotList<>();
+    private final ObservableList<Person> internalList = FXCollections.observableList(contents);
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private long version = MutationCounter.next();
+    // The persons in the list as of its last change.
+    private PersistentList<Person> lastContents = PersistentList.empty();
+
+    // The number of persons in the list with each name, phone and email.
+    private final Map<Name, Integer> nameCounts = new HashMap<>();
+    private final Map<Phone, Integer> phoneCounts = new HashMap<>();
+    private final Map<Email, Integer> emailCounts = new HashMap<>();
+    private final PartitionPoint<Person> firstArchived;
+
+    // The order the active and the archived persons are each kept in, or null if the list is not kept sorted.
+    private Comparator<Person> order;
+    // The order as of the last change to the list.
+    private Comparator<Person> lastOrder;
+
+    // Added to each person in the list, to stamp the list with a new version when the person is modified in place.
+    private final Runnable personChangeObserver = () -> version = MutationCounter.next();
+
+    public UniquePersonList() {
+        internalList.addListener(this::updateCounts);
+        internalList.addListener(this::observePersons);
+        firstArchived = new PartitionPoint<>(internalList, Person::isArchived);
+    }
 
     /**
      * Returns the number of contacts in the list.
@@ -42,7 +87,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return nameCounts.containsKey(toCheck.getName());
     }
 
     /**
@@ -50,7 +95,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean containPhone(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePhone);
+        return phoneCounts.containsKey(toCheck.getPhone());
     }
 
     /**
@@ -58,11 +103,11 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean containEmail(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEmail);
+        return emailCounts.containsKey(toCheck.getEmail());
     }
 
     /**
-     * Adds a person to the list.
+     * Adds a person to the list, in its place if the list is kept sorted.
      * The person must not already exist in the list.
      */
     public void add(Person toAdd) {
@@ -71,32 +116,29 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        if (toAdd.isArchived()) {
+        if (order != null) {
+            internalList.add(SortedInsertion.indexFor(internalList, toAdd, getFullOrder()), toAdd);
+        } else if (toAdd.isArchived()) {
             internalList.add(toAdd);
         } else {
             int targetIndex = getFirstArchivedIndex().getZeroBased();
             internalList.add(targetIndex, toAdd);
         }
+        markChanged(1);
     }
 
     /**
      * Gets the index of the first archived contact in the list.
      */
     public Index getFirstArchivedIndex() {
-        for (int i = 0; i < size(); i++) {
-            Person person = internalList.get(i);
-            if (person.isArchived()) {
-                Index firstArchivedIndex = Index.fromZeroBased(i);
-                return firstArchivedIndex;
-            }
-        }
-        return Index.fromZeroBased(size());
+        return Index.fromZeroBased(firstArchived.get());
     }
 
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     * If the list is kept sorted, {@code editedPerson} is moved to its place.
      */
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -110,7 +152,13 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        if (order == null || SortedInsertion.fitsAt(internalList, index, editedPerson, getFullOrder())) {
+            internalList.set(index, editedPerson);
+        } else {
+            internalList.remove(index);
+            internalList.add(SortedInsertion.indexFor(internalList, editedPerson, getFullOrder()), editedPerson);
+        }
+        markChanged(1);
     }
 
     /**
@@ -122,15 +170,21 @@ public class UniquePersonList implements Iterable<Person> {
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        markChanged(1);
     }
 
+    /**
+     * Replaces the contents of this list with those of {@code replacement}, and keeps them in the same order as it.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        order = replacement.order;
+        markChanged(size());
     }
 
     /**
-     * Replaces the contents of this list with {@code persons}.
+     * Replaces the contents of this list with {@code persons}, which the list is no longer kept sorted in.
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
@@ -140,6 +194,35 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.setAll(persons);
+        order = null;
+        markChanged(size());
+    }
+
+    /**
+     * Changes the contents of this list into {@code persons}, replacing only the persons that differ, and returns the
+     * number of persons replaced, removed or added, or whose deliveries were changed.
+     * A person whose details are unchanged is kept, and any deliveries of it that differ are replaced in place.
+     * The list is no longer kept sorted if any person was replaced, removed or added.
+     * {@code persons} must not contain duplicate persons.
+     */
+    public int updatePersons(List<Person> persons) {
+        requireAllNonNull(persons);
+        if (!personsAreUnique(persons)) {
+            throw new DuplicatePersonException();
+        }
+
+        int changedCount = ListDiff.apply(internalList, persons, Person::hasSameDetails);
+        if (changedCount > 0) {
+            order = null;
+            markChanged(changedCount);
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = internalList.get(i);
+            if (person != persons.get(i) && person.updateDeliveryList(persons.get(i))) {
+                changedCount++;
+            }
+        }
+        return changedCount;
     }
 
     /**
@@ -149,6 +232,47 @@ public class UniquePersonList implements Iterable<Person> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the persons currently in the list, in order, which later changes to the list do not affect.
+     * Takes {@code O(1)} time. Changes made in place to the persons themselves are not kept out.
+     */
+    public PersistentList<Person> snapshot() {
+        return contents.snapshot();
+    }
+
+    /**
+     * Returns the version stamp of this list, which changes whenever the list or any person in it is modified.
+     * Each person in the list tells it when its deliveries or worker details change, so this takes {@code O(1)} time.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Stamps the list with a new version after {@code changedCount} of its persons were changed, and records how to
+     * undo the change.
+     */
+    private void markChanged(int changedCount) {
+        PersistentList<Person> previous = lastContents;
+        Comparator<Person> previousOrder = lastOrder;
+        version = MutationCounter.next();
+        lastContents = contents.snapshot();
+        lastOrder = order;
+        if (ChangeRecorder.isRecording()) {
+            ChangeRecorder.record(this, Math.max(previous.size(), size()), changedCount,
+                    () -> restore(previous, previousOrder));
+        }
+    }
+
+    /**
+     * Puts back the persons the list had in {@code previous}, and the order it was kept in then.
+     */
+    private void restore(PersistentList<Person> previous, Comparator<Person> previousOrder) {
+        internalList.setAll(previous);
+        order = previousOrder;
+        markChanged(Math.max(previous.size(), size()));
+    }
+
     @Override
     public Iterator<Person> iterator() {
         return internalList.iterator();
@@ -163,6 +287,10 @@ public class UniquePersonList implements Iterable<Person> {
         int index = getFirstArchivedIndex().getZeroBased();
         Collections.reverse(internalList.subList(0, index));
         Collections.reverse(internalList.subList(index, internalList.size()));
+        if (order != null) {
+            order = order.reversed();
+        }
+        markChanged(size());
     }
 
     /**
@@ -179,72 +307,53 @@ public class UniquePersonList implements Iterable<Person> {
      * used for tie-breaking.
      */
     public void sortByDate() {
-        internalList.sort((p1, p2) -> {
-            if (isSameArchiveStatus(p1, p2)) {
-                int dateCompare = p1.getDate().value.compareTo(p2.getDate().value);
-                if (dateCompare == 0) {
-                    return p1.getTime().value.compareTo(p2.getTime().value);
-                } else {
-                    return dateCompare;
-                }
-            } else {
-                return p1.getArchive().value.compareTo(p2.getArchive().value);
-            }
-        });
+        sortBy(Comparator.comparing(Person::getDate).thenComparing(Person::getTime));
     }
 
     /**
      * Sorts the backing list using the {@code Email} attribute of each {@code Person}, in ascending order.
      */
     public void sortByEmail() {
-        internalList.sort((p1, p2) -> {
-            if (isSameArchiveStatus(p1, p2)) {
-                return p1.getEmail().value.compareTo(p2.getEmail().value);
-            } else {
-                return p1.getArchive().value.compareTo(p2.getArchive().value);
-            }
-        });
+        sortBy(Comparator.comparing(person -> person.getEmail().value));
     }
 
     /**
      * Sorts the backing list using the {@code Name} attribute of each {@code Person}, in ascending order.
      */
     public void sortByName() {
-        internalList.sort((p1, p2) -> {
-            if (isSameArchiveStatus(p1, p2)) {
-                // If both archived or both not archived, compare address as normal.
-                return p1.getName().fullName.compareTo(p2.getName().fullName);
-            } else {
-                //  Not archived (i.e. false) will always come first.
-                return p1.getArchive().value.compareTo(p2.getArchive().value);
-            }
-        });
+        sortBy(Comparator.comparing(person -> person.getName().fullName));
     }
 
     /**
      * Sorts the backing list using the {@code Phone} attribute of each {@code Person}, in ascending order.
      */
     public void sortByPhone() {
-        internalList.sort((p1, p2) -> {
-            if (isSameArchiveStatus(p1, p2)) {
-                return p1.getPhone().value.compareTo(p2.getPhone().value);
-            } else {
-                return p1.getArchive().value.compareTo(p2.getArchive().value);
-            }
-        });
+        sortBy(Comparator.comparing(person -> person.getPhone().value));
     }
 
     /**
      * Sorts the backing list using the {@code Role} attribute of each {@code Person}, in ascending order.
      */
     public void sortByRole() {
-        internalList.sort((p1, p2) -> {
-            if (isSameArchiveStatus(p1, p2)) {
-                return p1.getRole().getValue().compareTo(p2.getRole().getValue());
-            } else {
-                return p1.getArchive().value.compareTo(p2.getArchive().value);
-            }
-        });
+        sortBy(Comparator.comparing(person -> person.getRole().getValue()));
+    }
+
+    /**
+     * Sorts the active and the archived persons each by {@code order}, keeping the archived persons last, and keeps
+     * them sorted by it from then on.
+     */
+    private void sortBy(Comparator<Person> order) {
+        this.order = order;
+        internalList.sort(getFullOrder());
+        markChanged(size());
+    }
+
+    /**
+     * Returns the order of the whole list when it is kept sorted, with the archived persons after the others.
+     */
+    private Comparator<Person> getFullOrder() {
+        //  Not archived (i.e. false) will always come first.
+        return Comparator.comparing(Person::isArchived).thenComparing(order);
     }
 
     @Override
@@ -276,13 +385,57 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Name> names = new HashSet<>();
+        for (Person person : persons) {
+            if (!names.add(person.getName())) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Observes the persons added to the list for changes made to them in place, and stops observing those removed.
+     */
+    private void observePersons(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            for (Person person : change.getRemoved()) {
+                person.removeChangeObserver(personChangeObserver);
+            }
+            for (Person person : change.getAddedSubList()) {
+                person.addChangeObserver(personChangeObserver);
+            }
+        }
+    }
+
+    /**
+     * Counts the names, phones and emails of the persons added by {@code change}, and stops counting those of the
+     * persons it removed.
+     */
+    private void updateCounts(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            for (Person person : change.getRemoved()) {
+                count(person, -1);
+            }
+            for (Person person : change.getAddedSubList()) {
+                count(person, 1);
+            }
+        }
+    }
+
+    private void count(Person person, int delta) {
+        count(nameCounts, person.getName(), delta);
+        count(phoneCounts, person.getPhone(), delta);
+        count(emailCounts, person.getEmail(), delta);
+    }
+
+    private static <K> void count(Map<K, Integer> counts, K key, int delta) {
+        counts.merge(key, delta, (count, added) -> count + added == 0 ? null : count + added);
+    }
 }
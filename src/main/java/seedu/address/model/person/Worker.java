@@ -1,18 +1,40 @@
 package seedu.address.model.person;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.delivery.Delivery;
+import seedu.address.model.delivery.DeliveryId;
 import seedu.address.model.delivery.DeliveryList;
+import seedu.address.model.util.Snapshot;
 
 /**
  * Represents a delivery worker's details.
  * Contains list of DeliveryIds the worker is responsible for
  */
 public class Worker {
-    private final DeliveryList assignedDeliveryList = new DeliveryList();
+    private final DeliveryList assignedDeliveryList;
+    // Ids of assigned deliveries that no client held when they were loaded. Only loading sets them, so they are
+    // shared with the copies of this worker.
+    private final AtomicReference<List<DeliveryId>> unresolvedDeliveryIds;
+
+    public Worker() {
+        this(new DeliveryList(), new AtomicReference<>(List.of()));
+    }
+
+    private Worker(DeliveryList assignedDeliveryList, AtomicReference<List<DeliveryId>> unresolvedDeliveryIds) {
+        this.assignedDeliveryList = assignedDeliveryList;
+        this.unresolvedDeliveryIds = unresolvedDeliveryIds;
+    }
 
     /**
      * Sets the delivery list of this worker.
@@ -23,6 +45,34 @@ public class Worker {
         this.assignedDeliveryList.setDeliveries(deliveryList);
     }
 
+    /**
+     * Sets the delivery list of this worker to the deliveries supplied by {@code loader}, which is called only when the
+     * deliveries are first needed.
+     * <p>
+     * Used when loading a worker's information from storage, so that deliveries are not read until they are shown.
+     */
+    public void setDeferredDeliveryList(Supplier<List<Delivery>> loader) {
+        assignedDeliveryList.setDeferredDeliveries(loader);
+    }
+
+    /**
+     * Sets the ids of the assigned deliveries that no client held when this worker's deliveries were loaded.
+     * <p>
+     * Used when loading a worker's information from storage, so that saving the worker does not lose those ids.
+     */
+    public void setUnresolvedDeliveryIds(List<DeliveryId> ids) {
+        unresolvedDeliveryIds.set(List.copyOf(ids));
+    }
+
+    /**
+     * Returns the ids of the assigned deliveries that no client held when this worker's deliveries were loaded,
+     * loading them first if they have not been loaded yet.
+     */
+    public List<DeliveryId> getUnresolvedDeliveryIds() {
+        assignedDeliveryList.size();
+        return unresolvedDeliveryIds.get();
+    }
+
     /**
      * Add a deliveryId to the worker
      */
@@ -47,12 +97,98 @@ public class Worker {
         return assignedDeliveryList.asUnmodifiableObservableList();
     }
 
+    /**
+     * Replaces each assigned delivery with the delivery of the same id that a client among {@code persons} currently
+     * holds, and drops the assigned deliveries that no client holds any more.
+     * <p>
+     * Editing or archiving a delivery replaces it in its client's list, so this brings the worker's view of its
+     * deliveries up to date. The assigned deliveries are left untouched if they are already up to date.
+     */
+    public void resolveAssignedDeliveries(List<Person> persons) {
+        resolveAssignedDeliveries(ids -> findClientDeliveries(ids, persons));
+    }
+
+    /**
+     * Replaces each assigned delivery with the delivery of the same id that a client indexed by {@code registry}
+     * currently holds, and drops the assigned deliveries that no client holds any more.
+     * Takes time in proportion to the number of assigned deliveries only.
+     *
+     * @see #resolveAssignedDeliveries(List)
+     */
+    public void resolveAssignedDeliveries(DeliveryRegistry registry) {
+        resolveAssignedDeliveries(registry::findClientDeliveries);
+    }
+
+    private void resolveAssignedDeliveries(Function<List<DeliveryId>, Map<DeliveryId, Delivery>> findClientDeliveries) {
+        List<Delivery> assigned = assignedDeliveryList.asUnmodifiableObservableList();
+        List<DeliveryId> ids = new ArrayList<>();
+        for (Delivery delivery : assigned) {
+            ids.add(delivery.getDeliveryId());
+        }
+
+        Map<DeliveryId, Delivery> current = findClientDeliveries.apply(ids);
+        List<Delivery> resolved = new ArrayList<>();
+        boolean isChanged = false;
+        for (Delivery delivery : assigned) {
+            Delivery currentDelivery = current.get(delivery.getDeliveryId());
+            if (currentDelivery != null) {
+                resolved.add(currentDelivery);
+            }
+            isChanged |= currentDelivery != delivery;
+        }
+        if (isChanged) {
+            assignedDeliveryList.setDeliveries(resolved);
+        }
+    }
+
+    /**
+     * Returns the deliveries with the given ids that the clients among {@code persons} hold, keyed by their ids.
+     * Ids that no client holds are left out.
+     */
+    public static Map<DeliveryId, Delivery> findClientDeliveries(List<DeliveryId> ids, List<Person> persons) {
+        Set<DeliveryId> wanted = new HashSet<>(ids);
+        Map<DeliveryId, Delivery> found = new HashMap<>();
+        for (Person person : persons) {
+            if (found.size() == wanted.size()) {
+                break;
+            }
+            if (!person.isClient()) {
+                continue;
+            }
+            for (Delivery delivery : person.getUnmodifiableDeliveryList()) {
+                if (wanted.contains(delivery.getDeliveryId())) {
+                    found.putIfAbsent(delivery.getDeliveryId(), delivery);
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns a copy of this worker whose assigned deliveries are unaffected by later changes to this worker.
+     */
+    public Worker copy() {
+        return new Worker(assignedDeliveryList.copy(), unresolvedDeliveryIds);
+    }
+
+    /**
+     * Returns a copy of this worker with the deliveries assigned to it when {@code snapshot} was taken.
+     */
+    public Worker copyAsOf(Snapshot snapshot) {
+        return new Worker(assignedDeliveryList.copyAsOf(snapshot), unresolvedDeliveryIds);
+    }
+
+    /**
+     * Returns the version stamp of this worker, which changes whenever its assigned deliveries are modified.
+     */
+    public long getVersion() {
+        return assignedDeliveryList.getVersion();
+    }
+
     /**
      * Checks if the assignedDeliveryList of the worker contains the specified delivery
      */
     public boolean hasDelivery(Delivery delivery) {
-        System.out.println(assignedDeliveryList);
-        System.out.println(delivery);
         return assignedDeliveryList.contains(delivery);
     }
 
@@ -0,0 +1,111 @@
+package seedu.address.model.util;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records how to undo the changes made to the model's containers on the current thread.
+ * <p>
+ * While a recording is active, each container reports its first change with a way to restore the contents it had
+ * before. As the contents are held in {@link PersistentList}s, restoring only needs the earlier list, which shares all
+ * but the changed parts of its structure with the current one. The recording therefore does not grow with the size of
+ * the model, only with the size of the changes.
+ */
+public class ChangeRecorder {
+
+    // A tree node, together with its share of the element it holds.
+    private static final long NODE_BYTES = 48;
+
+    private static final ThreadLocal<ChangeRecorder> active = new ThreadLocal<>();
+
+    private final Map<Object, Boolean> changedContainers = new IdentityHashMap<>();
+    private final List<Runnable> restores = new ArrayList<>();
+    private long estimatedBytes = 0;
+
+    private ChangeRecorder() {}
+
+    /**
+     * Starts recording the changes made on the current thread.
+     * No other recording may be active on the current thread.
+     */
+    public static ChangeRecorder start() {
+        assert active.get() == null : "A change recording is already active";
+        ChangeRecorder recorder = new ChangeRecorder();
+        active.set(recorder);
+        return recorder;
+    }
+
+    /**
+     * Stops this recording, and returns the changes recorded.
+     */
+    public RecordedChange stop() {
+        assert active.get() == this;
+        active.remove();
+        return new RecordedChange(restores, estimatedBytes);
+    }
+
+    /**
+     * Returns true if changes made on the current thread are being recorded.
+     * Containers check this before preparing what they would record.
+     */
+    public static boolean isRecording() {
+        return active.get() != null;
+    }
+
+    /**
+     * Records that {@code container} has changed {@code changedCount} of its {@code size} elements. If this is the
+     * first change to {@code container} in the active recording, {@code restore} is kept to undo it. Does nothing if
+     * no recording is active on the current thread.
+     */
+    public static void record(Object container, int size, int changedCount, Runnable restore) {
+        ChangeRecorder recorder = active.get();
+        if (recorder == null) {
+            return;
+        }
+        if (recorder.changedContainers.put(container, Boolean.TRUE) == null) {
+            recorder.restores.add(restore);
+        }
+        // Each changed element copies a path through the tree, up to the size of the tree itself.
+        int depth = 1 + 32 - Integer.numberOfLeadingZeros(size);
+        recorder.estimatedBytes += NODE_BYTES * Math.min((long) changedCount * depth, (long) size + changedCount);
+    }
+
+    /**
+     * Changes recorded together, which can be undone as one.
+     */
+    public static class RecordedChange {
+        private final List<Runnable> restores;
+        private final long estimatedBytes;
+
+        private RecordedChange(List<Runnable> restores, long estimatedBytes) {
+            this.restores = restores;
+            this.estimatedBytes = estimatedBytes;
+        }
+
+        /**
+         * Returns true if nothing was changed.
+         */
+        public boolean isEmpty() {
+            return restores.isEmpty();
+        }
+
+        /**
+         * Returns an estimate of the memory kept alive by holding on to this change.
+         */
+        public long getEstimatedBytes() {
+            return estimatedBytes;
+        }
+
+        /**
+         * Restores each changed container to the contents it had before the change.
+         * Recording the revert gives the change that redoes this one.
+         */
+        public void revert() {
+            for (int i = restores.size() - 1; i >= 0; i--) {
+                restores.get(i).run();
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.model.util;
+
+import java.util.List;
+import java.util.function.BiPredicate;
+
+/**
+ * Changes a list into another one element at a time, so that observers of the list only see the elements that differ
+ * being replaced, rather than the whole list being rebuilt.
+ */
+public class ListDiff {
+
+    private ListDiff() {}
+
+    /**
+     * Changes {@code list} into {@code target}, keeping the elements for which {@code isUnchanged} holds against the
+     * element of {@code target} they line up with, and returns the number of elements set, removed or added.
+     * <p>
+     * Elements are lined up from both ends, so a handful of edits, insertions or removals in one place only touch the
+     * elements involved. Edits in several places are each handled as such if the list keeps its length, and otherwise
+     * the elements between the first and last edits are replaced position by position.
+     */
+    public static <E> int apply(List<E> list, List<? extends E> target,
+            BiPredicate<? super E, ? super E> isUnchanged) {
+        int size = list.size();
+        int targetSize = target.size();
+
+        int start = 0;
+        while (start < size && start < targetSize && isUnchanged.test(list.get(start), target.get(start))) {
+            start++;
+        }
+        int end = 0;
+        while (end < size - start && end < targetSize - start
+                && isUnchanged.test(list.get(size - 1 - end), target.get(targetSize - 1 - end))) {
+            end++;
+        }
+
+        int changed = 0;
+        int overlapEnd = Math.min(size, targetSize) - end;
+        for (int i = start; i < overlapEnd; i++) {
+            E element = target.get(i);
+            if (!isUnchanged.test(list.get(i), element)) {
+                list.set(i, element);
+                changed++;
+            }
+        }
+        if (size > targetSize) {
+            list.subList(overlapEnd, size - end).clear();
+            changed += size - targetSize;
+        } else if (targetSize > size) {
+            list.addAll(overlapEnd, target.subList(overlapEnd, targetSize - end));
+            changed += targetSize - size;
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,23 @@
+package seedu.address.model.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out strictly increasing version stamps for mutable model containers.
+ * <p>
+ * A container that takes a fresh stamp on every mutation can be compared against a previously recorded stamp
+ * to find out whether it has changed since, without inspecting its contents.
+ */
+public class MutationCounter {
+
+    private static final AtomicLong counter = new AtomicLong();
+
+    private MutationCounter() {} // prevents instantiation
+
+    /**
+     * Returns a stamp that is larger than every stamp handed out before.
+     */
+    public static long next() {
+        return counter.incrementAndGet();
+    }
+}
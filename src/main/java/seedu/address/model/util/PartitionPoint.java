@@ -0,0 +1,90 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * The position of the first element of an {@code ObservableList} that is in the tail of the list, such as the first
+ * archived element of a list that keeps its archived elements after the others.
+ * <p>
+ * The position is found the first time it is needed, and from then on follows the changes made to the list. A change
+ * only costs as much as looking at the elements it adds or reorders before the position, and at the elements that
+ * come next when it removes the element at the position, so changes to either side of the position take {@code O(1)}
+ * time as long as the list keeps its tail elements together.
+ */
+public class PartitionPoint<E> {
+
+    private final ObservableList<? extends E> list;
+    private final Predicate<? super E> isInTail;
+    // The position of the first element in the tail, or -1 if it has to be found again.
+    private int position = -1;
+
+    /**
+     * Creates a {@code PartitionPoint} for the first element of {@code list} for which {@code isInTail} holds.
+     * It follows the changes made to {@code list} through a listener, which should be added before any listener that
+     * may ask for the position.
+     */
+    public PartitionPoint(ObservableList<? extends E> list, Predicate<? super E> isInTail) {
+        requireAllNonNull(list, isInTail);
+        this.list = list;
+        this.isInTail = isInTail;
+        list.addListener(this::update);
+    }
+
+    /**
+     * Returns the position of the first element in the tail of the list, or the size of the list if there is none.
+     */
+    public int get() {
+        if (position == -1) {
+            position = findFrom(0);
+        }
+        return position;
+    }
+
+    private void update(ListChangeListener.Change<? extends E> change) {
+        while (position != -1 && change.next()) {
+            int from = change.getFrom();
+            if (from > position) {
+                // Neither the elements before the position nor the element at it have changed.
+                continue;
+            }
+            if (change.wasPermutated()) {
+                position = findFrom(from);
+                continue;
+            }
+
+            int firstAddedInTail = indexOfFirstInTail(change.getAddedSubList());
+            if (firstAddedInTail != -1) {
+                position = from + firstAddedInTail;
+            } else if (position < from + change.getRemovedSize()) {
+                // The element at the position was removed, so the next one in the tail is after the added elements.
+                position = findFrom(change.getTo());
+            } else {
+                position += change.getAddedSize() - change.getRemovedSize();
+            }
+        }
+    }
+
+    private int indexOfFirstInTail(List<? extends E> elements) {
+        for (int i = 0; i < elements.size(); i++) {
+            if (isInTail.test(elements.get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int findFrom(int start) {
+        for (int i = start; i < list.size(); i++) {
+            if (isInTail.test(list.get(i))) {
+                return i;
+            }
+        }
+        return list.size();
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.model.util;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.TreeMap;
+
+/**
+ * Marks the point in time at which a snapshot of the model was taken.
+ * <p>
+ * A snapshot is stamped with a {@link MutationCounter} stamp, so the state a container had when the snapshot was taken
+ * is the state it was given by its last mutation stamped below the snapshot. Containers that are changed in place keep
+ * their earlier states in a {@link SnapshotHistory} for as long as a snapshot that may read them is reachable.
+ */
+public final class Snapshot {
+
+    private static final ReferenceQueue<Snapshot> collected = new ReferenceQueue<>();
+
+    // Snapshots that may still be read, by their stamps. Guarded by Snapshot.class.
+    private static final TreeMap<Long, Reference<Snapshot>> liveSnapshots = new TreeMap<>();
+
+    private static volatile long latestStamp = 0;
+
+    private final long stamp;
+
+    private Snapshot(long stamp) {
+        this.stamp = stamp;
+    }
+
+    /**
+     * Marks the current point in time. Takes {@code O(1)} time, apart from forgetting snapshots that are no longer
+     * reachable.
+     */
+    public static Snapshot take() {
+        Snapshot snapshot = new Snapshot(MutationCounter.next());
+        synchronized (Snapshot.class) {
+            expungeCollected();
+            liveSnapshots.put(snapshot.stamp, new StampedReference(snapshot));
+            latestStamp = snapshot.stamp;
+        }
+        return snapshot;
+    }
+
+    public long getStamp() {
+        return stamp;
+    }
+
+    /**
+     * Returns true if a snapshot has been taken since the mutation stamped {@code stamp}.
+     */
+    static boolean isTakenSince(long stamp) {
+        return latestStamp > stamp;
+    }
+
+    /**
+     * Returns the stamp of the earliest snapshot that is still reachable, or {@code Long.MAX_VALUE} if there is none.
+     */
+    static synchronized long getEarliestLiveStamp() {
+        expungeCollected();
+        return liveSnapshots.isEmpty() ? Long.MAX_VALUE : liveSnapshots.firstKey();
+    }
+
+    private static void expungeCollected() {
+        for (Reference<?> reference = collected.poll(); reference != null; reference = collected.poll()) {
+            liveSnapshots.remove(((StampedReference) reference).stamp);
+        }
+    }
+
+    private static class StampedReference extends WeakReference<Snapshot> {
+        private final long stamp;
+
+        StampedReference(Snapshot snapshot) {
+            super(snapshot, collected);
+            this.stamp = snapshot.stamp;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model.util;
+
+/**
+ * The state of a container that is changed in place, along with the states it had when the snapshots that may still
+ * read it were taken.
+ * <p>
+ * The container records its new state, stamped with its new version, after every change. A recorded state replaces
+ * the previous one unless a snapshot has been taken in between, so the history only grows with the number of
+ * snapshots that are alive, and not with the number of changes.
+ * <p>
+ * States are recorded by the thread that changes the container, and may be read from any thread.
+ */
+public class SnapshotHistory<T> {
+
+    private volatile Entry<T> latest;
+
+    /**
+     * Creates a history that starts out with {@code state}, stamped {@code stamp}.
+     */
+    public SnapshotHistory(long stamp, T state) {
+        latest = new Entry<>(stamp, state, null);
+    }
+
+    /**
+     * Records {@code state}, stamped {@code stamp}, as the current state.
+     * {@code stamp} must not be smaller than the stamp of the current state.
+     */
+    public void record(long stamp, T state) {
+        Entry<T> current = latest;
+        assert stamp >= current.stamp;
+        if (!Snapshot.isTakenSince(current.stamp)) {
+            latest = new Entry<>(stamp, state, current.previous);
+            return;
+        }
+
+        // Forgets the states that are older than the one the earliest live snapshot reads.
+        long earliestLiveStamp = Snapshot.getEarliestLiveStamp();
+        for (Entry<T> entry = current; entry != null; entry = entry.previous) {
+            if (entry.stamp < earliestLiveStamp) {
+                entry.previous = null;
+                break;
+            }
+        }
+        latest = new Entry<>(stamp, state, earliestLiveStamp == Long.MAX_VALUE ? null : current);
+    }
+
+    /**
+     * Returns the state as it was when {@code snapshot} was taken, or the earliest state recorded if the history
+     * started after that.
+     */
+    public T getAsOf(Snapshot snapshot) {
+        Entry<T> entry = latest;
+        while (entry.stamp >= snapshot.getStamp() && entry.previous != null) {
+            entry = entry.previous;
+        }
+        return entry.state;
+    }
+
+    private static class Entry<T> {
+        private final long stamp;
+        private final T state;
+        // Cut off once no live snapshot reads it, which only readers of already collected snapshots could notice.
+        private Entry<T> previous;
+
+        Entry(long stamp, T state, Entry<T> previous) {
+            this.stamp = stamp;
+            this.state = state;
+            this.previous = previous;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.Collection;
+
+/**
+ * A modifiable list backed by a {@link PersistentList}, whose contents can be captured at any time in {@code O(1)}.
+ * <p>
+ * Meant to be wrapped by an {@code ObservableList}, so that the model can hand out immutable snapshots of a list that
+ * the UI is observing. Each change takes {@code O(log n)} time, and leaves earlier snapshots as they were.
+ */
+public class SnapshotList<E> extends AbstractList<E> {
+
+    private PersistentList<E> contents;
+
+    public SnapshotList() {
+        this(PersistentList.empty());
+    }
+
+    /**
+     * Creates a list that starts out with {@code contents}.
+     */
+    public SnapshotList(PersistentList<E> contents) {
+        requireNonNull(contents);
+        this.contents = contents;
+    }
+
+    /**
+     * Returns the current contents of this list, which later changes to this list do not affect.
+     */
+    public PersistentList<E> snapshot() {
+        return contents;
+    }
+
+    @Override
+    public int size() {
+        return contents.size();
+    }
+
+    @Override
+    public E get(int index) {
+        return contents.get(index);
+    }
+
+    @Override
+    public E set(int index, E element) {
+        E previous = contents.get(index);
+        contents = contents.with(index, element);
+        return previous;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        contents = contents.plus(index, element);
+        modCount++;
+    }
+
+    @Override
+    public E remove(int index) {
+        E previous = contents.get(index);
+        contents = contents.minus(index);
+        modCount++;
+        return previous;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Adding a {@code PersistentList} to an empty list takes {@code O(1)} time, as the list then takes it over.
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends E> elements) {
+        if (isEmpty() && index == 0 && elements instanceof PersistentList) {
+            contents = PersistentList.of(elements);
+            modCount++;
+            return !elements.isEmpty();
+        }
+        return super.addAll(index, elements);
+    }
+
+    @Override
+    public void clear() {
+        contents = PersistentList.empty();
+        modCount++;
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address.model.util;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Finds where an element goes in a list that is kept sorted, by binary search.
+ */
+public class SortedInsertion {
+
+    private SortedInsertion() {}
+
+    /**
+     * Returns the position at which {@code element} is to be inserted into {@code list}, which is sorted by
+     * {@code comparator}, to keep it sorted. The element goes after any elements that compare equal to it, just as it
+     * would if it were added to the end of the list before sorting it again.
+     */
+    public static <E> int indexFor(List<? extends E> list, E element, Comparator<? super E> comparator) {
+        int low = 0;
+        int high = list.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(list.get(middle), element) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns true if {@code element} may stand at {@code index} of {@code list}, which is otherwise sorted by
+     * {@code comparator}, without breaking its order.
+     */
+    public static <E> boolean fitsAt(List<? extends E> list, int index, E element, Comparator<? super E> comparator) {
+        return (index == 0 || comparator.compare(list.get(index - 1), element) <= 0)
+                && (index == list.size() - 1 || comparator.compare(element, list.get(index + 1)) <= 0);
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads the persons of an address book data file, whichever format the file is stored in.
+ */
+interface AddressBookReader {
+
+    /**
+     * Returns the persons stored in the file, in the order that {@code AddressBook#addPerson} would place them.
+     *
+     * @throws IOException if the file cannot be read or is malformed.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    List<Person> readPersons() throws IOException, IllegalValueException;
+
+    /**
+     * Returns the sequence number of the last journal entry contained in the file.
+     * Only valid after {@link #readPersons()} has returned.
+     */
+    long getJournalSequence();
+
+    /**
+     * Returns a reader for the data file at {@code filePath}, choosing the format from the first bytes of the file
+     * once decompressed.
+     */
+    static AddressBookReader forFile(Path filePath) throws IOException {
+        byte[] header;
+        try (InputStream in = CompressedDataFile.newInputStream(filePath)) {
+            header = in.readNBytes(BinaryAddressBookWriter.MAGIC.length);
+        }
+        if (Arrays.equals(header, BinaryAddressBookWriter.MAGIC)) {
+            return new BinaryAddressBookReader(filePath);
+        }
+        return new JsonAddressBookReader(filePath);
+    }
+}
@@ -2,15 +2,18 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookHistory;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * Represents a storage for {@link seedu.address.model.AddressBook}.
  */
-public interface AddressBookStorage {
+public interface AddressBookStorage extends AddressBookHistory {
 
     /**
      * Returns the file path of the data file.
@@ -30,6 +33,17 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException;
 
+    /**
+     * Reads the data file again after another program changed it, taking its contents as they now are.
+     * Storages that keep changes apart from the data file, which the other program could not see, merge them into its
+     * change instead of applying them on top of it. Others read the data file as {@link #readAddressBook()} does.
+     *
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    default Optional<ReadOnlyAddressBook> readExternalChange() throws DataLoadingException {
+        return readAddressBook();
+    }
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
@@ -42,4 +56,36 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Blocks until every save requested so far has been written to the storage.
+     * Storages that write each save before {@code saveAddressBook} returns have nothing to flush.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void flushAddressBook() throws IOException {
+    }
+
+    /**
+     * Sets the handler to notify when a save that was not written immediately later fails.
+     * Saves that are written before {@code saveAddressBook} returns report failures by throwing instead, so storages
+     * that write each save that way never notify the handler.
+     */
+    default void setSaveFailureHandler(Consumer<IOException> handler) {
+    }
+
+    /**
+     * Sets the handler to notify with the address book read again after another program changed the data file.
+     * Storages that do not watch their data file never notify the handler.
+     */
+    default void setExternalChangeHandler(Consumer<ReadOnlyAddressBook> handler) {
+    }
+
+    /**
+     * {@inheritDoc}
+     * Storages that keep no history return {@code Optional.empty()} for any time.
+     */
+    @Override
+    default Optional<ReadOnlyAddressBook> readAddressBookAsOf(Instant time) throws DataLoadingException {
+        return Optional.empty();
+    }
+
 }
@@ -0,0 +1,106 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.delivery.Delivery;
+import seedu.address.model.delivery.DeliveryId;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Worker;
+
+/**
+ * Resolves the delivery ids stored for workers into the deliveries of the clients that hold them.
+ * <p>
+ * A worker can be read before the clients whose deliveries it is assigned, so its deliveries are deferred and
+ * resolved against the persons given to {@link #setPersons(List)} once the whole address book has been read.
+ */
+class AssignedDeliveryResolver {
+
+    private static final Logger logger = LogsCenter.getLogger(AssignedDeliveryResolver.class);
+
+    private volatile List<Person> persons = List.of();
+    private final Function<List<DeliveryId>, Map<DeliveryId, Delivery>> findClientDeliveries;
+
+    /**
+     * Creates a resolver with no persons to resolve against yet.
+     */
+    AssignedDeliveryResolver() {
+        findClientDeliveries = ids -> Worker.findClientDeliveries(ids, persons);
+    }
+
+    /**
+     * Creates a resolver that resolves against {@code persons}, including any later changes to that list.
+     */
+    AssignedDeliveryResolver(List<Person> persons) {
+        this();
+        setPersons(persons);
+    }
+
+    /**
+     * Creates a resolver that looks up the deliveries held by clients with {@code findClientDeliveries}, which
+     * returns the deliveries it finds keyed by their ids.
+     */
+    AssignedDeliveryResolver(Function<List<DeliveryId>, Map<DeliveryId, Delivery>> findClientDeliveries) {
+        requireNonNull(findClientDeliveries);
+        this.findClientDeliveries = findClientDeliveries;
+    }
+
+    void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+    }
+
+    /**
+     * Sets the assigned deliveries of {@code worker} to the deliveries with the given ids, resolved when they are
+     * first needed.
+     * <p>
+     * Older files stored a full copy of each assigned delivery instead of its id. Those copies, supplied by
+     * {@code legacyDeliveries} if not null, are resolved by their ids too, and kept as they are if no client holds
+     * them any more. Ids that no client holds are reported and kept as the unresolved ids of the worker, so that they
+     * are saved again rather than lost.
+     */
+    void defer(Worker worker, List<DeliveryId> ids, Supplier<List<Delivery>> legacyDeliveries) {
+        requireAllNonNull(worker, ids);
+        if (ids.isEmpty() && legacyDeliveries == null) {
+            return;
+        }
+        worker.setDeferredDeliveryList(() -> {
+            Map<DeliveryId, Delivery> fallbacks = new LinkedHashMap<>();
+            for (DeliveryId id : ids) {
+                fallbacks.putIfAbsent(id, null);
+            }
+            if (legacyDeliveries != null) {
+                for (Delivery delivery : legacyDeliveries.get()) {
+                    fallbacks.putIfAbsent(delivery.getDeliveryId(), delivery);
+                }
+            }
+
+            List<DeliveryId> allIds = new ArrayList<>(fallbacks.keySet());
+            Map<DeliveryId, Delivery> found = findClientDeliveries.apply(allIds);
+            List<Delivery> deliveries = new ArrayList<>();
+            List<DeliveryId> unresolvedIds = new ArrayList<>();
+            for (DeliveryId id : allIds) {
+                Delivery delivery = found.getOrDefault(id, fallbacks.get(id));
+                if (delivery == null) {
+                    unresolvedIds.add(id);
+                } else {
+                    deliveries.add(delivery);
+                }
+            }
+            if (!unresolvedIds.isEmpty()) {
+                logger.warning("Keeping assigned deliveries that no client holds: " + unresolvedIds);
+            }
+            worker.setUnresolvedDeliveryIds(unresolvedIds);
+            return deliveries;
+        });
+    }
+}
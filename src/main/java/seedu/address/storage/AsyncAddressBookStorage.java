@@ -0,0 +1,290 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that writes saves to another {@code AddressBookStorage} on a background thread.
+ * <p>
+ * Each save takes a snapshot of the address book on the calling thread, which takes constant time, and returns
+ * without touching the disk. Bursts of saves are coalesced so that only the latest snapshot is written. A snapshot is
+ * written once the oldest unwritten save has waited {@code maxLatencyMillis}, or as soon as {@code maxPending} saves
+ * have piled up, whichever comes first.
+ * <p>
+ * Failed writes are reported to the save failure handler and kept for retry. The delay before each retry doubles
+ * from {@code INITIAL_RETRY_DELAY_MILLIS} up to {@code MAX_RETRY_DELAY_MILLIS} while the writes keep failing, so a
+ * failing disk is not retried in a busy loop. {@link #flushAddressBook()} writes any unwritten snapshot on the calling
+ * thread straight away and throws if that fails.
+ */
+public class AsyncAddressBookStorage implements AddressBookStorage {
+
+    public static final long INITIAL_RETRY_DELAY_MILLIS = 100;
+    public static final long MAX_RETRY_DELAY_MILLIS = 30_000;
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncAddressBookStorage.class);
+
+    private final AddressBookStorage storage;
+    private final long maxLatencyNanos;
+    private final int maxPending;
+
+    private final Object lock = new Object();
+
+    // Guarded by lock.
+    private ReadOnlyAddressBook pendingSnapshot;
+    private int pendingCount = 0;
+    private long pendingSince;
+    private boolean isWriting = false;
+    private boolean isFlushing = false;
+    private boolean isClosed = false;
+    private boolean isFailing = false;
+    // The delay before the next retry of a failed write, and the time it may be retried from.
+    private long retryDelayNanos = 0;
+    private long retryAfter;
+    private Consumer<IOException> saveFailureHandler = failure -> {};
+
+    /**
+     * Creates an {@code AsyncAddressBookStorage} that writes to {@code storage}.
+     *
+     * @param maxLatencyMillis longest time a save may wait before it is written, which must not be negative.
+     * @param maxPending number of saves after which they are written without further waiting, which must be positive.
+     */
+    public AsyncAddressBookStorage(AddressBookStorage storage, long maxLatencyMillis, int maxPending) {
+        requireNonNull(storage);
+        checkArgument(maxLatencyMillis >= 0, "Save latency must not be negative");
+        checkArgument(maxPending > 0, "Number of pending saves must be positive");
+        this.storage = storage;
+        this.maxLatencyNanos = TimeUnit.MILLISECONDS.toNanos(maxLatencyMillis);
+        this.maxPending = maxPending;
+
+        Thread writer = new Thread(this::runWriter, "address-book-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return storage.readAddressBook(filePath);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Pending saves are written first, so that the history includes them.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBookAsOf(Instant time) throws DataLoadingException {
+        try {
+            flushAddressBook();
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        return storage.readAddressBookAsOf(time);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        synchronized (lock) {
+            if (isClosed) {
+                throw new IOException("Address book storage has been closed");
+            }
+            ReadOnlyAddressBook snapshot = addressBook.snapshot();
+            if (pendingSnapshot == null) {
+                pendingSince = System.nanoTime();
+            }
+            pendingSnapshot = snapshot;
+            pendingCount++;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saves to any location other than this storage's own file are written immediately.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (filePath.equals(getAddressBookFilePath())) {
+            saveAddressBook(addressBook);
+        } else {
+            storage.saveAddressBook(addressBook, filePath);
+        }
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        ReadOnlyAddressBook snapshot;
+        synchronized (lock) {
+            isFlushing = true;
+            try {
+                while (isWriting) {
+                    lock.wait();
+                }
+            } catch (InterruptedException e) {
+                isFlushing = false;
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for address book to be saved", e);
+            }
+            snapshot = pendingSnapshot;
+            pendingSnapshot = null;
+            pendingCount = 0;
+            isWriting = snapshot != null;
+        }
+
+        IOException failure = snapshot == null ? null : write(snapshot);
+
+        synchronized (lock) {
+            isWriting = false;
+            isFlushing = false;
+            lock.notifyAll();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        storage.flushAddressBook();
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> handler) {
+        requireNonNull(handler);
+        synchronized (lock) {
+            saveFailureHandler = handler;
+        }
+    }
+
+    @Override
+    public void setExternalChangeHandler(Consumer<ReadOnlyAddressBook> handler) {
+        storage.setExternalChangeHandler(handler);
+    }
+
+    /**
+     * Writes any unwritten save and stops the background writer. Later saves are rejected.
+     */
+    public void close() throws IOException {
+        try {
+            flushAddressBook();
+        } finally {
+            synchronized (lock) {
+                isClosed = true;
+                lock.notifyAll();
+            }
+        }
+    }
+
+    private void runWriter() {
+        while (true) {
+            ReadOnlyAddressBook snapshot;
+            boolean wasFailing;
+            synchronized (lock) {
+                try {
+                    while (!isClosed && !isReadyToWrite()) {
+                        if (pendingSnapshot == null || isFlushing) {
+                            lock.wait();
+                        } else {
+                            long remaining = getWriteTime() - System.nanoTime();
+                            TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (isClosed) {
+                    return;
+                }
+                snapshot = pendingSnapshot;
+                logger.fine("Writing address book coalesced from " + pendingCount + " saves");
+                pendingSnapshot = null;
+                pendingCount = 0;
+                isWriting = true;
+                wasFailing = isFailing;
+            }
+
+            IOException failure = write(snapshot);
+
+            Consumer<IOException> handler;
+            synchronized (lock) {
+                isWriting = false;
+                handler = saveFailureHandler;
+                lock.notifyAll();
+            }
+            // A failing write is retried until it succeeds, but only the first failure is reported.
+            if (failure != null && !wasFailing) {
+                logger.warning("Failed to save address book: " + failure.getMessage());
+                handler.accept(failure);
+            }
+        }
+    }
+
+    private boolean isReadyToWrite() {
+        if (pendingSnapshot == null || isFlushing) {
+            return false;
+        }
+        if (isFailing) {
+            return System.nanoTime() - retryAfter >= 0;
+        }
+        return pendingCount >= maxPending || System.nanoTime() - pendingSince >= maxLatencyNanos;
+    }
+
+    /**
+     * Returns the time the pending snapshot is due to be written at, which is put off while failed writes are being
+     * retried.
+     */
+    private long getWriteTime() {
+        return isFailing ? retryAfter : pendingSince + maxLatencyNanos;
+    }
+
+    /**
+     * Writes {@code snapshot} to the underlying storage and returns the failure, if any.
+     * A failed snapshot is put back for retry unless a newer one has been saved in the meantime, and the retry is put
+     * off for twice as long as the one before.
+     */
+    private IOException write(ReadOnlyAddressBook snapshot) {
+        try {
+            storage.saveAddressBook(snapshot);
+            synchronized (lock) {
+                isFailing = false;
+                retryDelayNanos = 0;
+            }
+            return null;
+        } catch (IOException e) {
+            synchronized (lock) {
+                long now = System.nanoTime();
+                if (pendingSnapshot == null) {
+                    pendingSnapshot = snapshot;
+                    pendingSince = now;
+                }
+                isFailing = true;
+                retryDelayNanos = retryDelayNanos == 0
+                        ? TimeUnit.MILLISECONDS.toNanos(INITIAL_RETRY_DELAY_MILLIS)
+                        : Math.min(retryDelayNanos * 2, TimeUnit.MILLISECONDS.toNanos(MAX_RETRY_DELAY_MILLIS));
+                retryAfter = now + retryDelayNanos;
+            }
+            return e;
+        }
+    }
+}
@@ -0,0 +1,491 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A B+tree that maps byte string keys to byte string values, stored in the pages of a {@link PageFile}.
+ * <p>
+ * Keys are ordered by their unsigned bytes. Leaves hold the keys with their values, and internal pages hold the keys
+ * that separate their children: child {@code i} holds the keys below key {@code i} and at or above key {@code i - 1}.
+ * Values longer than {@link #MAX_INLINE_VALUE_LENGTH} are stored in a chain of overflow pages, so that every page
+ * holds at least two entries. Pages that become empty are freed, but pages are not merged with their siblings, as the
+ * entries removed from an address book are mostly replaced by new ones.
+ * <p>
+ * The root page is kept in a root slot of the page file, so that several trees can share one file.
+ */
+class BPlusTree {
+
+    static final int MAX_KEY_LENGTH = 512;
+    static final int MAX_INLINE_VALUE_LENGTH = 1024;
+
+    public static final String MESSAGE_KEY_TOO_LONG = "Key of %d bytes is longer than the limit of %d bytes";
+    public static final String MESSAGE_CORRUPTED = "Paged address book is corrupted: %s";
+
+    private static final byte TYPE_LEAF = 1;
+    private static final byte TYPE_INTERNAL = 2;
+    private static final byte TYPE_OVERFLOW = 3;
+
+    private static final byte VALUE_INLINE = 0;
+    private static final byte VALUE_OVERFLOW = 1;
+
+    private static final int LEAF_HEADER_LENGTH = 3;
+    private static final int INTERNAL_HEADER_LENGTH = 3 + Integer.BYTES;
+    private static final int OVERFLOW_HEADER_LENGTH = 1 + Integer.BYTES + Short.BYTES;
+    private static final int OVERFLOW_CAPACITY = PageFile.PAGE_SIZE - OVERFLOW_HEADER_LENGTH;
+
+    private final PageFile pageFile;
+    private final int rootSlot;
+
+    /**
+     * Creates a tree whose root page is kept in root slot {@code rootSlot} of {@code pageFile}.
+     */
+    public BPlusTree(PageFile pageFile, int rootSlot) {
+        requireNonNull(pageFile);
+        this.pageFile = pageFile;
+        this.rootSlot = rootSlot;
+    }
+
+    /**
+     * Visits the entries of a tree in key order.
+     */
+    @FunctionalInterface
+    interface Visitor {
+        /**
+         * Visits an entry, and returns false to stop visiting further entries.
+         */
+        boolean visit(byte[] key, byte[] value) throws IOException;
+    }
+
+    /**
+     * Returns the value of {@code key}, or null if the tree does not hold it.
+     */
+    public byte[] get(byte[] key) throws IOException {
+        int pageNo = pageFile.getRoot(rootSlot);
+        if (pageNo == 0) {
+            return null;
+        }
+        Node node = Node.read(pageFile.read(pageNo));
+        while (!node.isLeaf) {
+            node = Node.read(pageFile.read(node.children.get(node.childIndex(key))));
+        }
+        int index = node.indexOf(key);
+        return index < 0 ? null : readValue(node.values.get(index));
+    }
+
+    /**
+     * Maps {@code key} to {@code value}, replacing any value it had.
+     *
+     * @throws IOException if {@code key} is longer than {@link #MAX_KEY_LENGTH}, or the pages cannot be read.
+     */
+    public void put(byte[] key, byte[] value) throws IOException {
+        requireNonNull(value);
+        if (key.length > MAX_KEY_LENGTH) {
+            throw new IOException(String.format(MESSAGE_KEY_TOO_LONG, key.length, MAX_KEY_LENGTH));
+        }
+
+        int root = pageFile.getRoot(rootSlot);
+        if (root == 0) {
+            Node leaf = new Node(true);
+            leaf.keys.add(key);
+            leaf.values.add(writeValue(value));
+            root = pageFile.allocate();
+            leaf.write(pageFile.write(root));
+            pageFile.setRoot(rootSlot, root);
+            return;
+        }
+
+        Split split = insert(root, key, value);
+        if (split != null) {
+            Node newRoot = new Node(false);
+            newRoot.children.add(root);
+            newRoot.keys.add(split.key);
+            newRoot.children.add(split.pageNo);
+            int newRootPage = pageFile.allocate();
+            newRoot.write(pageFile.write(newRootPage));
+            pageFile.setRoot(rootSlot, newRootPage);
+        }
+    }
+
+    /**
+     * Removes {@code key} from the tree, and returns true if the tree held it.
+     */
+    public boolean remove(byte[] key) throws IOException {
+        int root = pageFile.getRoot(rootSlot);
+        if (root == 0) {
+            return false;
+        }
+
+        Removal removal = delete(root, key);
+        if (removal == Removal.NOT_FOUND) {
+            return false;
+        }
+        if (removal == Removal.EMPTIED) {
+            pageFile.free(root);
+            pageFile.setRoot(rootSlot, 0);
+            return true;
+        }
+
+        // Collapse roots that are left with a single child.
+        Node node = Node.read(pageFile.read(root));
+        while (!node.isLeaf && node.children.size() == 1) {
+            pageFile.free(root);
+            root = node.children.get(0);
+            node = Node.read(pageFile.read(root));
+        }
+        pageFile.setRoot(rootSlot, root);
+        return true;
+    }
+
+    /**
+     * Visits the entries with keys at or above {@code fromKey}, in key order, until {@code visitor} returns false.
+     */
+    public void scan(byte[] fromKey, Visitor visitor) throws IOException {
+        int root = pageFile.getRoot(rootSlot);
+        if (root != 0) {
+            scan(root, fromKey, visitor);
+        }
+    }
+
+    /**
+     * Visits the entries whose keys start with {@code prefix}, in key order.
+     */
+    public void scanPrefix(byte[] prefix, Visitor visitor) throws IOException {
+        scan(prefix, (key, value) -> startsWith(key, prefix) && visitor.visit(key, value));
+    }
+
+    /**
+     * Removes every entry from the tree and frees its pages.
+     */
+    public void clear() throws IOException {
+        int root = pageFile.getRoot(rootSlot);
+        if (root != 0) {
+            freeSubtree(root);
+            pageFile.setRoot(rootSlot, 0);
+        }
+    }
+
+    private boolean scan(int pageNo, byte[] fromKey, Visitor visitor) throws IOException {
+        Node node = Node.read(pageFile.read(pageNo));
+        if (node.isLeaf) {
+            for (int i = 0; i < node.keys.size(); i++) {
+                byte[] key = node.keys.get(i);
+                if (Arrays.compareUnsigned(key, fromKey) >= 0 && !visitor.visit(key, readValue(node.values.get(i)))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        for (int i = node.childIndex(fromKey); i < node.children.size(); i++) {
+            if (!scan(node.children.get(i), fromKey, visitor)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Split insert(int pageNo, byte[] key, byte[] value) throws IOException {
+        Node node = Node.read(pageFile.read(pageNo));
+        if (node.isLeaf) {
+            int index = node.indexOf(key);
+            if (index >= 0) {
+                // Freed first, so that a long value can reuse the overflow pages of the one it replaces.
+                freeValue(node.values.get(index));
+                node.values.set(index, writeValue(value));
+            } else {
+                node.keys.add(-index - 1, key);
+                node.values.add(-index - 1, writeValue(value));
+            }
+        } else {
+            int childIndex = node.childIndex(key);
+            Split childSplit = insert(node.children.get(childIndex), key, value);
+            if (childSplit == null) {
+                return null;
+            }
+            node.keys.add(childIndex, childSplit.key);
+            node.children.add(childIndex + 1, childSplit.pageNo);
+        }
+
+        if (node.length() <= PageFile.PAGE_SIZE) {
+            node.write(pageFile.write(pageNo));
+            return null;
+        }
+        return split(pageNo, node);
+    }
+
+    /**
+     * Moves the upper half of {@code node}, which is too long for a page, into a new page.
+     */
+    private Split split(int pageNo, Node node) throws IOException {
+        Node right = new Node(node.isLeaf);
+        byte[] separator;
+        if (node.isLeaf) {
+            int half = node.length() / 2;
+            int splitIndex = 1;
+            int leftLength = LEAF_HEADER_LENGTH + node.entryLength(0);
+            while (splitIndex < node.keys.size() - 1 && leftLength + node.entryLength(splitIndex) <= half) {
+                leftLength += node.entryLength(splitIndex);
+                splitIndex++;
+            }
+            right.keys.addAll(node.keys.subList(splitIndex, node.keys.size()));
+            right.values.addAll(node.values.subList(splitIndex, node.values.size()));
+            node.keys.subList(splitIndex, node.keys.size()).clear();
+            node.values.subList(splitIndex, node.values.size()).clear();
+            separator = right.keys.get(0);
+        } else {
+            int middle = node.keys.size() / 2;
+            separator = node.keys.get(middle);
+            right.keys.addAll(node.keys.subList(middle + 1, node.keys.size()));
+            right.children.addAll(node.children.subList(middle + 1, node.children.size()));
+            node.keys.subList(middle, node.keys.size()).clear();
+            node.children.subList(middle + 1, node.children.size()).clear();
+        }
+
+        int rightPage = pageFile.allocate();
+        node.write(pageFile.write(pageNo));
+        right.write(pageFile.write(rightPage));
+        return new Split(separator, rightPage);
+    }
+
+    private Removal delete(int pageNo, byte[] key) throws IOException {
+        Node node = Node.read(pageFile.read(pageNo));
+        if (node.isLeaf) {
+            int index = node.indexOf(key);
+            if (index < 0) {
+                return Removal.NOT_FOUND;
+            }
+            freeValue(node.values.remove(index));
+            node.keys.remove(index);
+        } else {
+            int childIndex = node.childIndex(key);
+            int childPage = node.children.get(childIndex);
+            Removal removal = delete(childPage, key);
+            if (removal != Removal.EMPTIED) {
+                return removal;
+            }
+            pageFile.free(childPage);
+            node.children.remove(childIndex);
+            if (!node.keys.isEmpty()) {
+                node.keys.remove(Math.max(0, childIndex - 1));
+            }
+        }
+
+        if (node.isLeaf ? node.keys.isEmpty() : node.children.isEmpty()) {
+            return Removal.EMPTIED;
+        }
+        node.write(pageFile.write(pageNo));
+        return Removal.REMOVED;
+    }
+
+    private void freeSubtree(int pageNo) throws IOException {
+        Node node = Node.read(pageFile.read(pageNo));
+        if (node.isLeaf) {
+            for (byte[] cell : node.values) {
+                freeValue(cell);
+            }
+        } else {
+            for (int child : node.children) {
+                freeSubtree(child);
+            }
+        }
+        pageFile.free(pageNo);
+    }
+
+    /**
+     * Returns the cell that stores {@code value} in a leaf, writing the value to overflow pages if it is long.
+     */
+    private byte[] writeValue(byte[] value) throws IOException {
+        if (value.length <= MAX_INLINE_VALUE_LENGTH) {
+            ByteBuffer cell = ByteBuffer.allocate(1 + Short.BYTES + value.length);
+            cell.put(VALUE_INLINE).putShort((short) value.length).put(value);
+            return cell.array();
+        }
+
+        int chunkCount = (value.length + OVERFLOW_CAPACITY - 1) / OVERFLOW_CAPACITY;
+        int nextPage = 0;
+        // Written back to front, so that each page can point at the one after it.
+        for (int chunk = chunkCount - 1; chunk >= 0; chunk--) {
+            int start = chunk * OVERFLOW_CAPACITY;
+            int length = Math.min(OVERFLOW_CAPACITY, value.length - start);
+            int pageNo = pageFile.allocate();
+            ByteBuffer page = ByteBuffer.wrap(pageFile.write(pageNo));
+            page.put(TYPE_OVERFLOW).putInt(nextPage).putShort((short) length).put(value, start, length);
+            nextPage = pageNo;
+        }
+        ByteBuffer cell = ByteBuffer.allocate(1 + Integer.BYTES + Integer.BYTES);
+        cell.put(VALUE_OVERFLOW).putInt(value.length).putInt(nextPage);
+        return cell.array();
+    }
+
+    private byte[] readValue(byte[] cell) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(cell);
+        if (buffer.get() == VALUE_INLINE) {
+            return Arrays.copyOfRange(cell, 1 + Short.BYTES, cell.length);
+        }
+
+        int length = buffer.getInt();
+        ByteArrayOutputStream value = new ByteArrayOutputStream(length);
+        for (int pageNo = buffer.getInt(); pageNo != 0 && value.size() < length; ) {
+            ByteBuffer page = ByteBuffer.wrap(pageFile.read(pageNo));
+            if (page.get() != TYPE_OVERFLOW) {
+                throw new IOException(String.format(MESSAGE_CORRUPTED, "broken overflow chain"));
+            }
+            pageNo = page.getInt();
+            int chunkLength = page.getShort();
+            value.write(page.array(), OVERFLOW_HEADER_LENGTH, chunkLength);
+        }
+        if (value.size() != length) {
+            throw new IOException(String.format(MESSAGE_CORRUPTED, "overflow chain of the wrong length"));
+        }
+        return value.toByteArray();
+    }
+
+    private void freeValue(byte[] cell) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(cell);
+        if (buffer.get() == VALUE_INLINE) {
+            return;
+        }
+        buffer.getInt();
+        for (int pageNo = buffer.getInt(); pageNo != 0; ) {
+            int next = ByteBuffer.wrap(pageFile.read(pageNo)).getInt(1);
+            pageFile.free(pageNo);
+            pageNo = next;
+        }
+    }
+
+    private static boolean startsWith(byte[] key, byte[] prefix) {
+        return key.length >= prefix.length && Arrays.equals(key, 0, prefix.length, prefix, 0, prefix.length);
+    }
+
+    private enum Removal { NOT_FOUND, REMOVED, EMPTIED }
+
+    /**
+     * The separator key and new page that result from splitting a page.
+     */
+    private static class Split {
+        private final byte[] key;
+        private final int pageNo;
+
+        Split(byte[] key, int pageNo) {
+            this.key = key;
+            this.pageNo = pageNo;
+        }
+    }
+
+    /**
+     * A page of the tree, decoded.
+     */
+    private static class Node {
+        private final boolean isLeaf;
+        private final List<byte[]> keys = new ArrayList<>();
+        // Value cells of a leaf.
+        private final List<byte[]> values = new ArrayList<>();
+        // Child page numbers of an internal page, one more than its keys.
+        private final List<Integer> children = new ArrayList<>();
+
+        Node(boolean isLeaf) {
+            this.isLeaf = isLeaf;
+        }
+
+        static Node read(byte[] page) throws IOException {
+            ByteBuffer buffer = ByteBuffer.wrap(page);
+            byte type = buffer.get();
+            if (type != TYPE_LEAF && type != TYPE_INTERNAL) {
+                throw new IOException(String.format(MESSAGE_CORRUPTED, "unexpected page type " + type));
+            }
+            Node node = new Node(type == TYPE_LEAF);
+            int count = buffer.getShort();
+            try {
+                if (!node.isLeaf) {
+                    node.children.add(buffer.getInt());
+                }
+                for (int i = 0; i < count; i++) {
+                    byte[] key = new byte[buffer.getShort()];
+                    buffer.get(key);
+                    node.keys.add(key);
+                    if (node.isLeaf) {
+                        node.values.add(readCell(buffer));
+                    } else {
+                        node.children.add(buffer.getInt());
+                    }
+                }
+            } catch (RuntimeException e) {
+                throw new IOException(String.format(MESSAGE_CORRUPTED, "malformed page"), e);
+            }
+            return node;
+        }
+
+        private static byte[] readCell(ByteBuffer buffer) {
+            int start = buffer.position();
+            int length = buffer.get() == VALUE_INLINE
+                    ? 1 + Short.BYTES + buffer.getShort()
+                    : 1 + Integer.BYTES + Integer.BYTES;
+            buffer.position(start + length);
+            return Arrays.copyOfRange(buffer.array(), start, start + length);
+        }
+
+        void write(byte[] page) {
+            assert length() <= page.length;
+            Arrays.fill(page, (byte) 0);
+            ByteBuffer buffer = ByteBuffer.wrap(page);
+            buffer.put(isLeaf ? TYPE_LEAF : TYPE_INTERNAL).putShort((short) keys.size());
+            if (!isLeaf) {
+                buffer.putInt(children.get(0));
+            }
+            for (int i = 0; i < keys.size(); i++) {
+                buffer.putShort((short) keys.get(i).length).put(keys.get(i));
+                if (isLeaf) {
+                    buffer.put(values.get(i));
+                } else {
+                    buffer.putInt(children.get(i + 1));
+                }
+            }
+        }
+
+        int length() {
+            int length = isLeaf ? LEAF_HEADER_LENGTH : INTERNAL_HEADER_LENGTH;
+            for (int i = 0; i < keys.size(); i++) {
+                length += entryLength(i);
+            }
+            return length;
+        }
+
+        int entryLength(int index) {
+            return Short.BYTES + keys.get(index).length + (isLeaf ? values.get(index).length : Integer.BYTES);
+        }
+
+        /**
+         * Returns the index of {@code key} in a leaf, or {@code -(insertion point) - 1} if it is not there.
+         */
+        int indexOf(byte[] key) {
+            int low = 0;
+            int high = keys.size() - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int comparison = Arrays.compareUnsigned(keys.get(middle), key);
+                if (comparison < 0) {
+                    low = middle + 1;
+                } else if (comparison > 0) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -low - 1;
+        }
+
+        /**
+         * Returns the index of the child of an internal page that holds {@code key}.
+         */
+        int childIndex(byte[] key) {
+            int index = indexOf(key);
+            return index >= 0 ? index + 1 : -index - 1;
+        }
+    }
+}
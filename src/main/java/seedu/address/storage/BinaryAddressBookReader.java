@@ -0,0 +1,363 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.delivery.Archive;
+import seedu.address.model.delivery.Cost;
+import seedu.address.model.delivery.Date;
+import seedu.address.model.delivery.Delivery;
+import seedu.address.model.delivery.DeliveryId;
+import seedu.address.model.delivery.Eta;
+import seedu.address.model.delivery.ItemName;
+import seedu.address.model.delivery.Status;
+import seedu.address.model.delivery.Time;
+import seedu.address.model.delivery.exceptions.DeliveryLoadingException;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.Worker;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads an address book written by {@link BinaryAddressBookWriter} one person at a time.
+ * <p>
+ * The file is read into memory, decompressed if need be, and its checksum verified before any person is converted.
+ * The deliveries of each person are skipped over and converted only when they are first needed, together with those
+ * kept in the {@link ColdStore} of the file. The deliveries assigned to workers are resolved by id against the
+ * persons read.
+ */
+class BinaryAddressBookReader implements AddressBookReader {
+
+    public static final String MESSAGE_NOT_AN_ADDRESS_BOOK = "File is not a binary address book";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary address book version %d";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Binary address book is corrupted: checksum mismatch";
+    public static final String MESSAGE_CORRUPTED = "Binary address book is corrupted: %s";
+    public static final String MESSAGE_DELIVERIES_NOT_LOADED = "Could not load deliveries from %s: %s";
+
+    private static final int CHECKSUM_LENGTH = Integer.BYTES;
+
+    private final Path filePath;
+    private final AssignedDeliveryResolver resolver = new AssignedDeliveryResolver();
+    private long journalSequence = 0;
+    private long coldGeneration = 0;
+
+    public BinaryAddressBookReader(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public List<Person> readPersons() throws IOException, IllegalValueException {
+        // The deferred deliveries are read from this copy, as the file itself is replaced by later saves.
+        byte[] data = CompressedDataFile.readAllBytes(filePath);
+        int magicLength = BinaryAddressBookWriter.MAGIC.length;
+        if (data.length < magicLength + 1 + CHECKSUM_LENGTH
+                || !Arrays.equals(Arrays.copyOf(data, magicLength), BinaryAddressBookWriter.MAGIC)) {
+            throw new IOException(MESSAGE_NOT_AN_ADDRESS_BOOK);
+        }
+        int version = data[magicLength] & 0xFF;
+        if (version != BinaryAddressBookWriter.FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        int bodyLength = data.length - CHECKSUM_LENGTH;
+        CRC32 checksum = new CRC32();
+        checksum.update(data, 0, bodyLength);
+        if (ByteBuffer.wrap(data, bodyLength, CHECKSUM_LENGTH).getInt() != (int) checksum.getValue()) {
+            throw new IOException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+
+        Section body = new Section(data, magicLength + 1, bodyLength - magicLength - 1);
+        journalSequence = body.readVarLong();
+        coldGeneration = body.readVarLong();
+        long personCount = body.readVarLong();
+        List<PendingPerson> pendingPersons = new ArrayList<>();
+        for (long i = 0; i < personCount; i++) {
+            pendingPersons.add(body.readPerson());
+        }
+        if (body.in.available() != 0) {
+            throw new IOException(String.format(MESSAGE_CORRUPTED, "unexpected data after last person"));
+        }
+
+        List<Person> persons = ParallelPersonConverter.convertAll(pendingPersons,
+                pendingPerson -> pendingPerson.toModelType(resolver));
+        resolver.setPersons(persons);
+        return persons;
+    }
+
+    @Override
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+
+    /**
+     * Decodes deliveries encoded by {@link BinaryAddressBookWriter#encodeDeliveries}.
+     *
+     * @param filePath the file that {@code data} was read from.
+     */
+    static List<Delivery> decodeDeliveries(Path filePath, byte[] data) throws IOException {
+        Section section = new BinaryAddressBookReader(filePath).new Section(data, 0, data.length);
+        try {
+            List<Delivery> deliveries = section.readDeliveries();
+            if (section.in.available() != 0) {
+                throw new IOException(String.format(MESSAGE_CORRUPTED, "unexpected data after last delivery"));
+            }
+            return deliveries;
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new IOException(String.format(MESSAGE_CORRUPTED, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Decodes a person encoded by {@link BinaryAddressBookWriter#encodePersonDetails}, whose deliveries are supplied
+     * by {@code deliveries} and whose assigned deliveries are resolved by {@code resolver}.
+     *
+     * @param filePath the file that {@code data} was read from.
+     */
+    static Person decodePersonDetails(Path filePath, byte[] data, Supplier<List<Delivery>> deliveries,
+            AssignedDeliveryResolver resolver) throws IOException, IllegalValueException {
+        Section section = new BinaryAddressBookReader(filePath).new Section(data, 0, data.length);
+        PendingPerson person = section.readPersonDetails();
+        person.deliveries = deliveries;
+        section.readAssignedDeliveryIds(person);
+        if (section.in.available() != 0) {
+            throw new IOException(String.format(MESSAGE_CORRUPTED, "unexpected data after person"));
+        }
+        return person.toModelType(resolver);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * A person that has been read but not yet converted into a {@code Person}.
+     */
+    private static class PendingPerson {
+        private String name;
+        private String phone;
+        private String email;
+        private String role;
+        private String address;
+        private final List<String> tags = new ArrayList<>();
+        private boolean isArchived;
+        private Supplier<List<Delivery>> deliveries;
+        private final List<String> assignedDeliveryIds = new ArrayList<>();
+
+        Person toModelType(AssignedDeliveryResolver resolver) throws IllegalValueException {
+            Person person;
+            try {
+                Set<Tag> modelTags = new HashSet<>();
+                for (String tag : tags) {
+                    modelTags.add(new Tag(tag));
+                }
+                person = new Person(new Name(name), new Phone(phone), new Email(email), new Role(role),
+                        new Address(address), modelTags, new seedu.address.model.person.Archive(isArchived));
+            } catch (IllegalArgumentException e) {
+                // The model constructors reject values that were valid when written only if the file is corrupted.
+                throw new IllegalValueException(e.getMessage(), e);
+            }
+            person.setDeferredDeliveryList(deliveries);
+            List<DeliveryId> modelDeliveryIds = new ArrayList<>();
+            for (String deliveryId : assignedDeliveryIds) {
+                if (!DeliveryId.isValidDeliveryId(deliveryId)) {
+                    throw new IllegalValueException(DeliveryId.MESSAGE_CONSTRAINTS);
+                }
+                modelDeliveryIds.add(new DeliveryId(deliveryId));
+            }
+            Worker worker = new Worker();
+            resolver.defer(worker, modelDeliveryIds, null);
+            person.setWorker(worker);
+            return person;
+        }
+    }
+
+    /**
+     * Decodes the values stored in a range of the bytes of the file.
+     */
+    private class Section {
+        private final byte[] data;
+        private final int end;
+        private final DataInputStream in;
+
+        Section(byte[] data, int offset, int length) {
+            this.data = data;
+            this.end = offset + length;
+            this.in = new DataInputStream(new ByteArrayInputStream(data, offset, length));
+        }
+
+        private int position() throws IOException {
+            return end - in.available();
+        }
+
+        private void skip(long length) throws IOException {
+            if (length > in.available()) {
+                throw new IOException(String.format(MESSAGE_CORRUPTED, "section longer than file"));
+            }
+            in.skipNBytes(length);
+        }
+
+        private PendingPerson readPerson() throws IOException {
+            PendingPerson person = readPersonDetails();
+            person.deliveries = deferDeliveries();
+            long coldOffset = readVarLong();
+            if (coldOffset != 0) {
+                ColdStore.Record cold = ColdStore.forDataFile(filePath).getRecord(coldGeneration, coldOffset);
+                person.deliveries = new ColdStore.TieredDeliveries(person.deliveries, cold);
+            }
+            readAssignedDeliveryIds(person);
+            return person;
+        }
+
+        private PendingPerson readPersonDetails() throws IOException {
+            PendingPerson person = new PendingPerson();
+            person.name = readString();
+            person.phone = readString();
+            person.email = readString();
+            person.role = readIndexed(BinaryAddressBookWriter.ROLES);
+            person.address = readString();
+            long tagCount = readVarLong();
+            for (long i = 0; i < tagCount; i++) {
+                person.tags.add(readString());
+            }
+            person.isArchived = in.readBoolean();
+            return person;
+        }
+
+        private void readAssignedDeliveryIds(PendingPerson person) throws IOException {
+            long assignedCount = readVarLong();
+            for (long i = 0; i < assignedCount; i++) {
+                person.assignedDeliveryIds.add(readDeliveryId());
+            }
+        }
+
+        /**
+         * Skips the deliveries that start at the current position, and returns a loader that converts them when
+         * called.
+         */
+        private Supplier<List<Delivery>> deferDeliveries() throws IOException {
+            long length = readVarLong();
+            int start = position();
+            skip(length);
+            return () -> {
+                try {
+                    return new Section(data, start, (int) length).readDeliveries();
+                } catch (IOException | IllegalArgumentException | DateTimeException e) {
+                    throw new DeliveryLoadingException(String.format(MESSAGE_DELIVERIES_NOT_LOADED, filePath,
+                            e.getMessage()), e);
+                }
+            };
+        }
+
+        private List<Delivery> readDeliveries() throws IOException {
+            long count = readVarLong();
+            List<Delivery> deliveries = new ArrayList<>();
+            for (long i = 0; i < count; i++) {
+                deliveries.add(readDelivery());
+            }
+            return deliveries;
+        }
+
+        private Delivery readDelivery() throws IOException {
+            DeliveryId deliveryId = new DeliveryId(readDeliveryId());
+            long itemCount = readVarLong();
+            Set<ItemName> items = new HashSet<>();
+            for (long i = 0; i < itemCount; i++) {
+                items.add(new ItemName(readString()));
+            }
+            Address address = new Address(readString());
+            Cost cost = new Cost(readCost());
+            Date date = new Date(LocalDate.ofEpochDay(unZigZag(readVarLong())).toString());
+            Time time = new Time(LocalTime.ofNanoOfDay(readVarLong()).toString());
+            Eta eta = new Eta(LocalDate.ofEpochDay(unZigZag(readVarLong())).toString());
+            Status status = new Status(readIndexed(BinaryAddressBookWriter.STATUSES));
+            Set<Tag> tags = readTags();
+            Archive archive = new Archive(Boolean.toString(in.readBoolean()));
+            return new Delivery(deliveryId, items, address, cost, date, time, eta, status, tags, archive);
+        }
+
+        private String readDeliveryId() throws IOException {
+            if (readTag() == BinaryAddressBookWriter.TAG_TEXT) {
+                return readString();
+            }
+            return String.format("%013d-%04d", readVarLong(), readVarLong());
+        }
+
+        private String readCost() throws IOException {
+            if (readTag() == BinaryAddressBookWriter.TAG_TEXT) {
+                return readString();
+            }
+            long cents = readVarLong();
+            return String.format("$%d.%02d", cents / 100, cents % 100);
+        }
+
+        private Set<Tag> readTags() throws IOException {
+            long count = readVarLong();
+            Set<Tag> tags = new HashSet<>();
+            for (long i = 0; i < count; i++) {
+                tags.add(new Tag(readString()));
+            }
+            return tags;
+        }
+
+        private int readTag() throws IOException {
+            int tag = in.readUnsignedByte();
+            if (tag != BinaryAddressBookWriter.TAG_TEXT && tag != BinaryAddressBookWriter.TAG_NUMERIC) {
+                throw new IOException(String.format(MESSAGE_CORRUPTED, "unknown value tag " + tag));
+            }
+            return tag;
+        }
+
+        private String readIndexed(List<String> values) throws IOException {
+            int index = in.readUnsignedByte();
+            if (index >= values.size()) {
+                throw new IOException(String.format(MESSAGE_CORRUPTED, "unknown value index " + index));
+            }
+            return values.get(index);
+        }
+
+        private String readString() throws IOException {
+            long length = readVarLong();
+            // A corrupted length must not make us allocate more than the file could possibly hold.
+            if (length > in.available()) {
+                throw new IOException(String.format(MESSAGE_CORRUPTED, "string longer than section"));
+            }
+            byte[] bytes = new byte[(int) length];
+            in.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                int b = in.readUnsignedByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException(String.format(MESSAGE_CORRUPTED, "malformed number"));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in the compact binary format of {@link BinaryAddressBookWriter}.
+ * <p>
+ * Data files in the json format, including any journal written by {@link JournaledAddressBookStorage}, are still
+ * read, and are converted to the binary format by the next save. Saves always rewrite the whole file, but archived
+ * deliveries are kept in the {@link ColdStore} of the file, where they are appended only once.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private final Path filePath;
+    private final boolean isCompressed;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} that compresses the data file with {@link CompressedDataFile} if
+     * {@code isCompressed} is true. Compressed and uncompressed files are both read either way.
+     */
+    public BinaryAddressBookStorage(Path filePath, boolean isCompressed) {
+        this.filePath = filePath;
+        this.isCompressed = isCompressed;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        // Reads either format, and replays the journal left behind if the file was last saved as json.
+        return new JournaledAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readExternalChange() throws DataLoadingException {
+        // Any journal left behind is merged into the file the other program wrote rather than replayed on top of it.
+        return new JournaledAddressBookStorage(filePath).readExternalChange();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        ColdStore coldStore = ColdStore.forDataFile(filePath);
+        ColdStore.Plan coldPlan = coldStore.prepare(addressBook.getPersonList());
+        BinaryAddressBookWriter.write(addressBook, tempPath, 0, isCompressed, coldPlan);
+        Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        coldStore.commit(coldPlan);
+        // The journal of a json snapshot does not apply on top of a binary one.
+        Files.deleteIfExists(JournaledAddressBookStorage.getJournalFilePath(filePath));
+    }
+}
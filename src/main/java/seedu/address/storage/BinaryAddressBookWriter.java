@@ -0,0 +1,261 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.delivery.Cost;
+import seedu.address.model.delivery.Delivery;
+import seedu.address.model.delivery.DeliveryId;
+import seedu.address.model.delivery.ItemName;
+import seedu.address.model.delivery.exceptions.DeliveryLoadingException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Worker;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes an address book in a compact binary format, one person at a time.
+ * <p>
+ * The file starts with {@link #MAGIC} and {@link #FORMAT_VERSION}, followed by the journal sequence, the generation
+ * of the {@link ColdStore} it refers to, the number of persons and then each person. Integers are written as
+ * variable length quantities, strings as their UTF-8 bytes prefixed by their length, and dates, times, costs and
+ * delivery ids in their numeric form rather than as text.
+ * The deliveries of each person are prefixed by their length in bytes so that a reader can skip over them and load
+ * them later, and followed by the offset of the cold store record that holds the rest of them, if any. The deliveries
+ * assigned to a worker are written as their ids only.
+ * The file ends with a CRC-32 of everything before it, so that a torn or corrupted file is rejected when read.
+ */
+class BinaryAddressBookWriter {
+
+    static final byte[] MAGIC = {'L', 'G', 'L', 'B'};
+    static final int FORMAT_VERSION = 4;
+
+    static final List<String> ROLES = List.of("client", "employee");
+    static final List<String> STATUSES = List.of("not delivered", "delivering", "delivered");
+
+    /** Marks a value stored as text because it has no exact numeric form. */
+    static final int TAG_TEXT = 0;
+    /** Marks a value stored in its numeric form. */
+    static final int TAG_NUMERIC = 1;
+
+    private final ByteArrayOutputStream sectionBytes = new ByteArrayOutputStream();
+    private final DataOutputStream sectionOut = new DataOutputStream(sectionBytes);
+    private DataOutputStream out;
+
+    private BinaryAddressBookWriter(DataOutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, overwriting the file if it exists.
+     *
+     * @param journalSequence sequence number of the last journal entry contained in {@code addressBook}.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, Path filePath, long journalSequence) throws IOException {
+        write(addressBook, filePath, journalSequence, false);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, overwriting the file if it exists, and compressing it with
+     * {@link CompressedDataFile} if {@code isCompressed} is true.
+     *
+     * @param journalSequence sequence number of the last journal entry contained in {@code addressBook}.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, Path filePath, long journalSequence,
+            boolean isCompressed) throws IOException {
+        write(addressBook, filePath, journalSequence, isCompressed, null);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath} like {@link #write(ReadOnlyAddressBook, Path, long, boolean)},
+     * leaving the deliveries that {@code coldPlan} puts in a cold store out of the file, unless it is null.
+     *
+     * @param journalSequence sequence number of the last journal entry contained in {@code addressBook}.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, Path filePath, long journalSequence,
+            boolean isCompressed, ColdStore.Plan coldPlan) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        CheckedOutputStream checked = new CheckedOutputStream(
+                CompressedDataFile.newOutputStream(filePath, isCompressed), new CRC32());
+        try (DataOutputStream out = new DataOutputStream(checked)) {
+            BinaryAddressBookWriter writer = new BinaryAddressBookWriter(out);
+            out.write(MAGIC);
+            out.writeByte(FORMAT_VERSION);
+            writer.writeVarLong(journalSequence);
+            writer.writeVarLong(coldPlan == null ? 0 : coldPlan.getGeneration());
+
+            List<Person> persons = addressBook.getPersonList();
+            writer.writeVarLong(persons.size());
+            for (Person person : persons) {
+                writer.writePerson(person, coldPlan);
+            }
+            out.writeInt((int) checked.getChecksum().getValue());
+        } catch (DeliveryLoadingException e) {
+            // Deliveries that could not be loaded cannot be saved either.
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns {@code deliveries} encoded as they are in the file, without the length prefix.
+     */
+    static byte[] encodeDeliveries(Collection<Delivery> deliveries) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryAddressBookWriter writer = new BinaryAddressBookWriter(new DataOutputStream(bytes));
+        writer.writeVarLong(deliveries.size());
+        for (Delivery delivery : deliveries) {
+            writer.writeDelivery(delivery);
+        }
+        writer.out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Returns the details of {@code person} encoded as they are in the file, followed by the ids of the deliveries
+     * assigned to it, leaving out its own deliveries.
+     */
+    static byte[] encodePersonDetails(Person person) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryAddressBookWriter writer = new BinaryAddressBookWriter(new DataOutputStream(bytes));
+        writer.writePersonDetails(person);
+        writer.writeAssignedDeliveryIds(person.getWorker());
+        writer.out.flush();
+        return bytes.toByteArray();
+    }
+
+    private void writePerson(Person person, ColdStore.Plan coldPlan) throws IOException {
+        writePersonDetails(person);
+        if (coldPlan == null) {
+            writeDeliveries(person.getUnmodifiableDeliveryList());
+            writeVarLong(0);
+        } else {
+            writeDeliveries(coldPlan.getHotDeliveries(person));
+            writeVarLong(coldPlan.getColdOffset(person));
+        }
+        writeAssignedDeliveryIds(person.getWorker());
+    }
+
+    private void writePersonDetails(Person person) throws IOException {
+        writeString(person.getName().fullName);
+        writeString(person.getPhone().value);
+        writeString(person.getEmail().value);
+        out.writeByte(ROLES.indexOf(person.getRole().getValue()));
+        writeString(person.getAddress().value);
+        writeTags(person.getTags());
+        out.writeBoolean(person.isArchived());
+    }
+
+    private void writeAssignedDeliveryIds(Worker worker) throws IOException {
+        List<Delivery> deliveries = worker.getUnmodifiableAssignedDeliveryList();
+        List<DeliveryId> unresolvedIds = worker.getUnresolvedDeliveryIds();
+        writeVarLong(deliveries.size() + unresolvedIds.size());
+        for (Delivery delivery : deliveries) {
+            writeDeliveryId(delivery.getDeliveryId().value);
+        }
+        for (DeliveryId id : unresolvedIds) {
+            writeDeliveryId(id.value);
+        }
+    }
+
+    /**
+     * Writes {@code deliveries} prefixed by their length in bytes, so that they can be skipped when read.
+     */
+    private void writeDeliveries(Collection<Delivery> deliveries) throws IOException {
+        DataOutputStream fileOut = out;
+        sectionBytes.reset();
+        out = sectionOut;
+        try {
+            writeVarLong(deliveries.size());
+            for (Delivery delivery : deliveries) {
+                writeDelivery(delivery);
+            }
+        } finally {
+            out = fileOut;
+        }
+        writeVarLong(sectionBytes.size());
+        sectionBytes.writeTo(out);
+    }
+
+    private void writeDelivery(Delivery delivery) throws IOException {
+        writeDeliveryId(delivery.getDeliveryId().value);
+        writeVarLong(delivery.getItems().size());
+        for (ItemName item : delivery.getItems()) {
+            writeString(item.value);
+        }
+        writeString(delivery.getAddress().value);
+        writeCost(delivery.getCost());
+        writeVarLong(zigZag(delivery.getDate().getEpochDay()));
+        writeVarLong(delivery.getTime().getNanoOfDay());
+        writeVarLong(zigZag(delivery.getEta().getEpochDay()));
+        out.writeByte(STATUSES.indexOf(delivery.getStatus().getValue()));
+        writeTags(delivery.getTags());
+        out.writeBoolean(delivery.isArchived());
+    }
+
+    /**
+     * Writes a delivery id of the form {@code <13 digit millis>-<4 digit suffix>} as two numbers,
+     * and any other id as text.
+     */
+    private void writeDeliveryId(String deliveryId) throws IOException {
+        if (!DeliveryId.isValidDeliveryId(deliveryId)) {
+            out.writeByte(TAG_TEXT);
+            writeString(deliveryId);
+            return;
+        }
+        out.writeByte(TAG_NUMERIC);
+        writeVarLong(Long.parseLong(deliveryId.substring(0, 13)));
+        writeVarLong(Long.parseLong(deliveryId.substring(14)));
+    }
+
+    /**
+     * Writes a cost as its number of cents. Costs too large for a {@code double} used to be written as text, which is
+     * still read back.
+     */
+    private void writeCost(Cost cost) throws IOException {
+        out.writeByte(TAG_NUMERIC);
+        writeVarLong(cost.getCents());
+    }
+
+    private void writeTags(Set<Tag> tags) throws IOException {
+        writeVarLong(tags.size());
+        for (Tag tag : tags) {
+            writeString(tag.tagName);
+        }
+    }
+
+    private void writeString(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Writes a non-negative {@code value} seven bits at a time, least significant group first.
+     */
+    private void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Maps a signed value onto a non-negative one so that values close to zero stay short.
+     */
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+}
@@ -0,0 +1,631 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.delivery.Delivery;
+import seedu.address.model.delivery.exceptions.DeliveryLoadingException;
+import seedu.address.model.person.Person;
+
+/**
+ * Keeps the archived deliveries of an address book out of its data file, in a cold store file next to it.
+ * <p>
+ * Archived deliveries are rarely looked at again, yet they make up most of an address book that has been in use
+ * for a while. The data file therefore holds only the hot deliveries of each person, and refers to a record in the
+ * cold store for the rest: all the deliveries of an archived person, and the archived deliveries at the end of the
+ * list of any other person. Records are only ever appended, so a record stays valid however many times the data
+ * file is rewritten, and records with the same contents are stored once. Once most of the file is taken up by
+ * records that are no longer referred to, the live records are copied into the file of a new generation.
+ * <p>
+ * Records are read only when the deliveries of their person are first needed, and the most recently read records
+ * are kept in a small LRU cache. There is one {@code ColdStore} per data file, obtained by {@link #forDataFile}.
+ */
+class ColdStore {
+
+    static final byte[] MAGIC = {'L', 'G', 'L', 'C'};
+    static final int FORMAT_VERSION = 1;
+    static final String FILE_INFIX = ".cold-";
+    static final int CACHE_CAPACITY = 32;
+    static final long DEFAULT_MIN_COMPACTION_BYTES = 1 << 20;
+
+    public static final String MESSAGE_NOT_A_COLD_STORE = "File is not a cold store";
+    public static final String MESSAGE_CORRUPTED = "Cold store is corrupted: %s";
+    public static final String MESSAGE_RECORD_REMOVED = "Record has been removed from the cold store";
+    public static final String MESSAGE_DELIVERIES_NOT_LOADED = "Could not load archived deliveries from %s: %s";
+
+    private static final int HEADER_LENGTH = MAGIC.length + 1;
+    private static final int DIGEST_LENGTH = 32;
+    private static final int RECORD_HEADER_LENGTH = Integer.BYTES + DIGEST_LENGTH;
+    /** Largest record accepted when reading, so that a corrupted length cannot exhaust memory. */
+    private static final int MAX_RECORD_LENGTH = 1 << 26;
+
+    private static final Logger logger = LogsCenter.getLogger(ColdStore.class);
+    private static final Map<Path, ColdStore> stores = new HashMap<>();
+
+    private Path dataFilePath;
+    private long minCompactionBytes = DEFAULT_MIN_COMPACTION_BYTES;
+
+    // The generation whose file is in use, or 0 if there is no file yet.
+    private long generation = 0;
+    private long fileLength = HEADER_LENGTH;
+    // Records of the current generation handed out so far, by offset.
+    private final Map<Long, Record> records = new HashMap<>();
+    // Offset and length of every record in the current file, built when first needed.
+    private Map<ByteBuffer, Long> offsetsByDigest;
+    private Map<Long, Integer> lengthsByOffset;
+
+    private final Map<Record, List<Delivery>> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Record, List<Delivery>> eldest) {
+            return size() > CACHE_CAPACITY;
+        }
+    };
+
+    private ColdStore(Path dataFilePath) {
+        this.dataFilePath = dataFilePath;
+    }
+
+    /**
+     * Returns the cold store of the data file at {@code dataFilePath}.
+     */
+    static synchronized ColdStore forDataFile(Path dataFilePath) {
+        return stores.computeIfAbsent(dataFilePath.toAbsolutePath().normalize(), ColdStore::new);
+    }
+
+    /**
+     * Returns the path of the file that holds generation {@code generation} of the cold store of the data file at
+     * {@code dataFilePath}.
+     */
+    static Path getFilePath(Path dataFilePath, long generation) {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + FILE_INFIX + generation);
+    }
+
+    synchronized Path getFilePath() {
+        return getFilePath(dataFilePath, generation);
+    }
+
+    synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Sets the number of bytes of records that are no longer referred to above which the store may be compacted.
+     */
+    synchronized void setMinCompactionBytes(long minCompactionBytes) {
+        this.minCompactionBytes = minCompactionBytes;
+    }
+
+    /**
+     * Moves the files of this store next to the data file at {@code targetDataFilePath}, so that they stay with the
+     * data file when it is moved there. Records already handed out keep reading from the moved files.
+     */
+    synchronized void moveTo(Path targetDataFilePath) throws IOException {
+        for (Map.Entry<Long, Path> file : listFiles(dataFilePath).entrySet()) {
+            Files.move(file.getValue(), getFilePath(targetDataFilePath, file.getKey()),
+                    StandardCopyOption.REPLACE_EXISTING);
+        }
+        synchronized (ColdStore.class) {
+            stores.remove(dataFilePath.toAbsolutePath().normalize());
+            stores.put(targetDataFilePath.toAbsolutePath().normalize(), this);
+        }
+        dataFilePath = targetDataFilePath;
+    }
+
+    /**
+     * Returns the record stored at {@code offset} in generation {@code generation}, as referred to by the data file.
+     * The record itself is not read until its deliveries are needed.
+     */
+    synchronized Record getRecord(long generation, long offset) throws IOException {
+        if (generation <= 0 || offset < HEADER_LENGTH) {
+            throw new IOException(String.format(MESSAGE_CORRUPTED, "invalid record reference"));
+        }
+        if (generation != this.generation) {
+            // The data file was written by another run of the application; start over from its generation.
+            reset(generation);
+        }
+        return records.computeIfAbsent(offset, unused -> new Record(this, generation, offset));
+    }
+
+    private void reset(long generation) {
+        for (Record record : records.values()) {
+            record.generation = 0;
+        }
+        records.clear();
+        cache.clear();
+        offsetsByDigest = null;
+        lengthsByOffset = null;
+        this.generation = generation;
+    }
+
+    private synchronized List<Delivery> read(Record record) throws IOException {
+        List<Delivery> deliveries = cache.get(record);
+        if (deliveries == null) {
+            if (record.generation != generation) {
+                throw new IOException(MESSAGE_RECORD_REMOVED);
+            }
+            try (FileChannel channel = openFile()) {
+                deliveries = BinaryAddressBookReader.decodeDeliveries(getFilePath(),
+                        readPayload(channel, record.offset));
+            }
+            cache.put(record, deliveries);
+        }
+        return new ArrayList<>(deliveries);
+    }
+
+    /**
+     * Works out which deliveries of {@code persons} go into the data file and which into this store, appending the
+     * records that are not stored yet. If most of the store is no longer referred to, the records that are still
+     * referred to are copied into the file of a new generation.
+     * The returned plan must be passed to {@link #commit} once the data file written from it is in place.
+     */
+    synchronized Plan prepare(List<Person> persons) throws IOException {
+        Plan plan = new Plan(generation);
+        boolean isAppended;
+        try {
+            isAppended = split(persons, plan);
+        } catch (DeliveryLoadingException e) {
+            // Deliveries that could not be loaded cannot be saved either.
+            throw new IOException(e.getMessage(), e);
+        }
+        if (isAppended) {
+            try (FileChannel channel = FileChannel.open(getFilePath(), StandardOpenOption.WRITE)) {
+                channel.force(false);
+            }
+        }
+        plan.generation = generation;
+        if (generation == 0) {
+            return plan;
+        }
+
+        Map<Long, Integer> lengths = getLengthsByOffset();
+        long liveBytes = 0;
+        for (Record record : plan.getRecords()) {
+            Integer length = lengths.get(record.offset);
+            if (length == null) {
+                throw new IOException(String.format(MESSAGE_CORRUPTED, "no record at offset " + record.offset));
+            }
+            liveBytes += RECORD_HEADER_LENGTH + length;
+        }
+        long deadBytes = fileLength - HEADER_LENGTH - liveBytes;
+        if (deadBytes > liveBytes && deadBytes >= minCompactionBytes) {
+            compact(plan);
+        }
+        return plan;
+    }
+
+    /**
+     * Adds the cold record of every person of {@code persons} that has one to {@code plan}, and returns true if any
+     * record had to be appended.
+     */
+    private boolean split(List<Person> persons, Plan plan) throws IOException {
+        boolean isAppended = false;
+        for (Person person : persons) {
+            Supplier<List<Delivery>> loader = person.getDeliveryList().getLoader();
+            if (loader instanceof TieredDeliveries && ((TieredDeliveries) loader).isStoredIn(this)) {
+                // Deliveries that were never loaded cannot have changed, so their record can be kept as it is.
+                TieredDeliveries tiered = (TieredDeliveries) loader;
+                plan.add(person, tiered.hot, tiered.cold);
+                continue;
+            }
+            List<Delivery> deliveries = person.getUnmodifiableDeliveryList();
+            int coldStart = person.isArchived() ? 0 : getArchivedTailStart(deliveries);
+            if (coldStart == deliveries.size()) {
+                continue;
+            }
+            byte[] payload = BinaryAddressBookWriter.encodeDeliveries(deliveries.subList(coldStart,
+                    deliveries.size()));
+            Long offset = getOffsetsByDigest().get(ByteBuffer.wrap(digest(payload)));
+            if (offset == null) {
+                offset = append(payload);
+                isAppended = true;
+            }
+            List<Delivery> hot = List.copyOf(deliveries.subList(0, coldStart));
+            plan.add(person, hot.isEmpty() ? null : () -> hot, getRecord(generation, offset));
+        }
+        return isAppended;
+    }
+
+    /**
+     * Returns the index of the first of the archived deliveries at the end of {@code deliveries}.
+     */
+    private static int getArchivedTailStart(List<Delivery> deliveries) {
+        int start = deliveries.size();
+        while (start > 0 && deliveries.get(start - 1).isArchived()) {
+            start--;
+        }
+        return start;
+    }
+
+    /**
+     * Copies the records of {@code plan} into the file of a new generation, or drops the file altogether if there
+     * are none, and points {@code plan} at their new offsets.
+     */
+    private void compact(Plan plan) throws IOException {
+        // Copied in file order, so that the old file is read sequentially.
+        TreeMap<Long, Record> liveRecords = new TreeMap<>();
+        for (Record record : plan.getRecords()) {
+            liveRecords.put(record.offset, record);
+        }
+        if (liveRecords.isEmpty()) {
+            plan.generation = 0;
+            return;
+        }
+
+        long newGeneration = nextGeneration();
+        Path newFilePath = getFilePath(dataFilePath, newGeneration);
+        try (FileChannel source = openFile();
+                FileChannel target = FileChannel.open(newFilePath, StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(target, ByteBuffer.wrap(header()), 0);
+            long position = HEADER_LENGTH;
+            for (Record record : liveRecords.values()) {
+                long length = RECORD_HEADER_LENGTH + getLengthsByOffset().get(record.offset);
+                ByteBuffer bytes = ByteBuffer.allocate((int) length);
+                readFully(source, bytes, record.offset);
+                bytes.flip();
+                writeFully(target, bytes, position);
+                plan.relocations.put(record, position);
+                position += length;
+            }
+            target.force(false);
+        }
+        plan.generation = newGeneration;
+        logger.fine("Compacted " + liveRecords.size() + " cold records into " + newFilePath);
+    }
+
+    /**
+     * Switches this store over to the generation of {@code plan}, now that the data file that refers to it is in
+     * place, and deletes the files of the other generations.
+     */
+    synchronized void commit(Plan plan) throws IOException {
+        if (plan.generation == generation) {
+            return;
+        }
+
+        long oldGeneration = generation;
+        List<Record> oldRecords = new ArrayList<>(records.values());
+        Map<Record, List<Delivery>> cached = new HashMap<>(cache);
+        reset(plan.generation);
+        for (Record record : oldRecords) {
+            Long offset = plan.relocations.get(record);
+            if (offset != null) {
+                record.generation = plan.generation;
+                record.offset = offset;
+                records.put(offset, record);
+                if (cached.containsKey(record)) {
+                    cache.put(record, cached.get(record));
+                }
+            }
+        }
+        fileLength = plan.generation == 0 ? HEADER_LENGTH : Files.size(getFilePath());
+
+        for (Map.Entry<Long, Path> file : listFiles(dataFilePath).entrySet()) {
+            if (file.getKey() != generation) {
+                Files.deleteIfExists(file.getValue());
+            }
+        }
+        logger.fine("Switched cold store of " + dataFilePath + " from generation " + oldGeneration + " to "
+                + generation);
+    }
+
+    /**
+     * Appends a record holding {@code payload}, creating the file of a new generation if there is none yet, and
+     * returns its offset.
+     */
+    private long append(byte[] payload) throws IOException {
+        if (generation == 0) {
+            reset(nextGeneration());
+            Files.write(getFilePath(), header());
+            fileLength = HEADER_LENGTH;
+            offsetsByDigest = new HashMap<>();
+            lengthsByOffset = new HashMap<>();
+        }
+        byte[] digest = digest(payload);
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_LENGTH + payload.length);
+        record.putInt(payload.length).put(digest).put(payload).flip();
+
+        long offset = fileLength;
+        try (FileChannel channel = FileChannel.open(getFilePath(), StandardOpenOption.WRITE)) {
+            writeFully(channel, record, offset);
+        }
+        fileLength += record.capacity();
+        getOffsetsByDigest().put(ByteBuffer.wrap(digest), offset);
+        getLengthsByOffset().put(offset, payload.length);
+        return offset;
+    }
+
+    private Map<ByteBuffer, Long> getOffsetsByDigest() throws IOException {
+        if (offsetsByDigest == null) {
+            scan();
+        }
+        return offsetsByDigest;
+    }
+
+    private Map<Long, Integer> getLengthsByOffset() throws IOException {
+        if (lengthsByOffset == null) {
+            scan();
+        }
+        return lengthsByOffset;
+    }
+
+    /**
+     * Reads the header of every record in the current file. A record cut short by a crash in the middle of an
+     * append is cut off the end of the file.
+     */
+    private void scan() throws IOException {
+        offsetsByDigest = new HashMap<>();
+        lengthsByOffset = new HashMap<>();
+        fileLength = HEADER_LENGTH;
+        if (generation == 0) {
+            return;
+        }
+
+        try (FileChannel channel = openFile()) {
+            long size = channel.size();
+            ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_LENGTH);
+            while (fileLength + RECORD_HEADER_LENGTH <= size) {
+                header.clear();
+                readFully(channel, header, fileLength);
+                header.flip();
+                int length = header.getInt();
+                if (length < 0 || length > MAX_RECORD_LENGTH || fileLength + RECORD_HEADER_LENGTH + length > size) {
+                    break;
+                }
+                byte[] digest = new byte[DIGEST_LENGTH];
+                header.get(digest);
+                offsetsByDigest.put(ByteBuffer.wrap(digest), fileLength);
+                lengthsByOffset.put(fileLength, length);
+                fileLength += RECORD_HEADER_LENGTH + length;
+            }
+            if (fileLength < size) {
+                logger.warning("Ignoring incomplete last record in cold store " + getFilePath());
+            }
+        }
+        if (fileLength < Files.size(getFilePath())) {
+            try (FileChannel channel = FileChannel.open(getFilePath(), StandardOpenOption.WRITE)) {
+                channel.truncate(fileLength);
+            }
+        }
+    }
+
+    /**
+     * Opens the file of the current generation for reading, checking its header.
+     */
+    private FileChannel openFile() throws IOException {
+        FileChannel channel = FileChannel.open(getFilePath(), StandardOpenOption.READ);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+            if (channel.read(header, 0) != HEADER_LENGTH
+                    || !Arrays.equals(Arrays.copyOf(header.array(), MAGIC.length), MAGIC)) {
+                throw new IOException(MESSAGE_NOT_A_COLD_STORE);
+            }
+            if (header.get(MAGIC.length) != FORMAT_VERSION) {
+                throw new IOException(String.format(MESSAGE_CORRUPTED, "unsupported version "
+                        + header.get(MAGIC.length)));
+            }
+            return channel;
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static byte[] readPayload(FileChannel channel, long offset) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_LENGTH);
+        readFully(channel, header, offset);
+        header.flip();
+        int length = header.getInt();
+        if (length < 0 || length > MAX_RECORD_LENGTH) {
+            throw new IOException(String.format(MESSAGE_CORRUPTED, "invalid record length"));
+        }
+        byte[] digest = new byte[DIGEST_LENGTH];
+        header.get(digest);
+        ByteBuffer payload = ByteBuffer.allocate(length);
+        readFully(channel, payload, offset + RECORD_HEADER_LENGTH);
+        if (!Arrays.equals(digest, digest(payload.array()))) {
+            throw new IOException(String.format(MESSAGE_CORRUPTED, "digest mismatch"));
+        }
+        return payload.array();
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException(String.format(MESSAGE_CORRUPTED, "record cut short"));
+            }
+            position += read;
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static byte[] header() {
+        byte[] header = Arrays.copyOf(MAGIC, HEADER_LENGTH);
+        header[MAGIC.length] = FORMAT_VERSION;
+        return header;
+    }
+
+    private static byte[] digest(byte[] payload) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(payload);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns a generation newer than that of any file of this store on disk, so that no file is ever overwritten.
+     */
+    private long nextGeneration() throws IOException {
+        long next = generation + 1;
+        for (long existing : listFiles(dataFilePath).keySet()) {
+            next = Math.max(next, existing + 1);
+        }
+        return next;
+    }
+
+    /**
+     * Returns the files of every generation of the cold store of the data file at {@code dataFilePath}.
+     */
+    private static Map<Long, Path> listFiles(Path dataFilePath) throws IOException {
+        Map<Long, Path> files = new TreeMap<>();
+        Path directory = dataFilePath.toAbsolutePath().getParent();
+        if (!Files.isDirectory(directory)) {
+            return files;
+        }
+        String prefix = dataFilePath.getFileName() + FILE_INFIX;
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory, prefix + "*")) {
+            for (Path path : paths) {
+                String suffix = path.getFileName().toString().substring(prefix.length());
+                if (suffix.matches("\\d{1,18}")) {
+                    files.put(Long.parseLong(suffix), path);
+                }
+            }
+        }
+        return files;
+    }
+
+    /**
+     * A record of a cold store, which reads its deliveries from the store when called.
+     */
+    static class Record implements Supplier<List<Delivery>> {
+        private final ColdStore store;
+        // Guarded by the store, as they change when the store is compacted.
+        private long generation;
+        private long offset;
+
+        private Record(ColdStore store, long generation, long offset) {
+            this.store = store;
+            this.generation = generation;
+            this.offset = offset;
+        }
+
+        @Override
+        public List<Delivery> get() {
+            try {
+                return store.read(this);
+            } catch (IOException e) {
+                throw new DeliveryLoadingException(String.format(MESSAGE_DELIVERIES_NOT_LOADED, store.getFilePath(),
+                        e.getMessage()), e);
+            }
+        }
+    }
+
+    /**
+     * Supplies the deliveries of a person whose deliveries are split between the data file and a cold store, in
+     * their original order.
+     */
+    static class TieredDeliveries implements Supplier<List<Delivery>> {
+        private final Supplier<List<Delivery>> hot;
+        private final Record cold;
+
+        /**
+         * Creates a loader of the deliveries supplied by {@code hot}, if it is not null, followed by those of
+         * {@code cold}.
+         */
+        TieredDeliveries(Supplier<List<Delivery>> hot, Record cold) {
+            this.hot = hot;
+            this.cold = cold;
+        }
+
+        private boolean isStoredIn(ColdStore store) {
+            if (cold.store != store) {
+                return false;
+            }
+            synchronized (store) {
+                return cold.generation == store.generation;
+            }
+        }
+
+        @Override
+        public List<Delivery> get() {
+            List<Delivery> deliveries = hot == null ? new ArrayList<>() : new ArrayList<>(hot.get());
+            deliveries.addAll(cold.get());
+            return deliveries;
+        }
+    }
+
+    /**
+     * How the deliveries of the persons of an address book are split between its data file and a cold store.
+     */
+    static class Plan {
+        private long generation;
+        private final Map<Person, Supplier<List<Delivery>>> hotDeliveries = new IdentityHashMap<>();
+        private final Map<Person, Record> coldRecords = new IdentityHashMap<>();
+        private final Map<Record, Long> relocations = new IdentityHashMap<>();
+
+        private Plan(long generation) {
+            this.generation = generation;
+        }
+
+        private void add(Person person, Supplier<List<Delivery>> hot, Record cold) {
+            hotDeliveries.put(person, hot);
+            coldRecords.put(person, cold);
+        }
+
+        private List<Record> getRecords() {
+            Map<Record, Boolean> distinct = new IdentityHashMap<>();
+            for (Record record : coldRecords.values()) {
+                distinct.put(record, true);
+            }
+            return new ArrayList<>(distinct.keySet());
+        }
+
+        /**
+         * Returns the generation of the cold store that the data file refers to, or 0 if it refers to none.
+         */
+        long getGeneration() {
+            return generation;
+        }
+
+        /**
+         * Returns the deliveries of {@code person} that are kept in the data file.
+         */
+        List<Delivery> getHotDeliveries(Person person) {
+            if (!coldRecords.containsKey(person)) {
+                return person.getUnmodifiableDeliveryList();
+            }
+            Supplier<List<Delivery>> hot = hotDeliveries.get(person);
+            return hot == null ? List.of() : hot.get();
+        }
+
+        /**
+         * Returns the offset of the record that holds the rest of the deliveries of {@code person}, or 0 if they are
+         * all kept in the data file.
+         */
+        long getColdOffset(Person person) {
+            Record record = coldRecords.get(person);
+            if (record == null) {
+                return 0;
+            }
+            synchronized (record.store) {
+                return relocations.getOrDefault(record, record.offset);
+            }
+        }
+    }
+}
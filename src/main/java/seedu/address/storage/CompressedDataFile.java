@@ -0,0 +1,267 @@
+package seedu.address.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Reads and writes data files that are optionally compressed, in independently deflated blocks.
+ * <p>
+ * A compressed file starts with {@link #MAGIC} and {@link #FORMAT_VERSION}. Each block that follows holds the
+ * length of its uncompressed data, the length of its compressed data and the compressed data itself, and a block
+ * with an uncompressed length of zero ends the file. As every block can be inflated on its own, a file is
+ * decompressed incrementally while it is read, and only one block of it is held in memory at a time.
+ * Files without the magic bytes are read as they are, so compressed and uncompressed files can be read alike.
+ */
+class CompressedDataFile {
+
+    static final byte[] MAGIC = {'L', 'G', 'L', 'Z'};
+    static final int FORMAT_VERSION = 1;
+    static final int BLOCK_SIZE = 1 << 16;
+
+    public static final String MESSAGE_NOT_COMPRESSED = "File is not a compressed data file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported compressed data file version %d";
+    public static final String MESSAGE_CORRUPTED = "Compressed data file is corrupted: %s";
+
+    /** Largest block accepted when reading, so that a corrupted length cannot exhaust memory. */
+    private static final int MAX_BLOCK_SIZE = 1 << 24;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private CompressedDataFile() {} // prevents instantiation
+
+    /**
+     * Returns true if the file at {@code filePath} is compressed.
+     */
+    static boolean isCompressed(Path filePath) throws IOException {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return Arrays.equals(in.readNBytes(MAGIC.length), MAGIC);
+        }
+    }
+
+    /**
+     * Opens the file at {@code filePath} for reading, decompressing it while it is read if it is compressed.
+     */
+    static InputStream newInputStream(Path filePath) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE);
+        try {
+            in.mark(MAGIC.length);
+            boolean isCompressed = Arrays.equals(in.readNBytes(MAGIC.length), MAGIC);
+            in.reset();
+            return isCompressed ? new BlockInputStream(in) : in;
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the contents of the file at {@code filePath}, decompressed if it is compressed.
+     */
+    static byte[] readAllBytes(Path filePath) throws IOException {
+        if (!isCompressed(filePath)) {
+            return Files.readAllBytes(filePath);
+        }
+        try (InputStream in = newInputStream(filePath)) {
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * Opens the file at {@code filePath} for writing, overwriting it if it exists, and compressing what is written
+     * if {@code isCompressed} is true.
+     */
+    static OutputStream newOutputStream(Path filePath, boolean isCompressed) throws IOException {
+        OutputStream out = new BufferedOutputStream(Files.newOutputStream(filePath), BUFFER_SIZE);
+        return isCompressed ? new BlockOutputStream(out) : out;
+    }
+
+    /**
+     * Compresses the data written to it into blocks of at most {@link #BLOCK_SIZE} bytes.
+     */
+    static class BlockOutputStream extends OutputStream {
+        private final DataOutputStream out;
+        private final Deflater deflater = new Deflater();
+        private final byte[] block = new byte[BLOCK_SIZE];
+        private byte[] compressed = new byte[BLOCK_SIZE];
+        private int blockLength = 0;
+        private boolean isClosed = false;
+
+        BlockOutputStream(OutputStream out) throws IOException {
+            this.out = new DataOutputStream(out);
+            this.out.write(MAGIC);
+            this.out.writeByte(FORMAT_VERSION);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            block[blockLength++] = (byte) b;
+            if (blockLength == block.length) {
+                writeBlock();
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                int copied = Math.min(len, block.length - blockLength);
+                System.arraycopy(b, off, block, blockLength, copied);
+                blockLength += copied;
+                off += copied;
+                len -= copied;
+                if (blockLength == block.length) {
+                    writeBlock();
+                }
+            }
+        }
+
+        private void writeBlock() throws IOException {
+            if (blockLength == 0) {
+                return;
+            }
+            deflater.reset();
+            deflater.setInput(block, 0, blockLength);
+            deflater.finish();
+            int compressedLength = 0;
+            while (!deflater.finished()) {
+                if (compressedLength == compressed.length) {
+                    compressed = Arrays.copyOf(compressed, compressed.length * 2);
+                }
+                compressedLength += deflater.deflate(compressed, compressedLength,
+                        compressed.length - compressedLength);
+            }
+            out.writeInt(blockLength);
+            out.writeInt(compressedLength);
+            out.write(compressed, 0, compressedLength);
+            blockLength = 0;
+        }
+
+        /**
+         * Compresses the data written so far into a block of its own, and flushes it to the underlying stream.
+         */
+        @Override
+        public void flush() throws IOException {
+            writeBlock();
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            try {
+                writeBlock();
+                out.writeInt(0);
+            } finally {
+                deflater.end();
+                out.close();
+            }
+        }
+    }
+
+    /**
+     * Decompresses the blocks written by a {@link BlockOutputStream} one block at a time.
+     */
+    static class BlockInputStream extends InputStream {
+        private final DataInputStream in;
+        private final Inflater inflater = new Inflater();
+        private byte[] block = new byte[BLOCK_SIZE];
+        private int position = 0;
+        private int length = 0;
+        private boolean isEnded = false;
+
+        BlockInputStream(InputStream in) throws IOException {
+            this.in = new DataInputStream(in);
+            if (!Arrays.equals(this.in.readNBytes(MAGIC.length), MAGIC)) {
+                throw new IOException(MESSAGE_NOT_COMPRESSED);
+            }
+            int version = this.in.read();
+            if (version != FORMAT_VERSION) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+        }
+
+        /**
+         * Inflates the next block, returning false if there are no more blocks.
+         */
+        private boolean readBlock() throws IOException {
+            if (isEnded) {
+                return false;
+            }
+            int blockLength = in.readInt();
+            if (blockLength == 0) {
+                isEnded = true;
+                return false;
+            }
+            int compressedLength = in.readInt();
+            if (blockLength < 0 || blockLength > MAX_BLOCK_SIZE
+                    || compressedLength < 0 || compressedLength > 2 * MAX_BLOCK_SIZE) {
+                throw new IOException(String.format(MESSAGE_CORRUPTED, "invalid block length"));
+            }
+            byte[] compressed = in.readNBytes(compressedLength);
+            if (compressed.length != compressedLength) {
+                throw new IOException(String.format(MESSAGE_CORRUPTED, "block cut short"));
+            }
+
+            if (block.length < blockLength) {
+                block = new byte[blockLength];
+            }
+            inflater.reset();
+            inflater.setInput(compressed);
+            try {
+                length = inflater.inflate(block, 0, blockLength);
+            } catch (DataFormatException e) {
+                throw new IOException(String.format(MESSAGE_CORRUPTED, e.getMessage()), e);
+            }
+            if (length != blockLength || !inflater.finished()) {
+                throw new IOException(String.format(MESSAGE_CORRUPTED, "block length mismatch"));
+            }
+            position = 0;
+            return true;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (position == length && !readBlock()) {
+                return -1;
+            }
+            return block[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (position == length && !readBlock()) {
+                return -1;
+            }
+            int copied = Math.min(len, length - position);
+            System.arraycopy(block, position, b, off, copied);
+            position += copied;
+            return copied;
+        }
+
+        @Override
+        public int available() {
+            return length - position;
+        }
+
+        @Override
+        public void close() throws IOException {
+            inflater.end();
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A private copy of the contents of a data file, kept in a temporary file so that parts of it can still be read after
+ * the data file itself has been replaced by later saves.
+ * <p>
+ * The copy is written while the data file is read, through the stream returned by {@link #copyWhileReading}, so the
+ * contents are neither read twice nor held in memory. The temporary file is deleted once the {@code DataFileCopy} can
+ * no longer be reached, or when the application exits.
+ */
+class DataFileCopy {
+
+    public static final String MESSAGE_OUT_OF_RANGE = "Range %d+%d is beyond the end of the copy";
+
+    private static final String FILE_PREFIX = "logilink-";
+    private static final String FILE_SUFFIX = ".copy";
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final Cleaner cleaner = Cleaner.create();
+
+    private final Path copyPath;
+
+    DataFileCopy() throws IOException {
+        copyPath = Files.createTempFile(FILE_PREFIX, FILE_SUFFIX);
+        copyPath.toFile().deleteOnExit();
+        cleaner.register(this, new Deleter(copyPath));
+    }
+
+    /**
+     * Returns a stream that reads {@code in}, writing everything read into this copy. Closing the stream closes
+     * {@code in} and completes the copy.
+     */
+    InputStream copyWhileReading(InputStream in) throws IOException {
+        requireNonNull(in);
+        return new CopyingInputStream(in, new BufferedOutputStream(Files.newOutputStream(copyPath), BUFFER_SIZE));
+    }
+
+    /**
+     * Returns the {@code length} bytes of the copy starting at {@code offset}.
+     */
+    byte[] read(long offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        try (FileChannel channel = FileChannel.open(copyPath, StandardOpenOption.READ)) {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, offset + buffer.position()) < 0) {
+                    throw new EOFException(String.format(MESSAGE_OUT_OF_RANGE, offset, length));
+                }
+            }
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Deletes the temporary file of a copy that can no longer be reached.
+     */
+    private static class Deleter implements Runnable {
+        private final Path copyPath;
+
+        Deleter(Path copyPath) {
+            this.copyPath = copyPath;
+        }
+
+        @Override
+        public void run() {
+            try {
+                Files.deleteIfExists(copyPath);
+            } catch (IOException e) {
+                // Left for deleteOnExit to remove.
+            }
+        }
+    }
+
+    /**
+     * Writes everything read from a stream into another stream.
+     */
+    private static class CopyingInputStream extends InputStream {
+        private final InputStream in;
+        private final OutputStream copy;
+
+        CopyingInputStream(InputStream in, OutputStream copy) {
+            this.in = in;
+            this.copy = copy;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = in.read();
+            if (b != -1) {
+                copy.write(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = in.read(b, off, len);
+            if (read > 0) {
+                copy.write(b, off, read);
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                in.close();
+            } finally {
+                copy.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,428 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Streams the rows of a file of deliveries to import, one row at a time, so that files of any size can be imported.
+ * <p>
+ * Two formats are read, chosen by the extension of the file:
+ * <ul>
+ *     <li>{@code .csv}: a header row naming the columns, followed by one row per delivery. Fields may be quoted, with
+ *     doubled quotes inside them.</li>
+ *     <li>{@code .ndjson} or {@code .jsonl}: one json object per line, whose fields are named like the columns.</li>
+ * </ul>
+ * The values of the columns that hold several values, such as the items of a delivery, are separated by
+ * {@link #LIST_SEPARATOR}, or are given as json arrays. Rows that cannot be read are handed on with an error, and
+ * reading carries on with the next row.
+ */
+public class DeliveryImportReader {
+
+    public static final String LIST_SEPARATOR = ";";
+
+    public static final String MESSAGE_UNSUPPORTED_FILE = "Only .csv, .ndjson and .jsonl files can be imported";
+    public static final String MESSAGE_MISSING_HEADER = "The file has no header row";
+    public static final String MESSAGE_MISSING_COLUMNS = "The header row is missing the columns: %s";
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "a quoted field is not closed";
+    public static final String MESSAGE_TEXT_AFTER_QUOTE = "a quoted field is followed by more text";
+    public static final String MESSAGE_TOO_MANY_FIELDS = "the row has more fields than the header";
+    public static final String MESSAGE_NOT_AN_OBJECT = "the line is not a json object";
+    public static final String MESSAGE_INVALID_JSON = "the line is not valid json";
+    public static final String MESSAGE_NOT_A_STRING = "%s should be a string or an array of strings";
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * The columns of a file of deliveries.
+     */
+    public enum Column {
+        NAME(false),
+        PHONE(false),
+        ITEMS(true),
+        ETA(false),
+        ADDRESS(false),
+        COST(false),
+        STATUS(false),
+        TAGS(true);
+
+        private final boolean isList;
+        private final String header;
+
+        Column(boolean isList) {
+            this.isList = isList;
+            this.header = name().toLowerCase(Locale.ROOT);
+        }
+
+        /**
+         * Returns the name of the column in the header row, or of the field in a json object.
+         */
+        public String getHeader() {
+            return header;
+        }
+
+        static Column fromHeader(String header) {
+            String trimmedHeader = header.trim();
+            for (Column column : values()) {
+                if (column.header.equalsIgnoreCase(trimmedHeader)) {
+                    return column;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A row of the file, holding the values of the columns that were given in it.
+     */
+    public static class Row {
+        private final long lineNumber;
+        private final Map<Column, List<String>> values;
+        private final String error;
+
+        Row(long lineNumber, Map<Column, List<String>> values, String error) {
+            this.lineNumber = lineNumber;
+            this.values = values;
+            this.error = error;
+        }
+
+        /**
+         * Returns the number of the line in the file that the row starts on, counting from 1.
+         */
+        public long getLineNumber() {
+            return lineNumber;
+        }
+
+        /**
+         * Returns the value of {@code column}, or null if it is blank or was not given.
+         */
+        public String get(Column column) {
+            List<String> columnValues = values.get(column);
+            return columnValues == null || columnValues.isEmpty() ? null : columnValues.get(0);
+        }
+
+        /**
+         * Returns the values of {@code column}, which is empty if none were given.
+         */
+        public List<String> getAll(Column column) {
+            return values.getOrDefault(column, Collections.emptyList());
+        }
+
+        /**
+         * Returns why the row could not be read, or null if it was read.
+         */
+        public String getError() {
+            return error;
+        }
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} is in a format that can be imported.
+     */
+    public static boolean isSupported(Path filePath) {
+        return isCsv(filePath) || isNdjson(filePath);
+    }
+
+    static boolean isCsv(Path filePath) {
+        return getFileName(filePath).endsWith(".csv");
+    }
+
+    static boolean isNdjson(Path filePath) {
+        String fileName = getFileName(filePath);
+        return fileName.endsWith(".ndjson") || fileName.endsWith(".jsonl");
+    }
+
+    private static String getFileName(Path filePath) {
+        Path fileName = filePath.getFileName();
+        return fileName == null ? "" : fileName.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Reads the rows of the file at {@code filePath} in order, handing each to {@code handler} as it is read.
+     *
+     * @throws IOException if the file cannot be read, is not in a supported format, or its header row is missing
+     *     columns.
+     */
+    public static void read(Path filePath, Consumer<Row> handler) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(handler);
+        if (!isSupported(filePath)) {
+            throw new IOException(MESSAGE_UNSUPPORTED_FILE);
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            if (isCsv(filePath)) {
+                readCsv(reader, handler);
+            } else {
+                readNdjson(reader, handler);
+            }
+        }
+    }
+
+    private static void readCsv(Reader reader, Consumer<Row> handler) throws IOException {
+        CsvParser parser = new CsvParser(reader);
+        List<String> header = parser.readRecord();
+        if (header == null) {
+            throw new IOException(MESSAGE_MISSING_HEADER);
+        }
+        Column[] columns = new Column[header.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = Column.fromHeader(header.get(i));
+        }
+        checkColumns(columns);
+
+        List<String> fields;
+        while ((fields = parser.readRecord()) != null) {
+            long lineNumber = parser.recordLine;
+            if (parser.error != null) {
+                handler.accept(new Row(lineNumber, Collections.emptyMap(), parser.error));
+                continue;
+            }
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            if (fields.size() > columns.length) {
+                handler.accept(new Row(lineNumber, Collections.emptyMap(), MESSAGE_TOO_MANY_FIELDS));
+                continue;
+            }
+
+            Map<Column, List<String>> values = new EnumMap<>(Column.class);
+            for (int i = 0; i < fields.size(); i++) {
+                if (columns[i] != null) {
+                    putValue(values, columns[i], fields.get(i));
+                }
+            }
+            handler.accept(new Row(lineNumber, values, null));
+        }
+    }
+
+    private static void checkColumns(Column[] columns) throws IOException {
+        List<Column> given = Arrays.stream(columns)
+                .filter(column -> column != null)
+                .collect(Collectors.toList());
+        List<String> missing = Stream.of(Column.ITEMS, Column.ETA, Column.ADDRESS, Column.COST, Column.STATUS)
+                .filter(column -> !given.contains(column))
+                .map(Column::getHeader)
+                .collect(Collectors.toList());
+        if (!given.contains(Column.NAME) && !given.contains(Column.PHONE)) {
+            missing.add(0, Column.NAME.getHeader() + " or " + Column.PHONE.getHeader());
+        }
+        if (!missing.isEmpty()) {
+            throw new IOException(String.format(MESSAGE_MISSING_COLUMNS, String.join(", ", missing)));
+        }
+    }
+
+    private static void readNdjson(BufferedReader reader, Consumer<Row> handler) throws IOException {
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            Map<Column, List<String>> values = new EnumMap<>(Column.class);
+            String error;
+            byte[] data = line.getBytes(StandardCharsets.UTF_8);
+            try (JsonParser parser = JsonUtil.createParser(data, 0, data.length)) {
+                error = readObject(parser, values);
+            } catch (IOException e) {
+                error = MESSAGE_INVALID_JSON;
+            }
+            handler.accept(new Row(lineNumber, error == null ? values : Collections.emptyMap(), error));
+        }
+    }
+
+    /**
+     * Reads the fields of the json object on a line into {@code values}, and returns why they could not be read, or
+     * null if they were.
+     */
+    private static String readObject(JsonParser parser, Map<Column, List<String>> values) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return MESSAGE_NOT_AN_OBJECT;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            Column column = Column.fromHeader(parser.getCurrentName());
+            JsonToken token = parser.nextToken();
+            if (column == null) {
+                parser.skipChildren();
+                continue;
+            }
+
+            if (token == JsonToken.VALUE_NULL) {
+                continue;
+            } else if (token.isScalarValue()) {
+                putValue(values, column, parser.getText());
+            } else if (token == JsonToken.START_ARRAY && column.isList) {
+                List<String> columnValues = new ArrayList<>();
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (!token.isScalarValue()) {
+                        return String.format(MESSAGE_NOT_A_STRING, column.getHeader());
+                    }
+                    columnValues.add(parser.getText().trim());
+                }
+                values.put(column, columnValues);
+            } else {
+                return String.format(MESSAGE_NOT_A_STRING, column.getHeader());
+            }
+        }
+        if (parser.nextToken() != null) {
+            return MESSAGE_INVALID_JSON;
+        }
+        return null;
+    }
+
+    private static void putValue(Map<Column, List<String>> values, Column column, String value) {
+        if (value.isBlank()) {
+            return;
+        }
+        if (!column.isList) {
+            values.put(column, List.of(value.trim()));
+            return;
+        }
+
+        List<String> columnValues = new ArrayList<>();
+        int start = 0;
+        while (start <= value.length()) {
+            int end = value.indexOf(LIST_SEPARATOR, start);
+            if (end < 0) {
+                end = value.length();
+            }
+            String element = value.substring(start, end).trim();
+            if (!element.isEmpty()) {
+                columnValues.add(element);
+            }
+            start = end + LIST_SEPARATOR.length();
+        }
+        values.put(column, columnValues);
+    }
+
+    /**
+     * Splits csv text into records of fields.
+     */
+    private static class CsvParser {
+        private final Reader reader;
+        private final char[] buffer = new char[BUFFER_SIZE];
+        private final StringBuilder field = new StringBuilder();
+        private int position = 0;
+        private int limit = 0;
+        private long line = 1;
+
+        // Line that the last record read starts on, and why it could not be read, or null if it was.
+        private long recordLine;
+        private String error;
+
+        CsvParser(Reader reader) {
+            this.reader = reader;
+        }
+
+        private int next() throws IOException {
+            if (position == limit) {
+                limit = reader.read(buffer, 0, buffer.length);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    return -1;
+                }
+            }
+            return buffer[position++];
+        }
+
+        /**
+         * Returns the fields of the next record, or null at the end of the text. If the record is malformed, the rest
+         * of its line is skipped and {@code error} says why.
+         */
+        List<String> readRecord() throws IOException {
+            int c = next();
+            if (c == -1) {
+                return null;
+            }
+            recordLine = line;
+            error = null;
+
+            List<String> fields = new ArrayList<>();
+            while (true) {
+                field.setLength(0);
+                if (c == '"') {
+                    c = readQuoted();
+                    if (c == -2) {
+                        error = MESSAGE_UNTERMINATED_QUOTE;
+                        return fields;
+                    }
+                    if (c != ',' && c != '\r' && c != '\n' && c != -1) {
+                        error = MESSAGE_TEXT_AFTER_QUOTE;
+                        skipLine(c);
+                        return fields;
+                    }
+                } else {
+                    while (c != ',' && c != '\r' && c != '\n' && c != -1) {
+                        field.append((char) c);
+                        c = next();
+                    }
+                }
+                fields.add(field.toString());
+
+                if (c == ',') {
+                    c = next();
+                    continue;
+                }
+                skipLine(c);
+                return fields;
+            }
+        }
+
+        /**
+         * Reads a quoted field into {@code field}, after its opening quote, and returns the character after its
+         * closing quote, or -2 if the text ends before the field is closed.
+         */
+        private int readQuoted() throws IOException {
+            while (true) {
+                int c = next();
+                if (c == -1) {
+                    return -2;
+                }
+                if (c == '"') {
+                    c = next();
+                    if (c != '"') {
+                        return c;
+                    }
+                } else if (c == '\n') {
+                    line++;
+                }
+                field.append((char) c);
+            }
+        }
+
+        /**
+         * Skips to the start of the next line, from character {@code c}.
+         */
+        private void skipLine(int c) throws IOException {
+            while (c != '\n' && c != -1) {
+                c = next();
+            }
+            if (c == '\n') {
+                line++;
+            }
+        }
+    }
+}
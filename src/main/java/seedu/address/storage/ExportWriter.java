@@ -0,0 +1,172 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Writes rows of values to a csv or ndjson file, one row at a time, in the formats read by
+ * {@link DeliveryImportReader}.
+ * <p>
+ * Each value is either a {@code String}, a {@code List<String>} for a column that holds several values, or null if
+ * it is blank. Rows are written to a temporary file next to the target, which only replaces the target once
+ * {@link #commit()} is called, so a failed export never leaves a partial file behind.
+ */
+public class ExportWriter implements Closeable {
+
+    public static final String MESSAGE_UNSUPPORTED_FILE = "Only .csv, .ndjson and .jsonl files can be exported";
+
+    private final Path filePath;
+    private final Path tempPath;
+    private final List<String> headers;
+    private final Writer writer;
+    private final JsonGenerator generator;
+    private boolean isCommitted = false;
+
+    private ExportWriter(Path filePath, List<String> headers) throws IOException {
+        this.filePath = filePath;
+        this.tempPath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        this.headers = List.copyOf(headers);
+        FileUtil.createParentDirsOfFile(filePath);
+        writer = Files.newBufferedWriter(tempPath, StandardCharsets.UTF_8);
+        if (DeliveryImportReader.isCsv(filePath)) {
+            generator = null;
+            writeCsvRow(this.headers);
+        } else {
+            generator = JsonUtil.createCompactGenerator(writer);
+        }
+    }
+
+    /**
+     * Opens a writer for the file at {@code filePath}, whose rows have values for the columns named in
+     * {@code headers}. The format is chosen by the extension of the file.
+     *
+     * @throws IOException if the file is not in a supported format or cannot be written.
+     */
+    public static ExportWriter open(Path filePath, List<String> headers) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(headers);
+        if (!DeliveryImportReader.isSupported(filePath)) {
+            throw new IOException(MESSAGE_UNSUPPORTED_FILE);
+        }
+        return new ExportWriter(filePath, headers);
+    }
+
+    /**
+     * Writes a row with {@code values}, in the order of the headers the writer was opened with.
+     */
+    public void writeRow(List<?> values) throws IOException {
+        if (values.size() != headers.size()) {
+            throw new IllegalArgumentException("Expected " + headers.size() + " values but got " + values.size());
+        }
+        if (generator == null) {
+            writeCsvRow(values);
+        } else {
+            writeJsonRow(values);
+        }
+    }
+
+    private void writeCsvRow(List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values.get(i);
+            if (value instanceof List) {
+                writeCsvField(String.join(DeliveryImportReader.LIST_SEPARATOR, toStrings((List<?>) value)));
+            } else if (value != null) {
+                writeCsvField(value.toString());
+            }
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * Writes {@code field}, quoting it if it would otherwise be read back differently.
+     */
+    private void writeCsvField(String field) throws IOException {
+        boolean needsQuotes = !field.isEmpty() && (Character.isWhitespace(field.charAt(0))
+                || Character.isWhitespace(field.charAt(field.length() - 1)));
+        for (int i = 0; i < field.length() && !needsQuotes; i++) {
+            char c = field.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            writer.write(field);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(field.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private void writeJsonRow(List<?> values) throws IOException {
+        generator.writeStartObject();
+        for (int i = 0; i < values.size(); i++) {
+            Object value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            generator.writeFieldName(headers.get(i));
+            if (value instanceof List) {
+                generator.writeStartArray();
+                for (String element : toStrings((List<?>) value)) {
+                    generator.writeString(element);
+                }
+                generator.writeEndArray();
+            } else {
+                generator.writeString(value.toString());
+            }
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private static List<String> toStrings(List<?> values) {
+        return values.stream().map(Object::toString).collect(Collectors.toList());
+    }
+
+    /**
+     * Finishes writing the file, and replaces the target file with it.
+     */
+    public void commit() throws IOException {
+        if (generator != null) {
+            generator.close();
+        }
+        writer.close();
+        Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        isCommitted = true;
+    }
+
+    /**
+     * Closes the writer, discarding what was written unless {@link #commit()} was called.
+     */
+    @Override
+    public void close() throws IOException {
+        if (isCommitted) {
+            return;
+        }
+        try {
+            if (generator != null) {
+                generator.close();
+            }
+            writer.close();
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+}
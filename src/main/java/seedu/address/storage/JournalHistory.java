@@ -0,0 +1,315 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Keeps the journal entries of an address book after they have been folded into its snapshot, together with
+ * periodic compressed copies of the whole address book, so that the address book can be rebuilt as it was at any
+ * time within the retention period.
+ * <p>
+ * The history lives in a directory next to the data file. Each log file holds the journal entries up to the sequence
+ * number in its name, after those of the previous log. Each checkpoint file holds the address book up to the sequence
+ * number in its name, as it was at the time in its name. To rebuild the address book as of some time, the latest
+ * checkpoint taken at or before that time is read, and the entries logged after it are replayed up to that time.
+ * A checkpoint is taken at most once per {@code checkpointPeriod}, which bounds the number of entries to replay.
+ */
+class JournalHistory {
+
+    public static final String DIRECTORY_SUFFIX = ".history";
+    public static final long DEFAULT_CHECKPOINT_PERIOD_MILLIS = TimeUnit.DAYS.toMillis(1);
+    public static final long DEFAULT_RETENTION_MILLIS = TimeUnit.DAYS.toMillis(90);
+
+    private static final Pattern CHECKPOINT_FILE_NAME = Pattern.compile("checkpoint-(\\d{1,18})-(\\d{1,18})\\.json");
+    private static final Pattern LOG_FILE_NAME = Pattern.compile("log-(\\d{1,18})\\.jsonl");
+
+    private static final Logger logger = LogsCenter.getLogger(JournalHistory.class);
+
+    private final Path directoryPath;
+    private final long checkpointPeriod;
+    private final long retention;
+
+    /**
+     * Creates a {@code JournalHistory} for the data file at {@code filePath} with the default checkpoint period and
+     * retention.
+     */
+    public JournalHistory(Path filePath) {
+        this(filePath, DEFAULT_CHECKPOINT_PERIOD_MILLIS, DEFAULT_RETENTION_MILLIS);
+    }
+
+    /**
+     * Creates a {@code JournalHistory} for the data file at {@code filePath} that takes a checkpoint at most once per
+     * {@code checkpointPeriod} and keeps the history of the last {@code retention} milliseconds.
+     */
+    public JournalHistory(Path filePath, long checkpointPeriod, long retention) {
+        requireNonNull(filePath);
+        assert checkpointPeriod >= 0 && retention >= 0;
+        this.directoryPath = getDirectoryPath(filePath);
+        this.checkpointPeriod = checkpointPeriod;
+        this.retention = retention;
+    }
+
+    /**
+     * Returns the path of the history directory that belongs to the data file at {@code filePath}.
+     */
+    public static Path getDirectoryPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Moves the history of the data file at {@code filePath} to that of {@code target}, replacing any history there.
+     */
+    public static void moveTo(Path filePath, Path target) throws IOException {
+        Path directoryPath = getDirectoryPath(filePath);
+        Path targetPath = getDirectoryPath(target);
+        deleteDirectory(targetPath);
+        if (Files.exists(directoryPath)) {
+            Files.move(directoryPath, targetPath);
+        }
+    }
+
+    /**
+     * Records that the journal at {@code journalPath}, followed by {@code entries}, has been folded into a snapshot of
+     * {@code addressBook} whose last entry has sequence number {@code sequence}, and takes a checkpoint of
+     * {@code addressBook} if the last one is older than the checkpoint period. The journal is moved into the history.
+     *
+     * @param time time of the snapshot, in milliseconds since the epoch.
+     */
+    public void recordCheckpoint(Path journalPath, List<JsonAdaptedJournalEntry> entries,
+            ReadOnlyAddressBook addressBook, long sequence, long time) throws IOException {
+        Files.createDirectories(directoryPath);
+        List<Path> checkpoints = listFiles(CHECKPOINT_FILE_NAME);
+        if (!checkpoints.isEmpty() && getSequence(checkpoints.get(checkpoints.size() - 1)) > sequence) {
+            // The address book was started afresh, so the history no longer leads up to it.
+            logger.info("Discarding history in " + directoryPath + " that does not lead up to the address book");
+            deleteDirectory(directoryPath);
+            Files.createDirectories(directoryPath);
+            checkpoints.clear();
+        }
+
+        appendToLog(journalPath, entries, sequence);
+
+        if (checkpoints.isEmpty() || time - getTime(checkpoints.get(checkpoints.size() - 1)) >= checkpointPeriod) {
+            Path checkpointPath = directoryPath.resolve("checkpoint-" + sequence + "-" + time + ".json");
+            Path tempPath = directoryPath.resolve(checkpointPath.getFileName() + ".tmp");
+            JsonAddressBookWriter.write(addressBook, tempPath, sequence, true);
+            Files.move(tempPath, checkpointPath, StandardCopyOption.REPLACE_EXISTING);
+            logger.fine("Took history checkpoint " + checkpointPath);
+        }
+
+        prune(time);
+    }
+
+    /**
+     * Appends the journal at {@code journalPath}, if any, and {@code entries} to the log that ends at
+     * {@code sequence}, then deletes the journal.
+     */
+    private void appendToLog(Path journalPath, List<JsonAdaptedJournalEntry> entries, long sequence)
+            throws IOException {
+        boolean hasJournal = Files.exists(journalPath);
+        if (!hasJournal && entries.isEmpty()) {
+            return;
+        }
+
+        Path logPath = directoryPath.resolve("log-" + sequence + ".jsonl");
+        try (BufferedWriter writer = Files.newBufferedWriter(logPath, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            if (hasJournal) {
+                String journal = Files.readString(journalPath, StandardCharsets.UTF_8);
+                writer.write(journal);
+                if (!journal.isEmpty() && !journal.endsWith("\n")) {
+                    // Ends with an entry cut short by a crash, which must not run into the next one.
+                    writer.write('\n');
+                }
+            }
+            for (JsonAdaptedJournalEntry entry : entries) {
+                writer.write(JsonUtil.toCompactJsonString(entry));
+                writer.write('\n');
+            }
+        }
+        Files.deleteIfExists(journalPath);
+    }
+
+    /**
+     * Deletes the checkpoints taken before the retention period, except the latest of them, which is still needed
+     * to rebuild the start of the period, and the logs that only hold entries already in the remaining checkpoints.
+     */
+    private void prune(long now) throws IOException {
+        List<Path> checkpoints = listFiles(CHECKPOINT_FILE_NAME);
+        long cutoff = now - retention;
+        int firstKept = 0;
+        while (firstKept + 1 < checkpoints.size() && getTime(checkpoints.get(firstKept + 1)) <= cutoff) {
+            firstKept++;
+        }
+        for (Path checkpoint : checkpoints.subList(0, firstKept)) {
+            Files.delete(checkpoint);
+        }
+
+        long oldestSequence = getSequence(checkpoints.get(firstKept));
+        for (Path log : listFiles(LOG_FILE_NAME)) {
+            if (getSequence(log) <= oldestSequence) {
+                Files.delete(log);
+            }
+        }
+    }
+
+    /**
+     * Returns the address book as it was at {@code time}, continuing the history with the live journal at
+     * {@code journalPath}, or {@code Optional.empty()} if the history does not go back that far.
+     *
+     * @param time in milliseconds since the epoch.
+     * @throws IOException if the history cannot be read or is malformed.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public Optional<ReadOnlyAddressBook> readAsOf(long time, Path journalPath)
+            throws IOException, IllegalValueException {
+        Optional<Path> checkpoint = listFiles(CHECKPOINT_FILE_NAME).stream()
+                .filter(path -> getTime(path) <= time)
+                .reduce((first, second) -> second);
+        if (checkpoint.isEmpty()) {
+            return Optional.empty();
+        }
+
+        AddressBookReader checkpointReader = AddressBookReader.forFile(checkpoint.get());
+        List<Person> persons = checkpointReader.readPersons();
+        Replay replay = new Replay(persons, checkpointReader.getJournalSequence(), time);
+        for (Path log : listFiles(LOG_FILE_NAME)) {
+            if (replay.isFinished) {
+                break;
+            }
+            if (getSequence(log) > replay.sequence) {
+                replay.replay(log);
+            }
+        }
+        if (!replay.isFinished && Files.exists(journalPath)) {
+            replay.replay(journalPath);
+        }
+        logger.info("Rebuilt address book as of " + time + " from " + checkpoint.get() + " and " + replay.replayed
+                + " journal entries");
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Replays journal entries on top of a checkpoint, up to a point in time.
+     */
+    private static class Replay {
+        private final List<Person> persons;
+        private final AssignedDeliveryResolver resolver;
+        private final long time;
+        private long sequence;
+        private int replayed = 0;
+        private boolean isFinished = false;
+
+        Replay(List<Person> persons, long sequence, long time) {
+            this.persons = persons;
+            this.resolver = new AssignedDeliveryResolver(persons);
+            this.sequence = sequence;
+            this.time = time;
+        }
+
+        /**
+         * Applies the entries in the file at {@code path} that come after those applied so far, stopping at the first
+         * entry made after the point in time. Entries cut short by a crash are skipped.
+         */
+        void replay(Path path) throws IOException, IllegalValueException {
+            try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    JsonAdaptedJournalEntry entry;
+                    try {
+                        entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+                    } catch (IOException e) {
+                        logger.warning("Ignoring incomplete entry in " + path);
+                        continue;
+                    }
+                    if (entry.getSequence() <= sequence) {
+                        continue;
+                    }
+                    if (entry.getTime() > time) {
+                        isFinished = true;
+                        return;
+                    }
+                    entry.applyTo(persons, resolver);
+                    sequence = entry.getSequence();
+                    replayed++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the files in the history directory whose names match {@code fileName}, in ascending order of the
+     * sequence number in their names, and then of their time.
+     */
+    private List<Path> listFiles(Pattern fileName) throws IOException {
+        if (!Files.isDirectory(directoryPath)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> files = Files.list(directoryPath)) {
+            return files.filter(path -> fileName.matcher(path.getFileName().toString()).matches())
+                    .sorted(Comparator.comparingLong(JournalHistory::getSequence)
+                            .thenComparing(path -> path.getFileName().toString()))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static long getSequence(Path path) {
+        return Long.parseLong(match(path).group(1));
+    }
+
+    private static long getTime(Path path) {
+        return Long.parseLong(match(path).group(2));
+    }
+
+    private static Matcher match(Path path) {
+        String fileName = path.getFileName().toString();
+        Matcher matcher = CHECKPOINT_FILE_NAME.matcher(fileName);
+        if (!matcher.matches()) {
+            matcher = LOG_FILE_NAME.matcher(fileName);
+            matcher.matches();
+        }
+        return matcher;
+    }
+
+    private static void deleteDirectory(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(path)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+    }
+}
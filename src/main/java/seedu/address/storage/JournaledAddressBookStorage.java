@@ -0,0 +1,489 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal on the hard disk.
+ * <p>
+ * Instead of rewriting the whole snapshot on every save, only the persons that changed since the previous save are
+ * appended to the journal, one json record per line. The journal is folded back into the snapshot (a checkpoint)
+ * once it grows past {@code checkpointInterval} entries or when a single save changes too much of the address book.
+ * On read, the journal entries that are newer than the snapshot are replayed on top of it.
+ * <p>
+ * The journal is kept in a {@link JournalHistory} when it is folded back, so that the address book can also be read
+ * as it was at an earlier time.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String BACKUP_SUFFIX = ".bak";
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 256;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int checkpointInterval;
+    private final boolean isCompressed;
+    private final JournalHistory history;
+    private Clock clock = Clock.systemDefaultZone();
+
+    // What the files on disk currently hold, used to work out what changed on the next save.
+    // Persons are keyed by name, which is unique within an address book.
+    private final List<String> savedNames = new ArrayList<>();
+    private final Map<String, Long> savedVersions = new HashMap<>();
+    private boolean hasBaseline = false;
+    private long lastSequence = 0;
+    // The sequence number of the last entry folded into the snapshot this storage last read or wrote.
+    private long snapshotSequence = 0;
+    private int entriesSinceCheckpoint = 0;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that checkpoints after {@code checkpointInterval} journal entries.
+     */
+    public JournaledAddressBookStorage(Path filePath, int checkpointInterval) {
+        this(filePath, checkpointInterval, false);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that checkpoints after {@code checkpointInterval} journal entries,
+     * and compresses the snapshot with {@link CompressedDataFile} if {@code isCompressed} is true.
+     * Compressed and uncompressed snapshots are both read either way; the journal is never compressed.
+     */
+    public JournaledAddressBookStorage(Path filePath, int checkpointInterval, boolean isCompressed) {
+        requireNonNull(filePath);
+        assert checkpointInterval > 0;
+        this.filePath = filePath;
+        this.checkpointInterval = checkpointInterval;
+        this.isCompressed = isCompressed;
+        this.history = new JournalHistory(filePath);
+    }
+
+    /**
+     * Sets the clock that journal entries and history checkpoints are timed with.
+     */
+    void setClock(Clock clock) {
+        this.clock = requireNonNull(clock);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal that belongs to the snapshot at {@code snapshotPath}.
+     */
+    public static Path getJournalFilePath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Moves the data file at {@code filePath}, its journal, its cold store and its history aside to backup files,
+     * replacing any earlier backup, so that they are no longer read.
+     */
+    public static void moveToBackup(Path filePath) throws IOException {
+        Path backup = filePath.resolveSibling(filePath.getFileName() + BACKUP_SUFFIX);
+        Path journalPath = getJournalFilePath(filePath);
+        Files.deleteIfExists(getJournalFilePath(backup));
+        if (Files.exists(journalPath)) {
+            Files.move(journalPath, getJournalFilePath(backup));
+        }
+        ColdStore.forDataFile(filePath).moveTo(backup);
+        JournalHistory.moveTo(filePath, backup);
+        Files.move(filePath, backup, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        AddressBookReader snapshotReader;
+        List<Person> persons;
+        try {
+            snapshotReader = AddressBookReader.forFile(filePath);
+            persons = snapshotReader.readPersons();
+        } catch (IOException e) {
+            logger.warning("Error reading from snapshot " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        Path journalPath = getJournalFilePath(filePath);
+        long sequence = snapshotReader.getJournalSequence();
+        Journal journal = new Journal();
+
+        if (Files.exists(journalPath)) {
+            AssignedDeliveryResolver resolver = new AssignedDeliveryResolver(persons);
+            try {
+                journal = readJournal(journalPath, sequence);
+                for (JsonAdaptedJournalEntry entry : journal.entries) {
+                    entry.applyTo(persons, resolver);
+                    sequence = entry.getSequence();
+                }
+            } catch (IOException e) {
+                logger.warning("Error reading from journal " + journalPath + ": " + e);
+                throw new DataLoadingException(e);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalPath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+            logger.info("Replayed " + journal.entries.size() + " journal entries from " + journalPath);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+
+        if (filePath.equals(this.filePath)) {
+            rememberSaved(addressBook);
+            snapshotSequence = snapshotReader.getJournalSequence();
+            lastSequence = sequence;
+            // A torn journal must not be appended to, so force the next save to checkpoint.
+            entriesSinceCheckpoint = journal.isTorn ? checkpointInterval : journal.entries.size();
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Returns the entries of the journal at {@code journalPath} whose sequence numbers are above
+     * {@code afterSequence}, leaving out an incomplete last entry.
+     */
+    private static Journal readJournal(Path journalPath, long afterSequence) throws IOException {
+        Journal journal = new Journal();
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                JsonAdaptedJournalEntry entry;
+                try {
+                    entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+                } catch (IOException e) {
+                    if (reader.readLine() != null) {
+                        throw e;
+                    }
+                    // Only the last entry can be cut short, by a crash in the middle of an append.
+                    logger.warning("Ignoring incomplete last entry in journal " + journalPath);
+                    journal.isTorn = true;
+                    break;
+                }
+                if (entry.getSequence() > afterSequence) {
+                    journal.entries.add(entry);
+                    afterSequence = entry.getSequence();
+                }
+            }
+        }
+        return journal;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The other program could not see the changes still in the journal, so they are merged into the snapshot it wrote
+     * instead of being replayed on top of it, and win over its changes to the same persons. The journal is then
+     * rewritten to lead from the new snapshot to the merged address book, without touching the snapshot itself.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readExternalChange() throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        AddressBookReader snapshotReader;
+        AddressBook snapshot = new AddressBook();
+        List<Person> persons;
+        try {
+            snapshotReader = AddressBookReader.forFile(filePath);
+            persons = snapshotReader.readPersons();
+            snapshot.setPersons(persons);
+        } catch (IOException e) {
+            logger.warning("Error reading from snapshot " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        Path journalPath = getJournalFilePath(filePath);
+        persons = new ArrayList<>(persons);
+        try {
+            if (Files.exists(journalPath)) {
+                AssignedDeliveryResolver resolver = new AssignedDeliveryResolver(persons);
+                Journal journal = readJournal(journalPath, snapshotSequence);
+                for (JsonAdaptedJournalEntry entry : journal.entries) {
+                    entry.mergeInto(persons, resolver);
+                }
+                logger.info("Merged " + journal.entries.size() + " journal entries from " + journalPath
+                        + " into " + filePath + " as changed by another program");
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from journal " + journalPath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+
+        // Sequence numbers keep increasing past those of either snapshot, so that the history stays in order.
+        snapshotSequence = snapshotReader.getJournalSequence();
+        lastSequence = Math.max(lastSequence, snapshotSequence);
+        rememberSaved(snapshot);
+        List<JsonAdaptedJournalEntry> entries = computeEntries(persons, clock.millis());
+        try {
+            rewriteJournal(entries);
+        } catch (IOException e) {
+            logger.warning("Error rewriting journal " + journalPath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        rememberSaved(addressBook);
+        // Folds the rewritten journal into the snapshot on the next save.
+        entriesSinceCheckpoint = checkpointInterval;
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The address book is rebuilt from the history of this storage's own file and the entries in its journal.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBookAsOf(Instant time) throws DataLoadingException {
+        requireNonNull(time);
+        try {
+            return history.readAsOf(time.toEpochMilli(), getJournalFilePath(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading history of " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in history of " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only saves to this storage's own file are journaled; saves to any other location write a full snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(addressBook, filePath, 0, isCompressed);
+            return;
+        }
+
+        if (!hasBaseline) {
+            checkpoint(addressBook, List.of());
+            return;
+        }
+
+        List<JsonAdaptedJournalEntry> entries = computeEntries(addressBook.getPersonList(), clock.millis());
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        if (entriesSinceCheckpoint + entries.size() >= checkpointInterval) {
+            checkpoint(addressBook, entries);
+            return;
+        }
+
+        appendToJournal(entries);
+        entriesSinceCheckpoint += entries.size();
+        rememberSaved(addressBook);
+    }
+
+    /**
+     * Writes the whole of {@code addressBook} into the snapshot and moves the journal, followed by the
+     * {@code pendingEntries} that were not appended to it, into the history.
+     * Failing to record the history does not fail the save, as the snapshot has been written by then.
+     */
+    private void checkpoint(ReadOnlyAddressBook addressBook, List<JsonAdaptedJournalEntry> pendingEntries)
+            throws IOException {
+        writeSnapshot(addressBook, filePath, lastSequence, isCompressed);
+        Path journalPath = getJournalFilePath(filePath);
+        if (!hasBaseline) {
+            // Whatever the journal holds was not read, so it does not lead up to the snapshot.
+            Files.deleteIfExists(journalPath);
+        }
+        try {
+            history.recordCheckpoint(journalPath, pendingEntries, addressBook, lastSequence, clock.millis());
+        } catch (IOException e) {
+            logger.warning("Error recording history of " + filePath + ": " + e);
+        }
+        Files.deleteIfExists(journalPath);
+        snapshotSequence = lastSequence;
+        entriesSinceCheckpoint = 0;
+        rememberSaved(addressBook);
+        logger.fine("Checkpointed address book into " + filePath);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath} through a temporary file, so that a crash midway through
+     * leaves the previous snapshot intact. Archived deliveries are kept in the cold store of {@code filePath}.
+     */
+    private static void writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath, long journalSequence,
+            boolean isCompressed) throws IOException {
+        FileUtil.createIfMissing(filePath);
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        ColdStore coldStore = ColdStore.forDataFile(filePath);
+        ColdStore.Plan coldPlan = coldStore.prepare(addressBook.getPersonList());
+        JsonAddressBookWriter.write(addressBook, tempPath, journalSequence, isCompressed, coldPlan);
+        Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        coldStore.commit(coldPlan);
+    }
+
+    private void appendToJournal(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(getJournalFilePath(filePath), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            writer.write(lines.toString());
+        }
+    }
+
+    /**
+     * Replaces the journal with {@code entries} through a temporary file, or deletes it if there are none.
+     */
+    private void rewriteJournal(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        Path journalPath = getJournalFilePath(filePath);
+        if (entries.isEmpty()) {
+            Files.deleteIfExists(journalPath);
+            return;
+        }
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+        }
+        Path tempPath = journalPath.resolveSibling(journalPath.getFileName() + ".tmp");
+        Files.writeString(tempPath, lines, StandardCharsets.UTF_8);
+        Files.move(tempPath, journalPath, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Returns the journal entries, made at {@code time}, that turn the last saved persons into {@code persons}.
+     * Removals come first, then in-place updates, then insertions in ascending index order, and finally a full
+     * reordering if the persons that were kept are no longer in their saved relative order.
+     */
+    private List<JsonAdaptedJournalEntry> computeEntries(List<Person> persons, long time) {
+        Set<String> currentNames = new HashSet<>();
+        for (Person person : persons) {
+            currentNames.add(person.getName().fullName);
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        List<String> keptInSavedOrder = new ArrayList<>();
+        for (String savedName : savedNames) {
+            if (currentNames.contains(savedName)) {
+                keptInSavedOrder.add(savedName);
+            } else {
+                entries.add(JsonAdaptedJournalEntry.remove(++lastSequence, time, savedName));
+            }
+        }
+
+        List<String> keptInCurrentOrder = new ArrayList<>();
+        for (Person person : persons) {
+            String name = person.getName().fullName;
+            Long savedVersion = savedVersions.get(name);
+            if (savedVersion == null) {
+                continue;
+            }
+            keptInCurrentOrder.add(name);
+            if (savedVersion != person.getVersion()) {
+                entries.add(JsonAdaptedJournalEntry.set(++lastSequence, time, name, person));
+            }
+        }
+
+        for (int i = 0; i < persons.size(); i++) {
+            if (!savedVersions.containsKey(persons.get(i).getName().fullName)) {
+                entries.add(JsonAdaptedJournalEntry.add(++lastSequence, time, i, persons.get(i)));
+            }
+        }
+
+        if (!keptInSavedOrder.equals(keptInCurrentOrder)) {
+            List<String> names = new ArrayList<>();
+            for (Person person : persons) {
+                names.add(person.getName().fullName);
+            }
+            entries.add(JsonAdaptedJournalEntry.order(++lastSequence, time, names));
+        }
+
+        return entries;
+    }
+
+    private void rememberSaved(ReadOnlyAddressBook addressBook) {
+        savedNames.clear();
+        savedVersions.clear();
+        for (Person person : addressBook.getPersonList()) {
+            savedNames.add(person.getName().fullName);
+            savedVersions.put(person.getName().fullName, person.getVersion());
+        }
+        hasBaseline = true;
+    }
+
+    /**
+     * The entries read from a journal.
+     */
+    private static class Journal {
+        private final List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        // Whether the last entry was cut short.
+        private boolean isTorn = false;
+    }
+}
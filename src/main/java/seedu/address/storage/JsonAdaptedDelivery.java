@@ -80,12 +80,12 @@ public class JsonAdaptedDelivery {
                 .collect(Collectors.toList()));
         tags.addAll(source.getTags().stream().map(JsonAdaptedTag::new).toList());
         address = source.getAddress().value;
-        cost = source.getCost().value;
-        date = source.getDate().value.toString();
-        time = source.getTime().value.toString();
-        eta = source.getEta().value.toString();
+        cost = source.getCost().getValue();
+        date = source.getDate().getValue().toString();
+        time = source.getTime().getValue().toString();
+        eta = source.getEta().getValue().toString();
         status = source.getStatus().getValue();
-        archive = source.getArchive().value;
+        archive = source.getArchive().getValue();
     }
 
     /**
@@ -120,10 +120,12 @@ public class JsonAdaptedDelivery {
         if (cost == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Cost.class.getSimpleName()));
         }
-        if (!Cost.isValidCost(cost)) {
+        // Costs used to be saved with their dollars grouped by thousands.
+        String ungroupedCost = cost.replace(",", "");
+        if (!Cost.isValidCost(ungroupedCost)) {
             throw new IllegalValueException(Cost.MESSAGE_CONSTRAINTS);
         }
-        final Cost modelCost = new Cost(cost);
+        final Cost modelCost = new Cost(ungroupedCost);
 
         if (date == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Date.class.getSimpleName()));
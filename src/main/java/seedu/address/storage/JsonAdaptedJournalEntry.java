@@ -0,0 +1,253 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single mutation recorded in the address book journal.
+ * <p>
+ * Persons are identified by their name, which is unique within an address book. Each entry records the time it was
+ * made, in milliseconds since the epoch, or 0 if it was made before entries recorded their time.
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+class JsonAdaptedJournalEntry {
+
+    public static final String OP_ADD = "add";
+    public static final String OP_SET = "set";
+    public static final String OP_REMOVE = "remove";
+    public static final String OP_ORDER = "order";
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_OPERATION = "Journal entry has an unknown operation: %s";
+    public static final String MESSAGE_UNKNOWN_TARGET = "Journal entry refers to a person not in the address book: %s";
+    public static final String MESSAGE_ORDER_MISMATCH = "Journal entry's order does not match the address book";
+
+    private final long sequence;
+    private final long time;
+    private final String op;
+    private final Integer index;
+    private final String target;
+    private final JsonAdaptedPerson person;
+    private final List<String> names = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("sequence") long sequence,
+                                   @JsonProperty("time") long time,
+                                   @JsonProperty("op") String op,
+                                   @JsonProperty("index") Integer index,
+                                   @JsonProperty("target") String target,
+                                   @JsonProperty("person") JsonAdaptedPerson person,
+                                   @JsonProperty("names") List<String> names) {
+        this.sequence = sequence;
+        this.time = time;
+        this.op = op;
+        this.index = index;
+        this.target = target;
+        this.person = person;
+        if (names != null) {
+            this.names.addAll(names);
+        }
+    }
+
+    /**
+     * Returns an entry that inserts {@code person} at {@code index}.
+     */
+    public static JsonAdaptedJournalEntry add(long sequence, long time, int index, Person person) {
+        return new JsonAdaptedJournalEntry(sequence, time, OP_ADD, index, null, new JsonAdaptedPerson(person), null);
+    }
+
+    /**
+     * Returns an entry that replaces the person named {@code target} with {@code person}.
+     */
+    public static JsonAdaptedJournalEntry set(long sequence, long time, String target, Person person) {
+        return new JsonAdaptedJournalEntry(sequence, time, OP_SET, null, target, new JsonAdaptedPerson(person), null);
+    }
+
+    /**
+     * Returns an entry that removes the person named {@code target}.
+     */
+    public static JsonAdaptedJournalEntry remove(long sequence, long time, String target) {
+        return new JsonAdaptedJournalEntry(sequence, time, OP_REMOVE, null, target, null, null);
+    }
+
+    /**
+     * Returns an entry that rearranges the persons into the order given by {@code names}.
+     */
+    public static JsonAdaptedJournalEntry order(long sequence, long time, List<String> names) {
+        return new JsonAdaptedJournalEntry(sequence, time, OP_ORDER, null, null, null, names);
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public long getTime() {
+        return time;
+    }
+
+    /**
+     * Applies this entry to {@code persons}, resolving the deliveries assigned to any worker it adds with
+     * {@code resolver}.
+     *
+     * @throws IllegalValueException if this entry is malformed or does not fit the contents of {@code persons}.
+     */
+    public void applyTo(List<Person> persons, AssignedDeliveryResolver resolver) throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "op"));
+        }
+
+        switch (op) {
+        case OP_ADD:
+            if (index == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "index"));
+            }
+            persons.add(Math.max(0, Math.min(index, persons.size())), toModelPerson(resolver));
+            break;
+        case OP_SET:
+            persons.set(indexOfTarget(persons), toModelPerson(resolver));
+            break;
+        case OP_REMOVE:
+            persons.remove(indexOfTarget(persons));
+            break;
+        case OP_ORDER:
+            reorder(persons);
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OPERATION, op));
+        }
+    }
+
+    /**
+     * Applies this entry to {@code persons} that may have been changed since the entry was made, such as by another
+     * program, so that what the entry did wins over those changes wherever the entry still applies.
+     * Persons are put in place of any of the same name, removals of persons that are gone are ignored, and persons
+     * left out of a reordering follow those in it.
+     *
+     * @throws IllegalValueException if this entry is malformed.
+     */
+    public void mergeInto(List<Person> persons, AssignedDeliveryResolver resolver) throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "op"));
+        }
+
+        switch (op) {
+        case OP_ADD:
+            if (index == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "index"));
+            }
+            Person added = toModelPerson(resolver);
+            int addedIndex = removeNamed(persons, added.getName().fullName);
+            persons.add(addedIndex == -1 ? Math.max(0, Math.min(index, persons.size())) : addedIndex, added);
+            break;
+        case OP_SET:
+            Person edited = toModelPerson(resolver);
+            int targetIndex = removeNamed(persons, target);
+            int editedIndex = removeNamed(persons, edited.getName().fullName);
+            if (targetIndex == -1) {
+                targetIndex = editedIndex == -1 ? persons.size() : editedIndex;
+            } else if (editedIndex != -1 && editedIndex < targetIndex) {
+                targetIndex--;
+            }
+            persons.add(targetIndex, edited);
+            break;
+        case OP_REMOVE:
+            removeNamed(persons, target);
+            break;
+        case OP_ORDER:
+            mergeOrder(persons);
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OPERATION, op));
+        }
+    }
+
+    private Person toModelPerson(AssignedDeliveryResolver resolver) throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+        }
+        return person.toModelType(resolver);
+    }
+
+    private int indexOfTarget(List<Person> persons) throws IllegalValueException {
+        if (target == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "target"));
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            if (persons.get(i).getName().fullName.equals(target)) {
+                return i;
+            }
+        }
+        throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_TARGET, target));
+    }
+
+    /**
+     * Removes the person named {@code name} from {@code persons}, returning its position, or -1 if there is none.
+     */
+    private static int removeNamed(List<Person> persons, String name) {
+        for (int i = 0; i < persons.size(); i++) {
+            if (persons.get(i).getName().fullName.equals(name)) {
+                persons.remove(i);
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void mergeOrder(List<Person> persons) {
+        Map<String, Person> personsByName = new HashMap<>();
+        for (Person p : persons) {
+            personsByName.put(p.getName().fullName, p);
+        }
+
+        List<Person> reordered = new ArrayList<>();
+        for (String name : names) {
+            Person p = personsByName.remove(name);
+            if (p != null) {
+                reordered.add(p);
+            }
+        }
+        for (Person p : persons) {
+            if (personsByName.containsKey(p.getName().fullName)) {
+                reordered.add(p);
+            }
+        }
+
+        persons.clear();
+        persons.addAll(reordered);
+    }
+
+    private void reorder(List<Person> persons) throws IllegalValueException {
+        if (names.size() != persons.size()) {
+            throw new IllegalValueException(MESSAGE_ORDER_MISMATCH);
+        }
+
+        Map<String, Person> personsByName = new HashMap<>();
+        for (Person p : persons) {
+            personsByName.put(p.getName().fullName, p);
+        }
+
+        List<Person> reordered = new ArrayList<>();
+        for (String name : names) {
+            Person p = personsByName.remove(name);
+            if (p == null) {
+                throw new IllegalValueException(MESSAGE_ORDER_MISMATCH);
+            }
+            reordered.add(p);
+        }
+
+        persons.clear();
+        persons.addAll(reordered);
+    }
+}
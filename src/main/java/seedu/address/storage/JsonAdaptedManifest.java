@@ -0,0 +1,59 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly manifest of an address book stored by {@link ShardedAddressBookStorage}.
+ * Lists the segment files that hold the persons of the address book, in the order of the persons.
+ */
+class JsonAdaptedManifest {
+
+    public static final int FORMAT_VERSION = 1;
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported address book manifest version %d";
+    public static final String MESSAGE_INVALID_SEGMENT = "Invalid segment file name in manifest: %s";
+
+    private final int formatVersion;
+    private final List<String> segments = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedManifest} with the given segment file names.
+     */
+    @JsonCreator
+    public JsonAdaptedManifest(@JsonProperty("formatVersion") int formatVersion,
+                               @JsonProperty("segments") List<String> segments) {
+        this.formatVersion = formatVersion;
+        if (segments != null) {
+            this.segments.addAll(segments);
+        }
+    }
+
+    /**
+     * Constructs a manifest of the current format version listing {@code segments}.
+     */
+    public JsonAdaptedManifest(List<String> segments) {
+        this(FORMAT_VERSION, segments);
+    }
+
+    /**
+     * Returns the segment file names listed by this manifest.
+     *
+     * @throws IllegalValueException if the manifest is of an unknown version or lists an invalid segment file name.
+     */
+    public List<String> getSegments() throws IllegalValueException {
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, formatVersion));
+        }
+        for (String segment : segments) {
+            if (segment == null || !ShardedAddressBookStorage.isSegmentFileName(segment)) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_SEGMENT, segment));
+            }
+        }
+        return segments;
+    }
+}
@@ -7,6 +7,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -37,9 +38,21 @@ class JsonAdaptedPerson {
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
     private final List<JsonAdaptedDelivery> deliveries = new ArrayList<>();
     private final String archive;
+    // Offset of the cold store record that holds the rest of the deliveries, if any.
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long coldDeliveries;
 
     /**
-     * Constructs a {@code JsonAdaptedPerson} with the given person details.
+     * Constructs a {@code JsonAdaptedPerson} with the given person details, and all its deliveries.
+     */
+    public JsonAdaptedPerson(String name, String phone, String email, String role, JsonAdaptedWorker worker,
+            String address, List<JsonAdaptedTag> tags, List<JsonAdaptedDelivery> deliveries, String archive) {
+        this(name, phone, email, role, worker, address, tags, deliveries, archive, null);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details. Unless {@code coldDeliveries} is null,
+     * the rest of its deliveries are kept in the cold store record at that offset.
      */
     @JsonCreator
     public JsonAdaptedPerson(@JsonProperty("name") String name,
@@ -50,7 +63,8 @@ class JsonAdaptedPerson {
                              @JsonProperty("address") String address,
                              @JsonProperty("tags") List<JsonAdaptedTag> tags,
                              @JsonProperty("deliveries") List<JsonAdaptedDelivery> deliveries,
-                             @JsonProperty("archive") String archive) {
+                             @JsonProperty("archive") String archive,
+                             @JsonProperty("coldDeliveries") Long coldDeliveries) {
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -64,12 +78,21 @@ class JsonAdaptedPerson {
             this.deliveries.addAll(deliveries);
         }
         this.archive = archive;
+        this.coldDeliveries = coldDeliveries;
     }
 
     /**
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        this(source, source.getUnmodifiableDeliveryList(), 0);
+    }
+
+    /**
+     * Converts a given {@code Person} into this class for Jackson use, keeping only {@code deliveries} and a
+     * reference to the cold store record at {@code coldOffset} that holds the rest, unless it is 0.
+     */
+    public JsonAdaptedPerson(Person source, List<Delivery> deliveries, long coldOffset) {
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -79,18 +102,38 @@ class JsonAdaptedPerson {
         tags.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
-        deliveries.addAll(source.getUnmodifiableDeliveryList().stream()
+        this.deliveries.addAll(deliveries.stream()
                 .map(JsonAdaptedDelivery::new)
                 .collect(Collectors.toList()));
         archive = source.getArchive().value;
+        coldDeliveries = coldOffset == 0 ? null : coldOffset;
+    }
+
+    /**
+     * Returns the offset of the cold store record that holds the rest of the deliveries, or 0 if there is none.
+     */
+    public long getColdDeliveries() {
+        return coldDeliveries == null ? 0 : coldDeliveries;
     }
 
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
+     * With no clients to resolve them against, only the full copies of assigned deliveries kept by older files are
+     * assigned to its worker.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        return toModelType(new AssignedDeliveryResolver());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object, whose worker's
+     * deliveries are resolved by {@code resolver}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    public Person toModelType(AssignedDeliveryResolver resolver) throws IllegalValueException {
         final List<Tag> personTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tags) {
             personTags.add(tag.toModelType());
@@ -136,7 +179,7 @@ class JsonAdaptedPerson {
         if (worker == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Worker.class.getSimpleName()));
         }
-        final Worker modelWorker = worker.toModelType();
+        final Worker modelWorker = worker.toModelType(resolver);
 
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
@@ -2,33 +2,47 @@ package seedu.address.storage;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.delivery.Delivery;
+import seedu.address.model.delivery.DeliveryId;
+import seedu.address.model.delivery.exceptions.DeliveryLoadingException;
 import seedu.address.model.person.Worker;
 
 /**
  * Jackson-friendly version of {@link Worker}.
+ * <p>
+ * The deliveries assigned to a worker are stored as their ids, and resolved into the deliveries of the clients that
+ * hold them when loaded. Older files stored full copies of the deliveries instead, which are still read but no longer
+ * written.
  */
 public class JsonAdaptedWorker {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Worker's %s field is missing!";
+    public static final String MESSAGE_DELIVERIES_NOT_LOADED = "Could not load worker's deliveries: %s";
 
     private static final Logger logger = LogsCenter.getLogger(JsonAdaptedWorker.class);
 
+    private final List<String> deliveryIds = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private final List<JsonAdaptedDelivery> deliveries = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonAdaptedWorker} with the given worker details.
      */
     @JsonCreator
-    public JsonAdaptedWorker(@JsonProperty("deliveries") List<JsonAdaptedDelivery> deliveries) {
+    public JsonAdaptedWorker(@JsonProperty("deliveryIds") List<String> deliveryIds,
+                             @JsonProperty("deliveries") List<JsonAdaptedDelivery> deliveries) {
+        if (deliveryIds != null) {
+            this.deliveryIds.addAll(deliveryIds);
+        }
         if (deliveries != null) {
             this.deliveries.addAll(deliveries);
         }
@@ -38,24 +52,53 @@ public class JsonAdaptedWorker {
      * Converts a given {@code Worker} into this class for Jackson use.
      */
     public JsonAdaptedWorker(Worker source) {
-        deliveries.addAll(source.getUnmodifiableAssignedDeliveryList().stream()
-                               .map(JsonAdaptedDelivery::new)
-                               .collect(Collectors.toList()));
+        for (Delivery delivery : source.getUnmodifiableAssignedDeliveryList()) {
+            deliveryIds.add(delivery.getDeliveryId().value);
+        }
+        for (DeliveryId deliveryId : source.getUnresolvedDeliveryIds()) {
+            deliveryIds.add(deliveryId.value);
+        }
     }
 
     /**
-     * Converts this Jackson-friendly adapted worker object into the model's {@code Worker} object.
+     * Converts this Jackson-friendly adapted worker object into the model's {@code Worker} object, whose deliveries
+     * are resolved by {@code resolver} when they are first needed.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted worker.
      */
-    public Worker toModelType() throws IllegalValueException {
-        final List<Delivery> workerDeliveries = new ArrayList<>();
-        for (JsonAdaptedDelivery delivery: deliveries) {
-            workerDeliveries.add(delivery.toModelType());
+    public Worker toModelType(AssignedDeliveryResolver resolver) throws IllegalValueException {
+        final List<DeliveryId> modelDeliveryIds = new ArrayList<>();
+        for (String deliveryId : deliveryIds) {
+            if (deliveryId == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                        DeliveryId.class.getSimpleName()));
+            }
+            if (!DeliveryId.isValidDeliveryId(deliveryId)) {
+                throw new IllegalValueException(DeliveryId.MESSAGE_CONSTRAINTS);
+            }
+            modelDeliveryIds.add(new DeliveryId(deliveryId));
+        }
+
+        Supplier<List<Delivery>> legacyDeliveries = null;
+        if (!deliveries.isEmpty()) {
+            logger.fine("Reading assigned deliveries stored in the older full copy format");
+            legacyDeliveries = this::toModelDeliveries;
         }
-        Worker worker = new Worker();
-        worker.setDeliveryList(workerDeliveries);
 
+        Worker worker = new Worker();
+        resolver.defer(worker, modelDeliveryIds, legacyDeliveries);
         return worker;
     }
+
+    private List<Delivery> toModelDeliveries() {
+        final List<Delivery> workerDeliveries = new ArrayList<>();
+        try {
+            for (JsonAdaptedDelivery delivery : deliveries) {
+                workerDeliveries.add(delivery.toModelType());
+            }
+        } catch (IllegalValueException e) {
+            throw new DeliveryLoadingException(String.format(MESSAGE_DELIVERIES_NOT_LOADED, e.getMessage()), e);
+        }
+        return workerDeliveries;
+    }
 }
@@ -0,0 +1,222 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.delivery.Delivery;
+import seedu.address.model.delivery.exceptions.DeliveryLoadingException;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads an address book stored in the format written by {@link JsonAddressBookWriter} one person at a time.
+ * <p>
+ * The file is decompressed if need be and streamed token by token, while a {@link DataFileCopy} of it is written.
+ * The persons are then converted into {@code Person}s in parallel, except for their deliveries: only the position of
+ * each delivery array in the copy is noted. The deliveries are checked while the persons are converted, so that a
+ * file with invalid deliveries fails to load as a whole, but they are only kept once they are first needed, when they
+ * are read again from the copy together with the deliveries kept in the {@link ColdStore} of the file. The deliveries
+ * assigned to workers are resolved by id against the persons read.
+ */
+class JsonAddressBookReader implements AddressBookReader {
+
+    public static final String MESSAGE_NOT_AN_ADDRESS_BOOK = "File does not contain an address book object";
+    public static final String MESSAGE_UNEXPECTED_TOKEN = "Expected %s but found %s at %s";
+    public static final String MESSAGE_DELIVERIES_NOT_LOADED = "Could not load deliveries from %s: %s";
+    public static final String MESSAGE_DELIVERIES_TOO_LARGE = "Deliveries at %s are too large to load";
+
+    private static final String FIELD_PERSONS = "persons";
+    private static final String FIELD_JOURNAL_SEQUENCE = "journalSequence";
+    private static final String FIELD_COLD_GENERATION = "coldGeneration";
+    private static final String FIELD_DELIVERIES = "deliveries";
+
+    private final Path filePath;
+    private final AssignedDeliveryResolver resolver = new AssignedDeliveryResolver();
+    private long journalSequence = 0;
+    private long coldGeneration = 0;
+
+    public JsonAddressBookReader(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public List<Person> readPersons() throws IOException, IllegalValueException {
+        List<PendingPerson> pendingPersons = new ArrayList<>();
+
+        // The deferred deliveries are read from this copy, as the file itself is replaced by later saves.
+        DataFileCopy copy = new DataFileCopy();
+        try (InputStream in = copy.copyWhileReading(CompressedDataFile.newInputStream(filePath));
+                JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException(MESSAGE_NOT_AN_ADDRESS_BOOK);
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (FIELD_PERSONS.equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        pendingPersons.add(readPerson(parser, copy));
+                    }
+                    expect(parser, JsonToken.END_ARRAY);
+                } else if (FIELD_JOURNAL_SEQUENCE.equals(field) && value != null && value.isNumeric()) {
+                    journalSequence = parser.getLongValue();
+                } else if (FIELD_COLD_GENERATION.equals(field) && value != null && value.isNumeric()) {
+                    coldGeneration = parser.getLongValue();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            expect(parser, JsonToken.END_OBJECT);
+        }
+
+        List<Person> persons = ParallelPersonConverter.convertAll(pendingPersons,
+                pendingPerson -> pendingPerson.toModelType(resolver, coldGeneration));
+        resolver.setPersons(persons);
+        return persons;
+    }
+
+    /**
+     * Reads the person object that starts at the current token of {@code parser}, deferring its deliveries.
+     * The person is copied into a buffer with its delivery array left empty, and then read as a whole.
+     */
+    private PendingPerson readPerson(JsonParser parser, DataFileCopy copy) throws IOException {
+        TokenBuffer buffer = new TokenBuffer(parser);
+        DeferredDeliveries deliveries = null;
+
+        buffer.writeStartObject();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            buffer.writeFieldName(field);
+            if (FIELD_DELIVERIES.equals(field) && value == JsonToken.START_ARRAY) {
+                deliveries = deferDeliveries(parser, buffer, copy);
+            } else {
+                buffer.copyCurrentStructure(parser);
+            }
+        }
+        expect(parser, JsonToken.END_OBJECT);
+        buffer.writeEndObject();
+
+        try (JsonParser bufferParser = buffer.asParser()) {
+            return new PendingPerson(JsonUtil.fromJsonParser(bufferParser, JsonAdaptedPerson.class), deliveries);
+        }
+    }
+
+    /**
+     * Skips the delivery array that starts at the current token of {@code parser}, writing an empty array in its
+     * place into {@code buffer}, and returns a loader that reads the skipped array from {@code copy} when called.
+     */
+    private DeferredDeliveries deferDeliveries(JsonParser parser, TokenBuffer buffer, DataFileCopy copy)
+            throws IOException {
+        long start = parser.getTokenLocation().getByteOffset();
+        parser.skipChildren();
+        long end = parser.getCurrentLocation().getByteOffset();
+        expect(parser, JsonToken.END_ARRAY);
+        if (end - start > Integer.MAX_VALUE) {
+            throw new IOException(String.format(MESSAGE_DELIVERIES_TOO_LARGE, parser.getTokenLocation()));
+        }
+        buffer.writeStartArray();
+        buffer.writeEndArray();
+        return new DeferredDeliveries(copy, start, (int) (end - start));
+    }
+
+    private static void expect(JsonParser parser, JsonToken token) throws IOException {
+        if (parser.getCurrentToken() != token) {
+            throw new IOException(String.format(MESSAGE_UNEXPECTED_TOKEN, token, parser.getCurrentToken(),
+                    parser.getCurrentLocation()));
+        }
+    }
+
+    @Override
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+
+    /**
+     * A person that has been read but not yet converted into a {@code Person}.
+     */
+    private class PendingPerson {
+        private final JsonAdaptedPerson person;
+        private final DeferredDeliveries deliveries;
+
+        PendingPerson(JsonAdaptedPerson person, DeferredDeliveries deliveries) {
+            this.person = person;
+            this.deliveries = deliveries;
+        }
+
+        Person toModelType(AssignedDeliveryResolver resolver, long coldGeneration) throws IllegalValueException {
+            Person modelPerson = person.toModelType(resolver);
+            Supplier<List<Delivery>> loader = deliveries;
+            try {
+                if (deliveries != null) {
+                    // Only checked here; the deliveries read are dropped until they are needed.
+                    deliveries.read();
+                }
+                if (person.getColdDeliveries() != 0) {
+                    loader = new ColdStore.TieredDeliveries(loader, ColdStore.forDataFile(filePath)
+                            .getRecord(coldGeneration, person.getColdDeliveries()));
+                }
+            } catch (IOException e) {
+                throw new IllegalValueException(e.getMessage(), e);
+            }
+            if (loader != null) {
+                modelPerson.setDeferredDeliveryList(loader);
+            }
+            return modelPerson;
+        }
+    }
+
+    /**
+     * The delivery array of a person, read from the copy of the file whenever its deliveries are needed.
+     */
+    private class DeferredDeliveries implements Supplier<List<Delivery>> {
+        private final DataFileCopy copy;
+        private final long offset;
+        private final int length;
+
+        DeferredDeliveries(DataFileCopy copy, long offset, int length) {
+            this.copy = copy;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        /**
+         * Returns the deliveries in the array.
+         *
+         * @throws IllegalValueException if there were any data constraints violated in the deliveries.
+         */
+        List<Delivery> read() throws IOException, IllegalValueException {
+            byte[] data = copy.read(offset, length);
+            try (JsonParser arrayParser = JsonUtil.createParser(data, 0, data.length)) {
+                List<Delivery> deliveries = new ArrayList<>();
+                for (JsonAdaptedDelivery delivery : JsonUtil.fromJsonParser(arrayParser, JsonAdaptedDelivery[].class)) {
+                    deliveries.add(delivery.toModelType());
+                }
+                return deliveries;
+            }
+        }
+
+        @Override
+        public List<Delivery> get() {
+            try {
+                return read();
+            } catch (IOException | IllegalValueException e) {
+                throw new DeliveryLoadingException(String.format(MESSAGE_DELIVERIES_NOT_LOADED, filePath,
+                        e.getMessage()), e);
+            }
+        }
+    }
+}
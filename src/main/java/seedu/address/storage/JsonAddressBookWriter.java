@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.delivery.exceptions.DeliveryLoadingException;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes an address book as a json object holding the array of its {@code persons}, and the
+ * {@code journalSequence} of the last journal entry it contains, one person at a time.
+ * <p>
+ * Persons are streamed through a {@code JsonGenerator} straight into a buffered file stream, so neither the
+ * list of {@code JsonAdaptedPerson} nor the json text of the whole address book is ever built in memory.
+ */
+class JsonAddressBookWriter {
+
+    private JsonAddressBookWriter() {} // prevents instantiation
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, overwriting the file if it exists.
+     *
+     * @param journalSequence sequence number of the last journal entry contained in {@code addressBook}.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, Path filePath, long journalSequence) throws IOException {
+        write(addressBook, filePath, journalSequence, false);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, overwriting the file if it exists, and compressing it with
+     * {@link CompressedDataFile} if {@code isCompressed} is true.
+     *
+     * @param journalSequence sequence number of the last journal entry contained in {@code addressBook}.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, Path filePath, long journalSequence,
+            boolean isCompressed) throws IOException {
+        write(addressBook, filePath, journalSequence, isCompressed, null);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath} like {@link #write(ReadOnlyAddressBook, Path, long, boolean)},
+     * leaving the deliveries that {@code coldPlan} puts in a cold store out of the file, unless it is null.
+     *
+     * @param journalSequence sequence number of the last journal entry contained in {@code addressBook}.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, Path filePath, long journalSequence,
+            boolean isCompressed, ColdStore.Plan coldPlan) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        try (JsonGenerator generator = JsonUtil.createGenerator(
+                CompressedDataFile.newOutputStream(filePath, isCompressed))) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("persons");
+            for (Person person : addressBook.getPersonList()) {
+                JsonUtil.toJsonGenerator(generator, coldPlan == null
+                        ? new JsonAdaptedPerson(person)
+                        : new JsonAdaptedPerson(person, coldPlan.getHotDeliveries(person),
+                                coldPlan.getColdOffset(person)));
+            }
+            generator.writeEndArray();
+            generator.writeNumberField("journalSequence", journalSequence);
+            if (coldPlan != null && coldPlan.getGeneration() != 0) {
+                generator.writeNumberField("coldGeneration", coldPlan.getGeneration());
+            }
+            generator.writeEndObject();
+        } catch (DeliveryLoadingException e) {
+            // Deliveries that could not be loaded cannot be saved either.
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,364 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * A file of fixed-size pages that are changed in memory and then written to the file together, atomically.
+ * <p>
+ * Page 0 is a header that holds the number of pages, the head of the list of free pages and a few root slots, which
+ * the users of the file point at their own pages with. Freed pages are linked into the free list through their first
+ * bytes and handed out again before the file is grown. Pages that were read recently are kept in an LRU cache.
+ * <p>
+ * Changed pages are kept in memory until {@link #commit()}, which first writes their new contents to a redo log next
+ * to the file and forces it to disk, and only then writes them into the file itself and deletes the log. A crash
+ * before the log is complete leaves the file as it was before the commit, and a crash after that is repaired by
+ * writing the pages in the log into the file again when it is next opened.
+ */
+class PageFile implements Closeable {
+
+    static final int PAGE_SIZE = 4096;
+    static final int ROOT_SLOTS = 4;
+    static final int DEFAULT_CACHE_CAPACITY = 1024;
+    static final String REDO_LOG_SUFFIX = ".redo";
+
+    static final byte[] MAGIC = {'L', 'G', 'L', 'P'};
+    static final byte[] REDO_LOG_MAGIC = {'L', 'G', 'L', 'R'};
+    static final int FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_NOT_A_PAGE_FILE = "File is not a paged address book";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported paged address book version %d";
+    public static final String MESSAGE_CLOSED = "Paged address book has been closed";
+
+    private static final int PAGE_COUNT_OFFSET = 8;
+    private static final int FREE_LIST_OFFSET = 12;
+    private static final int ROOTS_OFFSET = 16;
+
+    private static final Logger logger = LogsCenter.getLogger(PageFile.class);
+
+    private final Path filePath;
+    private final Path redoLogPath;
+    private final ChannelOpener opener;
+    private final FileChannel channel;
+    private final Map<Integer, byte[]> cache;
+    // Pages changed since the last commit, in ascending order so that they are written out sequentially.
+    private final Map<Integer, byte[]> dirtyPages = new TreeMap<>();
+    private int lastCommitPageCount = 0;
+    private boolean isClosed = false;
+
+    /**
+     * Opens the channels that a page file and its redo log are read and written through.
+     */
+    @FunctionalInterface
+    interface ChannelOpener {
+        FileChannel open(Path path, OpenOption... options) throws IOException;
+    }
+
+    private PageFile(Path filePath, ChannelOpener opener, FileChannel channel, int cacheCapacity) {
+        this.filePath = filePath;
+        this.redoLogPath = getRedoLogPath(filePath);
+        this.opener = opener;
+        this.channel = channel;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, byte[]> eldest) {
+                return size() > cacheCapacity;
+            }
+        };
+    }
+
+    /**
+     * Opens the page file at {@code filePath}, creating it if it does not exist, and first writes back into it the
+     * pages of a complete redo log left behind by a crash.
+     *
+     * @throws IOException if the file cannot be opened, or is not a page file.
+     */
+    public static PageFile open(Path filePath) throws IOException {
+        return open(filePath, DEFAULT_CACHE_CAPACITY);
+    }
+
+    /**
+     * Similar to {@link #open(Path)}, keeping up to {@code cacheCapacity} pages in the cache.
+     */
+    public static PageFile open(Path filePath, int cacheCapacity) throws IOException {
+        return open(filePath, cacheCapacity, FileChannel::open);
+    }
+
+    /**
+     * Similar to {@link #open(Path, int)}, opening the file and its redo log with {@code opener}.
+     */
+    static PageFile open(Path filePath, int cacheCapacity, ChannelOpener opener) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(opener);
+        assert cacheCapacity > 0;
+
+        FileChannel channel = opener.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        PageFile pageFile = new PageFile(filePath, opener, channel, cacheCapacity);
+        try {
+            pageFile.recover();
+            if (channel.size() == 0) {
+                pageFile.initialize();
+            } else {
+                pageFile.checkHeader();
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return pageFile;
+    }
+
+    /**
+     * Returns the path of the redo log of the page file at {@code filePath}.
+     */
+    public static Path getRedoLogPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + REDO_LOG_SUFFIX);
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts like a page file.
+     */
+    public static boolean isPageFile(Path filePath) throws IOException {
+        byte[] header;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(MAGIC.length);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Keep reading until the magic is complete or the file ends.
+            }
+            header = buffer.array();
+        }
+        return Arrays.equals(header, MAGIC);
+    }
+
+    private void initialize() throws IOException {
+        byte[] header = write(0);
+        System.arraycopy(MAGIC, 0, header, 0, MAGIC.length);
+        header[MAGIC.length] = FORMAT_VERSION;
+        ByteBuffer.wrap(header).putInt(PAGE_COUNT_OFFSET, 1);
+        commit();
+    }
+
+    private void checkHeader() throws IOException {
+        byte[] header = read(0);
+        if (!Arrays.equals(Arrays.copyOf(header, MAGIC.length), MAGIC)) {
+            throw new IOException(MESSAGE_NOT_A_PAGE_FILE);
+        }
+        if (header[MAGIC.length] != FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, header[MAGIC.length]));
+        }
+    }
+
+    /**
+     * Returns the contents of page {@code pageNo}, which must not be modified.
+     */
+    public byte[] read(int pageNo) throws IOException {
+        ensureOpen();
+        byte[] page = dirtyPages.get(pageNo);
+        if (page == null) {
+            page = cache.get(pageNo);
+        }
+        if (page == null) {
+            page = new byte[PAGE_SIZE];
+            ByteBuffer buffer = ByteBuffer.wrap(page);
+            long position = (long) pageNo * PAGE_SIZE;
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position + buffer.position());
+                if (read < 0) {
+                    // Pages past the end of the file have not been written yet, and read as zeros.
+                    break;
+                }
+            }
+            cache.put(pageNo, page);
+        }
+        return page;
+    }
+
+    /**
+     * Returns the contents of page {@code pageNo} for changing, which are written to the file on the next commit.
+     */
+    public byte[] write(int pageNo) throws IOException {
+        byte[] page = dirtyPages.get(pageNo);
+        if (page == null) {
+            page = read(pageNo).clone();
+            dirtyPages.put(pageNo, page);
+        }
+        return page;
+    }
+
+    /**
+     * Returns the number of a page that is not in use, taken from the free list if possible, with its contents
+     * cleared.
+     */
+    public int allocate() throws IOException {
+        ByteBuffer header = ByteBuffer.wrap(write(0));
+        int pageNo = header.getInt(FREE_LIST_OFFSET);
+        if (pageNo != 0) {
+            header.putInt(FREE_LIST_OFFSET, ByteBuffer.wrap(read(pageNo)).getInt(0));
+        } else {
+            pageNo = header.getInt(PAGE_COUNT_OFFSET);
+            header.putInt(PAGE_COUNT_OFFSET, pageNo + 1);
+        }
+        Arrays.fill(write(pageNo), (byte) 0);
+        return pageNo;
+    }
+
+    /**
+     * Adds page {@code pageNo} to the free list.
+     */
+    public void free(int pageNo) throws IOException {
+        assert pageNo > 0;
+        ByteBuffer header = ByteBuffer.wrap(write(0));
+        byte[] page = write(pageNo);
+        Arrays.fill(page, (byte) 0);
+        ByteBuffer.wrap(page).putInt(0, header.getInt(FREE_LIST_OFFSET));
+        header.putInt(FREE_LIST_OFFSET, pageNo);
+    }
+
+    public int getPageCount() throws IOException {
+        return ByteBuffer.wrap(read(0)).getInt(PAGE_COUNT_OFFSET);
+    }
+
+    /**
+     * Returns the page number held in root slot {@code slot}, or 0 if the slot is empty.
+     */
+    public int getRoot(int slot) throws IOException {
+        assert slot >= 0 && slot < ROOT_SLOTS;
+        return ByteBuffer.wrap(read(0)).getInt(ROOTS_OFFSET + slot * Integer.BYTES);
+    }
+
+    public void setRoot(int slot, int pageNo) throws IOException {
+        assert slot >= 0 && slot < ROOT_SLOTS;
+        ByteBuffer.wrap(write(0)).putInt(ROOTS_OFFSET + slot * Integer.BYTES, pageNo);
+    }
+
+    /**
+     * Returns the number of pages written by the last commit.
+     */
+    public int getLastCommitPageCount() {
+        return lastCommitPageCount;
+    }
+
+    /**
+     * Writes the pages changed since the last commit to the file, atomically.
+     * If this fails, the file must be closed and opened again before it is used, which completes or undoes the commit.
+     */
+    public void commit() throws IOException {
+        ensureOpen();
+        if (dirtyPages.isEmpty()) {
+            return;
+        }
+
+        ByteBuffer log = ByteBuffer.allocate(REDO_LOG_MAGIC.length + Integer.BYTES
+                + dirtyPages.size() * (Integer.BYTES + PAGE_SIZE) + Long.BYTES);
+        log.put(REDO_LOG_MAGIC);
+        log.putInt(dirtyPages.size());
+        for (Map.Entry<Integer, byte[]> page : dirtyPages.entrySet()) {
+            log.putInt(page.getKey());
+            log.put(page.getValue());
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(log.array(), 0, log.position());
+        log.putLong(checksum.getValue());
+        log.flip();
+        try (FileChannel redoLog = opener.open(redoLogPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(redoLog, log, 0);
+            redoLog.force(true);
+        }
+
+        for (Map.Entry<Integer, byte[]> page : dirtyPages.entrySet()) {
+            writeFully(channel, ByteBuffer.wrap(page.getValue()), (long) page.getKey() * PAGE_SIZE);
+        }
+        channel.force(true);
+        Files.delete(redoLogPath);
+
+        lastCommitPageCount = dirtyPages.size();
+        cache.putAll(dirtyPages);
+        dirtyPages.clear();
+    }
+
+    /**
+     * Discards the pages changed since the last commit.
+     */
+    public void rollback() {
+        dirtyPages.clear();
+    }
+
+    /**
+     * Writes the pages of the redo log, if it is complete, into the file and deletes the log.
+     */
+    private void recover() throws IOException {
+        if (!Files.exists(redoLogPath)) {
+            return;
+        }
+
+        ByteBuffer log = ByteBuffer.wrap(Files.readAllBytes(redoLogPath));
+        int headerLength = REDO_LOG_MAGIC.length + Integer.BYTES;
+        boolean isComplete = false;
+        int pageCount = 0;
+        if (log.remaining() >= headerLength + Long.BYTES
+                && Arrays.equals(Arrays.copyOf(log.array(), REDO_LOG_MAGIC.length), REDO_LOG_MAGIC)) {
+            pageCount = log.getInt(REDO_LOG_MAGIC.length);
+            long bodyLength = headerLength + (long) pageCount * (Integer.BYTES + PAGE_SIZE);
+            if (pageCount >= 0 && bodyLength + Long.BYTES == log.remaining()) {
+                CRC32 checksum = new CRC32();
+                checksum.update(log.array(), 0, (int) bodyLength);
+                isComplete = log.getLong((int) bodyLength) == checksum.getValue();
+            }
+        }
+
+        if (isComplete) {
+            log.position(headerLength);
+            for (int i = 0; i < pageCount; i++) {
+                int pageNo = log.getInt();
+                ByteBuffer page = log.slice();
+                page.limit(PAGE_SIZE);
+                writeFully(channel, page, (long) pageNo * PAGE_SIZE);
+                log.position(log.position() + PAGE_SIZE);
+            }
+            channel.force(true);
+            logger.info("Recovered " + pageCount + " pages of " + filePath + " from its redo log");
+        } else {
+            // The crash happened while the log was being written, before the file itself was touched.
+            logger.info("Discarding incomplete redo log of " + filePath);
+        }
+        Files.delete(redoLogPath);
+    }
+
+    private static void writeFully(FileChannel target, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += target.write(buffer, position);
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (isClosed) {
+            throw new IOException(MESSAGE_CLOSED);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        isClosed = true;
+        cache.clear();
+        dirtyPages.clear();
+        channel.close();
+    }
+}
@@ -0,0 +1,655 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.delivery.Delivery;
+import seedu.address.model.delivery.DeliveryId;
+import seedu.address.model.delivery.exceptions.DeliveryLoadingException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Worker;
+
+/**
+ * A class to access AddressBook data stored in a {@link PageFile}, indexed by two {@link BPlusTree}s.
+ * <p>
+ * The person tree maps the name of each person to its rank in the list, the ids of its deliveries and its details in
+ * the encoding of {@link BinaryAddressBookWriter}. The delivery tree maps each delivery id, followed by the name of
+ * the client that holds it, to that delivery. A save writes only the entries of the persons and deliveries that
+ * changed since the previous save, so editing a single delivery changes only a few pages, and the page file makes
+ * the whole save atomic through its redo log.
+ * <p>
+ * Deliveries are read from the delivery tree only when they are first needed. The deliveries assigned to a worker are
+ * found through the delivery tree too, which leads straight to the clients that hold them.
+ * <p>
+ * Data files in the other formats are still read, and are converted to pages by the next save, which first moves the
+ * old file aside as a backup.
+ */
+public class PagedAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_DELIVERIES_NOT_LOADED = "Could not load deliveries from %s: %s";
+
+    static final int PERSON_TREE_SLOT = 0;
+    static final int DELIVERY_TREE_SLOT = 1;
+
+    // Gap left between the ranks of consecutive persons, so that persons can be moved or inserted between them
+    // without changing the ranks of the others.
+    private static final long RANK_SPACING = 1L << 20;
+
+    private static final Logger logger = LogsCenter.getLogger(PagedAddressBookStorage.class);
+
+    private final Path filePath;
+    private final PageFile.ChannelOpener opener;
+    private PageFile pageFile;
+
+    // What the page file currently holds, used to work out what changed on the next save.
+    // Persons are keyed by name, which is unique within an address book.
+    private final Map<String, SavedPerson> savedPersons = new HashMap<>();
+    private boolean hasBaseline = false;
+    // The loaders handed out for the deliveries of each client that still read from the delivery tree.
+    private final Map<String, List<DeferredDeliveries>> deferredDeliveries = new HashMap<>();
+
+    public PagedAddressBookStorage(Path filePath) {
+        this(filePath, FileChannel::open);
+    }
+
+    /**
+     * Creates a storage for the paged file at {@code filePath}, which opens the file with {@code opener}.
+     */
+    PagedAddressBookStorage(Path filePath, PageFile.ChannelOpener opener) {
+        requireAllNonNull(filePath, opener);
+        this.filePath = filePath;
+        this.opener = opener;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            return new PagedAddressBookStorage(filePath).readAddressBook();
+        }
+
+        synchronized (this) {
+            try {
+                if (!Files.exists(filePath) && !Files.exists(PageFile.getRedoLogPath(filePath))) {
+                    return Optional.empty();
+                }
+                if (!isPaged()) {
+                    // Reads the other formats, which the next save converts.
+                    hasBaseline = false;
+                    return new JournaledAddressBookStorage(filePath).readAddressBook();
+                }
+                return Optional.of(readPages());
+            } catch (IOException e) {
+                logger.warning("Error reading from paged file " + filePath + ": " + e);
+                closePageFile();
+                throw new DataLoadingException(e);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+        }
+    }
+
+    private boolean isPaged() throws IOException {
+        return pageFile != null || !Files.exists(filePath) || Files.size(filePath) == 0
+                || PageFile.isPageFile(filePath);
+    }
+
+    private AddressBook readPages() throws IOException, IllegalValueException {
+        List<byte[]> names = new ArrayList<>();
+        List<byte[]> records = new ArrayList<>();
+        getPersonTree().scan(new byte[0], (key, value) -> {
+            names.add(key);
+            records.add(value);
+            return true;
+        });
+
+        List<PersonRecord> personRecords = new ArrayList<>();
+        for (int i = 0; i < names.size(); i++) {
+            personRecords.add(PersonRecord.decode(new String(names.get(i), StandardCharsets.UTF_8), records.get(i)));
+        }
+        personRecords.sort(Comparator.comparingLong(record -> record.rank));
+
+        List<Person> persons = new ArrayList<>();
+        Map<String, Person> personsByName = new HashMap<>();
+        AssignedDeliveryResolver resolver = new AssignedDeliveryResolver(ids ->
+                findClientDeliveries(ids, personsByName, persons));
+        for (PersonRecord record : personRecords) {
+            Person person = BinaryAddressBookReader.decodePersonDetails(filePath, record.details,
+                    deferDeliveries(record.name, record.deliveryIds), resolver);
+            persons.add(person);
+            personsByName.put(record.name, person);
+        }
+
+        savedPersons.clear();
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            savedPersons.put(personRecords.get(i).name,
+                    new SavedPerson(person, person.getVersion(), personRecords.get(i).rank));
+        }
+        hasBaseline = true;
+        logger.fine("Read " + persons.size() + " persons from paged file " + filePath);
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+
+    /**
+     * Returns a loader of the deliveries with the given ids that the client named {@code owner} holds.
+     */
+    private Supplier<List<Delivery>> deferDeliveries(String owner, List<String> deliveryIds) {
+        DeferredDeliveries loader = new DeferredDeliveries(owner, deliveryIds);
+        deferredDeliveries.computeIfAbsent(owner, unused -> new ArrayList<>()).add(loader);
+        return loader;
+    }
+
+    /**
+     * Reads and keeps the deliveries of every loader that still reads the entries of the client named
+     * {@code owner}, as those entries are about to be replaced or removed.
+     */
+    private void keepDeferredDeliveries(String owner) throws IOException {
+        List<DeferredDeliveries> loaders = deferredDeliveries.remove(owner);
+        if (loaders == null) {
+            return;
+        }
+        for (DeferredDeliveries loader : loaders) {
+            loader.keep();
+        }
+    }
+
+    private synchronized List<Delivery> readDeliveries(String owner, List<String> deliveryIds) throws IOException {
+        BPlusTree deliveryTree = getDeliveryTree();
+        // Deliveries that share an id are stored together, in the order they are listed in.
+        Map<String, Iterator<Delivery>> deliveriesById = new HashMap<>();
+        List<Delivery> deliveries = new ArrayList<>();
+        for (String id : deliveryIds) {
+            Iterator<Delivery> sameId = deliveriesById.get(id);
+            if (sameId == null) {
+                byte[] value = deliveryTree.get(deliveryKey(id, owner));
+                if (value == null) {
+                    throw new IOException(String.format(BPlusTree.MESSAGE_CORRUPTED, "missing delivery " + id));
+                }
+                sameId = BinaryAddressBookReader.decodeDeliveries(filePath, value).iterator();
+                deliveriesById.put(id, sameId);
+            }
+            if (!sameId.hasNext()) {
+                throw new IOException(String.format(BPlusTree.MESSAGE_CORRUPTED, "missing delivery " + id));
+            }
+            deliveries.add(sameId.next());
+        }
+        return deliveries;
+    }
+
+    /**
+     * Returns the deliveries with the given ids keyed by their ids, which are looked up in the delivery tree to find
+     * the clients among {@code personsByName} that hold them. Deliveries that have moved since the last save are
+     * searched for among all of {@code persons}.
+     */
+    private Map<DeliveryId, Delivery> findClientDeliveries(List<DeliveryId> ids, Map<String, Person> personsByName,
+            List<Person> persons) {
+        Map<DeliveryId, Delivery> found = new HashMap<>();
+        List<DeliveryId> missing = new ArrayList<>();
+        for (DeliveryId id : ids) {
+            Delivery delivery;
+            try {
+                delivery = findClientDelivery(id, personsByName);
+            } catch (IOException e) {
+                throw new DeliveryLoadingException(String.format(MESSAGE_DELIVERIES_NOT_LOADED, filePath,
+                        e.getMessage()), e);
+            }
+            if (delivery == null) {
+                missing.add(id);
+            } else {
+                found.put(id, delivery);
+            }
+        }
+        if (!missing.isEmpty()) {
+            found.putAll(Worker.findClientDeliveries(missing, persons));
+        }
+        return found;
+    }
+
+    private Delivery findClientDelivery(DeliveryId id, Map<String, Person> personsByName) throws IOException {
+        for (String owner : findOwners(id.value)) {
+            Person person = personsByName.get(owner);
+            if (person == null || !person.isClient()) {
+                continue;
+            }
+            for (Delivery delivery : person.getUnmodifiableDeliveryList()) {
+                if (delivery.getDeliveryId().equals(id)) {
+                    return delivery;
+                }
+            }
+        }
+        return null;
+    }
+
+    private synchronized List<String> findOwners(String deliveryId) throws IOException {
+        byte[] prefix = deliveryKey(deliveryId, "");
+        List<String> owners = new ArrayList<>();
+        getDeliveryTree().scanPrefix(prefix, (key, value) -> {
+            owners.add(new String(key, prefix.length, key.length - prefix.length, StandardCharsets.UTF_8));
+            return true;
+        });
+        return owners;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saves to any location other than this storage's own write every person.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            new PagedAddressBookStorage(filePath).saveAddressBook(addressBook);
+            return;
+        }
+
+        synchronized (this) {
+            try {
+                save(addressBook.getPersonList());
+            } catch (DeliveryLoadingException e) {
+                // Deliveries that could not be loaded cannot be saved either.
+                discardChanges();
+                throw new IOException(e.getMessage(), e);
+            } catch (IOException e) {
+                // Opening the file again completes or undoes the commit that failed.
+                closePageFile();
+                hasBaseline = false;
+                throw e;
+            }
+        }
+    }
+
+    private void save(List<Person> persons) throws IOException {
+        boolean isRebuild = !hasBaseline;
+        long[] ranks = isRebuild ? spacedRanks(persons.size()) : assignRanks(persons);
+
+        Set<String> names = new HashSet<>();
+        for (Person person : persons) {
+            names.add(person.getName().fullName);
+        }
+        List<String> removedNames = new ArrayList<>();
+        for (String savedName : savedPersons.keySet()) {
+            if (!names.contains(savedName)) {
+                removedNames.add(savedName);
+            }
+        }
+
+        // Lists that undo may bring back can still be deferred to the entries about to be replaced or removed, in the
+        // model as well as in the persons saved, so those entries are read and kept first.
+        if (isRebuild) {
+            for (String owner : new ArrayList<>(deferredDeliveries.keySet())) {
+                keepDeferredDeliveries(owner);
+            }
+        }
+        for (String name : removedNames) {
+            keepDeferredDeliveries(name);
+        }
+
+        // Encode everything before writing anything.
+        List<PendingPerson> pending = new ArrayList<>();
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            SavedPerson saved = savedPersons.get(person.getName().fullName);
+            boolean isChanged = isRebuild || saved == null || saved.version != person.getVersion();
+            if (isChanged) {
+                keepDeferredDeliveries(person.getName().fullName);
+            }
+            if (isChanged || saved.rank != ranks[i]) {
+                pending.add(new PendingPerson(person, ranks[i], isChanged));
+            }
+        }
+
+        if (isRebuild && Files.exists(filePath) && !isPaged()) {
+            logger.info("Converting " + filePath + " into a paged file");
+            JournaledAddressBookStorage.moveToBackup(filePath);
+        }
+
+        BPlusTree personTree = getPersonTree();
+        BPlusTree deliveryTree = getDeliveryTree();
+        if (isRebuild) {
+            personTree.clear();
+            deliveryTree.clear();
+        }
+        for (String name : removedNames) {
+            byte[] record = personTree.get(personKey(name));
+            if (record != null) {
+                for (String id : new HashSet<>(PersonRecord.decode(name, record).deliveryIds)) {
+                    deliveryTree.remove(deliveryKey(id, name));
+                }
+                personTree.remove(personKey(name));
+            }
+        }
+        for (PendingPerson person : pending) {
+            person.apply(personTree, deliveryTree);
+        }
+        pageFile.commit();
+
+        savedPersons.clear();
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            savedPersons.put(person.getName().fullName, new SavedPerson(person, person.getVersion(), ranks[i]));
+        }
+        hasBaseline = true;
+        logger.fine("Wrote " + pending.size() + " of " + persons.size() + " persons into "
+                + pageFile.getLastCommitPageCount() + " pages of " + filePath);
+    }
+
+    /**
+     * Returns increasing ranks for {@code persons} in their order, keeping the saved ranks of as many of them as
+     * possible so that their entries need not be written again.
+     */
+    private long[] assignRanks(List<Person> persons) {
+        int count = persons.size();
+        long[] ranks = new long[count];
+        boolean[] isKept = new boolean[count];
+        long previous = Long.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            SavedPerson saved = savedPersons.get(persons.get(i).getName().fullName);
+            if (saved != null && saved.rank > previous) {
+                ranks[i] = saved.rank;
+                isKept[i] = true;
+                previous = saved.rank;
+            }
+        }
+
+        int start = 0;
+        while (start < count) {
+            if (isKept[start]) {
+                start++;
+                continue;
+            }
+            int end = start;
+            while (end < count && !isKept[end]) {
+                end++;
+            }
+            long gaps = end - start + 1;
+            long lower = start > 0 ? ranks[start - 1] : end < count ? ranks[end] - gaps * RANK_SPACING : 0;
+            long upper = end < count ? ranks[end] : lower + gaps * RANK_SPACING;
+            long step = (upper - lower) / gaps;
+            if (step < 1) {
+                return spacedRanks(count);
+            }
+            for (int i = start; i < end; i++) {
+                ranks[i] = lower + step * (i - start + 1);
+            }
+            start = end;
+        }
+        return ranks;
+    }
+
+    private static long[] spacedRanks(int count) {
+        long[] ranks = new long[count];
+        for (int i = 0; i < count; i++) {
+            ranks[i] = i * RANK_SPACING;
+        }
+        return ranks;
+    }
+
+    private synchronized BPlusTree getPersonTree() throws IOException {
+        return new BPlusTree(getPageFile(), PERSON_TREE_SLOT);
+    }
+
+    private synchronized BPlusTree getDeliveryTree() throws IOException {
+        return new BPlusTree(getPageFile(), DELIVERY_TREE_SLOT);
+    }
+
+    private PageFile getPageFile() throws IOException {
+        if (pageFile == null) {
+            pageFile = PageFile.open(filePath, PageFile.DEFAULT_CACHE_CAPACITY, opener);
+        }
+        return pageFile;
+    }
+
+    private void discardChanges() {
+        if (pageFile != null) {
+            pageFile.rollback();
+        }
+    }
+
+    /**
+     * Closes the paged file if it is open. It is opened again when it is next read or saved.
+     */
+    public synchronized void close() {
+        closePageFile();
+    }
+
+    private void closePageFile() {
+        if (pageFile == null) {
+            return;
+        }
+        try {
+            pageFile.close();
+        } catch (IOException e) {
+            logger.warning("Error closing paged file " + filePath + ": " + e);
+        }
+        pageFile = null;
+    }
+
+    /**
+     * Returns the number of pages written by the last save.
+     */
+    synchronized int getLastCommitPageCount() {
+        return pageFile == null ? 0 : pageFile.getLastCommitPageCount();
+    }
+
+    private static byte[] personKey(String name) {
+        return name.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] deliveryKey(String deliveryId, String owner) {
+        byte[] id = deliveryId.getBytes(StandardCharsets.UTF_8);
+        byte[] name = owner.getBytes(StandardCharsets.UTF_8);
+        byte[] key = Arrays.copyOf(id, id.length + 1 + name.length);
+        System.arraycopy(name, 0, key, id.length + 1, name.length);
+        return key;
+    }
+
+    /**
+     * The deliveries of a client, read from the delivery tree when they are first needed.
+     * <p>
+     * A loader is shared by every copy of the list it was handed to, including those kept for undo, which can outlive
+     * the entries it reads. The deliveries are therefore read and kept by {@link #keep()} before those entries are
+     * replaced or removed, and the kept deliveries are returned from then on.
+     */
+    private class DeferredDeliveries implements Supplier<List<Delivery>> {
+        private final String owner;
+        private final List<String> deliveryIds;
+        private volatile List<Delivery> kept;
+
+        DeferredDeliveries(String owner, List<String> deliveryIds) {
+            this.owner = owner;
+            this.deliveryIds = deliveryIds;
+        }
+
+        void keep() throws IOException {
+            if (kept == null) {
+                kept = List.copyOf(readDeliveries(owner, deliveryIds));
+            }
+        }
+
+        @Override
+        public List<Delivery> get() {
+            List<Delivery> deliveries = kept;
+            if (deliveries != null) {
+                return deliveries;
+            }
+            try {
+                return readDeliveries(owner, deliveryIds);
+            } catch (IOException e) {
+                throw new DeliveryLoadingException(String.format(MESSAGE_DELIVERIES_NOT_LOADED, filePath,
+                        e.getMessage()), e);
+            }
+        }
+    }
+
+    /**
+     * A person as it was last saved.
+     */
+    private static class SavedPerson {
+        private final Person person;
+        private final long version;
+        private final long rank;
+
+        SavedPerson(Person person, long version, long rank) {
+            this.person = person;
+            this.version = version;
+            this.rank = rank;
+        }
+    }
+
+    /**
+     * The value stored for a person in the person tree.
+     */
+    private static class PersonRecord {
+        private final String name;
+        private final long rank;
+        private final List<String> deliveryIds;
+        private final byte[] details;
+
+        PersonRecord(String name, long rank, List<String> deliveryIds, byte[] details) {
+            this.name = name;
+            this.rank = rank;
+            this.deliveryIds = deliveryIds;
+            this.details = details;
+        }
+
+        static PersonRecord decode(String name, byte[] value) throws IOException {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(value));
+            long rank = in.readLong();
+            int idCount = in.readInt();
+            List<String> deliveryIds = new ArrayList<>();
+            for (int i = 0; i < idCount; i++) {
+                deliveryIds.add(in.readUTF());
+            }
+            return new PersonRecord(name, rank, deliveryIds, in.readAllBytes());
+        }
+
+        byte[] encode() throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeLong(rank);
+            out.writeInt(deliveryIds.size());
+            for (String id : deliveryIds) {
+                out.writeUTF(id);
+            }
+            out.write(details);
+            out.flush();
+            return bytes.toByteArray();
+        }
+    }
+
+    /**
+     * The entries of a person to be written, encoded ahead of the write.
+     */
+    private static class PendingPerson {
+        private final String name;
+        private final byte[] record;
+        // Null if only the rank of the person changed, which leaves its deliveries as they are.
+        private final Map<String, byte[]> deliveries;
+
+        PendingPerson(Person person, long rank, boolean isChanged) throws IOException {
+            name = person.getName().fullName;
+            List<String> deliveryIds = new ArrayList<>();
+            Map<String, List<Delivery>> deliveriesById = new LinkedHashMap<>();
+            for (Delivery delivery : person.getUnmodifiableDeliveryList()) {
+                String id = delivery.getDeliveryId().value;
+                deliveryIds.add(id);
+                deliveriesById.computeIfAbsent(id, unused -> new ArrayList<>()).add(delivery);
+            }
+            record = new PersonRecord(name, rank, deliveryIds,
+                    BinaryAddressBookWriter.encodePersonDetails(person)).encode();
+
+            if (!isChanged) {
+                deliveries = null;
+                return;
+            }
+            deliveries = new LinkedHashMap<>();
+            for (Map.Entry<String, List<Delivery>> sameId : deliveriesById.entrySet()) {
+                deliveries.put(sameId.getKey(), BinaryAddressBookWriter.encodeDeliveries(sameId.getValue()));
+            }
+        }
+
+        /**
+         * Writes the entries of this person that differ from those in the trees.
+         */
+        void apply(BPlusTree personTree, BPlusTree deliveryTree) throws IOException {
+            byte[] key = personKey(name);
+            byte[] oldRecord = personTree.get(key);
+            if (oldRecord == null || !Arrays.equals(oldRecord, record)) {
+                personTree.put(key, record);
+            }
+            if (deliveries == null) {
+                return;
+            }
+
+            if (oldRecord != null) {
+                for (String id : PersonRecord.decode(name, oldRecord).deliveryIds) {
+                    if (!deliveries.containsKey(id)) {
+                        deliveryTree.remove(deliveryKey(id, name));
+                    }
+                }
+            }
+            for (Map.Entry<String, byte[]> delivery : deliveries.entrySet()) {
+                byte[] deliveryKey = deliveryKey(delivery.getKey(), name);
+                if (!Arrays.equals(deliveryTree.get(deliveryKey), delivery.getValue())) {
+                    deliveryTree.put(deliveryKey, delivery.getValue());
+                }
+            }
+        }
+    }
+}
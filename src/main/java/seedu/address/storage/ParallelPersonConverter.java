@@ -0,0 +1,83 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Converts the stored form of every person of an address book into a {@code Person}, spreading the conversions
+ * over the common fork-join pool.
+ * <p>
+ * The result, and the error reported for invalid data, are the same as converting the persons one by one in order
+ * and stopping at the first person that is invalid or has the same name as an earlier person.
+ */
+class ParallelPersonConverter {
+
+    public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+
+    /** Address books with fewer persons than this are converted on the calling thread. */
+    static final int PARALLEL_THRESHOLD = 64;
+
+    /**
+     * Converts the stored form of a single person.
+     */
+    @FunctionalInterface
+    interface Converter<T> {
+        Person convert(T source) throws IllegalValueException;
+    }
+
+    private ParallelPersonConverter() {} // prevents instantiation
+
+    /**
+     * Returns the persons converted from {@code sources}, in the order that {@code AddressBook#addPerson} would
+     * place them.
+     *
+     * @throws IllegalValueException if there were any data constraints violated, or two persons have the same name.
+     */
+    static <T> List<Person> convertAll(List<T> sources, Converter<T> converter) throws IllegalValueException {
+        int count = sources.size();
+        Person[] persons = new Person[count];
+        IllegalValueException[] errors = new IllegalValueException[count];
+        // Index of the first person with each name, to tell which of two persons with the same name comes later.
+        ConcurrentMap<Name, Integer> firstIndexByName = new ConcurrentHashMap<>();
+
+        IntStream indexes = IntStream.range(0, count);
+        if (count >= PARALLEL_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> {
+            try {
+                persons[i] = converter.convert(sources.get(i));
+                firstIndexByName.merge(persons[i].getName(), i, Math::min);
+            } catch (IllegalValueException e) {
+                errors[i] = e;
+            }
+        });
+
+        List<Person> activePersons = new ArrayList<>();
+        List<Person> archivedPersons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            if (errors[i] != null) {
+                throw errors[i];
+            }
+            if (firstIndexByName.get(persons[i].getName()) < i) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            }
+            // Archived persons always come after active ones, as in AddressBook#addPerson.
+            if (persons[i].isArchived()) {
+                archivedPersons.add(persons[i]);
+            } else {
+                activePersons.add(persons[i]);
+            }
+        }
+
+        activePersons.addAll(archivedPersons);
+        return activePersons;
+    }
+}
@@ -0,0 +1,300 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.delivery.exceptions.DeliveryLoadingException;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a directory of segment files, one json file per person, listed in
+ * order by a manifest.
+ * <p>
+ * The directory sits next to where the data file of the other formats would be, and is named after it (see
+ * {@link #getDirectoryPath(Path)}). A save writes only the persons that changed since the previous save, each into a
+ * new segment file, and then replaces the manifest. A crash midway through a save therefore leaves the previous
+ * manifest and all the segments it lists intact. Segments are read in parallel.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String DIRECTORY_SUFFIX = "-segments";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String BACKUP_SUFFIX = ".bak";
+
+    private static final String SEGMENT_PREFIX = "person-";
+    private static final String SEGMENT_SUFFIX = ".json";
+    private static final Pattern SEGMENT_PATTERN = Pattern.compile("person-(\\d{1,18})\\.json");
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path filePath;
+
+    // What the directory currently holds, used to work out what changed on the next save.
+    // Persons are keyed by name, which is unique within an address book.
+    private final List<String> savedSegments = new ArrayList<>();
+    private final Map<String, String> savedSegmentsByName = new HashMap<>();
+    private final Map<String, Long> savedVersions = new HashMap<>();
+    private boolean hasBaseline = false;
+    private long nextSegment = 1;
+
+    public ShardedAddressBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the directory that holds the segments of the address book whose data file would be {@code filePath}.
+     * The directory is named after the data file, without its extension.
+     */
+    public static Path getDirectoryPath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Returns true if an address book is stored in segments for the data file {@code filePath}.
+     */
+    public static boolean hasManifest(Path filePath) {
+        return Files.isRegularFile(getDirectoryPath(filePath).resolve(MANIFEST_FILE_NAME));
+    }
+
+    static boolean isSegmentFileName(String fileName) {
+        return SEGMENT_PATTERN.matcher(fileName).matches();
+    }
+
+    /**
+     * Moves the segment directory for the data file {@code filePath} aside to a backup directory, replacing any
+     * earlier backup, so that it is no longer read.
+     */
+    public static void moveToBackup(Path filePath) throws IOException {
+        Path directory = getDirectoryPath(filePath);
+        Path backup = directory.resolveSibling(directory.getFileName() + BACKUP_SUFFIX);
+        if (Files.exists(backup)) {
+            try (Stream<Path> paths = Files.walk(backup)) {
+                for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                    Files.delete(path);
+                }
+            }
+        }
+        Files.move(directory, backup);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data file that the segments are named after. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path directory = getDirectoryPath(filePath);
+        Path manifestPath = directory.resolve(MANIFEST_FILE_NAME);
+        if (!Files.exists(manifestPath)) {
+            return Optional.empty();
+        }
+
+        List<String> segments;
+        Map<String, String> segmentsByName = new ConcurrentHashMap<>();
+        AddressBook addressBook = new AddressBook();
+        try {
+            segments = JsonUtil.fromJsonString(Files.readString(manifestPath), JsonAdaptedManifest.class)
+                    .getSegments();
+            List<JsonAdaptedPerson> segmentPersons = readSegments(directory, segments);
+            AssignedDeliveryResolver resolver = new AssignedDeliveryResolver();
+            List<Integer> indexes = IntStream.range(0, segments.size()).boxed().collect(Collectors.toList());
+            List<Person> persons = ParallelPersonConverter.convertAll(indexes, i -> {
+                Person person = segmentPersons.get(i).toModelType(resolver);
+                segmentsByName.put(person.getName().fullName, segments.get(i));
+                return person;
+            });
+            resolver.setPersons(persons);
+            addressBook.setPersons(persons);
+        } catch (IOException e) {
+            logger.warning("Error reading from segments in " + directory + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directory + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            nextSegment = 1;
+            for (String segment : segments) {
+                nextSegment = Math.max(nextSegment, segmentNumber(segment) + 1);
+            }
+            rememberSaved(addressBook, segments, segmentsByName);
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Reads the persons stored in {@code segments}, in parallel if there are many of them.
+     */
+    private static List<JsonAdaptedPerson> readSegments(Path directory, List<String> segments) throws IOException {
+        int count = segments.size();
+        JsonAdaptedPerson[] persons = new JsonAdaptedPerson[count];
+        IOException[] errors = new IOException[count];
+
+        IntStream indexes = IntStream.range(0, count);
+        if (count >= ParallelPersonConverter.PARALLEL_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> {
+            try {
+                persons[i] = JsonUtil.fromJsonString(Files.readString(directory.resolve(segments.get(i))),
+                        JsonAdaptedPerson.class);
+            } catch (IOException e) {
+                errors[i] = e;
+            }
+        });
+
+        for (IOException error : errors) {
+            if (error != null) {
+                throw error;
+            }
+        }
+        return Arrays.asList(persons);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saves to any location other than this storage's own write every person.
+     *
+     * @param filePath location of the data file that the segments are named after. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            new ShardedAddressBookStorage(filePath).saveAddressBook(addressBook);
+            return;
+        }
+
+        Path directory = getDirectoryPath(filePath);
+        Files.createDirectories(directory);
+        Set<String> existingSegments = hasBaseline ? new HashSet<>(savedSegments) : listSegments(directory);
+        if (!hasBaseline) {
+            for (String segment : existingSegments) {
+                nextSegment = Math.max(nextSegment, segmentNumber(segment) + 1);
+            }
+        }
+
+        List<String> segments = new ArrayList<>();
+        Map<String, String> segmentsByName = new HashMap<>();
+        int written = 0;
+        for (Person person : addressBook.getPersonList()) {
+            String name = person.getName().fullName;
+            String segment = savedSegmentsByName.get(name);
+            Long savedVersion = savedVersions.get(name);
+            if (segment == null || savedVersion == null || savedVersion != person.getVersion()) {
+                // Never overwrite a segment in place, as the manifest on disk may still list it.
+                segment = SEGMENT_PREFIX + nextSegment++ + SEGMENT_SUFFIX;
+                writeSegment(directory.resolve(segment), person);
+                written++;
+            }
+            segments.add(segment);
+            segmentsByName.put(name, segment);
+        }
+
+        if (hasBaseline && written == 0 && segments.equals(savedSegments)) {
+            return;
+        }
+
+        Path manifestPath = directory.resolve(MANIFEST_FILE_NAME);
+        Path tempPath = directory.resolve(MANIFEST_FILE_NAME + ".tmp");
+        Files.writeString(tempPath, JsonUtil.toJsonString(new JsonAdaptedManifest(segments)));
+        Files.move(tempPath, manifestPath, StandardCopyOption.REPLACE_EXISTING);
+
+        existingSegments.removeAll(segments);
+        for (String segment : existingSegments) {
+            Files.deleteIfExists(directory.resolve(segment));
+        }
+        rememberSaved(addressBook, segments, segmentsByName);
+        logger.fine("Wrote " + written + " of " + segments.size() + " segments into " + directory);
+    }
+
+    private static void writeSegment(Path segmentPath, Person person) throws IOException {
+        try {
+            Files.writeString(segmentPath, JsonUtil.toCompactJsonString(new JsonAdaptedPerson(person)));
+        } catch (DeliveryLoadingException e) {
+            // Deliveries that could not be loaded cannot be saved either.
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    private static Set<String> listSegments(Path directory) throws IOException {
+        Set<String> segments = new HashSet<>();
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory)) {
+            for (Path path : paths) {
+                String fileName = path.getFileName().toString();
+                if (isSegmentFileName(fileName)) {
+                    segments.add(fileName);
+                }
+            }
+        }
+        return segments;
+    }
+
+    private static long segmentNumber(String segment) {
+        Matcher matcher = SEGMENT_PATTERN.matcher(segment);
+        return matcher.matches() ? Long.parseLong(matcher.group(1)) : 0;
+    }
+
+    private void rememberSaved(ReadOnlyAddressBook addressBook, List<String> segments,
+            Map<String, String> segmentsByName) {
+        savedSegments.clear();
+        savedSegments.addAll(segments);
+        savedSegmentsByName.clear();
+        savedSegmentsByName.putAll(segmentsByName);
+        savedVersions.clear();
+        for (Person person : addressBook.getPersonList()) {
+            savedVersions.put(person.getName().fullName, person.getVersion());
+        }
+        hasBaseline = true;
+    }
+}
@@ -1,15 +1,21 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookFormat;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.delivery.exceptions.DeliveryLoadingException;
+import seedu.address.model.person.Person;
 
 /**
  * Manages storage of AddressBook data in local storage.
@@ -28,6 +34,28 @@ public class StorageManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Returns the storage for the address book in the format chosen in {@code userPrefs}.
+     * The data file is named with the extension of the format, see {@link AddressBookFormat#toDataFilePath(Path)}.
+     */
+    public static AddressBookStorage createAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getAddressBookFormat().toDataFilePath(userPrefs.getAddressBookFilePath());
+        boolean isCompressed = userPrefs.isDataFileCompressed();
+        switch (userPrefs.getAddressBookFormat()) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath, isCompressed);
+        case SHARDED:
+            // Segments hold a single person each, which is too little to compress well.
+            return new ShardedAddressBookStorage(filePath);
+        case PAGED:
+            // Pages are written in place, so they are not compressed either.
+            return new PagedAddressBookStorage(filePath);
+        default:
+            return new JournaledAddressBookStorage(filePath, JournaledAddressBookStorage.DEFAULT_CHECKPOINT_INTERVAL,
+                    isCompressed);
+        }
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -61,7 +89,98 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return addressBookStorage.readAddressBook(filePath);
+        Optional<ReadOnlyAddressBook> addressBook = addressBookStorage.readAddressBook(filePath);
+        if (addressBook.isPresent() || !filePath.equals(getAddressBookFilePath())) {
+            return addressBook;
+        }
+        return migrateAddressBook(filePath);
+    }
+
+    /**
+     * Reads the address book for {@code filePath} if it is stored in the other layout from the one in use, that is in
+     * a single data file rather than a directory of segments or the other way round, or in the data file of another
+     * format, such as {@code LogiLink.json} for a {@code LogiLink.bin} in use. It is then converted into the layout
+     * and file in use, and the old data file or segments are kept as a backup.
+     * If the conversion fails, the address book is still returned and the old data is left untouched.
+     */
+    private Optional<ReadOnlyAddressBook> migrateAddressBook(Path filePath) throws DataLoadingException {
+        boolean isSegments = !Files.isRegularFile(filePath) && ShardedAddressBookStorage.hasManifest(filePath);
+        Optional<Path> sourcePath = isSegments || Files.isRegularFile(filePath)
+                ? Optional.of(filePath)
+                : findDataFileInOtherFormat(filePath);
+        if (sourcePath.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Optional<ReadOnlyAddressBook> addressBook = isSegments
+                ? new ShardedAddressBookStorage(filePath).readAddressBook()
+                : readDataFile(sourcePath.get());
+        if (addressBook.isEmpty()) {
+            return addressBook;
+        }
+
+        try {
+            addressBookStorage.saveAddressBook(addressBook.get(), filePath);
+            addressBookStorage.flushAddressBook();
+            if (isSegments) {
+                ShardedAddressBookStorage.moveToBackup(filePath);
+            } else {
+                JournaledAddressBookStorage.moveToBackup(sourcePath.get());
+            }
+            logger.info("Migrated address book for " + filePath + (isSegments ? " from segments"
+                    : " from the data file " + sourcePath.get()));
+        } catch (IOException e) {
+            logger.warning("Could not migrate address book for " + filePath + ": " + e);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns the data file that {@code filePath} would have in another format, if there is one, such as the file
+     * saved before the format in use was chosen.
+     */
+    private static Optional<Path> findDataFileInOtherFormat(Path filePath) {
+        for (AddressBookFormat format : AddressBookFormat.values()) {
+            Path otherPath = format.toDataFilePath(filePath);
+            if (!otherPath.equals(filePath) && Files.isRegularFile(otherPath)) {
+                return Optional.of(otherPath);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Reads the address book from the data file that {@code filePath} would have in another format, if there is one,
+     * without converting it. Lets a reader that does not save, such as a headless export, read the address book
+     * before the app has migrated it.
+     */
+    public static Optional<ReadOnlyAddressBook> readDataFileInOtherFormat(Path filePath) throws DataLoadingException {
+        Optional<Path> otherPath = findDataFileInOtherFormat(filePath);
+        return otherPath.isEmpty() ? Optional.empty() : readDataFile(otherPath.get());
+    }
+
+    /**
+     * Reads the address book in the single data file at {@code filePath}, whatever its format, and loads all of its
+     * deliveries, so that it no longer depends on the file once it is moved aside.
+     */
+    private static Optional<ReadOnlyAddressBook> readDataFile(Path filePath) throws DataLoadingException {
+        PagedAddressBookStorage reader = new PagedAddressBookStorage(filePath);
+        try {
+            Optional<ReadOnlyAddressBook> addressBook = reader.readAddressBook();
+            addressBook.ifPresent(StorageManager::loadDeliveries);
+            return addressBook;
+        } catch (DeliveryLoadingException e) {
+            throw new DataLoadingException(e);
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static void loadDeliveries(ReadOnlyAddressBook addressBook) {
+        for (Person person : addressBook.getPersonList()) {
+            person.getDeliveryListSize();
+            person.getWorker().getAssignedDeliveryList().size();
+        }
     }
 
     @Override
@@ -75,4 +194,25 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void flushAddressBook() throws IOException {
+        addressBookStorage.flushAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBookAsOf(Instant time) throws DataLoadingException {
+        logger.fine("Attempting to read data as of " + time);
+        return addressBookStorage.readAddressBookAsOf(time);
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> handler) {
+        addressBookStorage.setSaveFailureHandler(handler);
+    }
+
+    @Override
+    public void setExternalChangeHandler(Consumer<ReadOnlyAddressBook> handler) {
+        addressBookStorage.setExternalChangeHandler(handler);
+    }
+
 }
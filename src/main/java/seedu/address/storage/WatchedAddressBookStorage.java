@@ -0,0 +1,279 @@
+package seedu.address.storage;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that watches the data file of another {@code AddressBookStorage} for changes made by
+ * other programs, and reads the address book again whenever they change it.
+ * <p>
+ * The data file is told apart from the one this storage last read or wrote by its modification time, size and file
+ * key, so the writes of this storage are never mistaken for changes made by other programs. As other programs may
+ * write the file in several steps, it is only read again once it has stopped changing for {@code QUIET_MILLIS}.
+ * <p>
+ * The address book read is handed to the external change handler on the watching thread.
+ */
+public class WatchedAddressBookStorage implements AddressBookStorage {
+
+    static final long QUIET_MILLIS = 250;
+
+    private static final Logger logger = LogsCenter.getLogger(WatchedAddressBookStorage.class);
+
+    private final AddressBookStorage storage;
+    private final Path filePath;
+
+    private final Object lock = new Object();
+
+    // Guarded by lock.
+    private String lastSignature;
+    private Consumer<ReadOnlyAddressBook> externalChangeHandler = addressBook -> {};
+    private WatchService watchService;
+
+    /**
+     * Creates a {@code WatchedAddressBookStorage} that watches the data file of {@code storage}.
+     * The file is not watched until {@link #startWatching()} is called.
+     */
+    public WatchedAddressBookStorage(AddressBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.filePath = storage.getAddressBookFilePath().toAbsolutePath();
+        this.lastSignature = readSignature();
+    }
+
+    /**
+     * Starts watching the data file on a background thread, and reads it again straight away if it has changed since
+     * this storage last read or wrote it.
+     *
+     * @throws IOException if the folder of the data file cannot be watched.
+     */
+    public void startWatching() throws IOException {
+        WatchService newWatchService = filePath.getFileSystem().newWatchService();
+        try {
+            Path folder = filePath.getParent();
+            Files.createDirectories(folder);
+            folder.register(newWatchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            if (Files.isDirectory(filePath)) {
+                // Data kept in a directory of segments changes inside it.
+                filePath.register(newWatchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            }
+        } catch (IOException e) {
+            newWatchService.close();
+            throw e;
+        }
+
+        synchronized (lock) {
+            assert watchService == null : "The data file is already being watched";
+            watchService = newWatchService;
+        }
+        Thread watcher = new Thread(() -> runWatcher(newWatchService), "address-book-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        logger.info("Watching " + filePath + " for changes made by other programs");
+
+        reloadIfChanged();
+    }
+
+    /**
+     * Stops watching the data file.
+     */
+    public void close() throws IOException {
+        WatchService oldWatchService;
+        synchronized (lock) {
+            oldWatchService = watchService;
+            watchService = null;
+        }
+        if (oldWatchService != null) {
+            oldWatchService.close();
+        }
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(storage.getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        synchronized (lock) {
+            // Taken before reading, so that a change made while reading is still noticed afterwards.
+            String signature = readSignature();
+            Optional<ReadOnlyAddressBook> addressBook = storage.readAddressBook(filePath);
+            if (isOwnFile(filePath)) {
+                lastSignature = signature;
+            }
+            return addressBook;
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBookAsOf(Instant time) throws DataLoadingException {
+        synchronized (lock) {
+            return storage.readAddressBookAsOf(time);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, storage.getAddressBookFilePath());
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        synchronized (lock) {
+            try {
+                storage.saveAddressBook(addressBook, filePath);
+            } finally {
+                if (isOwnFile(filePath)) {
+                    lastSignature = readSignature();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        synchronized (lock) {
+            // A change another program made before the flush must still be noticed, so the data file is only taken
+            // as this storage's own if it was unchanged until the flush wrote it.
+            boolean isUnchanged = readSignature().equals(lastSignature);
+            try {
+                storage.flushAddressBook();
+            } finally {
+                if (isUnchanged) {
+                    lastSignature = readSignature();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> handler) {
+        storage.setSaveFailureHandler(handler);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The handler is called on the thread that watches the data file.
+     */
+    @Override
+    public void setExternalChangeHandler(Consumer<ReadOnlyAddressBook> handler) {
+        requireNonNull(handler);
+        synchronized (lock) {
+            externalChangeHandler = handler;
+        }
+    }
+
+    private void runWatcher(WatchService watchService) {
+        try {
+            while (true) {
+                boolean isChanged = isDataFileEvent(watchService.take());
+                WatchKey key;
+                while ((key = watchService.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    isChanged |= isDataFileEvent(key);
+                }
+                if (isChanged) {
+                    try {
+                        reloadIfChanged();
+                    } catch (RuntimeException e) {
+                        // Keeps watching, so that a later change can still be picked up.
+                        logger.warning("Error reloading data file at " + filePath + ": " + e);
+                    }
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            logger.fine("Stopped watching " + filePath);
+        }
+    }
+
+    /**
+     * Returns true if any of the events of {@code key} may concern the data file, and readies {@code key} for more.
+     */
+    private boolean isDataFileEvent(WatchKey key) {
+        Path watched = (Path) key.watchable();
+        boolean isDataFileEvent = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            isDataFileEvent |= event.kind() == OVERFLOW
+                    || watched.equals(filePath)
+                    || filePath.getFileName().equals(event.context());
+        }
+        key.reset();
+        return isDataFileEvent;
+    }
+
+    /**
+     * Reads the address book again and hands it to the external change handler, if the data file has changed since
+     * this storage last read or wrote it.
+     */
+    void reloadIfChanged() {
+        Optional<ReadOnlyAddressBook> addressBook;
+        Consumer<ReadOnlyAddressBook> handler;
+        synchronized (lock) {
+            // Taken before reading, so that a change made while reading is still noticed afterwards.
+            String signature = readSignature();
+            if (signature.equals(lastSignature)) {
+                return;
+            }
+            try {
+                addressBook = storage.readExternalChange();
+            } catch (DataLoadingException e) {
+                logger.warning("Data file at " + filePath + " was changed by another program, but could not be read: "
+                        + e.getMessage());
+                return;
+            }
+            lastSignature = signature;
+            handler = externalChangeHandler;
+        }
+
+        if (addressBook.isEmpty()) {
+            logger.warning("Data file at " + filePath + " was removed by another program");
+            return;
+        }
+        logger.info("Data file at " + filePath + " was changed by another program");
+        handler.accept(addressBook.get());
+    }
+
+    private boolean isOwnFile(Path filePath) {
+        return filePath.toAbsolutePath().equals(this.filePath);
+    }
+
+    /**
+     * Returns a string that changes whenever the data file is written.
+     */
+    private String readSignature() {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+            return attributes.lastModifiedTime() + "/" + attributes.size() + "/" + attributes.fileKey();
+        } catch (NoSuchFileException e) {
+            return "missing";
+        } catch (IOException e) {
+            return "unreadable: " + e.getMessage();
+        }
+    }
+}
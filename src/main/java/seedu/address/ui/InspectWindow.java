@@ -3,6 +3,7 @@ package seedu.address.ui;
 import java.util.Set;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -20,6 +21,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.InspectCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -146,6 +148,10 @@ public class InspectWindow extends UiPart<Stage> {
         HBox roleField = createNormalField("Role", InspectWindow.person.getRole().toString());
 
         personInfoBox.getChildren().addAll(nameField, phoneField, emailField, addressField, tagsField, roleField);
+        if (AddressBookParser.getAsOf() != null) {
+            String asOf = InspectCommand.AS_OF_FORMATTER.format(AddressBookParser.getAsOf());
+            personInfoBox.getChildren().add(createNormalField("As of", asOf + " (read-only)"));
+        }
 
         DeliveryListPanel deliveryListPanel = new DeliveryListPanel(logic.getFilteredDeliveryList());
         VBox deliveryListBox = new VBox(deliveryListPanel.getRoot());
@@ -155,6 +161,7 @@ public class InspectWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
@@ -254,6 +261,7 @@ public class InspectWindow extends UiPart<Stage> {
         mainWindow.fillInnerParts();
         mainWindow.getResultDisplay().setFeedbackToUser(commandResult.getFeedbackToUser());
         AddressBookParser.setInspect(false);
+        AddressBookParser.setAsOf(null);
 
         helpWindow.close();
     }
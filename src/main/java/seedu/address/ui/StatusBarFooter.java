@@ -5,6 +5,7 @@ import java.nio.file.Paths;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 
 /**
@@ -17,12 +18,24 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private HBox loadingStatus;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
     public StatusBarFooter(Path saveLocation) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        setLoading(false);
+    }
+
+    /**
+     * Shows or hides the indicator that the address book data is being loaded.
+     */
+    public void setLoading(boolean isLoading) {
+        loadingStatus.setVisible(isLoading);
+        loadingStatus.setManaged(isLoading);
     }
 
 }
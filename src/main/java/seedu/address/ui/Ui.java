@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows that the address book data has finished loading. */
+    void showDataLoaded();
+
 }
@@ -1,8 +1,10 @@
 package seedu.address.ui;
 
+import java.lang.management.ManagementFactory;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
+import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.scene.image.Image;
@@ -43,6 +45,7 @@ public class UiManager implements Ui {
             mainWindow = new MainWindow(primaryStage, logic);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
+            logTimeToFirstFrame(primaryStage.getScene());
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
@@ -50,6 +53,25 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showDataLoaded() {
+        mainWindow.showDataLoaded();
+    }
+
+    /**
+     * Logs the time from the start of the app until {@code scene} is first laid out, just before it is drawn.
+     */
+    private void logTimeToFirstFrame(Scene scene) {
+        scene.addPostLayoutPulseListener(new Runnable() {
+            @Override
+            public void run() {
+                scene.removePostLayoutPulseListener(this);
+                logger.info(String.format("Time to first frame: %d ms",
+                        ManagementFactory.getRuntimeMXBean().getUptime()));
+            }
+        });
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -0,0 +1,93 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.parser.ExportCommandParser;
+import seedu.address.model.AddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.testutil.DeliveryBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class HeadlessExportTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private Path configPath;
+    private Path dataFilePath;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        dataFilePath = testFolder.resolve("data.json");
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(dataFilePath);
+        Path prefsPath = testFolder.resolve("preferences.json");
+        new JsonUserPrefsStorage(prefsPath).saveUserPrefs(userPrefs);
+
+        Config config = new Config();
+        config.setUserPrefsFilePath(prefsPath);
+        configPath = testFolder.resolve("config.json");
+        ConfigUtil.saveConfig(config, configPath);
+    }
+
+    private int run(String... args) {
+        return HeadlessExport.run(args, new PrintStream(out, true, StandardCharsets.UTF_8),
+                new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void run_validArguments_exportsFromDataFile() throws Exception {
+        Person client = new PersonBuilder().withName("Headless Client").build();
+        client.addDelivery(new DeliveryBuilder().withStatus("delivered").build());
+        client.addDelivery(new DeliveryBuilder().withStatus("delivering").build());
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(client);
+        new JsonAddressBookStorage(dataFilePath).saveAddressBook(addressBook);
+        Path exportPath = testFolder.resolve("deliveries.csv");
+
+        int status = run(HeadlessExport.CONFIG_OPTION + configPath, "deliveries", exportPath.toString(),
+                "s/delivered");
+
+        assertEquals(0, status);
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 1, "deliveries", exportPath),
+                out.toString(StandardCharsets.UTF_8).trim());
+        assertEquals(2, Files.readAllLines(exportPath).size());
+    }
+
+    @Test
+    public void run_missingDataFile_fails() {
+        int status = run(HeadlessExport.CONFIG_OPTION + configPath, "contacts", testFolder.resolve("c.csv").toString());
+
+        assertEquals(1, status);
+        assertEquals(String.format(HeadlessExport.MESSAGE_NO_DATA_FILE, dataFilePath),
+                err.toString(StandardCharsets.UTF_8).trim());
+    }
+
+    @Test
+    public void run_invalidArguments_fails() {
+        int status = run(HeadlessExport.CONFIG_OPTION + configPath, "contacts", "c.csv", "s/delivered");
+
+        assertEquals(1, status);
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains(
+                ExportCommandParser.MESSAGE_CONTACTS_FILTERED_BY_DELIVERY));
+    }
+}
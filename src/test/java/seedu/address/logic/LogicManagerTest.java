@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -9,10 +11,13 @@ import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,10 +25,12 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -93,6 +100,68 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommand_addressBookNotSaved() throws Exception {
+        AddressBookParser.setInspect(false);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void execute_modifyingCommand_addressBookSaved() throws Exception {
+        AddressBookParser.setInspect(false);
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void execute_whileDataLoading_onlyCommandsNotTouchingDataExecuted() throws Exception {
+        logic.startDataLoad();
+
+        assertCommandException(ListCommand.COMMAND_WORD, Messages.MESSAGE_DATA_LOADING);
+        assertCommandSuccess(HelpCommand.COMMAND_WORD, HelpCommand.SHOWING_HELP_MESSAGE, model);
+        assertFalse(logic.isDataLoaded());
+    }
+
+    @Test
+    public void finishDataLoad_loadedData_replacesDataWithoutSaving() throws Exception {
+        logic.startDataLoad();
+        logic.finishDataLoad(getTypicalAddressBook());
+
+        assertTrue(logic.isDataLoaded());
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        AddressBookParser.setInspect(false);
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS_PERSON, model);
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void applyExternalChange_changedData_modelUpdatedAndUndoable() throws Exception {
+        model.setAddressBook(getTypicalAddressBook());
+        AddressBook changed = new AddressBook(getTypicalAddressBook());
+        changed.addPerson(AMY);
+
+        assertEquals(Optional.of(String.format(Messages.MESSAGE_EXTERNAL_CHANGE_APPLIED, 1)),
+                ((LogicManager) logic).applyExternalChange(changed));
+        assertEquals(changed, model.getAddressBook());
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+
+        assertEquals(Optional.empty(), ((LogicManager) logic).applyExternalChange(changed));
+
+        model.undo();
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void applyExternalChange_whileDataLoading_ignored() {
+        logic.startDataLoad();
+        AddressBook changed = new AddressBook();
+        changed.addPerson(AMY);
+
+        assertEquals(Optional.empty(), ((LogicManager) logic).applyExternalChange(changed));
+        assertEquals(new AddressBook(), model.getAddressBook());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
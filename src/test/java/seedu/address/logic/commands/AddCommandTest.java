@@ -10,6 +10,8 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -20,6 +22,7 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookHistory;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -178,11 +181,51 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int updateAddressBook(ReadOnlyAddressBook addressBook) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setAddressBookHistory(AddressBookHistory addressBookHistory) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AddressBookHistory getAddressBookHistory() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void startUndoableChange(String description) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void finishUndoableChange() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<String> undo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<String> redo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -243,6 +286,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addDeliveries(Person person, List<Delivery> deliveries) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Delivery> getFilteredDeliveryList() {
             return null;
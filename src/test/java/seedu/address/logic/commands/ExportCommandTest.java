@@ -0,0 +1,189 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.ExportCommand.Target;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.delivery.Archive;
+import seedu.address.model.delivery.Date;
+import seedu.address.model.delivery.Delivery;
+import seedu.address.model.delivery.DeliveryMatchesFilterPredicate;
+import seedu.address.model.delivery.Status;
+import seedu.address.model.person.Person;
+import seedu.address.storage.DeliveryImportReader;
+import seedu.address.storage.DeliveryImportReader.Column;
+import seedu.address.storage.DeliveryImportReader.Row;
+import seedu.address.storage.ExportWriter;
+import seedu.address.testutil.DeliveryBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Delivery october = new DeliveryBuilder().withId("1729621344714-0001").withDate("2024-10-16")
+            .withStatus("delivered").withCost("$1234.50").build();
+    private final Delivery november = new DeliveryBuilder().withId("1729621344714-0002").withDate("2024-11-02")
+            .withStatus("not delivered").build();
+    private final Delivery archived = new DeliveryBuilder().withId("1729621344714-0003").withDate("2024-10-20")
+            .withStatus("delivered").withArchive("true").build();
+    private final Person alex = new PersonBuilder().withName("Alex Yeoh").withPhone("87438807").build();
+    private final Person bernice = new PersonBuilder().withName("Bernice Yu").withPhone("99272758")
+            .withAddress("Blk 30 Lorong 3, \"Serangoon\" Gardens, S550030").withArchive("true").build();
+    private final Model model;
+
+    public ExportCommandTest() {
+        alex.addDelivery(october);
+        alex.addDelivery(archived);
+        bernice.addDelivery(november);
+        model = new ModelManager(addressBookOf(alex, bernice), new UserPrefs());
+    }
+
+    private static AddressBook addressBookOf(Person... persons) {
+        AddressBook addressBook = new AddressBook();
+        for (Person person : persons) {
+            addressBook.addPerson(person);
+        }
+        return addressBook;
+    }
+
+    private static List<Row> readRows(Path filePath) throws Exception {
+        List<Row> rows = new ArrayList<>();
+        DeliveryImportReader.read(filePath, rows::add);
+        return rows;
+    }
+
+    private static String successMessage(int count, Target target, Path filePath) {
+        return String.format(ExportCommand.MESSAGE_SUCCESS, count, target.getKeyword(), filePath);
+    }
+
+    @Test
+    public void execute_allDeliveriesToCsv_everyDeliveryWritten() throws Exception {
+        Path filePath = testFolder.resolve("deliveries.csv");
+
+        CommandResult result = new ExportCommand(Target.DELIVERIES, filePath, DeliveryMatchesFilterPredicate.all())
+                .execute(model);
+
+        assertEquals(successMessage(3, Target.DELIVERIES, filePath), result.getFeedbackToUser());
+        List<String> lines = Files.readAllLines(filePath);
+        assertEquals(String.join(",", ExportCommand.DELIVERY_HEADERS), lines.get(0));
+        assertEquals(4, lines.size());
+        assertTrue(lines.get(1).startsWith("1729621344714-0001,Alex Yeoh,87438807,Laptop,2024-10-16,00:00,"
+                + "2103-12-31,\"123, Jurong West Ave 6, #08-111, S120300\",$1234.50,delivered,false,"));
+        assertFalse(Files.exists(testFolder.resolve("deliveries.csv.tmp")));
+    }
+
+    @Test
+    public void execute_filteredDeliveriesToNdjson_onlyMatchingWritten() throws Exception {
+        Path filePath = testFolder.resolve("deliveries.ndjson");
+        DeliveryMatchesFilterPredicate filter = new DeliveryMatchesFilterPredicate(new Status("delivered"),
+                new Date("2024-10-01"), new Date("2024-10-31"), new Archive(false));
+
+        CommandResult result = new ExportCommand(Target.DELIVERIES, filePath, filter).execute(model);
+
+        assertEquals(successMessage(1, Target.DELIVERIES, filePath), result.getFeedbackToUser());
+        List<Row> rows = readRows(filePath);
+        assertEquals(1, rows.size());
+        assertEquals("Alex Yeoh", rows.get(0).get(Column.NAME));
+        assertEquals(List.of("Laptop"), rows.get(0).getAll(Column.ITEMS));
+        assertEquals(List.of("Delayed delivery"), rows.get(0).getAll(Column.TAGS));
+    }
+
+    @Test
+    public void execute_exportedDeliveries_importedAgain() throws Exception {
+        Path filePath = testFolder.resolve("deliveries.csv");
+        new ExportCommand(Target.DELIVERIES, filePath, DeliveryMatchesFilterPredicate.all()).execute(model);
+        Person alexCopy = new PersonBuilder().withName("Alex Yeoh").withPhone("87438807").build();
+        Person berniceCopy = new PersonBuilder().withName("Bernice Yu").withPhone("99272758").build();
+        Model otherModel = new ModelManager(addressBookOf(alexCopy, berniceCopy), new UserPrefs());
+
+        CommandResult result = new ImportCommand(filePath).execute(otherModel);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 3, 2, filePath), result.getFeedbackToUser());
+        assertEquals(october.getCost(), alexCopy.getUnmodifiableDeliveryList().get(0).getCost());
+        assertEquals(1, berniceCopy.getDeliveryListSize());
+    }
+
+    @Test
+    public void execute_deferredDeliveries_notKeptAfterExport() throws Exception {
+        Person deferred = new PersonBuilder().withName("Deferred Client").build();
+        deferred.setDeferredDeliveryList(() -> List.of(new DeliveryBuilder().build(), new DeliveryBuilder().build()));
+        model.addPerson(deferred);
+        Path filePath = testFolder.resolve("deliveries.csv");
+
+        CommandResult result = new ExportCommand(Target.DELIVERIES, filePath, DeliveryMatchesFilterPredicate.all())
+                .execute(model);
+
+        assertEquals(successMessage(5, Target.DELIVERIES, filePath), result.getFeedbackToUser());
+        assertTrue(deferred.getDeliveryList().isDeferred());
+    }
+
+    @Test
+    public void execute_contactsToCsv_fieldsQuoted() throws Exception {
+        Path filePath = testFolder.resolve("contacts.csv");
+        DeliveryMatchesFilterPredicate archivedOnly = new DeliveryMatchesFilterPredicate(null, null, null,
+                new Archive(true));
+
+        CommandResult result = new ExportCommand(Target.CONTACTS, filePath, archivedOnly).execute(model);
+
+        assertEquals(successMessage(1, Target.CONTACTS, filePath), result.getFeedbackToUser());
+        List<String> lines = Files.readAllLines(filePath);
+        assertEquals(String.join(",", ExportCommand.CONTACT_HEADERS), lines.get(0));
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(1).startsWith("Bernice Yu,99272758,"));
+        assertTrue(lines.get(1).contains(",\"Blk 30 Lorong 3, \"\"Serangoon\"\" Gardens, S550030\","));
+    }
+
+    @Test
+    public void execute_fileNotWritable_throwsCommandException() throws Exception {
+        Path blocker = testFolder.resolve("blocker");
+        Files.writeString(blocker, "");
+        Path filePath = blocker.resolve("deliveries.csv");
+
+        ExportCommand command = new ExportCommand(Target.DELIVERIES, filePath, DeliveryMatchesFilterPredicate.all());
+
+        assertThrows(CommandException.class, () -> command.execute(model));
+    }
+
+    @Test
+    public void execute_unsupportedFile_throwsCommandException() {
+        Path filePath = testFolder.resolve("deliveries.xlsx");
+        assertCommandFailure(new ExportCommand(Target.DELIVERIES, filePath, DeliveryMatchesFilterPredicate.all()),
+                model, String.format(ExportCommand.MESSAGE_FILE_NOT_WRITTEN, filePath,
+                        ExportWriter.MESSAGE_UNSUPPORTED_FILE));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCommand = new ExportCommand(Target.DELIVERIES, Path.of("a.csv"),
+                DeliveryMatchesFilterPredicate.all());
+
+        assertTrue(exportCommand.equals(exportCommand));
+        assertTrue(exportCommand.equals(new ExportCommand(Target.DELIVERIES, Path.of("a.csv"),
+                new DeliveryMatchesFilterPredicate(null, null, null, null))));
+        assertFalse(exportCommand.equals(new ExportCommand(Target.CONTACTS, Path.of("a.csv"),
+                DeliveryMatchesFilterPredicate.all())));
+        assertFalse(exportCommand.equals(new ExportCommand(Target.DELIVERIES, Path.of("b.csv"),
+                DeliveryMatchesFilterPredicate.all())));
+        assertFalse(exportCommand.equals(new ExportCommand(Target.DELIVERIES, Path.of("a.csv"),
+                new DeliveryMatchesFilterPredicate(new Status("delivered"), null, null, null))));
+        assertFalse(exportCommand.equals(null));
+    }
+}
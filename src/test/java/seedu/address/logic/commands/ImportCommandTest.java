@@ -0,0 +1,185 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.delivery.Delivery;
+import seedu.address.model.delivery.DeliveryId;
+import seedu.address.model.person.Person;
+import seedu.address.storage.DeliveryImportReader;
+import seedu.address.testutil.DeliveryBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class ImportCommandTest {
+
+    private static final String HEADER = "name,phone,items,eta,address,cost,status,tags\n";
+    private static final String DELIVERY = "2025-01-01,\"311, Clementi Ave 2, S120300\",$100,not delivered";
+
+    @TempDir
+    public Path testFolder;
+
+    private final Person alex = new PersonBuilder().withName("Alex Yeoh").withPhone("87438807").build();
+    private final Person bernice = new PersonBuilder().withName("Bernice Yu").withPhone("99272758").build();
+    private final Person charlotte = new PersonBuilder().withName("Charlotte Oliveiro").withPhone("93210283")
+            .withRole("employee").build();
+    private final Model model = new ModelManager(addressBookOf(alex, bernice, charlotte), new UserPrefs());
+
+    private static AddressBook addressBookOf(Person... persons) {
+        AddressBook addressBook = new AddressBook();
+        for (Person person : persons) {
+            addressBook.addPerson(person);
+        }
+        return addressBook;
+    }
+
+    private Path writeFile(String fileName, String content) throws Exception {
+        Path filePath = testFolder.resolve(fileName);
+        Files.writeString(filePath, content);
+        return filePath;
+    }
+
+    private static String successMessage(Path filePath, int deliveries, int clients) {
+        return String.format(ImportCommand.MESSAGE_SUCCESS, deliveries, clients, filePath);
+    }
+
+    @Test
+    public void execute_validCsv_deliveriesAddedToClients() throws Exception {
+        Path filePath = writeFile("deliveries.csv", HEADER
+                + "Alex Yeoh,,Monitor;Mouse," + DELIVERY + ",fragile\n"
+                + ",99272758,Desk," + DELIVERY + ",\n"
+                + "Alex Yeoh,87438807,Chair," + DELIVERY + ",\n");
+
+        CommandResult result = new ImportCommand(filePath).execute(model);
+
+        assertEquals(successMessage(filePath, 3, 2), result.getFeedbackToUser());
+        assertEquals(2, alex.getDeliveryListSize());
+        assertEquals(1, bernice.getDeliveryListSize());
+        Delivery first = alex.getUnmodifiableDeliveryList().get(0);
+        assertEquals(2, first.getItems().size());
+        assertEquals(1, first.getTags().size());
+        assertNotEquals(first.getDeliveryId(), alex.getUnmodifiableDeliveryList().get(1).getDeliveryId());
+    }
+
+    @Test
+    public void execute_invalidRows_reportedWithoutAbortingImport() throws Exception {
+        Path filePath = writeFile("deliveries.csv", HEADER
+                + "Alex Yeoh,,Monitor," + DELIVERY + ",\n"
+                + "Nobody,,Monitor," + DELIVERY + ",\n"
+                + "Charlotte Oliveiro,,Monitor," + DELIVERY + ",\n"
+                + "Alex Yeoh,,Monitor,2025-13-01,\"Clementi Ave 2, S120300\",$1,delivered,\n"
+                + "Alex Yeoh,,Monitor,2025-01-01,\"Clementi Ave 2, S120300\",$1,\n"
+                + "Bernice Yu,99999999,Monitor," + DELIVERY + ",\n"
+                + ",,Monitor," + DELIVERY + ",\n"
+                + "Bernice Yu,,Desk," + DELIVERY + ",\n");
+
+        CommandResult result = new ImportCommand(filePath).execute(model);
+
+        String feedback = result.getFeedbackToUser();
+        assertTrue(feedback.startsWith(successMessage(filePath, 2, 2)
+                + String.format(ImportCommand.MESSAGE_ROWS_SKIPPED, 6)));
+        assertTrue(feedback.contains(String.format(ImportCommand.MESSAGE_ROW_ERROR, 3,
+                String.format(ImportCommand.MESSAGE_UNKNOWN_NAME, "Nobody"))));
+        assertTrue(feedback.contains(String.format(ImportCommand.MESSAGE_ROW_ERROR, 4,
+                String.format(ImportCommand.MESSAGE_NOT_A_CLIENT, "Charlotte Oliveiro"))));
+        assertTrue(feedback.contains(String.format(ImportCommand.MESSAGE_ROW_ERROR, 6,
+                String.format(ImportCommand.MESSAGE_MISSING_VALUE, "status"))));
+        assertTrue(feedback.contains(String.format(ImportCommand.MESSAGE_ROW_ERROR, 7,
+                String.format(ImportCommand.MESSAGE_PHONE_MISMATCH, "Bernice Yu"))));
+        assertTrue(feedback.contains(String.format(ImportCommand.MESSAGE_ROW_ERROR, 8,
+                ImportCommand.MESSAGE_MISSING_CLIENT)));
+        assertEquals(1, alex.getDeliveryListSize());
+        assertEquals(1, bernice.getDeliveryListSize());
+        assertEquals(0, charlotte.getDeliveryListSize());
+    }
+
+    @Test
+    public void execute_manyInvalidRows_onlyFirstReported() throws Exception {
+        StringBuilder content = new StringBuilder(HEADER);
+        for (int i = 0; i < ImportCommand.MAX_REPORTED_ERRORS + 5; i++) {
+            content.append("Nobody,,Monitor,").append(DELIVERY).append(",\n");
+        }
+        Path filePath = writeFile("deliveries.csv", content.toString());
+
+        String feedback = new ImportCommand(filePath).execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.endsWith(String.format(ImportCommand.MESSAGE_MORE_ROWS_SKIPPED, 5)));
+    }
+
+    @Test
+    public void execute_ndjson_deliveriesAddedBeforeArchived() throws Exception {
+        Delivery archived = new DeliveryBuilder().withArchive("true").build();
+        alex.addDelivery(archived);
+        Path filePath = writeFile("deliveries.ndjson",
+                "{\"phone\": \"87438807\", \"items\": [\"Monitor\"], \"eta\": \"2025-01-01\", "
+                + "\"address\": \"Clementi Ave 2, S120300\", \"cost\": \"$1\", \"status\": \"delivering\"}\n");
+
+        CommandResult result = new ImportCommand(filePath).execute(model);
+
+        assertEquals(successMessage(filePath, 1, 1), result.getFeedbackToUser());
+        List<Delivery> deliveries = alex.getUnmodifiableDeliveryList();
+        assertEquals(2, deliveries.size());
+        assertFalse(deliveries.get(0).isArchived());
+        assertEquals(archived, deliveries.get(1));
+    }
+
+    @Test
+    public void execute_manyRowsForClient_singleListChange() throws Exception {
+        StringBuilder content = new StringBuilder(HEADER);
+        for (int i = 0; i < 100; i++) {
+            content.append("Alex Yeoh,,Item ").append(i).append(',').append(DELIVERY).append(",\n");
+        }
+        Path filePath = writeFile("deliveries.csv", content.toString());
+        int[] changes = {0};
+        alex.getUnmodifiableDeliveryList().addListener((ListChangeListener<Delivery>) change -> changes[0]++);
+
+        new ImportCommand(filePath).execute(model);
+
+        assertEquals(1, changes[0]);
+        Set<DeliveryId> ids = alex.getUnmodifiableDeliveryList().stream()
+                .map(Delivery::getDeliveryId)
+                .collect(Collectors.toSet());
+        assertEquals(100, ids.size());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = testFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(filePath), model, String.format(ImportCommand.MESSAGE_FILE_NOT_READ,
+                filePath, filePath));
+    }
+
+    @Test
+    public void execute_missingColumns_throwsCommandException() throws Exception {
+        Path filePath = writeFile("deliveries.csv", "name,items,eta,address,cost\n");
+        assertCommandFailure(new ImportCommand(filePath), model, String.format(ImportCommand.MESSAGE_FILE_NOT_READ,
+                filePath, String.format(DeliveryImportReader.MESSAGE_MISSING_COLUMNS, "status")));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(Path.of("a.csv"));
+
+        assertTrue(importCommand.equals(importCommand));
+        assertTrue(importCommand.equals(new ImportCommand(Path.of("a.csv"))));
+        assertFalse(importCommand.equals(new ImportCommand(Path.of("b.csv"))));
+        assertFalse(importCommand.equals(null));
+        assertFalse(importCommand.equals(1));
+    }
+}
@@ -1,19 +1,30 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for
@@ -21,8 +32,15 @@ import seedu.address.model.UserPrefs;
  */
 public class InspectCommandTest {
 
+    private static final LocalDateTime AS_OF = LocalDateTime.of(2024, 10, 15, 18, 30);
+
     private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
 
+    @AfterEach
+    public void tearDown() {
+        AddressBookParser.setAsOf(null);
+    }
+
     @Test
     public void execute_outOfBoundIndexUnfilteredList_throwsCommandException() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
@@ -33,6 +51,37 @@ public class InspectCommandTest {
         assertCommandFailure(inspectCommand, model, expectedErrorMessage);
     }
 
+    @Test
+    public void execute_asOfRecordedTime_inspectsPastPerson() {
+        Person person = model.getFilteredPersonList().get(INDEX_FIRST.getZeroBased());
+        Person pastPerson = new PersonBuilder(person).withPhone("91234567").build();
+        AddressBook pastAddressBook = new AddressBook();
+        pastAddressBook.addPerson(pastPerson);
+        model.setAddressBookHistory(time -> Optional.of(pastAddressBook));
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        String expectedMessage = String.format(InspectCommand.MESSAGE_INSPECT_AS_OF_SUCCESS,
+                Messages.format(pastPerson), "2024-10-15 18:30");
+        assertCommandSuccess(new InspectCommand(INDEX_FIRST, AS_OF), model,
+                new CommandResult(expectedMessage, pastPerson, false, false, true), expectedModel);
+        assertEquals(AS_OF, AddressBookParser.getAsOf());
+    }
+
+    @Test
+    public void execute_asOfBeforeHistory_throwsCommandException() {
+        assertCommandFailure(new InspectCommand(INDEX_FIRST, AS_OF), model,
+                String.format(InspectCommand.MESSAGE_NO_HISTORY, "2024-10-15 18:30"));
+    }
+
+    @Test
+    public void execute_asOfBeforePersonAdded_throwsCommandException() {
+        Person person = model.getFilteredPersonList().get(INDEX_FIRST.getZeroBased());
+        model.setAddressBookHistory(time -> Optional.of(new AddressBook()));
+
+        assertCommandFailure(new InspectCommand(INDEX_FIRST, AS_OF), model,
+                String.format(InspectCommand.MESSAGE_NOT_IN_HISTORY, person.getName(), "2024-10-15 18:30"));
+    }
+
     @Test
     public void equals() {
         InspectCommand inspectFirstCommand = new InspectCommand(INDEX_FIRST);
@@ -53,5 +102,8 @@ public class InspectCommandTest {
 
         // different person -> returns false
         assertFalse(inspectFirstCommand.equals(inspectSecondCommand));
+
+        // different point in time -> returns false
+        assertFalse(inspectFirstCommand.equals(new InspectCommand(INDEX_FIRST, AS_OF)));
     }
 }
@@ -0,0 +1,40 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class RedoCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_nothingToRedo_failure() {
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+
+    @Test
+    public void execute_afterUndoneClear_addressBookClearedAgain() {
+        model.startUndoableChange(ClearCommand.COMMAND_WORD);
+        model.setAddressBook(new AddressBook());
+        model.finishUndoableChange();
+        model.undo();
+
+        Model expectedModel = new ModelManager();
+        assertCommandSuccess(new RedoCommand(), model,
+                String.format(RedoCommand.MESSAGE_SUCCESS, ClearCommand.COMMAND_WORD), expectedModel);
+    }
+
+    @Test
+    public void isUndoable() {
+        assertFalse(new RedoCommand().isUndoable());
+    }
+}
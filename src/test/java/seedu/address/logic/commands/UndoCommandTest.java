@@ -0,0 +1,39 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class UndoCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_nothingToUndo_failure() {
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+
+    @Test
+    public void execute_afterClear_addressBookRestored() {
+        model.startUndoableChange(ClearCommand.COMMAND_WORD);
+        model.setAddressBook(new AddressBook());
+        model.finishUndoableChange();
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertCommandSuccess(new UndoCommand(), model,
+                String.format(UndoCommand.MESSAGE_SUCCESS, ClearCommand.COMMAND_WORD), expectedModel);
+    }
+
+    @Test
+    public void isUndoable() {
+        assertFalse(new UndoCommand().isUndoable());
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ExportCommand.Target;
+import seedu.address.model.delivery.Archive;
+import seedu.address.model.delivery.Date;
+import seedu.address.model.delivery.DeliveryMatchesFilterPredicate;
+import seedu.address.model.delivery.Status;
+import seedu.address.storage.ExportWriter;
+
+public class ExportCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_noFilters_exportsEverything() {
+        assertParseSuccess(parser, " deliveries data/my deliveries.csv ", new ExportCommand(Target.DELIVERIES,
+                Path.of("data", "my deliveries.csv"), DeliveryMatchesFilterPredicate.all()));
+        assertParseSuccess(parser, "contacts contacts.ndjson", new ExportCommand(Target.CONTACTS,
+                Path.of("contacts.ndjson"), DeliveryMatchesFilterPredicate.all()));
+    }
+
+    @Test
+    public void parse_allFilters_success() {
+        DeliveryMatchesFilterPredicate filter = new DeliveryMatchesFilterPredicate(new Status("delivered"),
+                new Date("2024-10-01"), new Date("2024-10-31"), new Archive(false));
+        assertParseSuccess(parser, "deliveries out.jsonl s/delivered from/2024-10-01 to/2024-10-31 ar/false",
+                new ExportCommand(Target.DELIVERIES, Path.of("out.jsonl"), filter));
+    }
+
+    @Test
+    public void parse_contactsByArchive_success() {
+        assertParseSuccess(parser, "contacts out.csv ar/true", new ExportCommand(Target.CONTACTS, Path.of("out.csv"),
+                new DeliveryMatchesFilterPredicate(null, null, null, new Archive(true))));
+    }
+
+    @Test
+    public void parse_missingTargetOrFile_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "deliveries", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "orders out.csv", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "s/delivered", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidFilters_throwsParseException() {
+        assertParseFailure(parser, "deliveries out.xlsx", ExportWriter.MESSAGE_UNSUPPORTED_FILE);
+        assertParseFailure(parser, "deliveries out.csv s/lost", Status.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "deliveries out.csv from/yesterday", Date.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "deliveries out.csv ar/maybe", Archive.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "deliveries out.csv from/2024-11-01 to/2024-10-01",
+                ExportCommandParser.MESSAGE_DATES_REVERSED);
+        assertParseFailure(parser, "contacts out.csv s/delivered",
+                ExportCommandParser.MESSAGE_CONTACTS_FILTERED_BY_DELIVERY);
+        assertParseFailure(parser, "deliveries out.csv s/delivered s/delivering",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_STATUS));
+    }
+}
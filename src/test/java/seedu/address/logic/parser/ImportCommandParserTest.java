@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.storage.DeliveryImportReader;
+
+public class ImportCommandParserTest {
+
+    private ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_supportedFile_returnsImportCommand() {
+        assertParseSuccess(parser, " data/deliveries.csv ", new ImportCommand(Path.of("data", "deliveries.csv")));
+        assertParseSuccess(parser, "my deliveries.ndjson", new ImportCommand(Path.of("my deliveries.ndjson")));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_unsupportedFile_throwsParseException() {
+        assertParseFailure(parser, "deliveries.xlsx", DeliveryImportReader.MESSAGE_UNSUPPORTED_FILE);
+    }
+}
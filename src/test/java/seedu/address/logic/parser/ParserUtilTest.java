@@ -7,6 +7,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_LIST;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_SECOND_LIST;
 
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -56,6 +58,25 @@ public class ParserUtilTest {
         assertThrows(ParseException.class, () -> ParserUtil.parseIndex("1 a"));
     }
 
+    @Test
+    public void parseAsOf_dateOnly_returnsEndOfDay() throws Exception {
+        assertEquals(LocalDateTime.of(2024, 10, 15, 0, 0).with(LocalTime.MAX), ParserUtil.parseAsOf("2024-10-15"));
+    }
+
+    @Test
+    public void parseAsOf_dateAndTimeWithWhitespace_returnsDateTime() throws Exception {
+        assertEquals(LocalDateTime.of(2024, 10, 15, 18, 30),
+                ParserUtil.parseAsOf(WHITESPACE + "2024-10-15  18:30" + WHITESPACE));
+    }
+
+    @Test
+    public void parseAsOf_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseAsOf("15/10/2024"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseAsOf("2024-02-30"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseAsOf("2024-10-15 6pm"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseAsOf("2024-10-15 18:30 today"));
+    }
+
     @Test
     public void parseIndex_outOfRangeInput_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, ()
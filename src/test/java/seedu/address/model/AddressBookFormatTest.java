@@ -0,0 +1,27 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+public class AddressBookFormatTest {
+
+    @Test
+    public void toDataFilePath_extensionOfAnyFormat_replaced() {
+        assertEquals(Path.of("data", "LogiLink.bin"), AddressBookFormat.BINARY.toDataFilePath(Path.of("data",
+                "LogiLink.json")));
+        assertEquals(Path.of("data", "LogiLink.pages"), AddressBookFormat.PAGED.toDataFilePath(Path.of("data",
+                "LogiLink.bin")));
+        assertEquals(Path.of("LogiLink.json"), AddressBookFormat.JSON.toDataFilePath(Path.of("LogiLink.pages")));
+        assertEquals(Path.of("LogiLink.json"), AddressBookFormat.SHARDED.toDataFilePath(Path.of("LogiLink.json")));
+    }
+
+    @Test
+    public void toDataFilePath_otherExtension_kept() {
+        assertEquals(Path.of("data", "LogiLink.dat"), AddressBookFormat.BINARY.toDataFilePath(Path.of("data",
+                "LogiLink.dat")));
+        assertEquals(Path.of("LogiLink"), AddressBookFormat.PAGED.toDataFilePath(Path.of("LogiLink")));
+    }
+}
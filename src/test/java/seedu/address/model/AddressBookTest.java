@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -9,6 +10,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -18,8 +20,10 @@ import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.delivery.Delivery;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.testutil.DeliveryBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -83,6 +87,56 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void snapshot_addressBookModifiedAfter_snapshotUnaffected() {
+        Person client = new PersonBuilder().withName("Snapshot Client").build();
+        Delivery delivery = new DeliveryBuilder().withId("1729621344714-0001").build();
+        client.addDelivery(delivery);
+        addressBook.addPerson(client);
+        addressBook.addPerson(ALICE);
+
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+        client.addDelivery(new DeliveryBuilder().withId("1729621344714-0002").build());
+        client.setDelivery(delivery, new DeliveryBuilder(delivery).withCost("$25").build());
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(new PersonBuilder().withName("Later Client").build());
+
+        assertEquals(List.of(client, ALICE), snapshot.getPersonList());
+        assertEquals(List.of(delivery), snapshot.getPersonList().get(0).getUnmodifiableDeliveryList());
+        assertEquals(2, client.getDeliveryListSize());
+    }
+
+    @Test
+    public void snapshot_severalSnapshots_eachReadsItsOwnTime() {
+        Person client = new PersonBuilder().withName("Snapshot Client").build();
+        addressBook.addPerson(client);
+        List<ReadOnlyAddressBook> snapshots = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            snapshots.add(addressBook.snapshot());
+            client.addDelivery(new DeliveryBuilder().withId(String.format("1729621344714-%04d", i)).build());
+        }
+
+        for (int i = 0; i < 5; i++) {
+            Person clientAsOf = snapshots.get(i).getPersonList().get(0);
+            assertEquals(i, clientAsOf.getDeliveryListSize());
+            assertSame(clientAsOf, snapshots.get(i).getPersonList().get(0));
+        }
+        assertSame(snapshots.get(0), snapshots.get(0).snapshot());
+    }
+
+    @Test
+    public void snapshot_deferredDeliveriesLoadedAfter_snapshotReadsSameDeliveries() {
+        Person client = new PersonBuilder().withName("Snapshot Client").build();
+        List<Delivery> deliveries = List.of(new DeliveryBuilder().build());
+        client.setDeferredDeliveryList(() -> deliveries);
+        addressBook.addPerson(client);
+
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+        assertEquals(1, client.getDeliveryListSize());
+
+        assertEquals(deliveries, snapshot.getPersonList().get(0).getUnmodifiableDeliveryList());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
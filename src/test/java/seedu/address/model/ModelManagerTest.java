@@ -15,8 +15,11 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.index.Index;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +96,21 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void getFirstArchivedIndex_filteredList_boundaryInFilteredList() {
+        Person archivedBenson = new PersonBuilder(BENSON).withArchive("true").build();
+        modelManager.addPerson(archivedBenson);
+        modelManager.addPerson(ALICE);
+        assertEquals(Index.fromZeroBased(1), modelManager.getFirstArchivedIndex());
+
+        modelManager.updateFilteredPersonList(Person::isArchived);
+        assertEquals(Index.fromZeroBased(0), modelManager.getFirstArchivedIndex());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.deletePerson(archivedBenson);
+        assertEquals(Index.fromZeroBased(1), modelManager.getFirstArchivedIndex());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -0,0 +1,158 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.delivery.Delivery;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.DeliveryBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class UndoHistoryTest {
+
+    private final ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void undo_clear_personsRestored() {
+        List<Person> persons = new ArrayList<>(model.getAddressBook().getPersonList());
+
+        model.startUndoableChange("clear");
+        model.setAddressBook(new AddressBook());
+        model.finishUndoableChange();
+
+        assertEquals(Optional.of("clear"), model.undo());
+        assertEquals(persons, model.getAddressBook().getPersonList());
+        assertEquals(Optional.of("clear"), model.redo());
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+    }
+
+    @Test
+    public void undo_bulkDelete_allPersonsRestoredInOrder() {
+        List<Person> persons = new ArrayList<>(model.getAddressBook().getPersonList());
+
+        model.startUndoableChange("delete 1 2 3");
+        model.deletePerson(ALICE);
+        model.deletePerson(BENSON);
+        model.deletePerson(CARL);
+        model.finishUndoableChange();
+
+        assertEquals(Optional.of("delete 1 2 3"), model.undo());
+        assertEquals(persons, model.getAddressBook().getPersonList());
+        assertFalse(model.undo().isPresent());
+    }
+
+    @Test
+    public void undo_bulkDeliveryArchive_deliveriesRestored() {
+        Person client = new PersonBuilder().withName("Bulk Client").withPhone("81234567")
+                .withEmail("bulk@example.com").build();
+        for (int i = 0; i < 10_000; i++) {
+            client.addDelivery(new DeliveryBuilder().withId(String.valueOf(i + 1)).build());
+        }
+        List<Delivery> deliveries = new ArrayList<>(client.getDeliveryList().asUnmodifiableObservableList());
+
+        // Archives every delivery, the way a bulk archive does.
+        model.startUndoableChange("archive 1 2 3 ...");
+        for (Delivery delivery : deliveries) {
+            client.deleteDelivery(delivery);
+            client.addDelivery(new DeliveryBuilder(delivery).withArchive("true").build());
+        }
+        model.finishUndoableChange();
+
+        model.undo();
+        assertEquals(deliveries, client.getDeliveryList().asUnmodifiableObservableList());
+        model.redo();
+        assertTrue(client.getDeliveryList().asUnmodifiableObservableList().stream().allMatch(Delivery::isArchived));
+    }
+
+    @Test
+    public void finishUndoableChange_nothingChanged_nothingToUndo() {
+        model.startUndoableChange("list");
+        model.finishUndoableChange();
+
+        assertFalse(model.undo().isPresent());
+    }
+
+    @Test
+    public void finishUndoableChange_afterUndo_redoForgotten() {
+        model.startUndoableChange("delete 1");
+        model.deletePerson(ALICE);
+        model.finishUndoableChange();
+        model.undo();
+
+        model.startUndoableChange("delete 2");
+        model.deletePerson(BENSON);
+        model.finishUndoableChange();
+
+        assertFalse(model.redo().isPresent());
+        assertEquals(Optional.of("delete 2"), model.undo());
+        assertFalse(model.undo().isPresent());
+    }
+
+    @Test
+    public void finishUndoableChange_overDepth_oldestForgotten() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryDepth(2);
+        model.setUserPrefs(userPrefs);
+
+        for (Person person : List.of(ALICE, BENSON, CARL)) {
+            model.startUndoableChange("delete " + person.getName());
+            model.deletePerson(person);
+            model.finishUndoableChange();
+        }
+
+        assertEquals(Optional.of("delete " + CARL.getName()), model.undo());
+        assertEquals(Optional.of("delete " + BENSON.getName()), model.undo());
+        assertFalse(model.undo().isPresent());
+        assertFalse(model.hasPerson(ALICE));
+    }
+
+    @Test
+    public void finishUndoableChange_overMemoryBudget_latestKept() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoMemoryBudgetBytes(1);
+        model.setUserPrefs(userPrefs);
+
+        for (Person person : List.of(ALICE, BENSON)) {
+            model.startUndoableChange("delete " + person.getName());
+            model.deletePerson(person);
+            model.finishUndoableChange();
+        }
+
+        assertEquals(Optional.of("delete " + BENSON.getName()), model.undo());
+        assertFalse(model.undo().isPresent());
+    }
+
+    @Test
+    public void setLimits_zeroDepth_nothingKept() {
+        UndoHistory history = new UndoHistory(0, UserPrefs.DEFAULT_UNDO_MEMORY_BUDGET_BYTES);
+        AddressBook addressBook = new AddressBook();
+
+        history.start("add");
+        addressBook.addPerson(ALICE);
+        history.finish();
+
+        assertFalse(history.canUndo());
+        assertFalse(history.undo().isPresent());
+    }
+
+    @Test
+    public void setLimits_negativeLimits_throwsIllegalArgumentException() {
+        UndoHistory history = new UndoHistory(1, UserPrefs.DEFAULT_UNDO_MEMORY_BUDGET_BYTES);
+
+        assertThrows(IllegalArgumentException.class, () ->
+                history.setLimits(-1, UserPrefs.DEFAULT_UNDO_MEMORY_BUDGET_BYTES));
+        assertThrows(IllegalArgumentException.class, () -> history.setLimits(1, -1));
+    }
+}
@@ -1,7 +1,11 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class UserPrefsTest {
@@ -18,4 +22,33 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void resetInvalidLimits_validLimits_nothingReset() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setSaveMaxLatencyMillis(0);
+        userPrefs.setSaveMaxPending(1);
+        userPrefs.setUndoHistoryDepth(0);
+        userPrefs.setUndoMemoryBudgetBytes(0);
+        assertEquals(Collections.emptyList(), userPrefs.resetInvalidLimits());
+        assertEquals(0, userPrefs.getSaveMaxLatencyMillis());
+        assertEquals(1, userPrefs.getSaveMaxPending());
+        assertEquals(0, userPrefs.getUndoHistoryDepth());
+        assertEquals(0, userPrefs.getUndoMemoryBudgetBytes());
+    }
+
+    @Test
+    public void resetInvalidLimits_invalidLimits_defaultsUsed() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setSaveMaxLatencyMillis(-1);
+        userPrefs.setSaveMaxPending(0);
+        userPrefs.setUndoHistoryDepth(-1);
+        userPrefs.setUndoMemoryBudgetBytes(-1);
+        assertEquals(List.of("saveMaxLatencyMillis", "saveMaxPending", "undoHistoryDepth", "undoMemoryBudgetBytes"),
+                userPrefs.resetInvalidLimits());
+        assertEquals(UserPrefs.DEFAULT_SAVE_MAX_LATENCY_MILLIS, userPrefs.getSaveMaxLatencyMillis());
+        assertEquals(UserPrefs.DEFAULT_SAVE_MAX_PENDING, userPrefs.getSaveMaxPending());
+        assertEquals(UserPrefs.DEFAULT_UNDO_HISTORY_DEPTH, userPrefs.getUndoHistoryDepth());
+        assertEquals(UserPrefs.DEFAULT_UNDO_MEMORY_BUDGET_BYTES, userPrefs.getUndoMemoryBudgetBytes());
+    }
+
 }
@@ -1,5 +1,6 @@
 package seedu.address.model.delivery;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -35,5 +36,24 @@ public class CostTest {
         assertTrue(Cost.isValidCost("$100"));
         assertTrue(Cost.isValidCost("$0"));
         assertTrue(Cost.isValidCost("$1093845679"));
+        assertTrue(Cost.isValidCost("$9999999999999999.99"));
+        assertFalse(Cost.isValidCost("$10000000000000000")); // too many digits to keep in cents
+    }
+
+    @Test
+    public void constructor_validCost_keepsCents() {
+        Cost cost = new Cost("$1234.50");
+        assertEquals(123450, cost.getCents());
+        assertEquals("$1234.50", cost.getValue());
+        assertEquals("Cost: $1,234.50", cost.toString());
+        assertEquals(new Cost("$100"), new Cost("$100.00"));
+        assertEquals(999999999999999999L, new Cost("$9999999999999999.99").getCents());
+    }
+
+    @Test
+    public void compareTo() {
+        assertTrue(new Cost("$9.99").compareTo(new Cost("$10")) < 0);
+        assertTrue(new Cost("$1000").compareTo(new Cost("$999.99")) > 0);
+        assertEquals(0, new Cost("$5").compareTo(new Cost("$5.00")));
     }
 }
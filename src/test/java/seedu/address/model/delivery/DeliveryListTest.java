@@ -1,6 +1,7 @@
 package seedu.address.model.delivery;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -8,11 +9,14 @@ import static seedu.address.testutil.Assert.assertThrows;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
 import seedu.address.model.person.Address;
 import seedu.address.model.tag.Tag;
+import seedu.address.testutil.DeliveryBuilder;
 
 // NEED ALL FIELDS FOR TEST DO NOT DELETE.
 public class DeliveryListTest {
@@ -213,4 +217,135 @@ public class DeliveryListTest {
         assertArrayEquals(VALID_DELIVERY_LIST_STATUS_SORTED.asUnmodifiableObservableList().toArray(),
                 VALID_DELIVERY_LIST_STATUS_UNSORTED.asUnmodifiableObservableList().toArray());
     }
+
+    @Test
+    public void indexOf_listChanged_positionsFollowChanges() {
+        DeliveryList deliveryList = new DeliveryList();
+        deliveryList.setDeliveries(List.of(VALID_DELIVERY_1, VALID_DELIVERY_2));
+        assertEquals(1, deliveryList.indexOf(VALID_DELIVERY_2.getDeliveryId()));
+
+        deliveryList.add(VALID_DELIVERY_3);
+        assertEquals(2, deliveryList.indexOf(VALID_DELIVERY_3.getDeliveryId()));
+
+        Delivery editedDelivery = new DeliveryBuilder(VALID_DELIVERY_2).withStatus("not delivered").build();
+        deliveryList.setDelivery(VALID_DELIVERY_2, editedDelivery);
+        assertEquals(Optional.of(editedDelivery), deliveryList.getDelivery(VALID_DELIVERY_2.getDeliveryId()));
+
+        deliveryList.remove(VALID_DELIVERY_1);
+        assertEquals(-1, deliveryList.indexOf(VALID_DELIVERY_1.getDeliveryId()));
+        assertEquals(1, deliveryList.indexOf(VALID_DELIVERY_3.getDeliveryId()));
+
+        deliveryList.sortByCost();
+        assertEquals(0, deliveryList.indexOf(VALID_DELIVERY_2.getDeliveryId()));
+        assertEquals(Optional.empty(), deliveryList.getDelivery(VALID_DELIVERY_4.getDeliveryId()));
+    }
+
+    @Test
+    public void getFirstArchivedIndex_listChanged_boundaryFollowsChanges() {
+        DeliveryList deliveryList = new DeliveryList();
+        deliveryList.setDeferredDeliveries(() -> List.of(VALID_DELIVERY_2, VALID_DELIVERY_1, VALID_DELIVERY_4));
+        assertEquals(Index.fromZeroBased(1), deliveryList.getFirstArchivedIndex());
+
+        deliveryList.add(deliveryList.getFirstArchivedIndex(), VALID_DELIVERY_3);
+        assertEquals(Index.fromZeroBased(2), deliveryList.getFirstArchivedIndex());
+
+        deliveryList.reverseDeliveryList();
+        assertEquals(List.of(VALID_DELIVERY_3, VALID_DELIVERY_2, VALID_DELIVERY_4, VALID_DELIVERY_1),
+                deliveryList.asUnmodifiableObservableList());
+        assertEquals(Index.fromZeroBased(2), deliveryList.getFirstArchivedIndex());
+
+        deliveryList.remove(VALID_DELIVERY_4);
+        deliveryList.remove(VALID_DELIVERY_1);
+        assertEquals(Index.fromZeroBased(2), deliveryList.getFirstArchivedIndex());
+    }
+
+    @Test
+    public void add_sortedList_addedInOrder() {
+        Delivery cheapDelivery = new DeliveryBuilder(VALID_DELIVERY_3).withId("11").withCost("$1").build();
+        Delivery archivedDelivery = new DeliveryBuilder(VALID_DELIVERY_1).withId("12").withCost("$2").build();
+        DeliveryList deliveryList = new DeliveryList();
+        deliveryList.setDeliveries(List.of(VALID_DELIVERY_2, VALID_DELIVERY_1, VALID_DELIVERY_3));
+        deliveryList.sortByCost();
+
+        deliveryList.add(Index.fromZeroBased(0), archivedDelivery);
+        deliveryList.addAll(deliveryList.getFirstArchivedIndex(), List.of(cheapDelivery));
+        assertEquals(List.of(cheapDelivery, VALID_DELIVERY_2, VALID_DELIVERY_3, archivedDelivery, VALID_DELIVERY_1),
+                deliveryList.asUnmodifiableObservableList());
+
+        deliveryList.reverseDeliveryList();
+        Delivery editedDelivery = new DeliveryBuilder(cheapDelivery).withCost("$100000").build();
+        deliveryList.setDelivery(cheapDelivery, editedDelivery);
+        assertEquals(List.of(editedDelivery, VALID_DELIVERY_3, VALID_DELIVERY_2, VALID_DELIVERY_1, archivedDelivery),
+                deliveryList.asUnmodifiableObservableList());
+        assertEquals(Index.fromZeroBased(3), deliveryList.getFirstArchivedIndex());
+    }
+
+    @Test
+    public void setDeliveries_sortedList_noLongerKeptSorted() {
+        DeliveryList deliveryList = new DeliveryList();
+        deliveryList.setDeliveries(List.of(VALID_DELIVERY_3));
+        deliveryList.sortByCost();
+        deliveryList.setDeliveries(List.of(VALID_DELIVERY_2));
+
+        deliveryList.add(VALID_DELIVERY_3);
+        assertEquals(List.of(VALID_DELIVERY_2, VALID_DELIVERY_3), deliveryList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void contains_deliveriesWithSameId_comparesAllFields() {
+        Delivery sameIdDelivery = new DeliveryBuilder(VALID_DELIVERY_3).withId("2").build();
+        DeliveryList deliveryList = new DeliveryList();
+        deliveryList.setDeliveries(List.of(VALID_DELIVERY_2, sameIdDelivery));
+
+        assertTrue(deliveryList.contains(sameIdDelivery));
+        assertFalse(deliveryList.contains(new DeliveryBuilder(VALID_DELIVERY_3).withId("3").withCost("$1").build()));
+
+        deliveryList.remove(sameIdDelivery);
+        assertEquals(List.of(VALID_DELIVERY_2), deliveryList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setDeferredDeliveries_loadedOnFirstUse() {
+        DeliveryList deliveryList = new DeliveryList();
+        int[] loads = {0};
+        deliveryList.setDeferredDeliveries(() -> {
+            loads[0]++;
+            return List.of(VALID_DELIVERY_1, VALID_DELIVERY_2);
+        });
+        long version = deliveryList.getVersion();
+
+        assertTrue(deliveryList.isDeferred());
+        assertEquals(0, loads[0]);
+
+        assertEquals(List.of(VALID_DELIVERY_1, VALID_DELIVERY_2), deliveryList.asUnmodifiableObservableList());
+        assertEquals(2, deliveryList.size());
+        assertFalse(deliveryList.isDeferred());
+        assertEquals(1, loads[0]);
+        assertEquals(version, deliveryList.getVersion());
+    }
+
+    @Test
+    public void copy_deferredList_copyLoadsIndependently() {
+        DeliveryList deliveryList = new DeliveryList();
+        deliveryList.setDeferredDeliveries(() -> List.of(VALID_DELIVERY_1));
+
+        DeliveryList copy = deliveryList.copy();
+        copy.add(VALID_DELIVERY_2);
+
+        assertTrue(deliveryList.isDeferred());
+        assertEquals(List.of(VALID_DELIVERY_1), deliveryList.asUnmodifiableObservableList());
+        assertEquals(List.of(VALID_DELIVERY_1, VALID_DELIVERY_2), copy.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setDeliveries_deferredList_loaderDiscarded() {
+        DeliveryList deliveryList = new DeliveryList();
+        deliveryList.setDeferredDeliveries(() -> {
+            throw new AssertionError("loader should not be called");
+        });
+
+        deliveryList.setDeliveries(List.of(VALID_DELIVERY_2));
+
+        assertEquals(List.of(VALID_DELIVERY_2), deliveryList.asUnmodifiableObservableList());
+    }
 }
@@ -45,4 +45,11 @@ public class StatusTest {
         assertEquals("delivering", deliveringStatus.getValue());
         assertEquals("not delivered", notDeliveredStatus.getValue());
     }
+
+    @Test
+    public void compareTo_statuses_orderedFromNotDeliveredToDelivered() {
+        assertTrue(new Status("not delivered").compareTo(new Status("delivering")) < 0);
+        assertTrue(new Status("delivering").compareTo(new Status("delivered")) < 0);
+        assertEquals(0, new Status("delivered").compareTo(new Status("delivered")));
+    }
 }
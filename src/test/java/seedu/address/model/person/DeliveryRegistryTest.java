@@ -0,0 +1,133 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.delivery.Delivery;
+import seedu.address.testutil.DeliveryBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class DeliveryRegistryTest {
+
+    private static final String FIRST_ID = "1729621344714-0001";
+    private static final String SECOND_ID = "1729621344714-0002";
+
+    private final Delivery firstDelivery = new DeliveryBuilder().withId(FIRST_ID).build();
+    private final Delivery secondDelivery = new DeliveryBuilder().withId(SECOND_ID).build();
+
+    private ObservableList<Person> persons;
+    private Person client;
+    private Person worker;
+    private DeliveryRegistry registry;
+
+    @BeforeEach
+    public void setUp() {
+        client = new PersonBuilder().withName("Client").build();
+        client.addDelivery(firstDelivery);
+        worker = new PersonBuilder().withName("Worker").withPhone("81234567").withEmail("worker@example.com")
+                .withRole("employee").build();
+        worker.getWorker().addDelivery(firstDelivery);
+        persons = FXCollections.observableArrayList(client, worker);
+        registry = new DeliveryRegistry(persons);
+    }
+
+    @Test
+    public void findClient_deliveryHeld_clientFound() {
+        assertEquals(Optional.of(client), registry.findClient(firstDelivery.getDeliveryId()));
+        assertEquals(Optional.of(firstDelivery), registry.findClientDelivery(firstDelivery.getDeliveryId()));
+        assertEquals(Optional.empty(), registry.findClient(secondDelivery.getDeliveryId()));
+    }
+
+    @Test
+    public void findClient_deliveriesChangedAfterFirstUse_changesFollowed() {
+        registry.findClient(firstDelivery.getDeliveryId());
+
+        client.addDelivery(secondDelivery);
+        assertEquals(Optional.of(client), registry.findClient(secondDelivery.getDeliveryId()));
+
+        Delivery editedDelivery = new DeliveryBuilder(secondDelivery).withStatus("delivered").build();
+        client.setDelivery(secondDelivery, editedDelivery);
+        assertEquals(Optional.of(editedDelivery), registry.findClientDelivery(secondDelivery.getDeliveryId()));
+
+        client.deleteDelivery(firstDelivery);
+        assertEquals(Optional.empty(), registry.findClient(firstDelivery.getDeliveryId()));
+    }
+
+    @Test
+    public void findClient_personsChangedAfterFirstUse_changesFollowed() {
+        registry.findClient(firstDelivery.getDeliveryId());
+
+        Person otherClient = new PersonBuilder().withName("Other Client").build();
+        otherClient.addDelivery(secondDelivery);
+        persons.add(otherClient);
+        assertEquals(Optional.of(otherClient), registry.findClient(secondDelivery.getDeliveryId()));
+
+        persons.remove(client);
+        assertEquals(Optional.empty(), registry.findClient(firstDelivery.getDeliveryId()));
+    }
+
+    @Test
+    public void findClient_personsReordered_deliveriesKept() {
+        registry.findClient(firstDelivery.getDeliveryId());
+
+        Collections.reverse(persons);
+        client.getDeliveryList().sortByCost();
+
+        assertEquals(Optional.of(client), registry.findClient(firstDelivery.getDeliveryId()));
+        assertEquals(List.of(worker), registry.findWorkers(firstDelivery.getDeliveryId()));
+    }
+
+    @Test
+    public void findWorkers_assignmentsChanged_changesFollowed() {
+        assertEquals(List.of(worker), registry.findWorkers(firstDelivery.getDeliveryId()));
+        assertTrue(registry.findWorkers(secondDelivery.getDeliveryId()).isEmpty());
+
+        worker.getWorker().addDelivery(secondDelivery);
+        worker.getWorker().removeDelivery(firstDelivery);
+
+        assertEquals(List.of(worker), registry.findWorkers(secondDelivery.getDeliveryId()));
+        assertTrue(registry.findWorkers(firstDelivery.getDeliveryId()).isEmpty());
+    }
+
+    @Test
+    public void findClient_deferredDeliveries_notLoadedByBuildingIndex() {
+        int[] loadCount = {0};
+        Person deferredClient = new PersonBuilder().withName("Deferred Client").build();
+        deferredClient.setDeferredDeliveryList(() -> {
+            loadCount[0]++;
+            return List.of(secondDelivery);
+        });
+        persons.add(deferredClient);
+
+        // Found among the loaded deliveries, so the deferred ones are not needed.
+        assertEquals(Optional.of(client), registry.findClient(firstDelivery.getDeliveryId()));
+        assertEquals(0, loadCount[0]);
+
+        assertEquals(Optional.of(deferredClient), registry.findClient(secondDelivery.getDeliveryId()));
+    }
+
+    @Test
+    public void findClient_deliveriesDeferredAfterFirstUse_notLoadedUntilLookedUp() {
+        registry.findClient(firstDelivery.getDeliveryId());
+        registry.findWorkers(firstDelivery.getDeliveryId());
+
+        client.getDeliveryList().setDeferredDeliveries(() -> List.of(secondDelivery));
+        worker.getWorker().getAssignedDeliveryList().setDeferredDeliveries(() -> List.of(secondDelivery));
+        assertTrue(client.getDeliveryList().isDeferred());
+        assertTrue(worker.getWorker().getAssignedDeliveryList().isDeferred());
+
+        assertEquals(Optional.of(client), registry.findClient(secondDelivery.getDeliveryId()));
+        assertEquals(List.of(worker), registry.findWorkers(secondDelivery.getDeliveryId()));
+        assertEquals(Optional.empty(), registry.findClient(firstDelivery.getDeliveryId()));
+        assertTrue(registry.findWorkers(firstDelivery.getDeliveryId()).isEmpty());
+    }
+}
@@ -3,12 +3,16 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 
@@ -21,6 +25,8 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.util.ChangeRecorder;
+import seedu.address.testutil.DeliveryBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -171,12 +177,157 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void containPhone_sharedPhoneOfRemovedPerson_stillContained() {
+        Person bobWithAlicePhone = new PersonBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(bobWithAlicePhone);
+
+        uniquePersonList.remove(ALICE);
+        assertTrue(uniquePersonList.containPhone(ALICE));
+        assertFalse(uniquePersonList.containEmail(ALICE));
+        assertFalse(uniquePersonList.contains(ALICE));
+
+        uniquePersonList.remove(bobWithAlicePhone);
+        assertFalse(uniquePersonList.containPhone(ALICE));
+    }
+
+    @Test
+    public void contains_listChanged_followsChanges() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.containEmail(ALICE));
+        assertTrue(uniquePersonList.containPhone(BOB));
+
+        uniquePersonList.add(HOON);
+        uniquePersonList.reversePersonList();
+        uniquePersonList.sortByName();
+        assertTrue(uniquePersonList.contains(BOB));
+        assertTrue(uniquePersonList.containEmail(HOON));
+
+        uniquePersonList.setPersons(Collections.singletonList(IDA));
+        assertFalse(uniquePersonList.contains(BOB));
+        assertFalse(uniquePersonList.containPhone(HOON));
+        assertTrue(uniquePersonList.containEmail(IDA));
+    }
+
+    @Test
+    public void updatePersons_onePersonEdited_otherPersonsKept() {
+        Person alice = new PersonBuilder(ALICE).build();
+        Person bob = new PersonBuilder(BOB).build();
+        uniquePersonList.setPersons(Arrays.asList(alice, bob));
+        Person editedBob = new PersonBuilder(BOB).withAddress(VALID_ADDRESS_BOB).withTags(VALID_TAG_HUSBAND).build();
+
+        assertEquals(2, uniquePersonList.updatePersons(Arrays.asList(new PersonBuilder(ALICE).build(), editedBob,
+                HOON)));
+        assertEquals(1, uniquePersonList.updatePersons(Arrays.asList(new PersonBuilder(ALICE).build(), editedBob,
+                IDA, HOON)));
+        assertSame(alice, uniquePersonList.asUnmodifiableObservableList().get(0));
+        assertEquals(Arrays.asList(alice, editedBob, IDA, HOON), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void updatePersons_deliveryEdited_deliveryReplacedInPlace() {
+        Person alice = new PersonBuilder(ALICE).build();
+        alice.addDelivery(new DeliveryBuilder().withId("11").withCost("$10").build());
+        uniquePersonList.add(alice);
+        Person updatedAlice = new PersonBuilder(ALICE).build();
+        updatedAlice.addDelivery(new DeliveryBuilder().withId("11").withCost("$25").build());
+
+        assertEquals(1, uniquePersonList.updatePersons(Collections.singletonList(updatedAlice)));
+        Person keptAlice = uniquePersonList.asUnmodifiableObservableList().get(0);
+        assertSame(alice, keptAlice);
+        assertNotSame(updatedAlice, keptAlice);
+        assertEquals(updatedAlice.getUnmodifiableDeliveryList(), keptAlice.getUnmodifiableDeliveryList());
+        assertEquals(0, uniquePersonList.updatePersons(Collections.singletonList(updatedAlice)));
+    }
+
+    @Test
+    public void updatePersons_listWithDuplicatePersons_throwsDuplicatePersonException() {
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.updatePersons(listWithDuplicatePersons));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniquePersonList.asUnmodifiableObservableList().remove(0));
     }
 
+    @Test
+    public void getFirstArchivedIndex_listChanged_boundaryFollowsChanges() {
+        Person archivedAlice = new PersonBuilder(ALICE).withArchive("true").build();
+        Person archivedBob = new PersonBuilder(BOB).withArchive("true").build();
+        uniquePersonList.add(archivedAlice);
+        uniquePersonList.add(HOON);
+        uniquePersonList.add(archivedBob);
+        uniquePersonList.add(IDA);
+        assertEquals(Arrays.asList(HOON, IDA, archivedAlice, archivedBob),
+                uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(2, uniquePersonList.getFirstArchivedIndex().getZeroBased());
+
+        uniquePersonList.reversePersonList();
+        assertEquals(Arrays.asList(IDA, HOON, archivedBob, archivedAlice),
+                uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(2, uniquePersonList.getFirstArchivedIndex().getZeroBased());
+
+        uniquePersonList.remove(archivedBob);
+        uniquePersonList.add(BOB);
+        assertEquals(3, uniquePersonList.getFirstArchivedIndex().getZeroBased());
+    }
+
+    @Test
+    public void add_sortedList_addedInOrder() {
+        Person archivedAlice = new PersonBuilder(ALICE).withArchive("true").build();
+        uniquePersonList.add(IDA);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(archivedAlice);
+        uniquePersonList.sortByName();
+
+        uniquePersonList.add(HOON);
+        assertEquals(Arrays.asList(BOB, HOON, IDA, archivedAlice), uniquePersonList.asUnmodifiableObservableList());
+
+        uniquePersonList.reversePersonList();
+        uniquePersonList.add(CARL);
+        assertEquals(Arrays.asList(IDA, HOON, CARL, BOB, archivedAlice),
+                uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPerson_sortedList_editedPersonMovedToPlace() {
+        uniquePersonList.add(HOON);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(IDA);
+        uniquePersonList.sortByName();
+
+        Person renamedBob = new PersonBuilder(BOB).withName("Zack Choo").build();
+        uniquePersonList.setPerson(BOB, renamedBob);
+        assertEquals(Arrays.asList(HOON, IDA, renamedBob), uniquePersonList.asUnmodifiableObservableList());
+
+        Person editedHoon = new PersonBuilder(HOON).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(HOON, editedHoon);
+        assertEquals(Arrays.asList(editedHoon, IDA, renamedBob), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPersons_sortedListReplacedThenReverted_orderRestored() {
+        uniquePersonList.add(IDA);
+        uniquePersonList.add(BOB);
+        uniquePersonList.sortByName();
+
+        ChangeRecorder recorder = ChangeRecorder.start();
+        uniquePersonList.setPersons(Arrays.asList(IDA, BOB));
+        ChangeRecorder.RecordedChange change = recorder.stop();
+        uniquePersonList.add(HOON);
+        assertEquals(Arrays.asList(IDA, BOB, HOON), uniquePersonList.asUnmodifiableObservableList());
+
+        uniquePersonList.remove(HOON);
+        change.revert();
+        uniquePersonList.add(HOON);
+        assertEquals(Arrays.asList(BOB, HOON, IDA), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void reversePersonList_success() {
         uniquePersonList.add(ALICE);
@@ -282,4 +433,78 @@ public class UniquePersonListTest {
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
     }
+
+    @Test
+    public void getVersion_listModified_versionChanges() {
+        long initialVersion = uniquePersonList.getVersion();
+        uniquePersonList.add(new PersonBuilder().withName("Version Tester").build());
+        long addedVersion = uniquePersonList.getVersion();
+        assertNotEquals(initialVersion, addedVersion);
+
+        uniquePersonList.sortByName();
+        assertNotEquals(addedVersion, uniquePersonList.getVersion());
+    }
+
+    @Test
+    public void getVersion_personDeliveriesModified_versionChanges() {
+        Person person = new PersonBuilder().withName("Version Tester").build();
+        uniquePersonList.add(person);
+        long version = uniquePersonList.getVersion();
+
+        person.addDelivery(new DeliveryBuilder().build());
+        assertNotEquals(version, uniquePersonList.getVersion());
+    }
+
+    @Test
+    public void getVersion_reversedPersonsDeliveriesModified_versionChanges() {
+        Person first = new PersonBuilder().withName("First Tester").build();
+        Person second = new PersonBuilder().withName("Second Tester").build();
+        uniquePersonList.add(first);
+        uniquePersonList.add(second);
+        uniquePersonList.reversePersonList();
+
+        long version = uniquePersonList.getVersion();
+        first.addDelivery(new DeliveryBuilder().build());
+        long firstModifiedVersion = uniquePersonList.getVersion();
+        assertNotEquals(version, firstModifiedVersion);
+
+        second.addDelivery(new DeliveryBuilder().build());
+        assertNotEquals(firstModifiedVersion, uniquePersonList.getVersion());
+    }
+
+    @Test
+    public void getVersion_removedPersonModified_versionUnchanged() {
+        Person person = new PersonBuilder().withName("Version Tester").build();
+        uniquePersonList.add(person);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(person);
+        long version = uniquePersonList.getVersion();
+
+        person.addDelivery(new DeliveryBuilder().build());
+        person.setWorker(new Worker());
+        assertEquals(version, uniquePersonList.getVersion());
+    }
+
+    @Test
+    public void getVersion_personWorkerModified_versionChanges() {
+        Person person = new PersonBuilder().withName("Version Tester").build();
+        uniquePersonList.add(person);
+        long version = uniquePersonList.getVersion();
+
+        person.getWorker().addDelivery(new DeliveryBuilder().build());
+        long assignedVersion = uniquePersonList.getVersion();
+        assertNotEquals(version, assignedVersion);
+
+        person.setWorker(new Worker());
+        assertNotEquals(assignedVersion, uniquePersonList.getVersion());
+    }
+
+    @Test
+    public void getVersion_listNotModified_versionUnchanged() {
+        uniquePersonList.add(new PersonBuilder().withName("Version Tester").build());
+        long version = uniquePersonList.getVersion();
+        uniquePersonList.contains(ALICE);
+        uniquePersonList.getFirstArchivedIndex();
+        assertEquals(version, uniquePersonList.getVersion());
+    }
 }
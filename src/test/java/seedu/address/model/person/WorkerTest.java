@@ -0,0 +1,91 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import seedu.address.model.delivery.Delivery;
+import seedu.address.testutil.DeliveryBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class WorkerTest {
+
+    private static final String FIRST_ID = "1729621344714-0001";
+    private static final String SECOND_ID = "1729621344714-0002";
+
+    @Test
+    public void resolveAssignedDeliveries_editedDelivery_replacedByClientsCopy() {
+        Delivery delivery = new DeliveryBuilder().withId(FIRST_ID).build();
+        Person client = new PersonBuilder().withName("Client").build();
+        client.addDelivery(delivery);
+        Worker worker = new Worker();
+        worker.addDelivery(delivery);
+
+        Delivery edited = new DeliveryBuilder(delivery).withStatus("delivered").build();
+        client.setDelivery(delivery, edited);
+        worker.resolveAssignedDeliveries(List.of(client));
+
+        assertEquals(1, worker.getUnmodifiableAssignedDeliveryList().size());
+        assertSame(edited, worker.getUnmodifiableAssignedDeliveryList().get(0));
+    }
+
+    @Test
+    public void resolveAssignedDeliveries_deletedDelivery_dropped() {
+        Delivery kept = new DeliveryBuilder().withId(FIRST_ID).build();
+        Delivery deleted = new DeliveryBuilder().withId(SECOND_ID).build();
+        Person client = new PersonBuilder().withName("Client").build();
+        client.addDelivery(kept);
+        Worker worker = new Worker();
+        worker.addDelivery(deleted);
+        worker.addDelivery(kept);
+
+        worker.resolveAssignedDeliveries(List.of(client));
+
+        assertEquals(List.of(kept), worker.getUnmodifiableAssignedDeliveryList());
+    }
+
+    @Test
+    public void resolveAssignedDeliveries_upToDate_versionUnchanged() {
+        Delivery delivery = new DeliveryBuilder().withId(FIRST_ID).build();
+        Person client = new PersonBuilder().withName("Client").build();
+        client.addDelivery(delivery);
+        Worker worker = new Worker();
+        worker.addDelivery(delivery);
+        long version = worker.getVersion();
+
+        worker.resolveAssignedDeliveries(List.of(client));
+
+        assertEquals(version, worker.getVersion());
+    }
+
+    @Test
+    public void resolveAssignedDeliveries_registry_replacedByClientsCopy() {
+        Delivery delivery = new DeliveryBuilder().withId(FIRST_ID).build();
+        Person client = new PersonBuilder().withName("Client").build();
+        client.addDelivery(delivery);
+        Worker worker = new Worker();
+        worker.addDelivery(delivery);
+        DeliveryRegistry registry = new DeliveryRegistry(FXCollections.observableArrayList(client));
+        worker.resolveAssignedDeliveries(registry);
+
+        Delivery edited = new DeliveryBuilder(delivery).withStatus("delivered").build();
+        client.setDelivery(delivery, edited);
+        worker.resolveAssignedDeliveries(registry);
+
+        assertEquals(1, worker.getUnmodifiableAssignedDeliveryList().size());
+        assertSame(edited, worker.getUnmodifiableAssignedDeliveryList().get(0));
+    }
+
+    @Test
+    public void findClientDeliveries_employeeDeliveries_ignored() {
+        Delivery delivery = new DeliveryBuilder().withId(FIRST_ID).build();
+        Person employee = new PersonBuilder().withName("Employee").withRole("employee").build();
+        employee.addDelivery(delivery);
+
+        assertEquals(0, Worker.findClientDeliveries(List.of(delivery.getDeliveryId()), List.of(employee)).size());
+    }
+}
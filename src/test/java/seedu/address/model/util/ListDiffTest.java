@@ -0,0 +1,80 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class ListDiffTest {
+
+    @Test
+    public void apply_sameElements_nothingChanged() {
+        List<String> list = new ArrayList<>(List.of("a", "b", "c"));
+        assertEquals(0, ListDiff.apply(list, List.of("a", "b", "c"), Objects::equals));
+        assertEquals(List.of("a", "b", "c"), list);
+    }
+
+    @Test
+    public void apply_oneElementEdited_onlyThatElementSet() {
+        List<String> list = new ArrayList<>(List.of("a", "b", "c", "d"));
+        assertEquals(1, ListDiff.apply(list, List.of("a", "x", "c", "d"), Objects::equals));
+        assertEquals(List.of("a", "x", "c", "d"), list);
+    }
+
+    @Test
+    public void apply_elementsEditedAtBothEnds_onlyThoseElementsSet() {
+        List<String> list = new ArrayList<>(List.of("a", "b", "c", "d"));
+        assertEquals(2, ListDiff.apply(list, List.of("x", "b", "c", "y"), Objects::equals));
+        assertEquals(List.of("x", "b", "c", "y"), list);
+    }
+
+    @Test
+    public void apply_elementsInserted_onlyThoseElementsAdded() {
+        List<String> list = new ArrayList<>(List.of("a", "b", "c"));
+        assertEquals(2, ListDiff.apply(list, List.of("a", "x", "y", "b", "c"), Objects::equals));
+        assertEquals(List.of("a", "x", "y", "b", "c"), list);
+    }
+
+    @Test
+    public void apply_elementsRemoved_onlyThoseElementsRemoved() {
+        List<String> list = new ArrayList<>(List.of("a", "b", "c", "d"));
+        assertEquals(2, ListDiff.apply(list, List.of("a", "d"), Objects::equals));
+        assertEquals(List.of("a", "d"), list);
+
+        assertEquals(2, ListDiff.apply(list, List.of(), Objects::equals));
+        assertEquals(List.of(), list);
+    }
+
+    @Test
+    public void apply_unchangedElements_originalsKept() {
+        String original = new String("b");
+        List<String> list = new ArrayList<>(List.of("a", original));
+        ListDiff.apply(list, List.of("x", new String("b")), Objects::equals);
+        assertSame(original, list.get(1));
+    }
+
+    @Test
+    public void apply_randomChanges_matchesTarget() {
+        Random random = new Random(7);
+        for (int i = 0; i < 200; i++) {
+            List<Integer> list = randomList(random);
+            List<Integer> target = randomList(random);
+            ListDiff.apply(list, target, Objects::equals);
+            assertEquals(target, list);
+        }
+    }
+
+    private static List<Integer> randomList(Random random) {
+        List<Integer> list = new ArrayList<>();
+        int size = random.nextInt(8);
+        for (int i = 0; i < size; i++) {
+            list.add(random.nextInt(4));
+        }
+        return list;
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class PartitionPointTest {
+
+    // Negative numbers make up the tail of the lists.
+    private final ObservableList<Integer> list = FXCollections.observableArrayList(1, 2, -1, -2);
+    private final PartitionPoint<Integer> partitionPoint = new PartitionPoint<>(list, number -> number < 0);
+
+    @Test
+    public void get_noElementInTail_sizeReturned() {
+        list.setAll(1, 2, 3);
+        assertEquals(3, partitionPoint.get());
+        list.clear();
+        assertEquals(0, partitionPoint.get());
+    }
+
+    @Test
+    public void get_elementsAddedOnEitherSide_positionFollowed() {
+        assertEquals(2, partitionPoint.get());
+        list.add(0, 3);
+        list.add(3, 4);
+        assertEquals(4, partitionPoint.get());
+        list.add(-3);
+        list.add(5, -4);
+        assertEquals(4, partitionPoint.get());
+        assertEquals(List.of(3, 1, 2, 4, -1, -4, -2, -3), list);
+    }
+
+    @Test
+    public void get_elementAtPositionRemoved_nextTailElementFound() {
+        assertEquals(2, partitionPoint.get());
+        list.remove(2);
+        assertEquals(2, partitionPoint.get());
+        list.remove(2);
+        assertEquals(2, partitionPoint.get());
+        list.remove(0);
+        assertEquals(1, partitionPoint.get());
+    }
+
+    @Test
+    public void get_elementReplacedByTailElement_positionMoved() {
+        assertEquals(2, partitionPoint.get());
+        list.set(1, -5);
+        assertEquals(1, partitionPoint.get());
+        list.set(1, 5);
+        assertEquals(2, partitionPoint.get());
+    }
+
+    @Test
+    public void get_randomChanges_matchesScan() {
+        Random random = new Random(7);
+        for (int i = 0; i < 500; i++) {
+            int size = list.size();
+            switch (random.nextInt(6)) {
+            case 0:
+                list.add(random.nextInt(size + 1), random.nextInt(9) - 4);
+                break;
+            case 1:
+                if (size > 0) {
+                    list.remove(random.nextInt(size));
+                }
+                break;
+            case 2:
+                if (size > 0) {
+                    list.set(random.nextInt(size), random.nextInt(9) - 4);
+                }
+                break;
+            case 3:
+                list.sort(Comparator.reverseOrder());
+                break;
+            case 4:
+                Collections.reverse(list);
+                break;
+            default:
+                int from = random.nextInt(size + 1);
+                list.remove(from, from + random.nextInt(size - from + 1));
+                break;
+            }
+            if (random.nextBoolean()) {
+                assertEquals(scan(list), partitionPoint.get());
+            }
+        }
+    }
+
+    private static int scan(List<Integer> list) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) < 0) {
+                return i;
+            }
+        }
+        return list.size();
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void of_elements_sameOrder() {
+        List<Integer> elements = List.of(3, 1, 4, 1, 5, 9, 2, 6);
+        PersistentList<Integer> list = PersistentList.of(elements);
+
+        assertEquals(elements, list);
+        assertEquals(elements, new ArrayList<>(list));
+        assertSame(list, PersistentList.of(list));
+        assertEquals(List.of(), PersistentList.of(List.of()));
+    }
+
+    @Test
+    public void of_nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentList.of(Arrays.asList(1, null)));
+    }
+
+    @Test
+    public void withPlusMinus_randomChanges_matchArrayListAndLeaveOriginalsUnchanged() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(4);
+            if (expected.isEmpty() || operation < 2) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list = list.plus(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                list = list.with(index, -i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.minus(index);
+            }
+            if (i % 500 == 0) {
+                versions.add(list);
+                expectedVersions.add(new ArrayList<>(expected));
+            }
+        }
+
+        assertEquals(expected, list);
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(expectedVersions.get(i), versions.get(i));
+        }
+    }
+
+    @Test
+    public void plus_appendedInOrder_treeStaysShallow() {
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 100_000; i++) {
+            list = list.plus(i);
+        }
+
+        assertEquals(100_000, list.size());
+        assertEquals(Integer.valueOf(54_321), list.get(54_321));
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        PersistentList<Integer> list = PersistentList.of(List.of(1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.minus(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.plus(3, 3));
+    }
+
+    @Test
+    public void add_unsupported_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> PersistentList.of(List.of(1)).add(2));
+    }
+}
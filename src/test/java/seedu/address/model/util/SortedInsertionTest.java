@@ -0,0 +1,54 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class SortedInsertionTest {
+
+    private final List<Integer> list = List.of(1, 3, 3, 5);
+
+    @Test
+    public void indexFor_emptyList_zeroReturned() {
+        assertEquals(0, SortedInsertion.indexFor(Collections.emptyList(), 1, Comparator.naturalOrder()));
+    }
+
+    @Test
+    public void indexFor_equalElements_placedAfterThem() {
+        assertEquals(0, SortedInsertion.indexFor(list, 0, Comparator.naturalOrder()));
+        assertEquals(3, SortedInsertion.indexFor(list, 3, Comparator.naturalOrder()));
+        assertEquals(4, SortedInsertion.indexFor(list, 5, Comparator.naturalOrder()));
+        assertEquals(4, SortedInsertion.indexFor(list, 6, Comparator.naturalOrder()));
+    }
+
+    @Test
+    public void indexFor_randomElements_listKeptSorted() {
+        Random random = new Random(7);
+        List<Integer> sortedList = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            int element = random.nextInt(50);
+            sortedList.add(SortedInsertion.indexFor(sortedList, element, Comparator.reverseOrder()), element);
+        }
+        List<Integer> expected = new ArrayList<>(sortedList);
+        expected.sort(Comparator.reverseOrder());
+        assertEquals(expected, sortedList);
+    }
+
+    @Test
+    public void fitsAt() {
+        assertTrue(SortedInsertion.fitsAt(list, 0, 0, Comparator.naturalOrder()));
+        assertTrue(SortedInsertion.fitsAt(list, 1, 2, Comparator.naturalOrder()));
+        assertTrue(SortedInsertion.fitsAt(list, 3, 9, Comparator.naturalOrder()));
+        assertFalse(SortedInsertion.fitsAt(list, 0, 4, Comparator.naturalOrder()));
+        assertFalse(SortedInsertion.fitsAt(list, 2, 6, Comparator.naturalOrder()));
+        assertFalse(SortedInsertion.fitsAt(list, 3, 2, Comparator.naturalOrder()));
+    }
+}
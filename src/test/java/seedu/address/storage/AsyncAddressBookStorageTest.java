@@ -0,0 +1,192 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.DeliveryBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class AsyncAddressBookStorageTest {
+
+    private static final long LONG_LATENCY_MILLIS = 60_000;
+
+    @TempDir
+    public Path testFolder;
+
+    private AddressBook getAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder().withName("Carl Kurz").withPhone("95352563").build());
+        addressBook.addPerson(new PersonBuilder().withName("Alice Pauline").withPhone("94351253").build());
+        return addressBook;
+    }
+
+    @Test
+    public void saveAddressBook_beforeFlush_notWritten() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(
+                new JsonAddressBookStorage(filePath), LONG_LATENCY_MILLIS, 100);
+
+        AddressBook original = getAddressBook();
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(filePath));
+
+        storage.flushAddressBook();
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        storage.close();
+    }
+
+    @Test
+    public void saveAddressBook_burstOfSaves_coalescedIntoOneWrite() throws Exception {
+        AtomicInteger writeCount = new AtomicInteger();
+        JsonAddressBookStorage countingStorage = new JsonAddressBookStorage(testFolder.resolve("data.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                writeCount.incrementAndGet();
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(countingStorage, LONG_LATENCY_MILLIS, 100);
+
+        AddressBook original = getAddressBook();
+        for (int i = 0; i < 5; i++) {
+            original.getPersonList().get(0).addDelivery(new DeliveryBuilder().build());
+            storage.saveAddressBook(original);
+        }
+        storage.flushAddressBook();
+
+        assertEquals(1, writeCount.get());
+        assertEquals(5, storage.readAddressBook().get().getPersonList().get(0).getDeliveryListSize());
+        storage.close();
+    }
+
+    @Test
+    public void saveAddressBook_maxPendingReached_writtenWithoutFlush() throws Exception {
+        CountDownLatch written = new CountDownLatch(1);
+        JsonAddressBookStorage signallingStorage = new JsonAddressBookStorage(testFolder.resolve("data.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                super.saveAddressBook(addressBook, filePath);
+                written.countDown();
+            }
+        };
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(signallingStorage, LONG_LATENCY_MILLIS, 3);
+
+        AddressBook original = getAddressBook();
+        for (int i = 0; i < 3; i++) {
+            storage.saveAddressBook(original);
+        }
+
+        assertTrue(written.await(10, TimeUnit.SECONDS));
+        storage.close();
+    }
+
+    @Test
+    public void saveAddressBook_maxLatencyReached_writtenWithoutFlush() throws Exception {
+        CountDownLatch written = new CountDownLatch(1);
+        JsonAddressBookStorage signallingStorage = new JsonAddressBookStorage(testFolder.resolve("data.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                super.saveAddressBook(addressBook, filePath);
+                written.countDown();
+            }
+        };
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(signallingStorage, 10, 100);
+
+        storage.saveAddressBook(getAddressBook());
+
+        assertTrue(written.await(10, TimeUnit.SECONDS));
+        storage.close();
+    }
+
+    @Test
+    public void saveAddressBook_modifiedAfterSave_snapshotUnaffected() throws Exception {
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(
+                new JsonAddressBookStorage(testFolder.resolve("data.json")), LONG_LATENCY_MILLIS, 100);
+
+        AddressBook original = getAddressBook();
+        storage.saveAddressBook(original);
+        Person carl = original.getPersonList().get(0);
+        carl.addDelivery(new DeliveryBuilder().build());
+        original.addPerson(new PersonBuilder().withName("Daniel Meier").withPhone("87652533").build());
+        storage.flushAddressBook();
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(2, readBack.getPersonList().size());
+        assertEquals(0, readBack.getPersonList().get(0).getDeliveryListSize());
+        storage.close();
+    }
+
+    @Test
+    public void saveAddressBook_writeFails_failureReportedAndFlushThrows() throws Exception {
+        IOException dummyException = new IOException("dummy IO exception");
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(testFolder.resolve("data.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw dummyException;
+            }
+        };
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(failingStorage, 0, 100);
+        CountDownLatch reported = new CountDownLatch(1);
+        AtomicReference<IOException> reportedFailure = new AtomicReference<>();
+        storage.setSaveFailureHandler(failure -> {
+            reportedFailure.set(failure);
+            reported.countDown();
+        });
+
+        storage.saveAddressBook(getAddressBook());
+
+        assertTrue(reported.await(10, TimeUnit.SECONDS));
+        assertEquals(dummyException, reportedFailure.get());
+        assertThrows(IOException.class, storage::flushAddressBook);
+    }
+
+    @Test
+    public void saveAddressBook_writeKeepsFailing_retriesBackedOff() throws Exception {
+        AtomicInteger writeCount = new AtomicInteger();
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(testFolder.resolve("data.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                writeCount.incrementAndGet();
+                throw new IOException("dummy IO exception");
+            }
+        };
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(failingStorage, 0, 100);
+
+        storage.saveAddressBook(getAddressBook());
+        Thread.sleep(5 * AsyncAddressBookStorage.INITIAL_RETRY_DELAY_MILLIS);
+
+        // The first write and retries after 100, 200 and possibly 400 ms, rather than a retry in a busy loop.
+        assertTrue(writeCount.get() >= 2 && writeCount.get() <= 4, "Writes attempted: " + writeCount.get());
+    }
+
+    @Test
+    public void constructor_invalidLimits_throwsIllegalArgumentException() {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("data.json"));
+        assertThrows(IllegalArgumentException.class, () -> new AsyncAddressBookStorage(jsonStorage, -1, 100));
+        assertThrows(IllegalArgumentException.class, () -> new AsyncAddressBookStorage(jsonStorage, 0, 0));
+    }
+
+    @Test
+    public void saveAddressBook_afterClose_throwsIoException() throws Exception {
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(
+                new JsonAddressBookStorage(testFolder.resolve("data.json")), LONG_LATENCY_MILLIS, 100);
+        storage.close();
+        assertThrows(IOException.class, () -> storage.saveAddressBook(getAddressBook()));
+    }
+}
@@ -0,0 +1,174 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BPlusTreeTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private PageFile pageFile;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        pageFile = PageFile.open(testFolder.resolve("tree.pages"));
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        pageFile.close();
+    }
+
+    private static byte[] bytes(String string) {
+        return string.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> scanKeys(BPlusTree tree, byte[] fromKey) throws IOException {
+        List<String> keys = new ArrayList<>();
+        tree.scan(fromKey, (key, value) -> keys.add(new String(key, StandardCharsets.UTF_8)));
+        return keys;
+    }
+
+    @Test
+    public void get_emptyTree_returnsNull() throws Exception {
+        assertNull(new BPlusTree(pageFile, 0).get(bytes("missing")));
+    }
+
+    @Test
+    public void put_manyKeys_getAndScanInOrder() throws Exception {
+        BPlusTree tree = new BPlusTree(pageFile, 0);
+        Map<String, String> expected = new TreeMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            String key = String.format("key-%08d", random.nextInt(1_000_000));
+            String value = "value-" + i;
+            tree.put(bytes(key), bytes(value));
+            expected.put(key, value);
+        }
+        pageFile.commit();
+
+        for (Map.Entry<String, String> entry : expected.entrySet()) {
+            assertArrayEquals(bytes(entry.getValue()), tree.get(bytes(entry.getKey())));
+        }
+        assertEquals(new ArrayList<>(expected.keySet()), scanKeys(tree, new byte[0]));
+        assertTrue(pageFile.getPageCount() > 10);
+    }
+
+    @Test
+    public void put_longValues_storedInOverflowPages() throws Exception {
+        BPlusTree tree = new BPlusTree(pageFile, 0);
+        byte[] longValue = new byte[3 * PageFile.PAGE_SIZE + 17];
+        new Random(7).nextBytes(longValue);
+        tree.put(bytes("long"), longValue);
+        tree.put(bytes("short"), bytes("value"));
+        pageFile.commit();
+
+        assertArrayEquals(longValue, tree.get(bytes("long")));
+        int pageCount = pageFile.getPageCount();
+
+        // Replacing the value frees its overflow pages for the new one.
+        tree.put(bytes("long"), Arrays.copyOf(longValue, longValue.length - 1));
+        pageFile.commit();
+        assertEquals(pageCount, pageFile.getPageCount());
+        assertArrayEquals(Arrays.copyOf(longValue, longValue.length - 1), tree.get(bytes("long")));
+    }
+
+    @Test
+    public void put_keyTooLong_throwsIoException() {
+        BPlusTree tree = new BPlusTree(pageFile, 0);
+        assertThrows(IOException.class, () -> tree.put(new byte[BPlusTree.MAX_KEY_LENGTH + 1], bytes("value")));
+    }
+
+    @Test
+    public void remove_allKeys_pagesReused() throws Exception {
+        BPlusTree tree = new BPlusTree(pageFile, 0);
+        for (int i = 0; i < 3000; i++) {
+            tree.put(bytes(String.format("%06d", i)), bytes("value " + i));
+        }
+        pageFile.commit();
+        int pageCount = pageFile.getPageCount();
+
+        for (int i = 0; i < 3000; i += 2) {
+            assertTrue(tree.remove(bytes(String.format("%06d", i))));
+        }
+        assertFalse(tree.remove(bytes("000000")));
+        assertNull(tree.get(bytes("000000")));
+        assertArrayEquals(bytes("value 1"), tree.get(bytes("000001")));
+
+        for (int i = 1; i < 3000; i += 2) {
+            assertTrue(tree.remove(bytes(String.format("%06d", i))));
+        }
+        assertTrue(scanKeys(tree, new byte[0]).isEmpty());
+
+        for (int i = 0; i < 3000; i++) {
+            tree.put(bytes(String.format("%06d", i)), bytes("value " + i));
+        }
+        pageFile.commit();
+        assertEquals(pageCount, pageFile.getPageCount());
+    }
+
+    @Test
+    public void scanPrefix_keysWithPrefix_onlyThoseVisited() throws Exception {
+        BPlusTree tree = new BPlusTree(pageFile, 0);
+        for (String key : List.of("a", "ab", "abc", "abd", "b", "ba")) {
+            tree.put(bytes(key), bytes(key));
+        }
+
+        List<String> keys = new ArrayList<>();
+        tree.scanPrefix(bytes("ab"), (key, value) -> keys.add(new String(key, StandardCharsets.UTF_8)));
+
+        assertEquals(List.of("ab", "abc", "abd"), keys);
+        assertEquals(List.of("b", "ba"), scanKeys(tree, bytes("az")));
+    }
+
+    @Test
+    public void clear_twoTreesInOneFile_otherTreeUntouched() throws Exception {
+        BPlusTree first = new BPlusTree(pageFile, 0);
+        BPlusTree second = new BPlusTree(pageFile, 1);
+        for (int i = 0; i < 1000; i++) {
+            first.put(bytes("first " + i), bytes("value"));
+            second.put(bytes("second " + i), bytes("value"));
+        }
+
+        first.clear();
+        pageFile.commit();
+
+        assertTrue(scanKeys(first, new byte[0]).isEmpty());
+        assertEquals(1000, scanKeys(second, new byte[0]).size());
+    }
+
+    @Test
+    public void commit_fileReopened_treeReadBack() throws Exception {
+        Path filePath = testFolder.resolve("reopened.pages");
+        try (PageFile file = PageFile.open(filePath)) {
+            new BPlusTree(file, 2).put(bytes("key"), bytes("committed"));
+            file.commit();
+            new BPlusTree(file, 2).put(bytes("key"), bytes("rolled back"));
+            file.rollback();
+        }
+
+        try (PageFile file = PageFile.open(filePath)) {
+            assertArrayEquals(bytes("committed"), new BPlusTree(file, 2).get(bytes("key")));
+        }
+    }
+}
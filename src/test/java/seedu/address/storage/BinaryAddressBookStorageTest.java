@@ -0,0 +1,221 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.delivery.Delivery;
+import seedu.address.model.delivery.DeliveryId;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Worker;
+import seedu.address.testutil.DeliveryBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Returns the typical address book, with a client and an employee who both have deliveries.
+     */
+    private static AddressBook getAddressBookWithDeliveries() {
+        AddressBook addressBook = getTypicalAddressBook();
+        Delivery delivery = new DeliveryBuilder().withCost("$999.50").withTime("13:45:07.123456789")
+                .withDate("1960-02-29").withStatus("delivering").build();
+        Person client = new PersonBuilder().withName("Binary Client").build();
+        client.addDelivery(delivery);
+        client.addDelivery(new DeliveryBuilder().withArchive("true").build());
+        addressBook.addPerson(client);
+
+        Person employee = new PersonBuilder().withName("Binary Employee").withRole("employee").build();
+        Worker worker = new Worker();
+        worker.setDeliveryList(List.of(delivery));
+        employee.setWorker(worker);
+        addressBook.addPerson(employee);
+        addressBook.addPerson(new PersonBuilder().withName("Archived Client").withArchive("true").build());
+        return addressBook;
+    }
+
+    private static boolean isBinary(Path filePath) throws IOException {
+        byte[] header = Arrays.copyOf(Files.readAllBytes(filePath), BinaryAddressBookWriter.MAGIC.length);
+        return Arrays.equals(header, BinaryAddressBookWriter.MAGIC);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_thenRead_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getAddressBookWithDeliveries();
+        Person expensiveClient = new PersonBuilder().withName("Expensive Client").build();
+        expensiveClient.addDelivery(new DeliveryBuilder().withCost("$1234.50").build());
+        expensiveClient.addDelivery(new DeliveryBuilder().withCost("$9999999999999999.99").build());
+        original.addPerson(expensiveClient);
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+
+        assertEquals(original, new AddressBook(readBack));
+        for (int i = 0; i < original.getPersonList().size(); i++) {
+            Person person = original.getPersonList().get(i);
+            Person personReadBack = readBack.getPersonList().get(i);
+            assertEquals(person.getUnmodifiableDeliveryList(), personReadBack.getUnmodifiableDeliveryList());
+            assertEquals(person.getWorker(), personReadBack.getWorker());
+        }
+        Person client = readBack.getPersonList().get(readBack.getPersonList().size() - 4);
+        Person employee = readBack.getPersonList().get(readBack.getPersonList().size() - 3);
+        assertSame(client.getUnmodifiableDeliveryList().get(0),
+                employee.getWorker().getUnmodifiableAssignedDeliveryList().get(0));
+    }
+
+    @Test
+    public void saveAddressBook_compressed_readBackAsBinary() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        AddressBook original = getAddressBookWithDeliveries();
+
+        new BinaryAddressBookStorage(filePath, true).saveAddressBook(original);
+
+        assertTrue(CompressedDataFile.isCompressed(filePath));
+        assertTrue(AddressBookReader.forFile(filePath) instanceof BinaryAddressBookReader);
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_textDeliveryId_roundTrips() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        Person person = new PersonBuilder().build();
+        Delivery delivery = new DeliveryBuilder().build();
+        person.addDelivery(new Delivery(new DeliveryId("legacy id"), delivery.getItems(), delivery.getAddress(),
+                delivery.getCost(), delivery.getDate(), delivery.getTime(), delivery.getEta(), delivery.getStatus(),
+                delivery.getTags(), delivery.getArchive()));
+        AddressBook original = new AddressBook();
+        original.addPerson(person);
+
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        Person readBack = new BinaryAddressBookReader(filePath).readPersons().get(0);
+        assertEquals("legacy id", readBack.getUnmodifiableDeliveryList().get(0).getDeliveryId().value);
+    }
+
+    @Test
+    public void saveAddressBook_assignedIdNoClientHolds_roundTrips() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        Person employee = new PersonBuilder().withName("Employee").withRole("employee").build();
+        employee.getWorker().setUnresolvedDeliveryIds(List.of(new DeliveryId("1729621344714-0002")));
+        AddressBook original = new AddressBook();
+        original.addPerson(employee);
+
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        Worker readBack = new BinaryAddressBookReader(filePath).readPersons().get(0).getWorker();
+        assertTrue(readBack.getUnmodifiableAssignedDeliveryList().isEmpty());
+        assertEquals(List.of(new DeliveryId("1729621344714-0002")), readBack.getUnresolvedDeliveryIds());
+    }
+
+    @Test
+    public void readPersons_invalidAssignedDeliveryId_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        Person employee = new PersonBuilder().withName("Employee").withRole("employee").build();
+        employee.getWorker().setUnresolvedDeliveryIds(List.of(new DeliveryId("not an id")));
+        AddressBook original = new AddressBook();
+        original.addPerson(employee);
+
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertThrows(IllegalValueException.class, DeliveryId.MESSAGE_CONSTRAINTS, () ->
+                new BinaryAddressBookReader(filePath).readPersons());
+    }
+
+    @Test
+    public void convert_jsonToBinaryToJson_identicalJson() throws Exception {
+        Path jsonPath = testFolder.resolve("addressBook.json");
+        Path binaryPath = testFolder.resolve("addressBook.bin");
+        Path convertedPath = testFolder.resolve("converted.json");
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(getAddressBookWithDeliveries());
+
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(binaryPath);
+        binaryStorage.saveAddressBook(new JsonAddressBookStorage(jsonPath).readAddressBook().get());
+        new JsonAddressBookStorage(convertedPath).saveAddressBook(binaryStorage.readAddressBook().get());
+
+        assertArrayEquals(Files.readAllBytes(jsonPath), Files.readAllBytes(convertedPath));
+        assertTrue(Files.size(binaryPath) < Files.size(jsonPath) / 2);
+    }
+
+    @Test
+    public void readAddressBook_jsonFileWithJournal_convertedOnSave() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage journaledStorage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        journaledStorage.saveAddressBook(original);
+        original.addPerson(new PersonBuilder().withName("Journaled Person").build());
+        journaledStorage.saveAddressBook(original);
+        assertTrue(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(filePath);
+        ReadOnlyAddressBook readBack = binaryStorage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+
+        binaryStorage.saveAddressBook(readBack);
+        assertTrue(isBinary(filePath));
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+
+        // Switching back to json still reads the binary file.
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getAddressBookWithDeliveries());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 0x01;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readPersons_unsupportedVersion_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[BinaryAddressBookWriter.MAGIC.length] = 99;
+        Files.write(filePath, bytes);
+
+        assertThrows(IOException.class, String.format(BinaryAddressBookReader.MESSAGE_UNSUPPORTED_VERSION, 99), () ->
+                new BinaryAddressBookReader(filePath).readPersons());
+    }
+
+    @Test
+    public void readPersons_truncatedFile_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getAddressBookWithDeliveries());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertThrows(IOException.class, () -> new BinaryAddressBookReader(filePath).readPersons());
+    }
+}
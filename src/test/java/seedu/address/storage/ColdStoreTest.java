@@ -0,0 +1,189 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.delivery.Delivery;
+import seedu.address.model.delivery.exceptions.DeliveryLoadingException;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.DeliveryBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class ColdStoreTest {
+
+    private static final Delivery ACTIVE = new DeliveryBuilder().withId("1729621344714-0001")
+            .withAddress("Hot Street 1, S120001").build();
+    private static final Delivery ARCHIVED = new DeliveryBuilder().withId("1729621344714-0002")
+            .withAddress("Cold Street 2, S120002").withArchive("true").build();
+    private static final Delivery OTHER_ARCHIVED = new DeliveryBuilder().withId("1729621344714-0003")
+            .withAddress("Cold Street 3, S120003").withArchive("true").build();
+
+    @TempDir
+    public Path testFolder;
+
+    private Path getFilePath() {
+        return testFolder.resolve("addressBook.json");
+    }
+
+    /**
+     * Returns an address book with an active client whose last delivery is archived, an archived client and a client
+     * without archived deliveries.
+     */
+    private static AddressBook getAddressBookWithArchivedDeliveries() {
+        AddressBook addressBook = new AddressBook();
+        Person active = new PersonBuilder().withName("Active Client").build();
+        active.addDelivery(ACTIVE);
+        active.addDelivery(ARCHIVED);
+        addressBook.addPerson(active);
+        Person archived = new PersonBuilder().withName("Archived Client").withArchive("true").build();
+        archived.addDelivery(ACTIVE);
+        archived.addDelivery(OTHER_ARCHIVED);
+        addressBook.addPerson(archived);
+        Person hot = new PersonBuilder().withName("Hot Client").build();
+        hot.addDelivery(ACTIVE);
+        addressBook.addPerson(hot);
+        return addressBook;
+    }
+
+    private AddressBook saveAndRead(AddressBook addressBook) throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(getFilePath());
+        storage.saveAddressBook(addressBook);
+        return new AddressBook(new JournaledAddressBookStorage(getFilePath()).readAddressBook().get());
+    }
+
+    private static Person find(AddressBook addressBook, String name) {
+        return addressBook.getPersonList().stream().filter(person -> person.getName().fullName.equals(name))
+                .findFirst().get();
+    }
+
+    private ColdStore getColdStore() {
+        return ColdStore.forDataFile(getFilePath());
+    }
+
+    @Test
+    public void save_archivedDeliveries_keptOutOfDataFile() throws Exception {
+        saveAndRead(getAddressBookWithArchivedDeliveries());
+
+        String data = Files.readString(getFilePath());
+        assertTrue(data.contains("Hot Street 1"));
+        assertFalse(data.contains("Cold Street"));
+        assertTrue(Files.exists(getColdStore().getFilePath()));
+    }
+
+    @Test
+    public void read_archivedDeliveries_loadedInOriginalOrder() throws Exception {
+        AddressBook readBack = saveAndRead(getAddressBookWithArchivedDeliveries());
+
+        Person active = find(readBack, "Active Client");
+        assertTrue(active.getDeliveryList().isDeferred());
+        assertEquals(List.of(ACTIVE, ARCHIVED), active.getUnmodifiableDeliveryList());
+        assertEquals(List.of(ACTIVE, OTHER_ARCHIVED), find(readBack, "Archived Client").getUnmodifiableDeliveryList());
+        assertEquals(List.of(ACTIVE), find(readBack, "Hot Client").getUnmodifiableDeliveryList());
+    }
+
+    @Test
+    public void save_unchangedArchivedDeliveries_notAppendedAgain() throws Exception {
+        AddressBook readBack = saveAndRead(getAddressBookWithArchivedDeliveries());
+        long size = Files.size(getColdStore().getFilePath());
+
+        // One person is saved without being loaded, the other after being loaded.
+        find(readBack, "Archived Client").getUnmodifiableDeliveryList();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(getFilePath(), 1);
+        storage.saveAddressBook(readBack);
+        storage.saveAddressBook(readBack);
+
+        assertEquals(size, Files.size(getColdStore().getFilePath()));
+        AddressBook again = new AddressBook(new JournaledAddressBookStorage(getFilePath()).readAddressBook().get());
+        assertEquals(List.of(ACTIVE, OTHER_ARCHIVED), find(again, "Archived Client").getUnmodifiableDeliveryList());
+    }
+
+    @Test
+    public void save_mostRecordsUnreferenced_compactedIntoNewGeneration() throws Exception {
+        AddressBook addressBook = getAddressBookWithArchivedDeliveries();
+        Person hoarder = new PersonBuilder().withName("Hoarding Client").withArchive("true").build();
+        for (int i = 0; i < 20; i++) {
+            hoarder.addDelivery(new DeliveryBuilder().withAddress("Hoard Street " + i + ", S1200" + (10 + i))
+                    .withArchive("true").build());
+        }
+        addressBook.addPerson(hoarder);
+        AddressBook readBack = saveAndRead(addressBook);
+        Path oldFilePath = getColdStore().getFilePath();
+        getColdStore().setMinCompactionBytes(0);
+
+        // The archived client is left unloaded, so its record has to be relocated.
+        readBack.removePerson(find(readBack, "Hoarding Client"));
+        Person active = find(readBack, "Active Client");
+        active.deleteDelivery(ARCHIVED);
+        new BinaryAddressBookStorage(getFilePath()).saveAddressBook(readBack);
+
+        assertFalse(Files.exists(oldFilePath));
+        assertTrue(Files.size(getColdStore().getFilePath()) < Files.size(getFilePath()));
+        Person archived = find(readBack, "Archived Client");
+        assertTrue(archived.getDeliveryList().isDeferred());
+        assertEquals(List.of(ACTIVE, OTHER_ARCHIVED), archived.getUnmodifiableDeliveryList());
+        AddressBook again = new AddressBook(new JournaledAddressBookStorage(getFilePath()).readAddressBook().get());
+        assertEquals(List.of(ACTIVE), find(again, "Active Client").getUnmodifiableDeliveryList());
+        assertEquals(List.of(ACTIVE, OTHER_ARCHIVED), find(again, "Archived Client").getUnmodifiableDeliveryList());
+    }
+
+    @Test
+    public void save_noRecordsReferenced_fileRemoved() throws Exception {
+        AddressBook readBack = saveAndRead(getAddressBookWithArchivedDeliveries());
+        Path oldFilePath = getColdStore().getFilePath();
+        getColdStore().setMinCompactionBytes(0);
+
+        find(readBack, "Active Client").deleteDelivery(ARCHIVED);
+        readBack.removePerson(find(readBack, "Archived Client"));
+        new BinaryAddressBookStorage(getFilePath()).saveAddressBook(readBack);
+
+        assertFalse(Files.exists(oldFilePath));
+        assertEquals(0, getColdStore().getGeneration());
+        assertEquals(readBack, new AddressBook(new JournaledAddressBookStorage(getFilePath()).readAddressBook().get()));
+    }
+
+    @Test
+    public void read_corruptedRecord_throwsDeliveryLoadingException() throws Exception {
+        AddressBook readBack = saveAndRead(getAddressBookWithArchivedDeliveries());
+        Path coldFilePath = getColdStore().getFilePath();
+        byte[] bytes = Files.readAllBytes(coldFilePath);
+        bytes[bytes.length - 3] ^= 0x55;
+        Files.write(coldFilePath, bytes);
+
+        Person archived = find(readBack, "Archived Client");
+        assertThrows(DeliveryLoadingException.class, archived::getUnmodifiableDeliveryList);
+    }
+
+    @Test
+    public void read_cachedRecord_notReadFromFileAgain() throws Exception {
+        saveAndRead(getAddressBookWithArchivedDeliveries());
+        AddressBook first = new AddressBook(new JournaledAddressBookStorage(getFilePath()).readAddressBook().get());
+        find(first, "Archived Client").getUnmodifiableDeliveryList();
+        Files.delete(getColdStore().getFilePath());
+
+        AddressBook second = new AddressBook(new JournaledAddressBookStorage(getFilePath()).readAddressBook().get());
+
+        assertEquals(List.of(ACTIVE, OTHER_ARCHIVED), find(second, "Archived Client").getUnmodifiableDeliveryList());
+        assertThrows(DeliveryLoadingException.class, () ->
+                find(second, "Active Client").getUnmodifiableDeliveryList());
+    }
+
+    @Test
+    public void moveToBackup_unloadedRecords_stillReadable() throws Exception {
+        AddressBook readBack = saveAndRead(getAddressBookWithArchivedDeliveries());
+
+        JournaledAddressBookStorage.moveToBackup(getFilePath());
+
+        assertFalse(Files.exists(ColdStore.getFilePath(getFilePath(), 1)));
+        assertEquals(List.of(ACTIVE, OTHER_ARCHIVED), find(readBack, "Archived Client").getUnmodifiableDeliveryList());
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CompressedDataFileTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private static byte[] repetitiveData(int length) {
+        byte[] line = "{ \"address\" : \"123, Jurong West Ave 6, #08-111\", \"items\" : [ \"Laptop\" ] }\n"
+                .getBytes(StandardCharsets.UTF_8);
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = line[i % line.length];
+        }
+        return data;
+    }
+
+    private Path write(byte[] data, boolean isCompressed) throws IOException {
+        Path filePath = testFolder.resolve(isCompressed ? "data.lglz" : "data.json");
+        try (OutputStream out = CompressedDataFile.newOutputStream(filePath, isCompressed)) {
+            out.write(data);
+        }
+        return filePath;
+    }
+
+    @Test
+    public void readAllBytes_compressedOverManyBlocks_sameData() throws Exception {
+        byte[] data = repetitiveData(5 * CompressedDataFile.BLOCK_SIZE + 123);
+        Path filePath = write(data, true);
+
+        assertTrue(CompressedDataFile.isCompressed(filePath));
+        assertTrue(Files.size(filePath) < data.length / 10);
+        assertArrayEquals(data, CompressedDataFile.readAllBytes(filePath));
+    }
+
+    @Test
+    public void readAllBytes_incompressibleData_sameData() throws Exception {
+        byte[] data = new byte[3 * CompressedDataFile.BLOCK_SIZE];
+        new Random(42).nextBytes(data);
+
+        assertArrayEquals(data, CompressedDataFile.readAllBytes(write(data, true)));
+    }
+
+    @Test
+    public void readAllBytes_uncompressedFile_readAsIs() throws Exception {
+        byte[] data = repetitiveData(1000);
+        Path filePath = write(data, false);
+
+        assertFalse(CompressedDataFile.isCompressed(filePath));
+        assertArrayEquals(data, CompressedDataFile.readAllBytes(filePath));
+    }
+
+    @Test
+    public void readAllBytes_emptyData_emptyResult() throws Exception {
+        assertEquals(0, CompressedDataFile.readAllBytes(write(new byte[0], true)).length);
+    }
+
+    @Test
+    public void write_singleBytesAndFlushes_sameData() throws Exception {
+        byte[] data = repetitiveData(CompressedDataFile.BLOCK_SIZE + 10);
+        Path filePath = testFolder.resolve("data.lglz");
+        try (OutputStream out = CompressedDataFile.newOutputStream(filePath, true)) {
+            for (int i = 0; i < data.length; i++) {
+                out.write(data[i]);
+                if (i % 1000 == 0) {
+                    out.flush();
+                }
+            }
+        }
+
+        try (InputStream in = CompressedDataFile.newInputStream(filePath)) {
+            for (byte b : data) {
+                assertEquals(b & 0xFF, in.read());
+            }
+            assertEquals(-1, in.read());
+        }
+    }
+
+    @Test
+    public void readAllBytes_truncatedFile_throwsIoException() throws Exception {
+        Path filePath = write(repetitiveData(2 * CompressedDataFile.BLOCK_SIZE), true);
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 6));
+
+        assertThrows(IOException.class, () -> CompressedDataFile.readAllBytes(filePath));
+    }
+
+    @Test
+    public void readAllBytes_corruptedBlock_throwsIoException() throws Exception {
+        Path filePath = write(repetitiveData(1000), true);
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 10] ^= 0x55;
+        Files.write(filePath, bytes);
+
+        assertThrows(IOException.class, () -> CompressedDataFile.readAllBytes(filePath));
+    }
+
+    @Test
+    public void readAllBytes_unsupportedVersion_throwsIoException() throws Exception {
+        Path filePath = write(repetitiveData(1000), true);
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[CompressedDataFile.MAGIC.length] = 99;
+        Files.write(filePath, bytes);
+
+        assertThrows(IOException.class, String.format(CompressedDataFile.MESSAGE_UNSUPPORTED_VERSION, 99), () ->
+                CompressedDataFile.readAllBytes(filePath));
+    }
+}
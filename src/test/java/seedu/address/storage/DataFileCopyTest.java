@@ -0,0 +1,44 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+public class DataFileCopyTest {
+
+    private static final byte[] DATA = "{ \"persons\" : [ { \"name\" : \"Alice Pauline\" } ] }"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private static DataFileCopy copyOf(byte[] data) throws IOException {
+        DataFileCopy copy = new DataFileCopy();
+        try (InputStream in = copy.copyWhileReading(new ByteArrayInputStream(data))) {
+            // Reads one byte at a time and then in bulk, as a parser would.
+            in.read();
+            in.readAllBytes();
+        }
+        return copy;
+    }
+
+    @Test
+    public void read_rangeOfCopy_sameAsOriginal() throws Exception {
+        DataFileCopy copy = copyOf(DATA);
+
+        assertArrayEquals(DATA, copy.read(0, DATA.length));
+        assertArrayEquals(Arrays.copyOfRange(DATA, 16, 40), copy.read(16, 24));
+    }
+
+    @Test
+    public void read_beyondEnd_throwsEofException() throws Exception {
+        DataFileCopy copy = copyOf(DATA);
+
+        assertThrows(EOFException.class, () -> copy.read(DATA.length - 1, 2));
+    }
+}
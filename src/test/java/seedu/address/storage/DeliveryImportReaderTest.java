@@ -0,0 +1,131 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.storage.DeliveryImportReader.Column;
+import seedu.address.storage.DeliveryImportReader.Row;
+
+public class DeliveryImportReaderTest {
+
+    private static final String CSV_HEADER = "name,phone,items,eta,address,cost,status,tags\n";
+
+    @TempDir
+    public Path testFolder;
+
+    private List<Row> read(String fileName, String content) throws IOException {
+        Path filePath = testFolder.resolve(fileName);
+        Files.writeString(filePath, content);
+        List<Row> rows = new ArrayList<>();
+        DeliveryImportReader.read(filePath, rows::add);
+        return rows;
+    }
+
+    @Test
+    public void isSupported() {
+        assertTrue(DeliveryImportReader.isSupported(Path.of("deliveries.csv")));
+        assertTrue(DeliveryImportReader.isSupported(Path.of("deliveries.NDJSON")));
+        assertTrue(DeliveryImportReader.isSupported(Path.of("data", "deliveries.jsonl")));
+        assertFalse(DeliveryImportReader.isSupported(Path.of("deliveries.json")));
+        assertFalse(DeliveryImportReader.isSupported(Path.of("deliveries")));
+    }
+
+    @Test
+    public void read_csvWithQuotedFields_valuesRead() throws Exception {
+        List<Row> rows = read("deliveries.csv", CSV_HEADER
+                + "Alex Yeoh,,Monitor;Mouse,2025-01-01,\"311, Clementi Ave 2, S120300\",$100,not delivered,\r\n"
+                + "\n"
+                + ",98765432,\"Desk \"\"XL\"\"\",2025-01-02,\"Line one\nline two, S120300\",$5.50,delivered,a;b\n");
+
+        assertEquals(2, rows.size());
+        Row first = rows.get(0);
+        assertEquals(2, first.getLineNumber());
+        assertNull(first.getError());
+        assertEquals("Alex Yeoh", first.get(Column.NAME));
+        assertNull(first.get(Column.PHONE));
+        assertEquals(List.of("Monitor", "Mouse"), first.getAll(Column.ITEMS));
+        assertEquals("311, Clementi Ave 2, S120300", first.get(Column.ADDRESS));
+        assertTrue(first.getAll(Column.TAGS).isEmpty());
+
+        Row second = rows.get(1);
+        assertEquals(4, second.getLineNumber());
+        assertEquals("98765432", second.get(Column.PHONE));
+        assertEquals(List.of("Desk \"XL\""), second.getAll(Column.ITEMS));
+        assertEquals("Line one\nline two, S120300", second.get(Column.ADDRESS));
+        assertEquals(List.of("a", "b"), second.getAll(Column.TAGS));
+    }
+
+    @Test
+    public void read_csvMalformedRows_reportedAndSkipped() throws Exception {
+        List<Row> rows = read("deliveries.csv", "Items,ETA,Address,Cost,Status,Name,Notes\n"
+                + "\"Monitor\"x,2025-01-01,a,$1,delivered,Alex\n"
+                + "Monitor,2025-01-01,a,$1,delivered,Alex,note,extra\n"
+                + "Mouse,2025-01-01,a,$1,delivered,Alex,ignored\n"
+                + "\"Keyboard,2025-01-01\n");
+
+        assertEquals(4, rows.size());
+        assertEquals(DeliveryImportReader.MESSAGE_TEXT_AFTER_QUOTE, rows.get(0).getError());
+        assertEquals(DeliveryImportReader.MESSAGE_TOO_MANY_FIELDS, rows.get(1).getError());
+        assertNull(rows.get(2).getError());
+        assertEquals("Alex", rows.get(2).get(Column.NAME));
+        assertEquals(List.of("Mouse"), rows.get(2).getAll(Column.ITEMS));
+        assertEquals(DeliveryImportReader.MESSAGE_UNTERMINATED_QUOTE, rows.get(3).getError());
+    }
+
+    @Test
+    public void read_csvMissingColumns_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("deliveries.csv");
+        Files.writeString(filePath, "items,eta,address,cost\n");
+
+        assertThrows(IOException.class, String.format(DeliveryImportReader.MESSAGE_MISSING_COLUMNS,
+                "name or phone, status"), () -> DeliveryImportReader.read(filePath, row -> { }));
+    }
+
+    @Test
+    public void read_emptyCsv_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("deliveries.csv");
+        Files.writeString(filePath, "");
+
+        assertThrows(IOException.class, DeliveryImportReader.MESSAGE_MISSING_HEADER, () ->
+                DeliveryImportReader.read(filePath, row -> { }));
+    }
+
+    @Test
+    public void read_ndjson_valuesRead() throws Exception {
+        List<Row> rows = read("deliveries.ndjson",
+                "{\"name\": \"Alex Yeoh\", \"items\": [\"Monitor\", \"Mouse\"], \"cost\": \"$1\", \"extra\": {}}\n"
+                + "\n"
+                + "{\"phone\": 98765432, \"items\": \"Desk;Chair\", \"tags\": null}\n"
+                + "not json\n"
+                + "[1, 2]\n"
+                + "{\"items\": [{}]}\n");
+
+        assertEquals(5, rows.size());
+        assertEquals("Alex Yeoh", rows.get(0).get(Column.NAME));
+        assertEquals(List.of("Monitor", "Mouse"), rows.get(0).getAll(Column.ITEMS));
+        assertEquals(3, rows.get(1).getLineNumber());
+        assertEquals("98765432", rows.get(1).get(Column.PHONE));
+        assertEquals(List.of("Desk", "Chair"), rows.get(1).getAll(Column.ITEMS));
+        assertEquals(DeliveryImportReader.MESSAGE_INVALID_JSON, rows.get(2).getError());
+        assertEquals(DeliveryImportReader.MESSAGE_NOT_AN_OBJECT, rows.get(3).getError());
+        assertEquals(String.format(DeliveryImportReader.MESSAGE_NOT_A_STRING, "items"), rows.get(4).getError());
+    }
+
+    @Test
+    public void read_unsupportedFile_throwsIoException() {
+        assertThrows(IOException.class, DeliveryImportReader.MESSAGE_UNSUPPORTED_FILE, () ->
+                DeliveryImportReader.read(testFolder.resolve("deliveries.txt"), row -> { }));
+    }
+}
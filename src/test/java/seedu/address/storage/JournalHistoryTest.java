@@ -0,0 +1,202 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalHistoryTest {
+
+    private static final long START = Instant.parse("2024-10-01T09:00:00Z").toEpochMilli();
+    private static final long HOUR = TimeUnit.HOURS.toMillis(1);
+    private static final long DAY = TimeUnit.DAYS.toMillis(1);
+
+    private static final Person ALICE = new PersonBuilder().withName("Alice Pauline").withPhone("94351253").build();
+    private static final Person BENSON = new PersonBuilder().withName("Benson Meier").withPhone("98765432").build();
+    private static final Person CARL = new PersonBuilder().withName("Carl Kurz").withPhone("95352563").build();
+
+    @TempDir
+    public Path testFolder;
+
+    private final MutableClock clock = new MutableClock();
+
+    @BeforeEach
+    public void setUp() {
+        clock.millis = START;
+    }
+
+    private Path getFilePath() {
+        return testFolder.resolve("addressBook.json");
+    }
+
+    private JournaledAddressBookStorage getStorage(int checkpointInterval) {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(getFilePath(), checkpointInterval);
+        storage.setClock(clock);
+        return storage;
+    }
+
+    private Optional<ReadOnlyAddressBook> readAsOf(long time) throws Exception {
+        return new JournaledAddressBookStorage(getFilePath()).readAddressBookAsOf(Instant.ofEpochMilli(time));
+    }
+
+    private static AddressBook addressBookOf(Person... persons) {
+        AddressBook addressBook = new AddressBook();
+        for (Person person : persons) {
+            addressBook.addPerson(person);
+        }
+        return addressBook;
+    }
+
+    private void assertAsOf(long time, AddressBook expected) throws Exception {
+        Optional<ReadOnlyAddressBook> addressBook = readAsOf(time);
+        assertTrue(addressBook.isPresent());
+        assertEquals(expected, new AddressBook(addressBook.get()));
+    }
+
+    @Test
+    public void readAddressBookAsOf_journaledChanges_replayedUpToTime() throws Exception {
+        JournaledAddressBookStorage storage = getStorage(JournaledAddressBookStorage.DEFAULT_CHECKPOINT_INTERVAL);
+        AddressBook addressBook = addressBookOf(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        clock.millis = START + HOUR;
+        addressBook.addPerson(BENSON);
+        storage.saveAddressBook(addressBook);
+
+        clock.millis = START + 2 * HOUR;
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91234567").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        storage.saveAddressBook(addressBook);
+
+        assertAsOf(START, addressBookOf(ALICE));
+        assertAsOf(START + HOUR + 1, addressBookOf(ALICE, BENSON));
+        assertAsOf(START + 3 * HOUR, addressBookOf(editedAlice, BENSON));
+    }
+
+    @Test
+    public void readAddressBookAsOf_beforeHistory_emptyResult() throws Exception {
+        getStorage(1).saveAddressBook(addressBookOf(ALICE));
+
+        assertFalse(readAsOf(START - 1).isPresent());
+    }
+
+    @Test
+    public void readAddressBookAsOf_noHistory_emptyResult() throws Exception {
+        assertFalse(readAsOf(START).isPresent());
+    }
+
+    @Test
+    public void readAddressBookAsOf_journalFoldedIntoSnapshot_replayedFromHistoryLog() throws Exception {
+        JournaledAddressBookStorage storage = getStorage(2);
+        AddressBook addressBook = addressBookOf(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        clock.millis = START + HOUR;
+        addressBook.addPerson(BENSON);
+        storage.saveAddressBook(addressBook);
+
+        // Reaches the checkpoint interval, so the journal is moved into the history.
+        clock.millis = START + 2 * HOUR;
+        addressBook.addPerson(CARL);
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(getFilePath())));
+
+        assertAsOf(START + HOUR, addressBookOf(ALICE, BENSON));
+        assertAsOf(START + 2 * HOUR, addressBookOf(ALICE, BENSON, CARL));
+    }
+
+    @Test
+    public void readAddressBookAsOf_checkpointsOnLaterDays_latestCheckpointUsed() throws Exception {
+        JournaledAddressBookStorage storage = getStorage(1);
+        AddressBook addressBook = addressBookOf(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        clock.millis = START + 2 * DAY;
+        addressBook.addPerson(BENSON);
+        storage.saveAddressBook(addressBook);
+
+        clock.millis = START + 4 * DAY;
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        try (Stream<Path> files = Files.list(JournalHistory.getDirectoryPath(getFilePath()))) {
+            assertEquals(3, files.filter(path -> path.getFileName().toString().startsWith("checkpoint-")).count());
+        }
+        assertAsOf(START + DAY, addressBookOf(ALICE));
+        assertAsOf(START + 3 * DAY, addressBookOf(ALICE, BENSON));
+        assertAsOf(START + 5 * DAY, addressBookOf(BENSON));
+    }
+
+    @Test
+    public void saveAddressBook_historyOlderThanRetention_pruned() throws Exception {
+        JournaledAddressBookStorage storage = getStorage(1);
+        AddressBook addressBook = addressBookOf(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        clock.millis = START + 100 * DAY;
+        addressBook.addPerson(BENSON);
+        storage.saveAddressBook(addressBook);
+
+        // The checkpoint before the retention period is kept for the start of the period.
+        assertAsOf(START + 50 * DAY, addressBookOf(ALICE));
+
+        clock.millis = START + 200 * DAY;
+        addressBook.addPerson(CARL);
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(readAsOf(START + 50 * DAY).isPresent());
+        assertAsOf(START + 150 * DAY, addressBookOf(ALICE, BENSON));
+    }
+
+    @Test
+    public void moveToBackup_history_movedAlong() throws Exception {
+        getStorage(1).saveAddressBook(addressBookOf(ALICE));
+
+        JournaledAddressBookStorage.moveToBackup(getFilePath());
+
+        Path backup = testFolder.resolve("addressBook.json" + JournaledAddressBookStorage.BACKUP_SUFFIX);
+        assertTrue(Files.exists(JournalHistory.getDirectoryPath(backup)));
+        assertFalse(Files.exists(JournalHistory.getDirectoryPath(getFilePath())));
+        assertFalse(readAsOf(START).isPresent());
+    }
+
+    /**
+     * A clock that stays at the time it is set to.
+     */
+    private static class MutableClock extends Clock {
+        private long millis;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+}
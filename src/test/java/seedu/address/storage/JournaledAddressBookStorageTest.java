@@ -0,0 +1,212 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.DeliveryBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private AddressBook getAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder().withName("Carl Kurz").withPhone("95352563").build());
+        addressBook.addPerson(new PersonBuilder().withName("Alice Pauline").withPhone("94351253").build());
+        addressBook.addPerson(new PersonBuilder().withName("Benson Meier").withPhone("98765432").build());
+        return addressBook;
+    }
+
+    private void assertSameContents(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(new AddressBook(expected), new AddressBook(actual));
+        for (int i = 0; i < expected.getPersonList().size(); i++) {
+            assertEquals(expected.getPersonList().get(i).getDeliveryList(),
+                    actual.getPersonList().get(i).getDeliveryList());
+        }
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("missing.json"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshotOnly() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+
+        storage.saveAddressBook(getAddressBook());
+
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterSnapshot_appendedAndReplayed() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+
+        // add, in-place delivery change, remove and reorder
+        original.addPerson(new PersonBuilder().withName("Daniel Meier").withPhone("87652533").build());
+        Person carl = original.getPersonList().get(0);
+        carl.addDelivery(new DeliveryBuilder().build());
+        storage.saveAddressBook(original);
+        original.removePerson(original.getPersonList().get(1));
+        original.sortByName();
+        storage.saveAddressBook(original);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertTrue(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertSameContents(original, readBack);
+    }
+
+    @Test
+    public void saveAddressBook_unchangedAddressBook_nothingAppended() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_checkpointIntervalReached_journalFoldedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 2);
+        AddressBook original = getAddressBook();
+        storage.saveAddressBook(original);
+
+        original.getPersonList().get(0).addDelivery(new DeliveryBuilder().build());
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+
+        original.getPersonList().get(1).addDelivery(new DeliveryBuilder().build());
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+
+        assertSameContents(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_compressed_journalAppliedOnTopOfCompressedSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath,
+                JournaledAddressBookStorage.DEFAULT_CHECKPOINT_INTERVAL, true);
+        AddressBook original = getAddressBook();
+        storage.saveAddressBook(original);
+        original.getPersonList().get(0).addDelivery(new DeliveryBuilder().build());
+        storage.saveAddressBook(original);
+
+        assertTrue(CompressedDataFile.isCompressed(filePath));
+        assertFalse(CompressedDataFile.isCompressed(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+        // Compressed snapshots are read whether or not the storage compresses what it writes.
+        assertSameContents(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_continuesJournalAfterRead_success() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        AddressBook original = getAddressBook();
+        new JournaledAddressBookStorage(filePath).saveAddressBook(original);
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.getPersonList().get(2).addDelivery(new DeliveryBuilder().build());
+        storage.saveAddressBook(readBack);
+
+        assertTrue(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+        assertSameContents(readBack, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readExternalChange_conflictingChanges_journaledChangesWin() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getAddressBook();
+        storage.saveAddressBook(original);
+
+        AddressBook journaled = new AddressBook(original);
+        journaled.removePerson(journaled.getPersonList().get(2));
+        Person alice = journaled.getPersonList().get(1);
+        Person editedAlice = new PersonBuilder(alice).withPhone("81234567").build();
+        journaled.setPerson(alice, editedAlice);
+        Person daniel = new PersonBuilder().withName("Daniel Meier").withPhone("87652533").build();
+        journaled.addPerson(daniel);
+        storage.saveAddressBook(journaled);
+
+        AddressBook external = new AddressBook(original);
+        external.removePerson(external.getPersonList().get(1));
+        Person benson = external.getPersonList().get(1);
+        external.setPerson(benson, new PersonBuilder(benson).withPhone("91234567").build());
+        external.addPerson(new PersonBuilder().withName("Daniel Meier").withPhone("92345678").build());
+        new JsonAddressBookStorage(filePath).saveAddressBook(external);
+
+        AddressBook expected = new AddressBook();
+        expected.addPerson(original.getPersonList().get(0));
+        expected.addPerson(daniel);
+        expected.addPerson(editedAlice);
+        assertSameContents(expected, storage.readExternalChange().get());
+        assertSameContents(expected, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_ignored() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getAddressBook();
+        storage.saveAddressBook(original);
+        original.getPersonList().get(0).addDelivery(new DeliveryBuilder().build());
+        storage.saveAddressBook(original);
+
+        Files.writeString(JournaledAddressBookStorage.getJournalFilePath(filePath), "{\"sequence\":9,\"op\":\"ad",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        assertSameContents(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_corruptedEntryBeforeEnd_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        new JournaledAddressBookStorage(filePath).saveAddressBook(getAddressBook());
+
+        Files.writeString(JournaledAddressBookStorage.getJournalFilePath(filePath),
+                "not json\n{\"sequence\":1,\"op\":\"remove\",\"target\":\"Carl Kurz\"}\n");
+
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_entryForUnknownPerson_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        new JournaledAddressBookStorage(filePath).saveAddressBook(getAddressBook());
+
+        Files.writeString(JournaledAddressBookStorage.getJournalFilePath(filePath),
+                "{\"sequence\":1,\"op\":\"remove\",\"target\":\"Nobody\"}\n");
+
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+}
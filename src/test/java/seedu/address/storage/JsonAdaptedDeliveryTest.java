@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.storage.JsonAdaptedDelivery.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.storage.JsonAdaptedPersonTest.VALID_TAGS;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -37,12 +38,12 @@ public class JsonAdaptedDeliveryTest {
             .map(JsonAdaptedItem::new)
             .collect(Collectors.toList());
     private static final String VALID_ADDRESS = APPLES.getAddress().value;
-    private static final String VALID_COST = APPLES.getCost().value;
-    private static final String VALID_DATE = String.valueOf(APPLES.getDate().value);
-    private static final String VALID_TIME = String.valueOf(APPLES.getTime().value);
-    private static final String VALID_ETA = String.valueOf(APPLES.getEta().value);
+    private static final String VALID_COST = APPLES.getCost().getValue();
+    private static final String VALID_DATE = String.valueOf(APPLES.getDate().getValue());
+    private static final String VALID_TIME = String.valueOf(APPLES.getTime().getValue());
+    private static final String VALID_ETA = String.valueOf(APPLES.getEta().getValue());
     private static final String VALID_STATUS = APPLES.getStatus().getValue();
-    private static final String VALID_ARCHIVE = APPLES.getArchive().value;
+    private static final String VALID_ARCHIVE = APPLES.getArchive().getValue();
 
     @Test
     public void toModelType_nullDeliveryId_throwsIllegalValueException() {
@@ -98,6 +99,14 @@ public class JsonAdaptedDeliveryTest {
         assertThrows(IllegalValueException.class, expectedMessage, delivery::toModelType);
     }
 
+    @Test
+    public void toModelType_costGroupedByThousands_returnsDelivery() throws Exception {
+        JsonAdaptedDelivery delivery =
+                new JsonAdaptedDelivery(VALID_DELIVERY_ID, VALID_ITEM_NAME, VALID_ADDRESS, "$1,234,567.89", VALID_DATE,
+                        VALID_TIME, VALID_ETA, VALID_STATUS, VALID_TAGS, VALID_ARCHIVE);
+        assertEquals(new Cost("$1234567.89"), delivery.toModelType().getCost());
+    }
+
     @Test
     public void toModelType_nullCost_throwsIllegalValueException() {
         JsonAdaptedDelivery delivery =
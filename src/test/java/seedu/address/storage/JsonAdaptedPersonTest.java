@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.delivery.Archive;
+import seedu.address.model.delivery.DeliveryId;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
@@ -162,4 +163,14 @@ public class JsonAdaptedPersonTest {
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Archive.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
+
+    @Test
+    public void toModelType_invalidAssignedDeliveryId_throwsIllegalValueException() {
+        JsonAdaptedPerson person =
+                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL,
+                        VALID_ROLE, new JsonAdaptedWorker(List.of("not an id"), null),
+                        VALID_ADDRESS, VALID_TAGS,
+                        VALID_DELIVERIES, VALID_ARCHIVE);
+        assertThrows(IllegalValueException.class, DeliveryId.MESSAGE_CONSTRAINTS, person::toModelType);
+    }
 }
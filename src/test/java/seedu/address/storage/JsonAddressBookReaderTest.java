@@ -0,0 +1,193 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.delivery.Delivery;
+import seedu.address.model.delivery.DeliveryId;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Worker;
+import seedu.address.testutil.DeliveryBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path NOT_JSON_FILE = Paths.get("src", "test", "data", "JsonAddressBookStorageTest",
+            "notJsonFormatAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readPersons_typicalPersonsFile_success() throws Exception {
+        AddressBook addressBookFromFile = new AddressBook();
+        addressBookFromFile.setPersons(new JsonAddressBookReader(TYPICAL_PERSONS_FILE).readPersons());
+        assertEquals(TypicalPersons.getTypicalAddressBook(), addressBookFromFile);
+    }
+
+    @Test
+    public void readPersons_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> new JsonAddressBookReader(INVALID_PERSON_FILE).readPersons());
+    }
+
+    @Test
+    public void readPersons_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, ParallelPersonConverter.MESSAGE_DUPLICATE_PERSON, () ->
+                new JsonAddressBookReader(DUPLICATE_PERSON_FILE).readPersons());
+    }
+
+    @Test
+    public void readPersons_notJsonFile_throwsIoException() {
+        assertThrows(IOException.class, () -> new JsonAddressBookReader(NOT_JSON_FILE).readPersons());
+    }
+
+    @Test
+    public void readPersons_truncatedFile_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("truncated.json");
+        Files.writeString(filePath, "{ \"persons\" : [ ");
+        assertThrows(IOException.class, () -> new JsonAddressBookReader(filePath).readPersons());
+    }
+
+    @Test
+    public void readPersons_archivedBeforeActive_activePersonsFirst() throws Exception {
+        Person archived = new PersonBuilder().withName("Archived Person").withArchive("true").build();
+        Person active = new PersonBuilder().withName("Active Person").build();
+        Path filePath = testFolder.resolve("archived.json");
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(List.of(archived, active));
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        List<Person> persons = new JsonAddressBookReader(filePath).readPersons();
+
+        assertEquals(List.of(active, archived), persons);
+        assertFalse(persons.get(0).isArchived());
+        assertTrue(persons.get(1).isArchived());
+    }
+
+    @Test
+    public void getJournalSequence_fieldsInAnyOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("sequence.json");
+        Files.writeString(filePath, "{ \"unknown\" : { \"nested\" : [ 1, 2 ] }, \"journalSequence\" : 42, "
+                + "\"persons\" : [ ] }");
+
+        JsonAddressBookReader reader = new JsonAddressBookReader(filePath);
+
+        assertTrue(reader.readPersons().isEmpty());
+        assertEquals(42, reader.getJournalSequence());
+    }
+
+    @Test
+    public void readPersons_withDeliveries_deliveriesDeferred() throws Exception {
+        Delivery delivery = new DeliveryBuilder().withCost("$12.30").build();
+        Person client = new PersonBuilder().withName("Client").build();
+        client.addDelivery(delivery);
+        Person employee = new PersonBuilder().withName("Employee").build();
+        employee.getWorker().addDelivery(delivery);
+        Path filePath = testFolder.resolve("deliveries.json");
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(List.of(client, employee));
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        List<Person> persons = new JsonAddressBookReader(filePath).readPersons();
+        // Later saves replace the file, which must not affect deliveries that have not been loaded yet.
+        Files.delete(filePath);
+
+        assertTrue(persons.get(0).getDeliveryList().isDeferred());
+        assertTrue(persons.get(1).getWorker().getAssignedDeliveryList().isDeferred());
+        assertEquals(List.of(delivery), persons.get(0).getUnmodifiableDeliveryList());
+        assertEquals(List.of(delivery), persons.get(1).getWorker().getUnmodifiableAssignedDeliveryList());
+    }
+
+    @Test
+    public void readPersons_invalidDelivery_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("invalidDelivery.json");
+        Files.writeString(filePath, "{ \"persons\" : [ { \"name\" : \"Client\", \"phone\" : \"91234567\", "
+                + "\"email\" : \"client@example.com\", \"role\" : \"client\", \"worker\" : { }, "
+                + "\"address\" : \"311, Clementi Ave 2, S120300\", \"archive\" : \"false\", "
+                + "\"deliveries\" : [ { \"deliveryId\" : \"1\", \"cost\" : \"free\" } ] } ] }");
+
+        assertThrows(IllegalValueException.class, () -> new JsonAddressBookReader(filePath).readPersons());
+    }
+
+    @Test
+    public void readPersons_assignedDeliveries_sameInstancesAsClients() throws Exception {
+        Delivery delivery = new DeliveryBuilder().withId("1729621344714-0001").build();
+        Person client = new PersonBuilder().withName("Client").build();
+        client.addDelivery(delivery);
+        Person employee = new PersonBuilder().withName("Employee").withRole("employee").build();
+        employee.getWorker().addDelivery(delivery);
+        Path filePath = testFolder.resolve("assigned.json");
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(List.of(employee, client));
+        JsonAddressBookWriter.write(addressBook, filePath, 0);
+
+        assertTrue(Files.readString(filePath).contains("\"deliveryIds\" : [ \"1729621344714-0001\" ]"));
+        List<Person> persons = new JsonAddressBookReader(filePath).readPersons();
+        assertSame(persons.get(1).getUnmodifiableDeliveryList().get(0),
+                persons.get(0).getWorker().getUnmodifiableAssignedDeliveryList().get(0));
+    }
+
+    @Test
+    public void readPersons_legacyAssignedDeliveries_resolvedOrKept() throws Exception {
+        String person = "{ \"name\" : \"%s\", \"phone\" : \"9123456%d\", \"email\" : \"%s@example.com\", "
+                + "\"role\" : \"%s\", \"worker\" : %s, \"address\" : \"311, Clementi Ave 2, S120300\", "
+                + "\"archive\" : \"false\", \"deliveries\" : %s }";
+        String delivery = "{ \"deliveryId\" : \"%s\", \"items\" : [ \"Laptop\" ], "
+                + "\"address\" : \"311, Clementi Ave 2, S120300\", \"cost\" : \"$10.00\", "
+                + "\"date\" : \"2024-10-16\", \"time\" : \"00:00:00\", \"eta\" : \"2103-12-31\", "
+                + "\"status\" : \"%s\", \"archive\" : \"false\" }";
+        String held = String.format(delivery, "1729621344714-0001", "delivered");
+        String stale = String.format(delivery, "1729621344714-0001", "not delivered");
+        String orphan = String.format(delivery, "1729621344714-0002", "not delivered");
+        Path filePath = testFolder.resolve("legacy.json");
+        Files.writeString(filePath, "{ \"persons\" : [ "
+                + String.format(person, "Employee", 1, "employee", "employee",
+                        "{ \"deliveries\" : [ " + stale + ", " + orphan + " ] }", "[ ]") + ", "
+                + String.format(person, "Client", 2, "client", "client", "{ }", "[ " + held + " ]") + " ] }");
+
+        List<Person> persons = new JsonAddressBookReader(filePath).readPersons();
+
+        List<Delivery> assigned = persons.get(0).getWorker().getUnmodifiableAssignedDeliveryList();
+        assertEquals(2, assigned.size());
+        assertSame(persons.get(1).getUnmodifiableDeliveryList().get(0), assigned.get(0));
+        assertEquals("1729621344714-0002", assigned.get(1).getDeliveryId().value);
+    }
+
+    @Test
+    public void readPersons_assignedIdNoClientHolds_keptWhenSaved() throws Exception {
+        Path filePath = testFolder.resolve("unresolved.json");
+        Files.writeString(filePath, "{ \"persons\" : [ { \"name\" : \"Employee\", \"phone\" : \"91234567\", "
+                + "\"email\" : \"employee@example.com\", \"role\" : \"employee\", "
+                + "\"worker\" : { \"deliveryIds\" : [ \"1729621344714-0002\" ] }, "
+                + "\"address\" : \"311, Clementi Ave 2, S120300\", \"archive\" : \"false\" } ] }");
+
+        Worker worker = new JsonAddressBookReader(filePath).readPersons().get(0).getWorker();
+        assertTrue(worker.getUnmodifiableAssignedDeliveryList().isEmpty());
+        assertEquals(List.of(new DeliveryId("1729621344714-0002")), worker.getUnresolvedDeliveryIds());
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(List.of(new PersonBuilder().withName("Employee").withRole("employee").build()));
+        addressBook.getPersonList().get(0).setWorker(worker.copy());
+        JsonAddressBookWriter.write(addressBook, filePath, 0);
+        assertTrue(Files.readString(filePath).contains("\"deliveryIds\" : [ \"1729621344714-0002\" ]"));
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+public class JsonAddressBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_typicalAddressBook_sameAsSerializedAddressBook() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path filePath = testFolder.resolve("addressBook.json");
+
+        JsonAddressBookWriter.write(original, filePath, 3);
+
+        Map<String, Object> serialized = new LinkedHashMap<>();
+        serialized.put("persons", original.getPersonList().stream().map(JsonAdaptedPerson::new)
+                .collect(Collectors.toList()));
+        serialized.put("journalSequence", 3);
+        assertEquals(JsonUtil.toJsonString(serialized), Files.readString(filePath));
+    }
+
+    @Test
+    public void write_thenRead_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path filePath = testFolder.resolve("addressBook.json");
+
+        JsonAddressBookWriter.write(original, filePath, 7);
+
+        JsonAddressBookReader reader = new JsonAddressBookReader(filePath);
+        AddressBook readBack = new AddressBook();
+        readBack.setPersons(reader.readPersons());
+        assertEquals(original, readBack);
+        assertEquals(7, reader.getJournalSequence());
+    }
+
+    @Test
+    public void write_existingFile_overwritten() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Files.writeString(filePath, "x".repeat(100_000));
+
+        JsonAddressBookWriter.write(new AddressBook(), filePath, 0);
+
+        assertEquals(0, new JsonAddressBookReader(filePath).readPersons().size());
+    }
+}
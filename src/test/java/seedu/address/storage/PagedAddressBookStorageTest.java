@@ -0,0 +1,365 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.delivery.Delivery;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.DeliveryBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class PagedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path getFilePath() {
+        return testFolder.resolve("addressBook.pages");
+    }
+
+    private static Person findPerson(ReadOnlyAddressBook addressBook, String name) {
+        return addressBook.getPersonList().stream()
+                .filter(person -> person.getName().fullName.equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static Delivery deliveryWithId(int number) {
+        return new DeliveryBuilder().withId(String.format("1729621344714-%04d", number)).build();
+    }
+
+    /**
+     * Returns the persons of {@code addressBook} in order, each followed by its deliveries, which {@code Person#equals}
+     * leaves out.
+     */
+    private static List<Object> contentsOf(ReadOnlyAddressBook addressBook) {
+        List<Object> contents = new ArrayList<>();
+        for (Person person : addressBook.getPersonList()) {
+            contents.add(person);
+            contents.add(new ArrayList<>(person.getUnmodifiableDeliveryList()));
+        }
+        return contents;
+    }
+
+    private static AddressBook clientsWithDeliveries(int clients, int deliveriesPerClient) {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < clients; i++) {
+            Person client = new PersonBuilder().withName("Client " + i).build();
+            for (int j = 0; j < deliveriesPerClient; j++) {
+                client.addDelivery(deliveryWithId(i * deliveriesPerClient + j));
+            }
+            addressBook.addPerson(client);
+        }
+        return addressBook;
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new PagedAddressBookStorage(getFilePath()).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_thenRead_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Delivery delivery = deliveryWithId(1);
+        Person client = new PersonBuilder().withName("Paged Client").build();
+        client.addDelivery(delivery);
+        client.addDelivery(deliveryWithId(2));
+        Person employee = new PersonBuilder().withName("Paged Employee").withRole("employee").build();
+        employee.getWorker().addDelivery(delivery);
+        original.addPerson(employee);
+        original.addPerson(client);
+
+        new PagedAddressBookStorage(getFilePath()).saveAddressBook(original);
+        ReadOnlyAddressBook readBack = new PagedAddressBookStorage(getFilePath()).readAddressBook().get();
+
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        Person readClient = findPerson(readBack, "Paged Client");
+        assertTrue(readClient.getDeliveryList().isDeferred());
+        assertEquals(contentsOf(original), contentsOf(readBack));
+        assertSame(readClient.getUnmodifiableDeliveryList().get(0),
+                findPerson(readBack, "Paged Employee").getWorker().getUnmodifiableAssignedDeliveryList().get(0));
+    }
+
+    @Test
+    public void saveAddressBook_oneDeliveryEdited_fewPagesWritten() throws Exception {
+        PagedAddressBookStorage storage = new PagedAddressBookStorage(getFilePath());
+        storage.saveAddressBook(clientsWithDeliveries(500, 5));
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+
+        Person client = findPerson(addressBook, "Client 250");
+        Delivery target = client.getUnmodifiableDeliveryList().get(2);
+        client.setDelivery(target, new DeliveryBuilder(target).withCost("$25").build());
+        storage.saveAddressBook(addressBook);
+
+        assertTrue(storage.getLastCommitPageCount() <= 3, "wrote " + storage.getLastCommitPageCount() + " pages");
+        ReadOnlyAddressBook readBack = new PagedAddressBookStorage(getFilePath()).readAddressBook().get();
+        assertEquals(contentsOf(addressBook), contentsOf(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_personsRemovedRenamedAndMoved_readBackInOrder() throws Exception {
+        PagedAddressBookStorage storage = new PagedAddressBookStorage(getFilePath());
+        storage.saveAddressBook(clientsWithDeliveries(20, 2));
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+
+        addressBook.removePerson(findPerson(addressBook, "Client 3"));
+        Person original = findPerson(addressBook, "Client 7");
+        Person renamed = new PersonBuilder().withName("Renamed Client").withPhone(original.getPhone().value)
+                .withEmail(original.getEmail().value).withAddress(original.getAddress().value).build();
+        renamed.setDeferredDeliveryList(original.getDeliveryList().getLoader());
+        addressBook.setPerson(original, renamed);
+        Person moved = findPerson(addressBook, "Client 19");
+        addressBook.removePerson(moved);
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        persons.add(0, moved);
+        addressBook.setPersons(persons);
+        storage.saveAddressBook(addressBook);
+
+        ReadOnlyAddressBook readBack = new PagedAddressBookStorage(getFilePath()).readAddressBook().get();
+        assertEquals(contentsOf(addressBook), contentsOf(readBack));
+        assertEquals(2, findPerson(readBack, "Renamed Client").getDeliveryListSize());
+    }
+
+    @Test
+    public void saveAddressBook_jsonFile_convertedToPages() throws Exception {
+        AddressBook original = clientsWithDeliveries(3, 2);
+        new JsonAddressBookStorage(getFilePath()).saveAddressBook(original);
+        PagedAddressBookStorage storage = new PagedAddressBookStorage(getFilePath());
+        ReadOnlyAddressBook readFromJson = storage.readAddressBook().get();
+
+        storage.saveAddressBook(readFromJson);
+
+        assertTrue(PageFile.isPageFile(getFilePath()));
+        assertTrue(Files.exists(testFolder.resolve("addressBook.pages" + JournaledAddressBookStorage.BACKUP_SUFFIX)));
+        ReadOnlyAddressBook readBack = new PagedAddressBookStorage(getFilePath()).readAddressBook().get();
+        assertEquals(contentsOf(original), contentsOf(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_crashAtEachWrite_oldOrNewContentsRead() throws Exception {
+        boolean isSaved = false;
+        for (int writes = 0; !isSaved; writes++) {
+            Path filePath = testFolder.resolve("crash-" + writes).resolve("addressBook.pages");
+            Files.createDirectories(filePath.getParent());
+            CrashingChannelOpener opener = new CrashingChannelOpener();
+            PagedAddressBookStorage storage = new PagedAddressBookStorage(filePath, opener);
+            storage.saveAddressBook(clientsWithDeliveries(200, 3));
+            AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+            List<Object> oldContents = contentsOf(addressBook);
+
+            Person client = findPerson(addressBook, "Client 10");
+            client.deleteDelivery(client.getUnmodifiableDeliveryList().get(0));
+            findPerson(addressBook, "Client 150").addDelivery(deliveryWithId(9999));
+            addressBook.removePerson(findPerson(addressBook, "Client 80"));
+            addressBook.addPerson(ALICE);
+            List<Object> newContents = contentsOf(addressBook);
+
+            opener.crashAfterWrites(writes);
+            try {
+                storage.saveAddressBook(addressBook);
+                isSaved = true;
+            } catch (IOException e) {
+                // The process was killed here, so only what reached the disk is read back.
+            }
+
+            List<Object> readContents = contentsOf(new PagedAddressBookStorage(filePath).readAddressBook().get());
+            if (isSaved) {
+                assertEquals(newContents, readContents);
+            } else {
+                assertTrue(readContents.equals(oldContents) || readContents.equals(newContents),
+                        "crash after " + writes + " writes left mixed contents");
+            }
+        }
+    }
+
+    @Test
+    public void saveAddressBook_afterFailedSave_savesAgain() throws Exception {
+        CrashingChannelOpener opener = new CrashingChannelOpener();
+        PagedAddressBookStorage storage = new PagedAddressBookStorage(getFilePath(), opener);
+        storage.saveAddressBook(clientsWithDeliveries(5, 1));
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPerson(ALICE);
+
+        opener.crashAfterWrites(0);
+        assertThrows(IOException.class, () -> storage.saveAddressBook(addressBook));
+        storage.saveAddressBook(addressBook);
+
+        ReadOnlyAddressBook readBack = new PagedAddressBookStorage(getFilePath()).readAddressBook().get();
+        assertEquals(contentsOf(addressBook), contentsOf(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_unviewedClientDeletedThenUndone_savedWithDeliveries() throws Exception {
+        PagedAddressBookStorage pagedStorage = new PagedAddressBookStorage(getFilePath());
+        pagedStorage.saveAddressBook(clientsWithDeliveries(5, 2));
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(pagedStorage, 60_000, 100);
+        Model model = new ModelManager(storage.readAddressBook().get(), new UserPrefs());
+        Person client = findPerson(model.getAddressBook(), "Client 2");
+        assertTrue(client.getDeliveryList().isDeferred());
+
+        model.startUndoableChange("delete 3");
+        model.deletePerson(client);
+        model.finishUndoableChange();
+        storage.saveAddressBook(model.getAddressBook());
+        storage.flushAddressBook();
+        model.undo();
+        storage.saveAddressBook(model.getAddressBook());
+        storage.flushAddressBook();
+        storage.close();
+
+        assertEquals(List.of(deliveryWithId(4).getDeliveryId(), deliveryWithId(5).getDeliveryId()),
+                findPerson(model.getAddressBook(), "Client 2").getUnmodifiableDeliveryList().stream()
+                        .map(Delivery::getDeliveryId).toList());
+        ReadOnlyAddressBook readBack = new PagedAddressBookStorage(getFilePath()).readAddressBook().get();
+        assertEquals(contentsOf(model.getAddressBook()), contentsOf(readBack));
+    }
+
+    /**
+     * Opens channels that fail halfway through the write after a given number of writes, as if the process was killed
+     * while saving, to test that the file survives crashes. Only the first such write fails.
+     */
+    private static class CrashingChannelOpener implements PageFile.ChannelOpener {
+        // Number of writes to let through before failing the next one halfway, or -1 to never fail.
+        private int writesUntilCrash = -1;
+
+        void crashAfterWrites(int writes) {
+            writesUntilCrash = writes;
+        }
+
+        @Override
+        public FileChannel open(Path path, OpenOption... options) throws IOException {
+            return new CrashingChannel(FileChannel.open(path, options));
+        }
+
+        private class CrashingChannel extends FileChannel {
+            private final FileChannel channel;
+
+            CrashingChannel(FileChannel channel) {
+                this.channel = channel;
+            }
+
+            @Override
+            public int write(ByteBuffer src, long position) throws IOException {
+                if (writesUntilCrash == 0) {
+                    writesUntilCrash = -1;
+                    src.limit(src.position() + src.remaining() / 2);
+                    channel.write(src, position);
+                    throw new IOException("Simulated crash");
+                }
+                if (writesUntilCrash > 0) {
+                    writesUntilCrash--;
+                }
+                return channel.write(src, position);
+            }
+
+            @Override
+            public int read(ByteBuffer dst) throws IOException {
+                return channel.read(dst);
+            }
+
+            @Override
+            public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+                return channel.read(dsts, offset, length);
+            }
+
+            @Override
+            public int write(ByteBuffer src) throws IOException {
+                return write(src, position());
+            }
+
+            @Override
+            public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public long position() throws IOException {
+                return channel.position();
+            }
+
+            @Override
+            public FileChannel position(long newPosition) throws IOException {
+                channel.position(newPosition);
+                return this;
+            }
+
+            @Override
+            public long size() throws IOException {
+                return channel.size();
+            }
+
+            @Override
+            public FileChannel truncate(long size) throws IOException {
+                channel.truncate(size);
+                return this;
+            }
+
+            @Override
+            public void force(boolean metaData) throws IOException {
+                channel.force(metaData);
+            }
+
+            @Override
+            public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+                return channel.transferTo(position, count, target);
+            }
+
+            @Override
+            public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public int read(ByteBuffer dst, long position) throws IOException {
+                return channel.read(dst, position);
+            }
+
+            @Override
+            public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public FileLock lock(long position, long size, boolean shared) throws IOException {
+                return channel.lock(position, size, shared);
+            }
+
+            @Override
+            public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+                return channel.tryLock(position, size, shared);
+            }
+
+            @Override
+            protected void implCloseChannel() throws IOException {
+                channel.close();
+            }
+        }
+    }
+}
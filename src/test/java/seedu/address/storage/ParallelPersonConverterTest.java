@@ -0,0 +1,71 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelPersonConverterTest {
+
+    private static final int COUNT = ParallelPersonConverter.PARALLEL_THRESHOLD * 10;
+
+    private static List<Integer> indexes() {
+        return IntStream.range(0, COUNT).boxed().collect(Collectors.toList());
+    }
+
+    private static Person person(int i) {
+        return new PersonBuilder().withName("Person " + i).build();
+    }
+
+    @Test
+    public void convertAll_manyPersons_orderPreserved() throws Exception {
+        List<Person> expected = new ArrayList<>();
+        for (int i = 0; i < COUNT; i++) {
+            expected.add(person(i));
+        }
+
+        assertEquals(expected, ParallelPersonConverter.convertAll(indexes(), ParallelPersonConverterTest::person));
+    }
+
+    @Test
+    public void convertAll_archivedPersons_placedAfterActivePersons() throws Exception {
+        List<Person> persons = ParallelPersonConverter.convertAll(indexes(), i ->
+                new PersonBuilder().withName("Person " + i).withArchive(i % 2 == 0 ? "true" : "false").build());
+
+        for (int i = 0; i < COUNT; i++) {
+            int expectedIndex = i < COUNT / 2 ? 2 * i + 1 : 2 * (i - COUNT / 2);
+            assertEquals("Person " + expectedIndex, persons.get(i).getName().fullName);
+        }
+    }
+
+    @Test
+    public void convertAll_invalidBeforeDuplicate_invalidReported() {
+        assertThrows(IllegalValueException.class, "invalid 300", () ->
+                ParallelPersonConverter.convertAll(indexes(), i -> {
+                    if (i == 300 || i == 500) {
+                        throw new IllegalValueException("invalid " + i);
+                    }
+                    return person(i == 400 ? 7 : i);
+                }));
+    }
+
+    @Test
+    public void convertAll_duplicateBeforeInvalid_duplicateReported() {
+        assertThrows(IllegalValueException.class, ParallelPersonConverter.MESSAGE_DUPLICATE_PERSON, () ->
+                ParallelPersonConverter.convertAll(indexes(), i -> {
+                    if (i == 500) {
+                        throw new IllegalValueException("invalid " + i);
+                    }
+                    return person(i == 400 ? 7 : i);
+                }));
+    }
+}
@@ -0,0 +1,177 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.delivery.Delivery;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.DeliveryBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path getFilePath() {
+        return testFolder.resolve("addressBook.json");
+    }
+
+    private Path getDirectory() {
+        return ShardedAddressBookStorage.getDirectoryPath(getFilePath());
+    }
+
+    private Set<String> listSegments() throws Exception {
+        try (Stream<Path> paths = Files.list(getDirectory())) {
+            return paths.map(path -> path.getFileName().toString())
+                    .filter(ShardedAddressBookStorage::isSegmentFileName)
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    @Test
+    public void getDirectoryPath_fileWithExtension_extensionReplaced() {
+        assertEquals(testFolder.resolve("addressBook-segments"), getDirectory());
+    }
+
+    @Test
+    public void readAddressBook_missingManifest_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(getFilePath()).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_thenRead_success() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(getFilePath());
+        AddressBook original = getTypicalAddressBook();
+        Delivery delivery = new DeliveryBuilder().withId("1729621344714-0001").build();
+        Person client = new PersonBuilder().withName("Sharded Client").build();
+        client.addDelivery(delivery);
+        Person employee = new PersonBuilder().withName("Sharded Employee").withRole("employee").build();
+        employee.getWorker().addDelivery(delivery);
+        original.addPerson(employee);
+        original.addPerson(client);
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = new ShardedAddressBookStorage(getFilePath()).readAddressBook().get();
+
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getPersonList().size(), listSegments().size());
+        List<Person> persons = readBack.getPersonList();
+        assertSame(persons.get(persons.size() - 1).getUnmodifiableDeliveryList().get(0),
+                persons.get(persons.size() - 2).getWorker().getUnmodifiableAssignedDeliveryList().get(0));
+    }
+
+    @Test
+    public void saveAddressBook_manyPersons_readBackInOrder() throws Exception {
+        AddressBook original = new AddressBook();
+        for (int i = 0; i < 2 * ParallelPersonConverter.PARALLEL_THRESHOLD; i++) {
+            original.addPerson(new PersonBuilder().withName("Person " + i).withArchive(i % 3 == 0 ? "true" : "false")
+                    .build());
+        }
+
+        new ShardedAddressBookStorage(getFilePath()).saveAddressBook(original);
+        ReadOnlyAddressBook readBack = new ShardedAddressBookStorage(getFilePath()).readAddressBook().get();
+
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_onePersonChanged_onlyItsSegmentRewritten() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(getFilePath());
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        Set<String> segmentsBefore = listSegments();
+
+        Person person = addressBook.getPersonList().get(0);
+        person.addDelivery(new DeliveryBuilder().build());
+        storage.saveAddressBook(addressBook);
+
+        Set<String> segmentsAfter = listSegments();
+        assertEquals(segmentsBefore.size(), segmentsAfter.size());
+        List<String> removed = new ArrayList<>(segmentsBefore);
+        removed.removeAll(segmentsAfter);
+        assertEquals(1, removed.size());
+        ReadOnlyAddressBook readBack = new ShardedAddressBookStorage(getFilePath()).readAddressBook().get();
+        assertEquals(1, readBack.getPersonList().get(0).getUnmodifiableDeliveryList().size());
+    }
+
+    @Test
+    public void saveAddressBook_nothingChanged_manifestNotRewritten() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(getFilePath());
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        Path manifestPath = getDirectory().resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME);
+        Files.delete(manifestPath);
+
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(manifestPath));
+    }
+
+    @Test
+    public void saveAddressBook_withoutBaseline_leftoverSegmentsRemoved() throws Exception {
+        new ShardedAddressBookStorage(getFilePath()).saveAddressBook(getTypicalAddressBook());
+        Set<String> leftoverSegments = listSegments();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+
+        new ShardedAddressBookStorage(getFilePath()).saveAddressBook(addressBook);
+
+        Set<String> segments = listSegments();
+        assertEquals(1, segments.size());
+        assertFalse(leftoverSegments.containsAll(segments));
+        assertEquals(addressBook,
+                new AddressBook(new ShardedAddressBookStorage(getFilePath()).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_missingSegment_throwsDataLoadingException() throws Exception {
+        new ShardedAddressBookStorage(getFilePath()).saveAddressBook(getTypicalAddressBook());
+        Files.delete(getDirectory().resolve(listSegments().iterator().next()));
+
+        assertThrows(DataLoadingException.class, () ->
+                new ShardedAddressBookStorage(getFilePath()).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidSegmentName_throwsDataLoadingException() throws Exception {
+        Files.createDirectories(getDirectory());
+        Files.writeString(getDirectory().resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME),
+                "{ \"formatVersion\" : 1, \"segments\" : [ \"../addressBook.json\" ] }");
+
+        assertThrows(DataLoadingException.class, () ->
+                new ShardedAddressBookStorage(getFilePath()).readAddressBook());
+    }
+
+    @Test
+    public void moveToBackup_existingBackup_replaced() throws Exception {
+        new ShardedAddressBookStorage(getFilePath()).saveAddressBook(getTypicalAddressBook());
+        ShardedAddressBookStorage.moveToBackup(getFilePath());
+        new ShardedAddressBookStorage(getFilePath()).saveAddressBook(new AddressBook());
+
+        ShardedAddressBookStorage.moveToBackup(getFilePath());
+
+        assertFalse(ShardedAddressBookStorage.hasManifest(getFilePath()));
+        assertTrue(Files.exists(testFolder.resolve("addressBook-segments" + ShardedAddressBookStorage.BACKUP_SUFFIX)
+                .resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME)));
+    }
+}
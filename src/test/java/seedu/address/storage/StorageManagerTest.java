@@ -1,9 +1,12 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +15,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookFormat;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 
@@ -65,4 +69,57 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void readAddressBook_singleFileWithShardedStorage_migratedToSegments() throws Exception {
+        Path filePath = getTempFilePath("ab.json");
+        AddressBook original = getTypicalAddressBook();
+        new JournaledAddressBookStorage(filePath).saveAddressBook(original);
+        StorageManager sharded = new StorageManager(new ShardedAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+
+        assertEquals(original, new AddressBook(sharded.readAddressBook().get()));
+
+        assertTrue(ShardedAddressBookStorage.hasManifest(filePath));
+        assertFalse(Files.exists(filePath));
+        assertTrue(Files.exists(getTempFilePath("ab.json" + JournaledAddressBookStorage.BACKUP_SUFFIX)));
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_segmentsWithSingleFileStorage_migratedToSingleFile() throws Exception {
+        Path filePath = getTempFilePath("ab.json");
+        AddressBook original = getTypicalAddressBook();
+        new ShardedAddressBookStorage(filePath).saveAddressBook(original);
+        StorageManager journaled = new StorageManager(new JournaledAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+
+        assertEquals(original, new AddressBook(journaled.readAddressBook().get()));
+
+        assertTrue(Files.exists(filePath));
+        assertFalse(ShardedAddressBookStorage.hasManifest(filePath));
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_jsonFileWithBinaryFormat_migratedToBinFile() throws Exception {
+        Path jsonPath = getTempFilePath("ab.json");
+        AddressBook original = getTypicalAddressBook();
+        new JournaledAddressBookStorage(jsonPath).saveAddressBook(original);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(jsonPath);
+        userPrefs.setAddressBookFormat(AddressBookFormat.BINARY);
+        StorageManager binary = new StorageManager(StorageManager.createAddressBookStorage(userPrefs),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        Path binPath = getTempFilePath("ab.bin");
+        assertEquals(binPath, binary.getAddressBookFilePath());
+        assertEquals(original, new AddressBook(StorageManager.readDataFileInOtherFormat(binPath).get()));
+
+        assertEquals(original, new AddressBook(binary.readAddressBook().get()));
+
+        assertTrue(Files.exists(binPath));
+        assertFalse(Files.exists(jsonPath));
+        assertTrue(Files.exists(getTempFilePath("ab.json" + JournaledAddressBookStorage.BACKUP_SUFFIX)));
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(binPath).readAddressBook().get()));
+    }
+
 }
@@ -0,0 +1,125 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class WatchedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private AddressBook getAddressBook(String phone) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder().withName("Carl Kurz").withPhone(phone).build());
+        return addressBook;
+    }
+
+    @Test
+    public void reloadIfChanged_ownSave_handlerNotCalled() throws Exception {
+        WatchedAddressBookStorage storage = new WatchedAddressBookStorage(
+                new JsonAddressBookStorage(testFolder.resolve("data.json")));
+        List<ReadOnlyAddressBook> reloaded = new ArrayList<>();
+        storage.setExternalChangeHandler(reloaded::add);
+
+        storage.saveAddressBook(getAddressBook("95352563"));
+        storage.reloadIfChanged();
+        storage.saveAddressBook(getAddressBook("94351253"));
+        storage.reloadIfChanged();
+
+        assertTrue(reloaded.isEmpty());
+    }
+
+    @Test
+    public void reloadIfChanged_changedByAnotherProgram_handlerCalledOnce() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        WatchedAddressBookStorage storage = new WatchedAddressBookStorage(new JsonAddressBookStorage(filePath));
+        List<ReadOnlyAddressBook> reloaded = new ArrayList<>();
+        storage.setExternalChangeHandler(reloaded::add);
+        storage.saveAddressBook(getAddressBook("95352563"));
+
+        new JsonAddressBookStorage(filePath).saveAddressBook(getAddressBook("94351253123"));
+        storage.reloadIfChanged();
+        storage.reloadIfChanged();
+
+        assertEquals(1, reloaded.size());
+        assertEquals(getAddressBook("94351253123"), new AddressBook(reloaded.get(0)));
+    }
+
+    @Test
+    public void reloadIfChanged_fileCreatedByAnotherProgram_handlerCalled() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        WatchedAddressBookStorage storage = new WatchedAddressBookStorage(new JsonAddressBookStorage(filePath));
+        List<ReadOnlyAddressBook> reloaded = new ArrayList<>();
+        storage.setExternalChangeHandler(reloaded::add);
+
+        storage.reloadIfChanged();
+        assertTrue(reloaded.isEmpty());
+
+        new JsonAddressBookStorage(filePath).saveAddressBook(getAddressBook("95352563"));
+        storage.reloadIfChanged();
+        assertEquals(1, reloaded.size());
+    }
+
+    @Test
+    public void reloadIfChanged_changedByAnotherProgramWhileJournaled_journaledChangesKept() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        WatchedAddressBookStorage storage = new WatchedAddressBookStorage(new JournaledAddressBookStorage(filePath));
+        List<ReadOnlyAddressBook> reloaded = new ArrayList<>();
+        storage.setExternalChangeHandler(reloaded::add);
+        AddressBook initial = getAddressBook("95352563");
+        initial.addPerson(new PersonBuilder().withName("Alice Pauline").withPhone("94351253").build());
+        storage.saveAddressBook(initial);
+
+        // Changes made in the app that are only kept in the journal, which the other program cannot see.
+        AddressBook edited = new AddressBook(initial);
+        for (int i = 0; i < 5; i++) {
+            edited.addPerson(new PersonBuilder().withName("Added Person " + (char) ('A' + i)).build());
+            storage.saveAddressBook(edited);
+        }
+        Person carl = edited.getPersonList().get(0);
+        edited.setPerson(carl, new PersonBuilder(carl).withPhone("81234567").build());
+        storage.saveAddressBook(edited);
+        assertTrue(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+
+        AddressBook external = new AddressBook(initial);
+        Person alice = external.getPersonList().get(1);
+        external.setPerson(alice, new PersonBuilder(alice).withPhone("87652533123").build());
+        new JsonAddressBookStorage(filePath).saveAddressBook(external);
+        storage.reloadIfChanged();
+
+        AddressBook expected = new AddressBook(edited);
+        Person editedAlice = expected.getPersonList().get(1);
+        expected.setPerson(editedAlice, new PersonBuilder(editedAlice).withPhone("87652533123").build());
+        assertEquals(1, reloaded.size());
+        assertEquals(expected, new AddressBook(reloaded.get(0)));
+        assertEquals(expected, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void flushAddressBook_changedByAnotherProgram_changeStillNoticed() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        WatchedAddressBookStorage storage = new WatchedAddressBookStorage(new JsonAddressBookStorage(filePath));
+        List<ReadOnlyAddressBook> reloaded = new ArrayList<>();
+        storage.setExternalChangeHandler(reloaded::add);
+        storage.saveAddressBook(getAddressBook("95352563"));
+
+        new JsonAddressBookStorage(filePath).saveAddressBook(getAddressBook("94351253123"));
+        storage.flushAddressBook();
+        storage.reloadIfChanged();
+
+        assertEquals(1, reloaded.size());
+    }
+}
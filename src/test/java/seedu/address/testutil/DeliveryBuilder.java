@@ -110,6 +110,14 @@ public class DeliveryBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code DeliveryId} of the {@code Delivery} that we are building.
+     */
+    public DeliveryBuilder withId(String deliveryId) {
+        this.deliveryId = new DeliveryId(deliveryId);
+        return this;
+    }
+
     /**
      * Sets the {@code ItemName} of the {@code Delivery} that we are building.
      */
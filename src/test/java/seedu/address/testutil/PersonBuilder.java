@@ -114,6 +114,14 @@ public class PersonBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code Role} of the {@code Person} that we are building.
+     */
+    public PersonBuilder withRole(String role) {
+        this.role = new Role(role);
+        return this;
+    }
+
     /**
      * Sets the {@code Archive} of the {@code Person} that we are building.
      */